@@ -0,0 +1,85 @@
+package com.profile.candidate.bench;
+
+import com.profile.candidate.matching.BenchMatch;
+import com.profile.candidate.matching.BenchProfile;
+import com.profile.candidate.matching.BenchSkillIndex;
+import com.profile.candidate.matching.JobProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Scoring loop behind /candidate/bench/matches/{jobId}.
+// "fullScan" scores every bench profile against the job's skills and sorts them all (what a straightforward
+// implementation does), "invertedIndex" runs the current BenchSkillIndex query, and "buildIndex" measures
+// the snapshot rebuild done after each batch of bench writes.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchMatchingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int benchSize;
+
+    @Param({"20"})
+    private int k;
+
+    private List<BenchProfile> profiles;
+    private BenchSkillIndex index;
+    private JobProfile job;
+
+    @Setup
+    public void setUp() {
+        profiles = SyntheticData.benchProfiles(benchSize);
+        index = new BenchSkillIndex(profiles);
+        job = SyntheticData.jobProfile();
+    }
+
+    @Benchmark
+    public List<BenchMatch> invertedIndex() {
+        return index.topMatches(job, k);
+    }
+
+    @Benchmark
+    public List<String> fullScan() {
+        float totalWeight = 0f;
+        for (float weight : job.getSkillWeights().values()) {
+            totalWeight += weight;
+        }
+        List<Scored> scored = new ArrayList<>(profiles.size());
+        for (BenchProfile profile : profiles) {
+            float overlap = 0f;
+            for (Map.Entry<String, Float> skill : job.getSkillWeights().entrySet()) {
+                if (profile.getSkills().contains(skill.getKey())) {
+                    overlap += skill.getValue();
+                }
+            }
+            if (overlap > 0f) {
+                float score = BenchSkillIndex.SKILL_WEIGHT * overlap / totalWeight
+                        + BenchSkillIndex.EXPERIENCE_WEIGHT
+                        * BenchSkillIndex.experienceFit(profile.getTotalExperience(), job.getTargetExperience());
+                scored.add(new Scored(profile.getId(), score));
+            }
+        }
+        scored.sort(Comparator.comparingDouble((Scored s) -> s.score).reversed().thenComparing(s -> s.id));
+        List<String> top = new ArrayList<>(k);
+        for (int i = 0; i < Math.min(k, scored.size()); i++) {
+            top.add(scored.get(i).id);
+        }
+        return top;
+    }
+
+    @Benchmark
+    public BenchSkillIndex buildIndex() {
+        return new BenchSkillIndex(profiles);
+    }
+
+    private record Scored(String id, float score) {
+    }
+}
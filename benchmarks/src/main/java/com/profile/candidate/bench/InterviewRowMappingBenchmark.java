@@ -0,0 +1,109 @@
+package com.profile.candidate.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.profile.candidate.model.InterviewDetails;
+import com.profile.candidate.model.InterviewStatusHistory;
+import com.profile.candidate.model.InterviewStatusHistoryCodec;
+import com.profile.candidate.service.InterviewService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Per-row JSON work done by getAllScheduledInterviewsByUserId for each BDM/TEAMLEAD tuple:
+// the INTERNAL + REJECTED check, the latest status and the client email list.
+// "legacy" reproduces the code before the shared codec (a new ObjectMapper per call),
+// "codec" runs the current code path.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterviewRowMappingBenchmark {
+
+    // Number of entries in the interview_status history of the row
+    @Param({"1", "4", "12"})
+    private int stages;
+
+    private String statusJson;
+    private String clientEmailJson;
+
+    @Setup
+    public void setUp() {
+        OffsetDateTime at = OffsetDateTime.parse("2025-01-06T10:00:00+05:30");
+        String json = InterviewStatusHistoryCodec.append(null, "SCHEDULED", "INTERNAL", at);
+        for (int stage = 2; stage <= stages; stage++) {
+            json = InterviewStatusHistoryCodec.append(json, stage % 2 == 0 ? "RESCHEDULED" : "SELECTED",
+                    stage < stages ? "INTERNAL" : "EXTERNAL-L1", at.plusDays(stage));
+        }
+        statusJson = json;
+        clientEmailJson = "[\"hiring.manager@client.com\",\"panel@client.com\"]";
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) throws Exception {
+        blackhole.consume(legacyIsInternalRejected(statusJson));
+        blackhole.consume(legacyLatestStatus(statusJson));
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> clientEmails = objectMapper.readValue(clientEmailJson, new TypeReference<>() {});
+        blackhole.consume(clientEmails);
+    }
+
+    @Benchmark
+    public void codec(Blackhole blackhole) throws Exception {
+        InterviewStatusHistory.Entry last = InterviewStatusHistoryCodec.lastEntry(statusJson);
+        blackhole.consume(last != null && "INTERNAL".equalsIgnoreCase(last.getInterviewLevel())
+                && "REJECTED".equalsIgnoreCase(last.getStatus()));
+        blackhole.consume(InterviewService.latestInterviewStatusFromJson(statusJson));
+        blackhole.consume(InterviewDetails.readClientEmails(clientEmailJson));
+    }
+
+    @Benchmark
+    public String legacyAppend() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ArrayNode history = (ArrayNode) objectMapper.readTree(statusJson);
+        ObjectNode entry = objectMapper.createObjectNode();
+        entry.put("stage", history.size() + 1);
+        entry.put("status", "SELECTED");
+        entry.put("interviewLevel", "INTERNAL");
+        entry.put("timestamp", OffsetDateTime.now().toString());
+        history.add(entry);
+        return objectMapper.writeValueAsString(history);
+    }
+
+    @Benchmark
+    public String codecAppend() {
+        return InterviewStatusHistoryCodec.append(statusJson, "SELECTED", "INTERNAL", OffsetDateTime.now());
+    }
+
+    private static boolean legacyIsInternalRejected(String json) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        List<Map<String, Object>> statusList = mapper.readValue(json, new TypeReference<>() {});
+        if (statusList.isEmpty()) {
+            return false;
+        }
+        Map<String, Object> lastStatus = statusList.get(statusList.size() - 1);
+        return "INTERNAL".equalsIgnoreCase((String) lastStatus.get("interviewLevel"))
+                && "REJECTED".equalsIgnoreCase((String) lastStatus.get("status"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String legacyLatestStatus(String json) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Map<String, Object>> statusHistory = objectMapper.readValue(json, List.class);
+        Optional<Map<String, Object>> latest = statusHistory.stream()
+                .filter(entry -> entry.get("timestamp") != null)
+                .max(Comparator.comparing(entry -> Instant.parse((String) entry.get("timestamp"))));
+        return latest.map(entry -> (String) entry.get("status")).orElse(null);
+    }
+}
@@ -0,0 +1,377 @@
+package com.profile.candidate.bench;
+
+import com.profile.candidate.dto.RequirementMetadataProjection;
+import com.profile.candidate.dto.TeamleadSubmissionProjection;
+import com.profile.candidate.matching.BenchProfile;
+import com.profile.candidate.matching.JobProfile;
+import com.profile.candidate.matching.SkillNormalizer;
+import com.profile.candidate.model.CandidateDetails;
+import com.profile.candidate.model.InterviewDetails;
+import com.profile.candidate.model.InterviewStatusHistoryCodec;
+import com.profile.candidate.model.Submissions;
+import com.profile.candidate.service.InterviewService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+// Deterministic rows shaped like production data, so runs on different machines measure the same work
+public final class SyntheticData {
+
+    public static final int JOB_COUNT = 200;
+    private static final String[] STATUSES = {"SCHEDULED", "RESCHEDULED", "SELECTED", "REJECTED", "ON HOLD", "PLACED"};
+    private static final String[] LEVELS = {"INTERNAL", "EXTERNAL-L1", "EXTERNAL-L2", "FINAL"};
+    private static final String[] LOCATIONS = {"Hyderabad", "Bangalore", "Chennai", "Pune", "Remote"};
+    private static final String[] SKILLS = {"Java", "Spring Boot", "SQL", "JavaScript", "React", "AWS", "Python",
+            "Microservices", "Docker", "Kubernetes", "Angular", "Kafka", "MySQL", "Hibernate", "Node.js", "TypeScript",
+            "Jenkins", "Git", "REST", "Azure", "PostgreSQL", "MongoDB", "Selenium", "Terraform", "Go", "C#", ".NET",
+            "Redis", "Spark", "Hadoop", "Scala", "Snowflake", "Tableau", "Power BI", "Salesforce", "SAP", "Linux",
+            "Ansible", "GCP", "Flutter", "Swift", "Kotlin", "Android", "iOS", "Django", "Flask", "Vue", "GraphQL",
+            "Elasticsearch", "Airflow", "dbt", "Informatica", "ServiceNow", "Workday", "Oracle", "PLSQL", "Unix",
+            "Shell", "Cypress", "JMeter"};
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.parse("2025-01-06T10:00:00+05:30");
+
+    private SyntheticData() {
+    }
+
+    public static String candidateId(int i) {
+        return String.format("CAND%06d", i);
+    }
+
+    public static String jobId(int i) {
+        return String.format("JOB%04d", i % JOB_COUNT);
+    }
+
+    public static List<TeamleadSubmissionProjection> submissionRows(int count) {
+        List<TeamleadSubmissionProjection> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new SubmissionRow(i));
+        }
+        return rows;
+    }
+
+    public static List<Submissions> submissions(int count) {
+        List<Submissions> submissions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CandidateDetails candidate = new CandidateDetails();
+            candidate.setCandidateId(candidateId(i));
+            candidate.setUserId("EMP" + (i % 50));
+            candidate.setUserEmail("recruiter" + (i % 50) + "@dataqinc.com");
+            candidate.setFullName("Candidate " + i);
+            candidate.setCandidateEmailId("candidate" + i + "@mail.com");
+            candidate.setContactNumber(String.format("9%09d", i));
+            candidate.setCurrentOrganization("Org " + (i % 300));
+            candidate.setQualification("B.Tech");
+            candidate.setTotalExperience(2 + i % 12);
+            candidate.setRelevantExperience(1 + i % 8);
+            candidate.setCurrentCTC("12 LPA");
+            candidate.setExpectedCTC("16 LPA");
+            candidate.setNoticePeriod("30 days");
+            candidate.setCurrentLocation(LOCATIONS[i % LOCATIONS.length]);
+
+            Submissions submission = new Submissions();
+            submission.setSubmissionId(String.format("SUB%06d", i));
+            submission.setCandidate(candidate);
+            submission.setJobId(jobId(i));
+            submission.setSubmittedAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(i));
+            submission.setProfileReceivedDate(LocalDate.of(2025, 1, 1).plusDays(i % 28));
+            submission.setSkills("Java, Spring Boot, MySQL, Kafka");
+            submission.setCommunicationSkills("Good");
+            submission.setRequiredTechnologiesRating(3.5 + (i % 3) * 0.5);
+            submission.setOverallFeedback("Strong backend fundamentals");
+            submission.setPreferredLocation(LOCATIONS[(i + 1) % LOCATIONS.length]);
+            submission.setClientName("Client " + (i % JOB_COUNT % 40));
+            submission.setRecruiterName("Recruiter " + (i % 50));
+            submission.setStatus("SUBMITTED");
+            submissions.add(submission);
+        }
+        return submissions;
+    }
+
+    public static Map<String, RequirementMetadataProjection> requirementMetadata() {
+        Map<String, RequirementMetadataProjection> metadata = new HashMap<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            String jobId = jobId(i);
+            String title = "Java Developer " + i;
+            String client = "Client " + (i % 40);
+            metadata.put(jobId, new RequirementMetadataProjection() {
+                public String getJobId() {
+                    return jobId;
+                }
+
+                public String getJobTitle() {
+                    return title;
+                }
+
+                public String getClientName() {
+                    return client;
+                }
+            });
+        }
+        return metadata;
+    }
+
+    // Ids as the interview query returns them: every tenth candidate, in mixed case with stray whitespace and nulls
+    public static List<String> interviewedCandidateIds(int submissionCount) {
+        List<String> ids = new ArrayList<>(submissionCount / 10 + 1);
+        for (int i = 0; i < submissionCount; i += 10) {
+            String id = candidateId(i);
+            ids.add(i % 20 == 0 ? " " + id.toLowerCase() + " " : id);
+        }
+        ids.add(null);
+        return ids;
+    }
+
+    // interview_status histories of one to six stages
+    public static List<String> statusHistories(int count) {
+        Random random = new Random(42);
+        List<String> histories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            histories.add(statusHistory(random, 1 + random.nextInt(6)));
+        }
+        return histories;
+    }
+
+    // Half of the rows carry latest_status, the other half predate it and fall back to the JSON history
+    public static List<InterviewDetails> interviews(int count) {
+        Random random = new Random(7);
+        List<InterviewDetails> interviews = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            InterviewDetails interview = new InterviewDetails();
+            interview.setInterviewId(candidateId(i) + "_CLIENT_" + jobId(i));
+            interview.setCandidateId(candidateId(i));
+            interview.setJobId(jobId(i));
+            interview.setUserId("EMP" + (i % 50));
+            interview.setFullName("Candidate " + i);
+            interview.setCandidateEmailId("candidate" + i + "@mail.com");
+            interview.setContactNumber(String.format("9%09d", i));
+            interview.setClientName("Client " + (i % 40));
+            interview.setUserEmail("recruiter" + (i % 50) + "@dataqinc.com");
+            interview.setRecruiterName("Recruiter " + (i % 50));
+            interview.setInterviewDateTime(BASE_TIME.plusHours(i));
+            interview.setDuration(30 + 15 * (i % 3));
+            interview.setZoomLink("https://zoom.us/j/" + (100000000L + i));
+            interview.setInterviewLevel(LEVELS[i % LEVELS.length]);
+            interview.setAssignedTo("COORD" + (i % 10));
+            interview.setComments("Round " + (i % 3 + 1));
+            interview.setClientEmailList(List.of("hiring" + (i % 40) + "@client.com", "panel@client.com"));
+            String history = statusHistory(random, 1 + random.nextInt(6));
+            interview.setInterviewStatus(history);
+            if (i % 2 == 0) {
+                interview.setLatestStatus(InterviewService.latestInterviewStatusFromJson(history));
+            }
+            interviews.add(interview);
+        }
+        return interviews;
+    }
+
+    private static String statusHistory(Random random, int stages) {
+        String json = null;
+        OffsetDateTime at = BASE_TIME;
+        for (int stage = 1; stage <= stages; stage++) {
+            String status = stage == 1 ? "SCHEDULED" : STATUSES[random.nextInt(STATUSES.length)];
+            json = InterviewStatusHistoryCodec.append(json, status, LEVELS[Math.min(stage - 1, LEVELS.length - 1)], at);
+            at = at.plusDays(1 + random.nextInt(3));
+        }
+        return json;
+    }
+
+    // Bench profiles with three to eight skills each; popular skills (low index) are far more common,
+    // so a few posting lists are long and most are short, as in production
+    public static List<BenchProfile> benchProfiles(int count) {
+        Random random = new Random(11);
+        List<BenchProfile> profiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Set<String> skills = new LinkedHashSet<>();
+            int skillCount = 3 + random.nextInt(6);
+            while (skills.size() < skillCount) {
+                skills.add(SkillNormalizer.skillKeys(popularSkill(random)).iterator().next());
+            }
+            profiles.add(new BenchProfile(String.format("BENCH%06d", i), "Bench " + i, "bench" + i + "@mail.com",
+                    random.nextInt(16), random.nextInt(10), skills));
+        }
+        return profiles;
+    }
+
+    // A Java/Spring requirement with 40 submissions of varying skill lists
+    public static JobProfile jobProfile() {
+        Random random = new Random(5);
+        List<String> skills = new ArrayList<>();
+        List<Float> experience = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            skills.add("Java, Spring Boot, " + SKILLS[2 + random.nextInt(10)] + ", " + SKILLS[2 + random.nextInt(20)]);
+            experience.add(4f + random.nextInt(6));
+        }
+        return JobProfile.fromSubmissions(jobId(0), skills, experience);
+    }
+
+    private static String popularSkill(Random random) {
+        // Squaring a uniform draw skews towards the front of the list
+        double draw = random.nextDouble();
+        return SKILLS[(int) (draw * draw * SKILLS.length)];
+    }
+
+    // Values are computed up front so the benchmarks measure the mapping, not the data generation
+    private static final class SubmissionRow implements TeamleadSubmissionProjection {
+        private final String submissionScope;
+        private final String submissionId;
+        private final String candidateId;
+        private final String recruiterName;
+        private final String fullName;
+        private final String skills;
+        private final String jobId;
+        private final String userId;
+        private final String userEmail;
+        private final String preferredLocation;
+        private final String profileReceivedDate;
+        private final String jobTitle;
+        private final String clientName;
+        private final String contactNumber;
+        private final String candidateEmailId;
+        private final Float totalExperience;
+        private final Float relevantExperience;
+        private final String currentOrganization;
+        private final String qualification;
+        private final String currentCtc;
+        private final String expectedCtc;
+        private final String noticePeriod;
+        private final String currentLocation;
+        private final String communicationSkills;
+        private final Double requiredTechnologiesRating;
+        private final String overallFeedback;
+
+        private SubmissionRow(int i) {
+            this.submissionScope = i % 3 == 0 ? "SELF" : "TEAM";
+            this.submissionId = String.format("SUB%06d", i);
+            this.candidateId = candidateId(i);
+            this.recruiterName = "Recruiter " + (i % 50);
+            this.fullName = "Candidate " + i;
+            this.skills = "Java, Spring Boot, MySQL, Kafka";
+            this.jobId = jobId(i);
+            this.userId = "EMP" + (i % 50);
+            this.userEmail = "recruiter" + (i % 50) + "@dataqinc.com";
+            this.preferredLocation = LOCATIONS[i % LOCATIONS.length];
+            this.profileReceivedDate = LocalDate.of(2025, 1, 1).plusDays(i % 28).toString();
+            this.jobTitle = "Java Developer " + (i % JOB_COUNT);
+            this.clientName = "Client " + (i % 40);
+            this.contactNumber = String.format("9%09d", i);
+            this.candidateEmailId = "candidate" + i + "@mail.com";
+            this.totalExperience = 2f + i % 12;
+            this.relevantExperience = i % 7 == 0 ? null : 1f + i % 8;
+            this.currentOrganization = "Org " + (i % 300);
+            this.qualification = "B.Tech";
+            this.currentCtc = "12 LPA";
+            this.expectedCtc = "16 LPA";
+            this.noticePeriod = "30 days";
+            this.currentLocation = LOCATIONS[(i + 2) % LOCATIONS.length];
+            this.communicationSkills = "Good";
+            this.requiredTechnologiesRating = 3.5 + (i % 3) * 0.5;
+            this.overallFeedback = "Strong backend fundamentals";
+        }
+
+        public String getSubmissionScope() {
+            return submissionScope;
+        }
+
+        public String getSubmissionId() {
+            return submissionId;
+        }
+
+        public String getCandidateId() {
+            return candidateId;
+        }
+
+        public String getRecruiterName() {
+            return recruiterName;
+        }
+
+        public String getFullName() {
+            return fullName;
+        }
+
+        public String getSkills() {
+            return skills;
+        }
+
+        public String getJobId() {
+            return jobId;
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public String getUserEmail() {
+            return userEmail;
+        }
+
+        public String getPreferredLocation() {
+            return preferredLocation;
+        }
+
+        public String getProfileReceivedDate() {
+            return profileReceivedDate;
+        }
+
+        public String getJobTitle() {
+            return jobTitle;
+        }
+
+        public String getClientName() {
+            return clientName;
+        }
+
+        public String getContactNumber() {
+            return contactNumber;
+        }
+
+        public String getCandidateEmailId() {
+            return candidateEmailId;
+        }
+
+        public Float getTotalExperience() {
+            return totalExperience;
+        }
+
+        public Float getRelevantExperience() {
+            return relevantExperience;
+        }
+
+        public String getCurrentOrganization() {
+            return currentOrganization;
+        }
+
+        public String getQualification() {
+            return qualification;
+        }
+
+        public String getCurrentCtc() {
+            return currentCtc;
+        }
+
+        public String getExpectedCtc() {
+            return expectedCtc;
+        }
+
+        public String getNoticePeriod() {
+            return noticePeriod;
+        }
+
+        public String getCurrentLocation() {
+            return currentLocation;
+        }
+
+        public String getCommunicationSkills() {
+            return communicationSkills;
+        }
+
+        public Double getRequiredTechnologiesRating() {
+            return requiredTechnologiesRating;
+        }
+
+        public String getOverallFeedback() {
+            return overallFeedback;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.bench.SyntheticData;
+import com.profile.candidate.dto.CoordinatorInterviewDto;
+import com.profile.candidate.model.InterviewDetails;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Per-row work of the interview listings, timed over a whole synthetic result set
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterviewMappingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private List<String> statusHistories;
+    private List<InterviewDetails> interviews;
+
+    @Setup
+    public void setUp() {
+        statusHistories = SyntheticData.statusHistories(rows);
+        interviews = SyntheticData.interviews(rows);
+    }
+
+    @Benchmark
+    public void latestInterviewStatusFromJson(Blackhole blackhole) {
+        for (String json : statusHistories) {
+            blackhole.consume(InterviewService.latestInterviewStatusFromJson(json));
+        }
+    }
+
+    // Coordinator listing; half the rows fall back to the JSON history for their status
+    @Benchmark
+    public List<CoordinatorInterviewDto> convertIntoDto() {
+        List<CoordinatorInterviewDto> result = new ArrayList<>(interviews.size());
+        for (InterviewDetails interview : interviews) {
+            result.add(InterviewService.convertIntoDto(interview, "Java Developer"));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.bench.SyntheticData;
+import com.profile.candidate.dto.RequirementMetadataProjection;
+import com.profile.candidate.dto.SubmissionGetResponseDto;
+import com.profile.candidate.dto.SubmissionListRow;
+import com.profile.candidate.dto.SubmissionsGetResponse;
+import com.profile.candidate.dto.TeamleadSubmissionProjection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Per-row work of the submission listings, timed over a whole synthetic result set.
+// Lives in the service package to reach the package-private helpers of SubmissionService.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubmissionMappingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private SubmissionService submissionService;
+    private List<TeamleadSubmissionProjection> projections;
+    private List<SubmissionListRow> submissions;
+    private Map<String, RequirementMetadataProjection> metadata;
+    private List<String> interviewedCandidateIds;
+    private Set<String> interviewedSet;
+
+    @Setup
+    public void setUp() {
+        // mapProjectionToResponseDto touches no injected collaborators
+        submissionService = new SubmissionService();
+        projections = SyntheticData.submissionRows(rows);
+        submissions = SyntheticData.submissions(rows).stream().map(SubmissionListRow::of).collect(Collectors.toList());
+        metadata = SyntheticData.requirementMetadata();
+        interviewedCandidateIds = SyntheticData.interviewedCandidateIds(rows);
+        interviewedSet = SubmissionService.normalizeCandidateIds(interviewedCandidateIds);
+    }
+
+    // Teamlead listing: projection row -> SubmissionGetResponseDto
+    @Benchmark
+    public List<SubmissionGetResponseDto> mapProjectionToResponseDto() {
+        List<SubmissionGetResponseDto> result = new ArrayList<>(projections.size());
+        for (TeamleadSubmissionProjection row : projections) {
+            result.add(submissionService.mapProjectionToResponseDto(row));
+        }
+        return result;
+    }
+
+    // getAllSubmissions / getSubmissions: list row -> GetSubmissionData with the batched job titles
+    @Benchmark
+    public List<SubmissionsGetResponse.GetSubmissionData> convertToSubmissionsGetResponse() {
+        List<SubmissionsGetResponse.GetSubmissionData> result = new ArrayList<>(submissions.size());
+        for (SubmissionListRow submission : submissions) {
+            result.add(SubmissionService.convertToSubmissionsGetResponse(submission, metadata));
+        }
+        return result;
+    }
+
+    // getAllSubmissions step 2: normalizing the interviewed candidate ids
+    @Benchmark
+    public Set<String> normalizeInterviewedIds() {
+        return SubmissionService.normalizeCandidateIds(interviewedCandidateIds);
+    }
+
+    // getAllSubmissions step 3: dropping submissions of interviewed candidates
+    @Benchmark
+    public List<SubmissionListRow> excludeInterviewedCandidates() {
+        return SubmissionService.excludeCandidates(submissions, interviewedSet);
+    }
+
+    // getAllSubmissions steps 2-4 end to end, without the queries
+    @Benchmark
+    public List<SubmissionsGetResponse.GetSubmissionData> filterAndConvert() {
+        Set<String> excluded = SubmissionService.normalizeCandidateIds(interviewedCandidateIds);
+        List<SubmissionListRow> filtered = SubmissionService.excludeCandidates(submissions, excluded);
+        List<SubmissionsGetResponse.GetSubmissionData> result = new ArrayList<>(filtered.size());
+        for (SubmissionListRow submission : filtered) {
+            result.add(SubmissionService.convertToSubmissionsGetResponse(submission, metadata));
+        }
+        return result;
+    }
+}
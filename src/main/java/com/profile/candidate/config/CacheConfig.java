@@ -0,0 +1,88 @@
+package com.profile.candidate.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class CacheConfig {
+
+    @Value("${candidate.cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    @Value("${candidate.cache.local.ttl-seconds:600}")
+    private long localTtlSeconds;
+
+    @Value("${candidate.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${candidate.cache.redis.ttl-seconds:3600}")
+    private long redisTtlSeconds;
+
+    @Value("${candidate.cache.redis.retry-interval-seconds:30}")
+    private long redisRetryIntervalSeconds;
+
+    @Value("${candidate.cache.dashboard-counts.ttl-seconds:30}")
+    private long dashboardCountsTtlSeconds;
+
+    @Bean
+    public RemoteCacheGuard remoteCacheGuard() {
+        return new RemoteCacheGuard(redisEnabled, redisRetryIntervalSeconds * 1000);
+    }
+
+    @Bean
+    @Primary
+    public TwoTierCacheManager cacheManager(ObjectProvider<RedisConnectionFactory> connectionFactoryProvider,
+                                            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                                            RemoteCacheGuard remoteCacheGuard) {
+        RedisConnectionFactory connectionFactory = redisEnabled ? connectionFactoryProvider.getIfAvailable() : null;
+        RedisCacheManager redisCacheManager = null;
+        if (connectionFactory != null) {
+            redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                    .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                            .entryTtl(Duration.ofSeconds(redisTtlSeconds))
+                            .prefixCacheNameWith("candidate::"))
+                    .build();
+            redisCacheManager.afterPropertiesSet();
+        }
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(
+                localMaximumSize,
+                Duration.ofSeconds(localTtlSeconds),
+                redisCacheManager,
+                connectionFactory != null ? redisTemplateProvider.getIfAvailable() : null,
+                remoteCacheGuard,
+                Map.of(CacheNames.DASHBOARD_COUNTS, Duration.ofSeconds(dashboardCountsTtlSeconds)));
+        // Pre-create the lookup caches so their stats are visible before first use
+        for (String name : CacheNames.ALL) {
+            cacheManager.getCache(name);
+        }
+        return cacheManager;
+    }
+
+    // Receives key evictions published by other nodes and drops the local (L1) copy
+    @Bean
+    @ConditionalOnProperty(name = "candidate.cache.redis.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheEvictionListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setRecoveryInterval(redisRetryIntervalSeconds * 1000);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onRemoteEviction(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoTierCacheManager.EVICTION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,29 @@
+package com.profile.candidate.config;
+
+// Names of the lookup caches in front of requirements_model / user_details, plus the dashboard counts
+public final class CacheNames {
+
+    public static final String JOB_TITLE_BY_JOB_ID = "jobTitleByJobId";
+    public static final String CLIENT_NAME_BY_JOB_ID = "clientNameByJobId";
+    public static final String TEAM_LEAD_EMAIL_BY_JOB_ID = "teamLeadEmailByJobId";
+    public static final String USER_NAME_BY_EMAIL = "userNameByEmail";
+    public static final String USER_NAME_BY_USER_ID = "userNameByUserId";
+    public static final String USER_EMAIL_BY_USER_ID = "userEmailByUserId";
+    public static final String ROLE_BY_USER_ID = "roleByUserId";
+    // Local-only, short TTL; cleared whenever the dashboard rollup changes
+    public static final String DASHBOARD_COUNTS = "dashboardCounts";
+
+    public static final String[] ALL = {
+            JOB_TITLE_BY_JOB_ID,
+            CLIENT_NAME_BY_JOB_ID,
+            TEAM_LEAD_EMAIL_BY_JOB_ID,
+            USER_NAME_BY_EMAIL,
+            USER_NAME_BY_USER_ID,
+            USER_EMAIL_BY_USER_ID,
+            ROLE_BY_USER_ID,
+            DASHBOARD_COUNTS
+    };
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,17 @@
+package com.profile.candidate.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// @Timed on the service classes (candidate.service, tagged by class and method) and on the named entry
+// points. HTTP endpoints are timed by Spring MVC itself as http.server.requests.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
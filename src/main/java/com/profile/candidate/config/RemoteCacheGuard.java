@@ -0,0 +1,37 @@
+package com.profile.candidate.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Trips after a Redis failure so lookups fall back to the local tier
+// instead of waiting on connect timeouts for every request.
+public class RemoteCacheGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(RemoteCacheGuard.class);
+
+    private final boolean enabled;
+    private final long retryIntervalMillis;
+    private volatile long disabledUntil = 0L;
+
+    public RemoteCacheGuard(boolean enabled, long retryIntervalMillis) {
+        this.enabled = enabled;
+        this.retryIntervalMillis = retryIntervalMillis;
+    }
+
+    public boolean isAvailable() {
+        return enabled && System.currentTimeMillis() >= disabledUntil;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void markFailure(RuntimeException ex) {
+        boolean wasAvailable = isAvailable();
+        disabledUntil = System.currentTimeMillis() + retryIntervalMillis;
+        if (wasAvailable) {
+            logger.warn("Redis cache tier unavailable, using local cache only for the next {} ms: {}",
+                    retryIntervalMillis, ex.getMessage());
+        }
+    }
+}
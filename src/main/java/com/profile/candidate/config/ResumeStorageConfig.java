@@ -0,0 +1,43 @@
+package com.profile.candidate.config;
+
+import com.profile.candidate.storage.LocalResumeBlobStore;
+import com.profile.candidate.storage.ResumeBlobStore;
+import com.profile.candidate.storage.S3ResumeBlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Paths;
+
+@Configuration
+public class ResumeStorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "candidate.resume.storage.type", havingValue = "local", matchIfMissing = true)
+    public ResumeBlobStore localResumeBlobStore(
+            @Value("${candidate.resume.storage.local.root:resume-store}") String root) throws IOException {
+        return new LocalResumeBlobStore(Paths.get(root));
+    }
+
+    // Credentials come from the default AWS provider chain (env vars, profile, instance role)
+    @Bean
+    @ConditionalOnProperty(name = "candidate.resume.storage.type", havingValue = "s3")
+    public ResumeBlobStore s3ResumeBlobStore(
+            @Value("${candidate.resume.storage.s3.bucket}") String bucket,
+            @Value("${candidate.resume.storage.s3.prefix:resumes/}") String prefix,
+            @Value("${candidate.resume.storage.s3.region:us-east-1}") String region,
+            @Value("${candidate.resume.storage.s3.endpoint:}") String endpoint) {
+        S3ClientBuilder builder = S3Client.builder().region(Region.of(region));
+        if (!endpoint.isBlank()) {
+            // S3-compatible stores (MinIO, Ceph) need path-style addressing
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return new S3ResumeBlobStore(builder.build(), bucket, prefix);
+    }
+}
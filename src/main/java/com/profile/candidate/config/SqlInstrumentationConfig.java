@@ -0,0 +1,64 @@
+package com.profile.candidate.config;
+
+import com.profile.candidate.metrics.RepositorySqlMetricsInterceptor;
+import com.profile.candidate.metrics.SqlActivityListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+// Wraps the DataSource in a datasource-proxy that feeds SqlActivity, and adds a metrics interceptor to
+// every repository. Replaces spring.jpa.show-sql: set candidate.sql.log-statements=true to log each
+// statement (at DEBUG on net.ttddyy.dsproxy.listener.logging).
+@Configuration
+@ConditionalOnProperty(name = "candidate.sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+    // Static so the post-processors are registered before the beans they wrap are created
+    @Bean
+    public static BeanPostProcessor sqlInstrumentingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                SqlActivityListener listener = new SqlActivityListener();
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .methodListener(listener)
+                        .proxyResultSet();
+                if (environment.getProperty("candidate.sql.log-statements", Boolean.class, false)) {
+                    builder.logQueryBySlf4j(SLF4JLogLevel.DEBUG).multiline();
+                }
+                return builder.build();
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor repositorySqlMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // The factory bean builds the repository proxy in afterPropertiesSet, so customize it before that
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(new RepositorySqlMetricsInterceptor(
+                                    information.getRepositoryInterface().getSimpleName(), meterRegistry))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,191 @@
+package com.profile.candidate.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+// L1 = in-process Caffeine cache (size + TTL bounded), L2 = optional shared Redis cache.
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remote;
+    private final RemoteCacheGuard remoteGuard;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+                        Cache remote,
+                        RemoteCacheGuard remoteGuard) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.remoteGuard = remoteGuard;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        value = lookupRemote(key);
+        if (value != null) {
+            remoteHits.increment();
+            local.put(key, value);
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Callers that find the entry, or wait on another thread's load of it, count as local hits
+        boolean[] loadedHere = new boolean[1];
+        Object value = local.get(key, k -> {
+            loadedHere[0] = true;
+            Object remoteValue = lookupRemote(k);
+            if (remoteValue != null) {
+                remoteHits.increment();
+                return remoteValue;
+            }
+            misses.increment();
+            try {
+                Object loaded = toStoreValue(valueLoader.call());
+                putRemote(k, loaded);
+                return loaded;
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(k, valueLoader, ex);
+            }
+        });
+        if (!loadedHere[0]) {
+            localHits.increment();
+        }
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        local.put(key, storeValue);
+        putRemote(key, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key);
+        if (remote != null && remoteGuard.isAvailable()) {
+            try {
+                remote.evict(key);
+            } catch (RuntimeException ex) {
+                remoteErrors.increment();
+                remoteGuard.markFailure(ex);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (remote != null && remoteGuard.isAvailable()) {
+            try {
+                remote.clear();
+            } catch (RuntimeException ex) {
+                remoteErrors.increment();
+                remoteGuard.markFailure(ex);
+            }
+        }
+    }
+
+    // Drops the entry from this node only; used for evictions broadcast by other nodes
+    public void evictLocal(Object key) {
+        local.invalidate(key);
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("localSize", local.estimatedSize());
+        stats.put("localHits", localHits.sum());
+        stats.put("remoteHits", remoteHits.sum());
+        stats.put("misses", misses.sum());
+        long lookups = localHits.sum() + remoteHits.sum() + misses.sum();
+        stats.put("hitRatio", lookups == 0 ? 0.0 : (double) (lookups - misses.sum()) / lookups);
+        stats.put("remoteErrors", remoteErrors.sum());
+        stats.put("localEvictions", local.stats().evictionCount());
+        stats.put("remoteEnabled", remote != null);
+        stats.put("remoteAvailable", remote != null && remoteGuard.isAvailable());
+        return stats;
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getRemoteErrors() {
+        return remoteErrors.sum();
+    }
+
+    public long getLocalSize() {
+        return local.estimatedSize();
+    }
+
+    private Object lookupRemote(Object key) {
+        if (remote == null || !remoteGuard.isAvailable()) {
+            return null;
+        }
+        try {
+            ValueWrapper wrapper = remote.get(key);
+            return wrapper != null ? toStoreValue(wrapper.get()) : null;
+        } catch (RuntimeException ex) {
+            remoteErrors.increment();
+            remoteGuard.markFailure(ex);
+            return null;
+        }
+    }
+
+    private void putRemote(Object key, Object storeValue) {
+        if (remote == null || !remoteGuard.isAvailable()) {
+            return;
+        }
+        try {
+            remote.put(key, fromStoreValue(storeValue));
+        } catch (RuntimeException ex) {
+            remoteErrors.increment();
+            remoteGuard.markFailure(ex);
+        }
+    }
+}
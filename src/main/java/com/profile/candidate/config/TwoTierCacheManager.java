@@ -0,0 +1,122 @@
+package com.profile.candidate.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TwoTierCacheManager implements CacheManager {
+
+    public static final String EVICTION_CHANNEL = "candidate:cache-evictions";
+    static final String CLEAR_ALL_KEYS = "*";
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final RemoteCacheGuard remoteGuard;
+    private final Map<String, Duration> localOnlyTtls;
+
+    // Caches named in localOnlyTtls keep their own TTL and no Redis tier: short-lived results that are
+    // cheaper to recompute per node than to share. Evictions are still broadcast to the other nodes.
+    public TwoTierCacheManager(long localMaximumSize,
+                               Duration localTtl,
+                               CacheManager remoteCacheManager,
+                               StringRedisTemplate redisTemplate,
+                               RemoteCacheGuard remoteGuard,
+                               Map<String, Duration> localOnlyTtls) {
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.remoteGuard = remoteGuard;
+        this.localOnlyTtls = Map.copyOf(localOnlyTtls);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public Map<String, TwoTierCache> getCaches() {
+        return Collections.unmodifiableMap(caches);
+    }
+
+    // Evicts on this node (both tiers) and tells the other nodes to drop their local copy
+    public boolean evict(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return false;
+        }
+        cache.evict(key);
+        publishEviction(cacheName, key);
+        return true;
+    }
+
+    public boolean clear(String cacheName) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return false;
+        }
+        cache.clear();
+        publishEviction(cacheName, CLEAR_ALL_KEYS);
+        return true;
+    }
+
+    // Called for eviction messages received from other nodes
+    public void onRemoteEviction(String message) {
+        int separator = message.indexOf('|');
+        if (separator < 0) {
+            logger.warn("Ignoring malformed cache eviction message: {}", message);
+            return;
+        }
+        TwoTierCache cache = caches.get(message.substring(0, separator));
+        if (cache == null) {
+            return;
+        }
+        String key = message.substring(separator + 1);
+        if (CLEAR_ALL_KEYS.equals(key)) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    private void publishEviction(String cacheName, String key) {
+        if (redisTemplate == null || !remoteGuard.isAvailable()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, cacheName + "|" + key);
+        } catch (RuntimeException ex) {
+            remoteGuard.markFailure(ex);
+        }
+    }
+
+    private TwoTierCache createCache(String name) {
+        Duration ttl = localOnlyTtls.getOrDefault(name, localTtl);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        Cache remote = remoteCacheManager != null && !localOnlyTtls.containsKey(name) ? remoteCacheManager.getCache(name) : null;
+        logger.info("Created cache '{}' (local max size {}, ttl {}, redis tier {})",
+                name, localMaximumSize, ttl, remote != null ? "enabled" : "disabled");
+        return new TwoTierCache(name, local, remote, remoteGuard);
+    }
+}
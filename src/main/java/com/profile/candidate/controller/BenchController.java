@@ -7,21 +7,29 @@ import com.profile.candidate.dto.*;
 import com.profile.candidate.exceptions.DateRangeValidationException;
 import com.profile.candidate.model.BenchDetails;
 import com.profile.candidate.repository.BenchRepository;
+import com.profile.candidate.service.BenchImportService;
+import com.profile.candidate.service.BenchMatchService;
 import com.profile.candidate.service.BenchService;
+import com.profile.candidate.service.CandidateSearchService;
+import com.profile.candidate.service.ResumeStorageService;
 import com.profile.candidate.service.SubmissionService;
+import com.profile.candidate.storage.ResumeContent;
 import jakarta.persistence.EntityNotFoundException;
-import org.apache.tika.Tika;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import java.io.IOException;
@@ -55,6 +63,21 @@ public class BenchController {
     @Autowired
     private SubmissionService service;
 
+    @Autowired
+    private ResumeStorageService resumeStorageService;
+
+    @Autowired
+    private BenchImportService benchImportService;
+
+    @Autowired
+    private CandidateSearchService candidateSearchService;
+
+    @Autowired
+    private BenchMatchService benchMatchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     public BenchController(BenchService benchService, SubmissionService service) {
         this.benchService = benchService;
@@ -76,7 +99,6 @@ public class BenchController {
 
     {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             List<String> skillsList = objectMapper.readValue(skillsJson, new TypeReference<List<String>>() {});
 
             BenchDetails benchDetails = new BenchDetails();
@@ -90,10 +112,6 @@ public class BenchController {
             benchDetails.setReferredBy(referredBy);
             benchDetails.setTechnology(technology);
             benchDetails.setRemarks(remarks);
-            // Process resume file
-            if (resumeFile != null && !resumeFile.isEmpty()) {
-                benchDetails.setResume(resumeFile.getBytes());
-            }
 
             // Check for duplicate email
             if (benchRepository.existsByEmail(email)) {
@@ -128,59 +146,32 @@ public class BenchController {
 
     @PostMapping("/bench/import")
     public ResponseEntity<?> importBenchFromJson(@RequestBody List<BenchJsonRequest> requestList) {
-        List<String> inserted = new ArrayList<>();
-
-        for (BenchJsonRequest req : requestList) {
-            if (benchRepository.existsByEmail(req.getEmail())) continue;
-
-            BenchDetails bench = new BenchDetails();
-            bench.setId(benchService.generateCustomId());
-            bench.setFullName(req.getFullName());
-            bench.setEmail(req.getEmail());
-            bench.setRelevantExperience(req.getRelevantExperience());
-            bench.setTotalExperience(req.getTotalExperience());
-            bench.setContactNumber(req.getContactNumber());
-            bench.setSkills(req.getSkills());
-            bench.setLinkedin(req.getLinkedin());
-            bench.setReferredBy(req.getReferredBy());
-            bench.setTechnology(req.getTechnology());
-            bench.setRemarks(req.getRemarks());
-
-            if (req.getResume() != null) {
-                byte[] decodedResume = Base64.getDecoder().decode(req.getResume());
-                bench.setResume(decodedResume);
-            }
+        BenchImportResultDto result = benchImportService.importRowsLegacy(requestList);
+        return ResponseEntity.ok("Inserted to bench: " + result.getInserted());
+    }
 
-            benchRepository.save(bench);
-            inserted.add(req.getEmail());
+    // Streams the request body, so large imports never hold the whole array (and every resume) in memory
+    @PostMapping(value = "/bench/import/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> bulkImportBench(HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(benchImportService.importStream(request.getInputStream()));
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                    new BenchResponseDto("Error", "Invalid import payload: " + e.getMessage(), null, null)
+            );
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    new BenchResponseDto("Error", "Failed to read import payload: " + e.getMessage(), null, null)
+            );
         }
-
-        return ResponseEntity.ok("Inserted to bench: " + inserted.size());
     }
 
 
     @GetMapping("/bench/getBenchList")
     public ResponseEntity<List<BenchDetailsDto>> getAllBenchDetails() {
         try {
-            List<BenchDetails> benchDetailsList = benchService.findAllBenchDetails();
-
-            // ✅ Convert BenchDetails to BenchDetailsDto (excluding resume)
-            List<BenchDetailsDto> dtoList = benchDetailsList.stream()
-                    .map(bench -> new BenchDetailsDto(
-                            bench.getId(),
-                            bench.getFullName(),
-                            bench.getEmail(),
-                            bench.getRelevantExperience(),
-                            bench.getTotalExperience(),
-                            bench.getContactNumber(),
-                            bench.getSkills() != null ? bench.getSkills() : Collections.<String>emptyList(),  // ✅ Ensure skills is a List<String>
-                            bench.getLinkedin(),
-                            bench.getReferredBy(),
-                            bench.getCreatedDate(),
-                            bench.getTechnology(),
-                            bench.getRemarks()
-                    ))
-                    .collect(Collectors.toList());
+            // ✅ Selected straight into BenchDetailsDto (excluding resume)
+            List<BenchDetailsDto> dtoList = benchService.findAllBenchDetails();
 
             return ResponseEntity.ok(dtoList);
         } catch (Exception e) {
@@ -194,25 +185,8 @@ public class BenchController {
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         try {
-            List<BenchDetails> filtered = benchService.findBenchDetailsByDateRange(startDate, endDate);
-            logger.info("✅ Fetched {} bench records between {} and {}", filtered.size(), startDate, endDate);
-
-            List<BenchDetailsDto> dtoList = filtered.stream()
-                    .map(bench -> new BenchDetailsDto(
-                            bench.getId(),
-                            bench.getFullName(),
-                            bench.getEmail(),
-                            bench.getRelevantExperience(),
-                            bench.getTotalExperience(),
-                            bench.getContactNumber(),
-                            bench.getSkills() != null ? bench.getSkills() : Collections.emptyList(),
-                            bench.getLinkedin(),
-                            bench.getReferredBy(),
-                            bench.getCreatedDate(),
-                            bench.getTechnology(),
-                            bench.getRemarks()
-                    ))
-                    .collect(Collectors.toList());
+            List<BenchDetailsDto> dtoList = benchService.findBenchDetailsByDateRange(startDate, endDate);
+            logger.info("✅ Fetched {} bench records between {} and {}", dtoList.size(), startDate, endDate);
 
             if (dtoList.isEmpty()) {
                 logger.warn("⚠️ No bench records found in the given date range: {} to {}", startDate, endDate);
@@ -231,6 +205,45 @@ public class BenchController {
         }
     }
 
+    // Without a date range these page / stream over the whole bench, like /bench/getBenchList
+    @GetMapping("/bench/page")
+    public ResponseEntity<CursorPage<BenchDetailsDto>> getBenchPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(benchService.getBenchPage(benchRange(startDate, endDate), cursor, limit));
+    }
+
+    @GetMapping(value = "/bench/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBench(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        ListingRange range = benchRange(startDate, endDate);
+        StreamingResponseBody body = out -> benchService.streamBench(range, new NdjsonWriter(out, objectMapper));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private static ListingRange benchRange(LocalDate startDate, LocalDate endDate) {
+        return startDate == null && endDate == null ? null : ListingRange.of(startDate, endDate);
+    }
+
+    // Bench profiles ranked by skill overlap and experience fit against the candidates submitted to the job
+    @GetMapping("/bench/matches/{jobId}")
+    public ResponseEntity<?> getBenchMatches(@PathVariable String jobId,
+                                             @RequestParam(required = false) Integer limit) {
+        if (!benchMatchService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Collections.singletonMap("error", "Bench matching index is still loading"));
+        }
+        BenchMatchResponse response = benchMatchService.match(jobId, limit);
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Collections.singletonMap("error", "No submissions found for job " + jobId + " to match against"));
+        }
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/getBenchBy/{benchId}")
     public ResponseEntity<BenchDetailsDto> getBenchById(@PathVariable String benchId) {
         BenchDetailsDto dto = benchService.getBenchById(benchId);
@@ -263,7 +276,6 @@ public class BenchController {
             System.out.println("Received Skills JSON: " + skillsJson);
 
             // ✅ Convert JSON string to List<String>
-            ObjectMapper objectMapper = new ObjectMapper();
             List<String> skillsList = (skillsJson != null && !skillsJson.isBlank())
                     ? objectMapper.readValue(skillsJson, new TypeReference<List<String>>() {})
                     : Collections.emptyList();
@@ -350,8 +362,9 @@ public class BenchController {
         }
     }
 
+    // Streamed with ETag and Range support; conditional and partial requests are handled by Spring for Resource bodies
     @GetMapping("/bench/download/{id}")
-    public ResponseEntity<byte[]> downloadResume(@PathVariable String id) {
+    public ResponseEntity<Resource> downloadResume(@PathVariable String id) {
         try {
             Optional<BenchDetails> benchDetailsOptional = benchRepository.findById(id);
             if (benchDetailsOptional.isEmpty()) {
@@ -359,14 +372,13 @@ public class BenchController {
             }
 
             BenchDetails benchDetails = benchDetailsOptional.get();
-            byte[] resumeFile = benchDetails.getResume();
+            ResumeContent resume = resumeStorageService.openResume(benchDetails);
 
-            if (resumeFile == null || resumeFile.length == 0) {
+            if (resume == null) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
             }
 
-            Tika tika = new Tika();
-            String contentType = tika.detect(resumeFile);
+            String contentType = resume.getContentType();
 
             // Map content type to correct file extension
             String extension;
@@ -393,8 +405,11 @@ public class BenchController {
 
             return ResponseEntity.ok()
                     .contentType(MediaType.parseMediaType(contentType))
+                    .eTag(resume.getETag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                    .body(resumeFile);
+                    .body(resume.getResource());
 
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
@@ -450,8 +465,7 @@ public class BenchController {
 
                 // ✅ Set resume if available
                 try {
-                    byte[] resumeBytes = service.getResumeByCandidateAndJob(submission.getCandidateId(), submission.getJobId());
-                    bench.setResume(resumeBytes);
+                    bench.applyStoredResume(service.getStoredResumeByCandidateAndJob(submission.getCandidateId(), submission.getJobId()));
                 } catch (Exception ex) {
                     logger.warn("Resume not found for candidateId={}, jobId={}", submission.getCandidateId(), submission.getJobId());
                 }
@@ -471,6 +485,8 @@ public class BenchController {
                 savedCandidates.add(new BenchResponseDto.Payload(saved.getId(), saved.getFullName()));
             }
 
+            candidateSearchService.benchChanged(savedCandidates.stream().map(BenchResponseDto.Payload::getId).toList());
+            benchMatchService.benchChanged(savedCandidates.stream().map(BenchResponseDto.Payload::getId).toList());
             logger.info("✅ Total moved to bench: {}", savedCandidates.size());
             logger.info("⛔ Skipped due to duplicate emails: {}", duplicateCount);
 
@@ -0,0 +1,60 @@
+package com.profile.candidate.controller;
+
+import com.profile.candidate.config.TwoTierCache;
+import com.profile.candidate.config.TwoTierCacheManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+@RequestMapping("/candidate")
+public class CacheAdminController {
+
+    @Autowired
+    private TwoTierCacheManager cacheManager;
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheAdminController.class);
+
+    @GetMapping("/admin/caches")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> stats = new TreeMap<>();
+        for (Map.Entry<String, TwoTierCache> entry : cacheManager.getCaches().entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().stats());
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    @DeleteMapping("/admin/caches/{cacheName}/{key}")
+    public ResponseEntity<Map<String, Object>> evictKey(@PathVariable String cacheName, @PathVariable String key) {
+        logger.info("Evicting key '{}' from cache '{}'", key, cacheName);
+        if (!cacheManager.evict(cacheName, key)) {
+            return buildResponse(false, "Cache not found: " + cacheName, HttpStatus.NOT_FOUND);
+        }
+        return buildResponse(true, "Key '" + key + "' evicted from cache '" + cacheName + "'", HttpStatus.OK);
+    }
+
+    @DeleteMapping("/admin/caches/{cacheName}")
+    public ResponseEntity<Map<String, Object>> clearCache(@PathVariable String cacheName) {
+        logger.info("Clearing cache '{}'", cacheName);
+        if (!cacheManager.clear(cacheName)) {
+            return buildResponse(false, "Cache not found: " + cacheName, HttpStatus.NOT_FOUND);
+        }
+        return buildResponse(true, "Cache '" + cacheName + "' cleared", HttpStatus.OK);
+    }
+
+    private ResponseEntity<Map<String, Object>> buildResponse(boolean success, String message, HttpStatus status) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("success", success);
+        response.put("message", message);
+        response.put("timestamp", LocalDateTime.now());
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -0,0 +1,72 @@
+package com.profile.candidate.controller;
+
+import com.profile.candidate.dto.CandidateSearchQuery;
+import com.profile.candidate.dto.CandidateSearchResponse;
+import com.profile.candidate.service.CandidateSearchService;
+import com.profile.candidate.service.ResumeTextExtractionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/candidate")
+public class CandidateSearchController {
+
+    @Autowired
+    private CandidateSearchService candidateSearchService;
+
+    @Autowired
+    private ResumeTextExtractionService resumeTextExtractionService;
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateSearchController.class);
+
+    // e.g. /candidate/search?q=kafka&skills=java&location=Hyderabad&minExperience=5
+    @GetMapping("/search")
+    public ResponseEntity<?> search(
+            @RequestParam(value = "q", required = false) String text,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(value = "location", required = false) List<String> locations,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Float minExperience,
+            @RequestParam(required = false) Float maxExperience,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) Integer limit) throws IOException {
+        if (!candidateSearchService.isReady()) {
+            return buildResponse(false, "Search index is still being built", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        CandidateSearchQuery query = new CandidateSearchQuery(text, skills, locations, type, minExperience, maxExperience,
+                offset, limit);
+        CandidateSearchResponse response = candidateSearchService.search(query);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/admin/search-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        logger.info("Rebuilding candidate search index");
+        int documents = candidateSearchService.rebuild();
+        return buildResponse(true, "Search index rebuilt with " + documents + " documents", HttpStatus.OK);
+    }
+
+    // Worker pool state and extraction outcomes since startup
+    @GetMapping("/admin/resume-text/stats")
+    public ResponseEntity<Map<String, Object>> resumeTextStats() {
+        return ResponseEntity.ok(resumeTextExtractionService.stats());
+    }
+
+    private ResponseEntity<Map<String, Object>> buildResponse(boolean success, String message, HttpStatus status) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("success", success);
+        response.put("message", message);
+        response.put("timestamp", LocalDateTime.now());
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -0,0 +1,46 @@
+package com.profile.candidate.controller;
+
+import com.profile.candidate.service.DashboardRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/candidate")
+public class DashboardRollupAdminController {
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardRollupAdminController.class);
+
+    // Rebuilds the rollup for a date range, e.g. after rows were changed directly in the database
+    @PostMapping("/admin/dashboard-rollup/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcile(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            return buildResponse(false, "End date must not be before start date", HttpStatus.BAD_REQUEST);
+        }
+        logger.info("Reconciling dashboard rollup from {} to {}", startDate, endDate);
+        dashboardRollupService.reconcileRange(startDate, endDate);
+        return buildResponse(true, "Dashboard rollup rebuilt from " + startDate + " to " + endDate, HttpStatus.OK);
+    }
+
+    private ResponseEntity<Map<String, Object>> buildResponse(boolean success, String message, HttpStatus status) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("success", success);
+        response.put("message", message);
+        response.put("timestamp", LocalDateTime.now());
+        return ResponseEntity.status(status).body(response);
+    }
+}
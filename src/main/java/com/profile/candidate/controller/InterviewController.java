@@ -1,10 +1,13 @@
 package com.profile.candidate.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.profile.candidate.dto.*;
 import com.profile.candidate.exceptions.*;
 import com.profile.candidate.repository.InterviewRepository;
+import com.profile.candidate.service.BulkInterviewService;
 import com.profile.candidate.service.CandidateService;
+import com.profile.candidate.service.CoordinatorSlotIndex;
 import com.profile.candidate.service.InterviewService;
 import com.profile.candidate.service.SubmissionService;
 import org.slf4j.Logger;
@@ -12,10 +15,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -37,6 +43,10 @@ public class InterviewController {
     CandidateService candidateService;
     @Autowired
     SubmissionService submissionService;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    BulkInterviewService bulkInterviewService;
     private static final Logger logger = LoggerFactory.getLogger(InterviewController.class);
 
     @PostMapping("/interview-schedule/{userId}")
@@ -77,6 +87,16 @@ public class InterviewController {
             throw new RuntimeException(e);
         }
     }
+    // Schedules up to BulkInterviewService.MAX_BATCH_SIZE interviews for one job in one transaction
+    @PostMapping("/interview-schedule/{userId}/bulk")
+    public ResponseEntity<BulkInterviewResponseDto> scheduleInterviews(
+            @PathVariable String userId,
+            @RequestBody BulkInterviewRequest request) {
+        logger.info("Received bulk interview request for userId: {} with {} interviews for jobId: {}", userId,
+                request.getInterviews() == null ? 0 : request.getInterviews().size(), request.getJobId());
+        BulkInterviewResponseDto response = bulkInterviewService.scheduleInterviews(userId, request);
+        return response.isSuccess() ? ResponseEntity.ok(response) : ResponseEntity.badRequest().body(response);
+    }
     @GetMapping(value = "/allInterviews")
     public ResponseEntity<GetInterviewResponse> getAllInterviews(){
 
@@ -266,6 +286,24 @@ public class InterviewController {
             return ResponseEntity.ok(interviews);
 
     }
+    @GetMapping("/interviews/page")
+    public ResponseEntity<CursorPage<GetInterviewResponse.InterviewData>> getInterviewsPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(interviewService.getScheduledInterviewsPage(ListingRange.of(startDate, endDate), cursor, limit));
+    }
+
+    @GetMapping(value = "/interviews/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamInterviews(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        ListingRange range = ListingRange.of(startDate, endDate);
+        StreamingResponseBody body = out -> interviewService.streamScheduledInterviews(range, new NdjsonWriter(out, objectMapper));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/interviews/teamlead/{userId}")
     public ResponseEntity<TeamleadInterviewsDTO> getInterviewsForTeamlead(@PathVariable String userId) {
         try {
@@ -318,6 +356,32 @@ public class InterviewController {
 
         return new ResponseEntity<>(interviewService.getInterviewSlots(userId),HttpStatus.OK);
     }
+    @GetMapping("/interviewSlots/{userId}/free")
+    public ResponseEntity<List<InterviewSlotsDto.InterviewDateWithDuration>> getFreeSlots(
+            @PathVariable String userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "60") int duration) {
+        return ResponseEntity.ok(interviewService.getFreeSlots(userId, from, to, duration));
+    }
+
+    @GetMapping("/interviewSlots/{userId}/next")
+    public ResponseEntity<List<InterviewSlotsDto.InterviewDateWithDuration>> getNextFreeSlots(
+            @PathVariable String userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(defaultValue = "60") int duration,
+            @RequestParam(defaultValue = "5") int count) {
+        return ResponseEntity.ok(interviewService.getNextFreeSlots(userId, from, duration, count));
+    }
+
+    @GetMapping("/interviewSlots/{userId}/conflicts")
+    public ResponseEntity<List<CoordinatorSlotIndex.BookedSlot>> getSlotConflicts(
+            @PathVariable String userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime start,
+            @RequestParam(defaultValue = "60") int duration,
+            @RequestParam(required = false) String interviewId) {
+        return ResponseEntity.ok(interviewService.getSlotConflicts(userId, start, duration, interviewId));
+    }
 
 
     @PutMapping("/updateInterviewByCoordinator/{coordinatorId}/{interviewId}")
@@ -0,0 +1,31 @@
+package com.profile.candidate.controller;
+
+import com.profile.candidate.service.EmailOutboxRelay;
+import com.profile.candidate.service.MailDispatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/candidate")
+public class MailAdminController {
+
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private EmailOutboxRelay emailOutboxRelay;
+
+    @GetMapping("/admin/mail")
+    public ResponseEntity<Map<String, Object>> getMailStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("dispatcher", mailDispatcher.stats());
+        stats.put("outbox", emailOutboxRelay.stats());
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -0,0 +1,39 @@
+package com.profile.candidate.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+// Writes one JSON document per line to a response stream, flushing every few rows so the
+// client starts receiving data immediately and nothing accumulates on the server.
+public class NdjsonWriter implements Consumer<Object> {
+
+    private static final int FLUSH_EVERY = 100;
+
+    private final OutputStream out;
+    private final ObjectWriter writer;
+    private int pending;
+
+    public NdjsonWriter(OutputStream out, ObjectMapper objectMapper) {
+        this.out = out;
+        this.writer = objectMapper.writer();
+    }
+
+    @Override
+    public void accept(Object row) {
+        try {
+            out.write(writer.writeValueAsBytes(row));
+            out.write('\n');
+            if (++pending >= FLUSH_EVERY) {
+                out.flush();
+                pending = 0;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
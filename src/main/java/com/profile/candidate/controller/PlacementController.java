@@ -1,5 +1,6 @@
 package com.profile.candidate.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.profile.candidate.dto.*;
 import com.profile.candidate.exceptions.ResourceNotFoundException;
 import com.profile.candidate.model.PlacementDetails;
@@ -9,8 +10,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import java.time.LocalDate;
@@ -32,6 +35,8 @@ public class PlacementController {
 
     @Autowired
     private PlacementService placementService;
+    @Autowired
+    private ObjectMapper objectMapper;
     private static final Logger logger = LoggerFactory.getLogger(PlacementController.class);
 
 
@@ -146,6 +151,24 @@ public class PlacementController {
         return ResponseEntity.ok(placements);
     }
 
+    @GetMapping("/placement/page")
+    public ResponseEntity<CursorPage<PlacementDetails>> getPlacementsPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(placementService.getPlacementsPage(ListingRange.of(startDate, endDate), cursor, limit));
+    }
+
+    @GetMapping(value = "/placement/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPlacements(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        ListingRange range = ListingRange.of(startDate, endDate);
+        StreamingResponseBody body = out -> placementService.streamPlacements(range, new NdjsonWriter(out, objectMapper));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/dashboardcounts/filterByDate")
     public ResponseEntity<?> getDashboardCountsByDateRange(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
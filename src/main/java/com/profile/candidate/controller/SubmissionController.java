@@ -1,6 +1,5 @@
 package com.profile.candidate.controller;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.profile.candidate.dto.*;
 import com.profile.candidate.exceptions.CandidateNotFoundException;
@@ -12,14 +11,14 @@ import com.profile.candidate.repository.CandidateRepository;
 import com.profile.candidate.repository.InterviewRepository;
 import com.profile.candidate.repository.SubmissionRepository;
 import com.profile.candidate.service.CandidateService;
+import com.profile.candidate.service.ResumeStorageService;
 import com.profile.candidate.service.SubmissionService;
+import com.profile.candidate.storage.ResumeContent;
 import jakarta.transaction.Transactional;
-import org.apache.tika.Tika;
 import org.apache.tika.mime.MimeTypes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -27,7 +26,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.*;
 
@@ -51,6 +52,10 @@ public class SubmissionController {
     InterviewRepository interviewRepository;
     @Autowired
     CandidateService candidateService;
+    @Autowired
+    ResumeStorageService resumeStorageService;
+    @Autowired
+    ObjectMapper objectMapper;
     private static final Logger logger = LoggerFactory.getLogger(SubmissionController.class);
 
     @GetMapping("/submissions")
@@ -71,6 +76,25 @@ public class SubmissionController {
         logger.info("Fetched {} submissions between {} and {}", submissions.size(), startDate, endDate);
         return ResponseEntity.ok(submissions);
     }
+    @GetMapping("/submissions/page")
+    public ResponseEntity<CursorPage<SubmissionGetResponseDto>> getSubmissionsPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(submissionService.getSubmissionsPage(ListingRange.of(startDate, endDate), cursor, limit));
+    }
+
+    @GetMapping(value = "/submissions/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSubmissions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        // Built here so an invalid range is rejected before the response is committed
+        ListingRange range = ListingRange.of(startDate, endDate);
+        StreamingResponseBody body = out -> submissionService.streamSubmissions(range, new NdjsonWriter(out, objectMapper));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/submissions/{userId}/filterByDate")
     public ResponseEntity<?> getSubmissionsByUserIdAndDateRange(
             @PathVariable String userId,
@@ -117,6 +141,7 @@ public class SubmissionController {
         return new ResponseEntity<>(submissionService.getSubmissionsByUserId(userId),HttpStatus.OK);
     }
 
+    // Streams the stored file; Spring answers If-None-Match with 304 and Range with 206 for Resource bodies
     @GetMapping("/download-resume/{candidateId}/{jobId}")
     public ResponseEntity<Object> downloadResume(@PathVariable String candidateId, @PathVariable String jobId) {
         try {
@@ -127,22 +152,18 @@ public class SubmissionController {
                 throw new CandidateNotFoundException("Submissions not found with Candidate ID: " + candidateId + " and JobId: " + jobId);
             }
 
-            byte[] resumeBytes = submissions.getResume();
-            if (resumeBytes == null || resumeBytes.length == 0) {
-                logger.error("Resume is missing for candidate ID and Job Id: {}", candidateId, jobId);
+            ResumeContent resume = resumeStorageService.openResume(submissions);
+            if (resume == null) {
+                logger.error("Resume is missing for candidate ID {} and Job Id: {}", candidateId, jobId);
                 return ResponseEntity
                         .status(HttpStatus.NOT_FOUND)
                         .body(new ErrorResponseDto(false, "Resume is missing for candidate ID: " + candidateId));
             }
 
-            // Detect MIME type using Tika
-            Tika tika = new Tika();
-            String contentType = tika.detect(resumeBytes);
-
             // Get appropriate file extension
             String extension;
             try {
-                extension = MimeTypes.getDefaultMimeTypes().forName(contentType).getExtension();
+                extension = MimeTypes.getDefaultMimeTypes().forName(resume.getContentType()).getExtension();
             } catch (Exception e) {
                 extension = ".bin"; // fallback if type is unknown
             }
@@ -150,12 +171,13 @@ public class SubmissionController {
             // Build dynamic filename
             String filename = submissions.getCandidate().getFullName().replaceAll("\\s+", "_") + "-Resume" + extension;
 
-            ByteArrayResource resource = new ByteArrayResource(resumeBytes);
-
             return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
+                    .contentType(MediaType.parseMediaType(resume.getContentType()))
+                    .eTag(resume.getETag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                    .body(resource);
+                    .body(resume.getResource());
 
         } catch (CandidateNotFoundException e) {
             logger.error("Candidate not found: {}", e.getMessage());
@@ -287,7 +309,7 @@ public class SubmissionController {
 
     @GetMapping("/closedjobs/{jobId}")
     public List<Map<String, Object>> getCandidatesByJob(@PathVariable String jobId) {
-        List<Submissions> submissions = submissionRepository.findByJobId(jobId);
+        List<SubmissionListRow> submissions = submissionRepository.findListRowsByJobId(jobId);
         logger.info("Fetched total {} submissions for jobId: {}", submissions.size(), jobId);
 
         List<Map<String, Object>> result = new ArrayList<>();
@@ -295,54 +317,47 @@ public class SubmissionController {
 
         String technology = submissionRepository.findJobTitleByJobId(jobId);
 
-        for (Submissions submission : submissions) {
-            CandidateDetails candidate = submission.getCandidate();
-            if (candidate == null) {
-                logger.warn("Skipping submission with null candidate (submissionId: {})", submission.getSubmissionId());
-                continue;
+        // ✅ Latest interview of each candidate, fetched once for the whole job
+        Set<String> candidateIds = new HashSet<>();
+        for (SubmissionListRow submission : submissions) {
+            candidateIds.add(submission.getCandidateId());
+        }
+        Map<String, InterviewLatestStatusProjection> latestInterviewByCandidate = new HashMap<>();
+        if (!candidateIds.isEmpty()) {
+            for (InterviewLatestStatusProjection row : interviewRepository.findLatestStatusByCandidateIds(candidateIds)) {
+                latestInterviewByCandidate.putIfAbsent(row.getCandidateId(), row);
             }
+        }
 
+        for (SubmissionListRow submission : submissions) {
             // ✅ Exclude based on latest interview status if INTERNAL + REJECTED
-            List<InterviewDetails> interviews = interviewRepository.findByCandidateIdOrderByTimestampDesc(candidate.getCandidateId());
-            if (!interviews.isEmpty()) {
-                InterviewDetails latest = interviews.get(0);
-                String interviewStatusJson = latest.getInterviewStatus();
-                if (interviewStatusJson != null && !interviewStatusJson.isBlank()) {
-                    try {
-                        ObjectMapper mapper = new ObjectMapper();
-                        List<Map<String, Object>> statusList = mapper.readValue(
-                                interviewStatusJson, new TypeReference<>() {});
-                        if (!statusList.isEmpty()) {
-                            Map<String, Object> lastStatus = statusList.get(statusList.size() - 1);
-                            String level = (String) lastStatus.get("interviewLevel");
-                            String status = (String) lastStatus.get("status");
-                            if ("INTERNAL".equalsIgnoreCase(level) && "REJECTED".equalsIgnoreCase(status)) {
-                                logger.info("Skipping candidate {} due to INTERNAL + REJECTED", candidate.getCandidateEmailId());
-                                skippedCount++;
-                                continue;
-                            }
-                        }
-                    } catch (Exception e) {
-                        logger.error("Error parsing interview status for candidate {}: {}", candidate.getCandidateEmailId(), e.getMessage());
-                    }
-                }
+            InterviewLatestStatusProjection latest = latestInterviewByCandidate.get(submission.getCandidateId());
+            if (latest != null && "INTERNAL".equalsIgnoreCase(latest.getLatestLevel())
+                    && "REJECTED".equalsIgnoreCase(latest.getLatestStatus())) {
+                logger.info("Skipping candidate {} due to INTERNAL + REJECTED", submission.getCandidateEmailId());
+                skippedCount++;
+                continue;
             }
 
             Map<String, Object> map = new HashMap<>();
-            map.put("candidate_email_id", candidate.getCandidateEmailId());
-            map.put("full_name", candidate.getFullName());
-            map.put("contact_number", candidate.getContactNumber());
-            map.put("relevant_experience", candidate.getRelevantExperience());
-            map.put("total_experience", candidate.getTotalExperience());
+            map.put("candidate_email_id", submission.getCandidateEmailId());
+            map.put("full_name", submission.getFullName());
+            map.put("contact_number", submission.getContactNumber());
+            map.put("relevant_experience", submission.getRelevantExperience());
+            map.put("total_experience", submission.getTotalExperience());
             map.put("referred_by", submission.getRecruiterName());
             map.put("technology", technology);
 
-            if (submission.getResume() != null) {
-                String base64Resume = Base64.getEncoder().encodeToString(submission.getResume());
-                map.put("resume", base64Resume);
-            } else {
-                map.put("resume", null);
+            // This endpoint ships the files themselves, so the (legacy) resume is read per row on purpose
+            byte[] resumeBytes = null;
+            try {
+                resumeBytes = submission.getResumeHash() != null
+                        ? resumeStorageService.read(submission.getResumeHash())
+                        : submissionRepository.findLegacyResume(submission.getSubmissionId());
+            } catch (IOException e) {
+                logger.warn("Resume could not be read for submission {}: {}", submission.getSubmissionId(), e.getMessage());
             }
+            map.put("resume", resumeBytes != null ? Base64.getEncoder().encodeToString(resumeBytes) : null);
 
             List<String> skillsArray = Arrays.stream(
                             Optional.ofNullable(submission.getSkills()).orElse("").split(","))
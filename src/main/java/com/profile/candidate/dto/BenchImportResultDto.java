@@ -0,0 +1,64 @@
+package com.profile.candidate.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BenchImportResultDto {
+
+    public static final String INSERTED = "INSERTED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String INVALID = "INVALID";
+    public static final String FAILED = "FAILED";
+
+    private int received;
+    private int inserted;
+    private int duplicates;
+    private int invalid;
+    private int failed;
+    private final List<RowOutcome> rows = new ArrayList<>();
+
+    public void record(RowOutcome outcome) {
+        received++;
+        switch (outcome.getStatus()) {
+            case INSERTED -> inserted++;
+            case DUPLICATE -> duplicates++;
+            case INVALID -> invalid++;
+            default -> failed++;
+        }
+        rows.add(outcome);
+    }
+
+    public int getReceived() { return received; }
+    public int getInserted() { return inserted; }
+    public int getDuplicates() { return duplicates; }
+    public int getInvalid() { return invalid; }
+    public int getFailed() { return failed; }
+    public List<RowOutcome> getRows() { return rows; }
+
+    // Outcome of one element of the imported array; index is its zero-based position
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RowOutcome {
+        private final int index;
+        private final String email;
+        private final String status;
+        private final String id;
+        private final String message;
+
+        public RowOutcome(int index, String email, String status, String id, String message) {
+            this.index = index;
+            this.email = email;
+            this.status = status;
+            this.id = id;
+            this.message = message;
+        }
+
+        public int getIndex() { return index; }
+        public String getEmail() { return email; }
+        public String getStatus() { return status; }
+        public String getId() { return id; }
+        public String getMessage() { return message; }
+    }
+}
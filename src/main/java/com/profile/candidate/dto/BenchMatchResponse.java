@@ -0,0 +1,39 @@
+package com.profile.candidate.dto;
+
+import com.profile.candidate.matching.BenchMatch;
+
+import java.util.List;
+import java.util.Map;
+
+// Result of /candidate/bench/matches/{jobId}: the job profile the ranking used and the top bench profiles
+public class BenchMatchResponse {
+
+    private final boolean success = true;
+    private final String jobId;
+    private final int submissionCount;
+    private final float targetExperience;
+    private final Map<String, Float> requiredSkills;
+    private final int benchSize;
+    private final long tookMs;
+    private final List<BenchMatch> matches;
+
+    public BenchMatchResponse(String jobId, int submissionCount, float targetExperience, Map<String, Float> requiredSkills,
+                              int benchSize, long tookMs, List<BenchMatch> matches) {
+        this.jobId = jobId;
+        this.submissionCount = submissionCount;
+        this.targetExperience = targetExperience;
+        this.requiredSkills = requiredSkills;
+        this.benchSize = benchSize;
+        this.tookMs = tookMs;
+        this.matches = matches;
+    }
+
+    public boolean isSuccess() { return success; }
+    public String getJobId() { return jobId; }
+    public int getSubmissionCount() { return submissionCount; }
+    public float getTargetExperience() { return targetExperience; }
+    public Map<String, Float> getRequiredSkills() { return requiredSkills; }
+    public int getBenchSize() { return benchSize; }
+    public long getTookMs() { return tookMs; }
+    public List<BenchMatch> getMatches() { return matches; }
+}
@@ -0,0 +1,10 @@
+package com.profile.candidate.dto;
+
+import java.time.OffsetDateTime;
+
+public interface BookedSlotProjection {
+    String getInterviewId();
+    String getAssignedTo();
+    OffsetDateTime getInterviewDateTime();
+    Integer getDuration();
+}
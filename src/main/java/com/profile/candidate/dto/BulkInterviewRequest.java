@@ -0,0 +1,66 @@
+package com.profile.candidate.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+// Several interviews for one job and client; fields outside slots apply to every interview
+public class BulkInterviewRequest {
+
+    private String jobId;
+    private String clientName;
+    private String interviewLevel;
+    private String userEmail;
+    private List<String> clientEmail;
+    private String zoomLink;
+    private Integer duration;
+    private String externalInterviewDetails;
+    private String assignedTo;
+    private String comments;
+    private boolean skipNotification;
+    private List<Slot> interviews;
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+    public String getClientName() { return clientName; }
+    public void setClientName(String clientName) { this.clientName = clientName; }
+    public String getInterviewLevel() { return interviewLevel; }
+    public void setInterviewLevel(String interviewLevel) { this.interviewLevel = interviewLevel; }
+    public String getUserEmail() { return userEmail; }
+    public void setUserEmail(String userEmail) { this.userEmail = userEmail; }
+    public List<String> getClientEmail() { return clientEmail; }
+    public void setClientEmail(List<String> clientEmail) { this.clientEmail = clientEmail; }
+    public String getZoomLink() { return zoomLink; }
+    public void setZoomLink(String zoomLink) { this.zoomLink = zoomLink; }
+    public Integer getDuration() { return duration; }
+    public void setDuration(Integer duration) { this.duration = duration; }
+    public String getExternalInterviewDetails() { return externalInterviewDetails; }
+    public void setExternalInterviewDetails(String externalInterviewDetails) { this.externalInterviewDetails = externalInterviewDetails; }
+    public String getAssignedTo() { return assignedTo; }
+    public void setAssignedTo(String assignedTo) { this.assignedTo = assignedTo; }
+    public String getComments() { return comments; }
+    public void setComments(String comments) { this.comments = comments; }
+    public boolean isSkipNotification() { return skipNotification; }
+    public void setSkipNotification(boolean skipNotification) { this.skipNotification = skipNotification; }
+    public List<Slot> getInterviews() { return interviews; }
+    public void setInterviews(List<Slot> interviews) { this.interviews = interviews; }
+
+    // One candidate and time; duration and zoomLink fall back to the request-level values
+    public static class Slot {
+        private String candidateId;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+        private OffsetDateTime interviewDateTime;
+        private Integer duration;
+        private String zoomLink;
+
+        public String getCandidateId() { return candidateId; }
+        public void setCandidateId(String candidateId) { this.candidateId = candidateId; }
+        public OffsetDateTime getInterviewDateTime() { return interviewDateTime; }
+        public void setInterviewDateTime(OffsetDateTime interviewDateTime) { this.interviewDateTime = interviewDateTime; }
+        public Integer getDuration() { return duration; }
+        public void setDuration(Integer duration) { this.duration = duration; }
+        public String getZoomLink() { return zoomLink; }
+        public void setZoomLink(String zoomLink) { this.zoomLink = zoomLink; }
+    }
+}
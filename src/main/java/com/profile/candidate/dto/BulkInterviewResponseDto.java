@@ -0,0 +1,53 @@
+package com.profile.candidate.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkInterviewResponseDto {
+
+    public static final String SCHEDULED = "SCHEDULED";
+    public static final String REJECTED = "REJECTED";
+
+    private final boolean success;
+    private final String message;
+    private final int scheduled;
+    private final List<SlotOutcome> interviews;
+
+    public BulkInterviewResponseDto(boolean success, String message, int scheduled, List<SlotOutcome> interviews) {
+        this.success = success;
+        this.message = message;
+        this.scheduled = scheduled;
+        this.interviews = interviews;
+    }
+
+    public boolean isSuccess() { return success; }
+    public String getMessage() { return message; }
+    public int getScheduled() { return scheduled; }
+    public List<SlotOutcome> getInterviews() { return interviews; }
+
+    // index is the zero-based position of the slot in the request
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SlotOutcome {
+        private final int index;
+        private final String candidateId;
+        private final String status;
+        private final String interviewId;
+        private final String message;
+
+        public SlotOutcome(int index, String candidateId, String status, String interviewId, String message) {
+            this.index = index;
+            this.candidateId = candidateId;
+            this.status = status;
+            this.interviewId = interviewId;
+            this.message = message;
+        }
+
+        public int getIndex() { return index; }
+        public String getCandidateId() { return candidateId; }
+        public String getStatus() { return status; }
+        public String getInterviewId() { return interviewId; }
+        public String getMessage() { return message; }
+    }
+}
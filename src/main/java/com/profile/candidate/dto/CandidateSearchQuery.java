@@ -0,0 +1,43 @@
+package com.profile.candidate.dto;
+
+import java.util.List;
+
+// Parameters of /candidate/search. Skills must all be present on a profile; any of the locations matches.
+public class CandidateSearchQuery {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 200;
+
+    public static final String TYPE_SUBMISSION = "submission";
+    public static final String TYPE_BENCH = "bench";
+
+    private final String text;
+    private final List<String> skills;
+    private final List<String> locations;
+    private final String type;
+    private final Float minExperience;
+    private final Float maxExperience;
+    private final int offset;
+    private final int limit;
+
+    public CandidateSearchQuery(String text, List<String> skills, List<String> locations, String type,
+                                Float minExperience, Float maxExperience, Integer offset, Integer limit) {
+        this.text = text;
+        this.skills = skills == null ? List.of() : skills;
+        this.locations = locations == null ? List.of() : locations;
+        this.type = type;
+        this.minExperience = minExperience;
+        this.maxExperience = maxExperience;
+        this.offset = offset == null || offset < 0 ? 0 : offset;
+        this.limit = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+
+    public String getText() { return text; }
+    public List<String> getSkills() { return skills; }
+    public List<String> getLocations() { return locations; }
+    public String getType() { return type; }
+    public Float getMinExperience() { return minExperience; }
+    public Float getMaxExperience() { return maxExperience; }
+    public int getOffset() { return offset; }
+    public int getLimit() { return limit; }
+}
@@ -0,0 +1,94 @@
+package com.profile.candidate.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// Result of /candidate/search: one page of hits plus facet counts over every matching profile
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CandidateSearchResponse {
+
+    private final boolean success = true;
+    private final long total;
+    private final long tookMs;
+    private final List<Hit> hits;
+    private final Map<String, Map<String, Long>> facets;
+
+    public CandidateSearchResponse(long total, long tookMs, List<Hit> hits, Map<String, Map<String, Long>> facets) {
+        this.total = total;
+        this.tookMs = tookMs;
+        this.hits = hits;
+        this.facets = facets;
+    }
+
+    public boolean isSuccess() { return success; }
+    public long getTotal() { return total; }
+    public long getTookMs() { return tookMs; }
+    public List<Hit> getHits() { return hits; }
+    public Map<String, Map<String, Long>> getFacets() { return facets; }
+
+    // A submission (candidate + the job it was submitted to) or a bench profile; id is the submission or bench id
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Hit {
+        private final String type;
+        private final String id;
+        private final String candidateId;
+        private final String fullName;
+        private final String email;
+        private final String contactNumber;
+        private final String skills;
+        private final String technology;
+        private final String currentLocation;
+        private final String preferredLocation;
+        private final Float totalExperience;
+        private final Float relevantExperience;
+        private final String jobId;
+        private final String clientName;
+        private final String status;
+        private final LocalDate date;
+        private final float score;
+
+        public Hit(String type, String id, String candidateId, String fullName, String email, String contactNumber,
+                   String skills, String technology, String currentLocation, String preferredLocation,
+                   Float totalExperience, Float relevantExperience, String jobId, String clientName, String status,
+                   LocalDate date, float score) {
+            this.type = type;
+            this.id = id;
+            this.candidateId = candidateId;
+            this.fullName = fullName;
+            this.email = email;
+            this.contactNumber = contactNumber;
+            this.skills = skills;
+            this.technology = technology;
+            this.currentLocation = currentLocation;
+            this.preferredLocation = preferredLocation;
+            this.totalExperience = totalExperience;
+            this.relevantExperience = relevantExperience;
+            this.jobId = jobId;
+            this.clientName = clientName;
+            this.status = status;
+            this.date = date;
+            this.score = score;
+        }
+
+        public String getType() { return type; }
+        public String getId() { return id; }
+        public String getCandidateId() { return candidateId; }
+        public String getFullName() { return fullName; }
+        public String getEmail() { return email; }
+        public String getContactNumber() { return contactNumber; }
+        public String getSkills() { return skills; }
+        public String getTechnology() { return technology; }
+        public String getCurrentLocation() { return currentLocation; }
+        public String getPreferredLocation() { return preferredLocation; }
+        public Float getTotalExperience() { return totalExperience; }
+        public Float getRelevantExperience() { return relevantExperience; }
+        public String getJobId() { return jobId; }
+        public String getClientName() { return clientName; }
+        public String getStatus() { return status; }
+        public LocalDate getDate() { return date; }
+        public float getScore() { return score; }
+    }
+}
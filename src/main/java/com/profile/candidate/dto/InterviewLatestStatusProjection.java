@@ -0,0 +1,7 @@
+package com.profile.candidate.dto;
+
+public interface InterviewLatestStatusProjection {
+    String getCandidateId();
+    String getLatestStatus();
+    String getLatestLevel();
+}
@@ -29,7 +29,7 @@ public class InterviewSlotsDto {
 
         private OffsetDateTime interviewDateTime;
 
-        private int duration;
+        private Integer duration;
 
         public OffsetDateTime getInterviewDateTime() {
             return interviewDateTime;
@@ -39,11 +39,11 @@ public class InterviewSlotsDto {
             this.interviewDateTime = interviewDateTime;
         }
 
-        public int getDuration() {
+        public Integer getDuration() {
             return duration;
         }
 
-        public void setDuration(int duration) {
+        public void setDuration(Integer duration) {
             this.duration = duration;
         }
     }
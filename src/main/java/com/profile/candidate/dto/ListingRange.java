@@ -0,0 +1,36 @@
+package com.profile.candidate.dto;
+
+import com.profile.candidate.exceptions.DateRangeValidationException;
+
+import java.time.LocalDate;
+
+// Date range for the paged / streamed listings; missing bounds default to the current month,
+// matching the unfiltered listing endpoints
+public class ListingRange {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    private ListingRange(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public static ListingRange of(LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = startDate != null ? startDate : today.withDayOfMonth(1);
+        LocalDate end = endDate != null ? endDate : today.withDayOfMonth(today.lengthOfMonth());
+        if (end.isBefore(start)) {
+            throw new DateRangeValidationException("End date cannot be before start date.");
+        }
+        return new ListingRange(start, end);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+}
@@ -0,0 +1,7 @@
+package com.profile.candidate.dto;
+
+public interface RequirementMetadataProjection {
+    String getJobId();
+    String getJobTitle();
+    String getClientName();
+}
@@ -0,0 +1,205 @@
+package com.profile.candidate.dto;
+
+import com.profile.candidate.model.CandidateDetails;
+import com.profile.candidate.model.Submissions;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Columns the submission grids display: one submission joined with its candidate. Filled by the
+// constructor expression in SubmissionRepository.LIST_ROW_SELECT, so the resume column is never read;
+// resumeHash locates the file in the resume store when a listing has to include it.
+public class SubmissionListRow {
+
+    private final String submissionId;
+    private final String candidateId;
+    private final String candidateUserId;
+    private final String candidateUserEmail;
+    private final String fullName;
+    private final String candidateEmailId;
+    private final String contactNumber;
+    private final String currentOrganization;
+    private final String qualification;
+    private final float totalExperience;
+    private final float relevantExperience;
+    private final String currentCTC;
+    private final String expectedCTC;
+    private final String noticePeriod;
+    private final String currentLocation;
+    private final String jobId;
+    private final String clientName;
+    private final LocalDate profileReceivedDate;
+    private final LocalDateTime submittedAt;
+    private final String preferredLocation;
+    private final String skills;
+    private final String communicationSkills;
+    private final Double requiredTechnologiesRating;
+    private final String overallFeedback;
+    private final String recruiterName;
+    private final String userEmail;
+    private final String status;
+    private final String resumeHash;
+
+    public SubmissionListRow(String submissionId, String candidateId, String candidateUserId, String candidateUserEmail,
+                             String fullName, String candidateEmailId, String contactNumber, String currentOrganization,
+                             String qualification, Float totalExperience, Float relevantExperience, String currentCTC,
+                             String expectedCTC, String noticePeriod, String currentLocation, String jobId,
+                             String clientName, LocalDate profileReceivedDate, LocalDateTime submittedAt,
+                             String preferredLocation, String skills, String communicationSkills,
+                             Double requiredTechnologiesRating, String overallFeedback, String recruiterName,
+                             String userEmail, String status, String resumeHash) {
+        this.submissionId = submissionId;
+        this.candidateId = candidateId;
+        this.candidateUserId = candidateUserId;
+        this.candidateUserEmail = candidateUserEmail;
+        this.fullName = fullName;
+        this.candidateEmailId = candidateEmailId;
+        this.contactNumber = contactNumber;
+        this.currentOrganization = currentOrganization;
+        this.qualification = qualification;
+        this.totalExperience = totalExperience != null ? totalExperience : 0f;
+        this.relevantExperience = relevantExperience != null ? relevantExperience : 0f;
+        this.currentCTC = currentCTC;
+        this.expectedCTC = expectedCTC;
+        this.noticePeriod = noticePeriod;
+        this.currentLocation = currentLocation;
+        this.jobId = jobId;
+        this.clientName = clientName;
+        this.profileReceivedDate = profileReceivedDate;
+        this.submittedAt = submittedAt;
+        this.preferredLocation = preferredLocation;
+        this.skills = skills;
+        this.communicationSkills = communicationSkills;
+        this.requiredTechnologiesRating = requiredTechnologiesRating;
+        this.overallFeedback = overallFeedback;
+        this.recruiterName = recruiterName;
+        this.userEmail = userEmail;
+        this.status = status;
+        this.resumeHash = resumeHash;
+    }
+
+    // For code paths that already hold the entity (single-submission lookups)
+    public static SubmissionListRow of(Submissions sub) {
+        CandidateDetails candidate = sub.getCandidate();
+        return new SubmissionListRow(sub.getSubmissionId(), candidate.getCandidateId(), candidate.getUserId(),
+                candidate.getUserEmail(), candidate.getFullName(), candidate.getCandidateEmailId(),
+                candidate.getContactNumber(), candidate.getCurrentOrganization(), candidate.getQualification(),
+                candidate.getTotalExperience(), candidate.getRelevantExperience(), candidate.getCurrentCTC(),
+                candidate.getExpectedCTC(), candidate.getNoticePeriod(), candidate.getCurrentLocation(), sub.getJobId(),
+                sub.getClientName(), sub.getProfileReceivedDate(), sub.getSubmittedAt(), sub.getPreferredLocation(),
+                sub.getSkills(), sub.getCommunicationSkills(), sub.getRequiredTechnologiesRating(),
+                sub.getOverallFeedback(), sub.getRecruiterName(), sub.getUserEmail(), sub.getStatus(), sub.getResumeHash());
+    }
+
+    public String getSubmissionId() {
+        return submissionId;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public String getCandidateUserId() {
+        return candidateUserId;
+    }
+
+    public String getCandidateUserEmail() {
+        return candidateUserEmail;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getCandidateEmailId() {
+        return candidateEmailId;
+    }
+
+    public String getContactNumber() {
+        return contactNumber;
+    }
+
+    public String getCurrentOrganization() {
+        return currentOrganization;
+    }
+
+    public String getQualification() {
+        return qualification;
+    }
+
+    public float getTotalExperience() {
+        return totalExperience;
+    }
+
+    public float getRelevantExperience() {
+        return relevantExperience;
+    }
+
+    public String getCurrentCTC() {
+        return currentCTC;
+    }
+
+    public String getExpectedCTC() {
+        return expectedCTC;
+    }
+
+    public String getNoticePeriod() {
+        return noticePeriod;
+    }
+
+    public String getCurrentLocation() {
+        return currentLocation;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public LocalDate getProfileReceivedDate() {
+        return profileReceivedDate;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public String getPreferredLocation() {
+        return preferredLocation;
+    }
+
+    public String getSkills() {
+        return skills;
+    }
+
+    public String getCommunicationSkills() {
+        return communicationSkills;
+    }
+
+    public Double getRequiredTechnologiesRating() {
+        return requiredTechnologiesRating;
+    }
+
+    public String getOverallFeedback() {
+        return overallFeedback;
+    }
+
+    public String getRecruiterName() {
+        return recruiterName;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getResumeHash() {
+        return resumeHash;
+    }
+}
@@ -0,0 +1,7 @@
+package com.profile.candidate.dto;
+
+public interface SubmissionSkillsProjection {
+    String getCandidateId();
+    String getJobId();
+    String getSkills();
+}
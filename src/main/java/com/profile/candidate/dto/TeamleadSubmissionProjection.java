@@ -0,0 +1,30 @@
+package com.profile.candidate.dto;
+
+public interface TeamleadSubmissionProjection {
+    String getSubmissionScope();   // SELF or TEAM
+    String getSubmissionId();
+    String getCandidateId();
+    String getRecruiterName();
+    String getFullName();
+    String getSkills();
+    String getJobId();
+    String getUserId();
+    String getUserEmail();
+    String getPreferredLocation();
+    String getProfileReceivedDate();
+    String getJobTitle();
+    String getClientName();
+    String getContactNumber();
+    String getCandidateEmailId();
+    Float getTotalExperience();
+    Float getRelevantExperience();
+    String getCurrentOrganization();
+    String getQualification();
+    String getCurrentCtc();
+    String getExpectedCtc();
+    String getNoticePeriod();
+    String getCurrentLocation();
+    String getCommunicationSkills();
+    Double getRequiredTechnologiesRating();
+    String getOverallFeedback();
+}
@@ -171,4 +171,12 @@ public class GlobalExceptionHandler {
         ErrorResponse response=new ErrorResponse(false,"Invalid OTP",null,error);
         return new ResponseEntity<>(response,HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex){
+
+        ErrorResponse.ErrorDto error=new ErrorResponse.ErrorDto(400, ex.getMessage());
+        ErrorResponse response=new ErrorResponse(false,"Invalid Cursor",null,error);
+        return new ResponseEntity<>(response,HttpStatus.BAD_REQUEST);
+    }
 }
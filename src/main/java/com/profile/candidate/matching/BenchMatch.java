@@ -0,0 +1,39 @@
+package com.profile.candidate.matching;
+
+import java.util.List;
+
+// One ranked bench profile for a job. score = SKILL_WEIGHT * skillScore + EXPERIENCE_WEIGHT * experienceFit
+public final class BenchMatch {
+
+    private final String benchId;
+    private final String fullName;
+    private final String email;
+    private final float totalExperience;
+    private final float relevantExperience;
+    private final float score;
+    private final float skillScore;
+    private final float experienceFit;
+    private final List<String> matchedSkills;
+
+    public BenchMatch(BenchProfile profile, float score, float skillScore, float experienceFit, List<String> matchedSkills) {
+        this.benchId = profile.getId();
+        this.fullName = profile.getFullName();
+        this.email = profile.getEmail();
+        this.totalExperience = profile.getTotalExperience();
+        this.relevantExperience = profile.getRelevantExperience();
+        this.score = score;
+        this.skillScore = skillScore;
+        this.experienceFit = experienceFit;
+        this.matchedSkills = matchedSkills;
+    }
+
+    public String getBenchId() { return benchId; }
+    public String getFullName() { return fullName; }
+    public String getEmail() { return email; }
+    public float getTotalExperience() { return totalExperience; }
+    public float getRelevantExperience() { return relevantExperience; }
+    public float getScore() { return score; }
+    public float getSkillScore() { return skillScore; }
+    public float getExperienceFit() { return experienceFit; }
+    public List<String> getMatchedSkills() { return matchedSkills; }
+}
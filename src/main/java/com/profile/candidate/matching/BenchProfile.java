@@ -0,0 +1,71 @@
+package com.profile.candidate.matching;
+
+import com.profile.candidate.dto.BenchDetailsDto;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// The parts of a bench record the matcher uses; skills are already normalised keys
+public final class BenchProfile {
+
+    private final String id;
+    private final String fullName;
+    private final String email;
+    private final float totalExperience;
+    private final float relevantExperience;
+    private final Set<String> skills;
+
+    public BenchProfile(String id, String fullName, String email, float totalExperience, float relevantExperience,
+                        Set<String> skills) {
+        this.id = id;
+        this.fullName = fullName;
+        this.email = email;
+        this.totalExperience = totalExperience;
+        this.relevantExperience = relevantExperience;
+        this.skills = Set.copyOf(skills);
+    }
+
+    // Bench skills are a list whose entries may themselves be "a, b" strings; technology counts as a skill
+    public static BenchProfile of(BenchDetailsDto bench) {
+        Set<String> skills = new LinkedHashSet<>();
+        Collection<String> rawSkills = bench.getSkills();
+        if (rawSkills != null) {
+            rawSkills.forEach(skill -> SkillNormalizer.addSkillKeys(skill, skills));
+        }
+        SkillNormalizer.addSkillKeys(bench.getTechnology(), skills);
+        return new BenchProfile(bench.getId(), bench.getFullName(), bench.getEmail(),
+                bench.getTotalExperience() == null ? 0f : bench.getTotalExperience().floatValue(),
+                bench.getRelevantExperience() == null ? 0f : bench.getRelevantExperience().floatValue(), skills);
+    }
+
+    // Bench ids are matched case-insensitively everywhere else (deleteByIdIgnoreCase), so in-memory keys are folded
+    public static String key(String benchId) {
+        return benchId.toLowerCase(Locale.ROOT);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public float getTotalExperience() {
+        return totalExperience;
+    }
+
+    public float getRelevantExperience() {
+        return relevantExperience;
+    }
+
+    public Set<String> getSkills() {
+        return skills;
+    }
+}
@@ -0,0 +1,192 @@
+package com.profile.candidate.matching;
+
+import java.util.*;
+
+// Immutable in-memory index of the bench for job matching: normalised skill -> sorted array of profile
+// ordinals. A query walks only the posting lists of the job's skills, accumulating each profile's skill
+// overlap in a dense array, then scores the touched profiles into a bounded min-heap of size k, so the
+// cost is O(postings + touched * log k) and no per-profile objects are created until the final k.
+// Snapshots are rebuilt by BenchMatchService and swapped in whole; queries never see a half-built index.
+public final class BenchSkillIndex {
+
+    public static final float SKILL_WEIGHT = 0.75f;
+    public static final float EXPERIENCE_WEIGHT = 0.25f;
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final BenchProfile[] profiles;
+    private final float[] experience;
+    private final Map<String, int[]> postings;
+
+    public BenchSkillIndex(Collection<BenchProfile> bench) {
+        // Ordered by id so equal scores always rank the same way
+        profiles = bench.toArray(new BenchProfile[0]);
+        Arrays.sort(profiles, Comparator.comparing(BenchProfile::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        experience = new float[profiles.length];
+
+        Map<String, int[]> lists = new HashMap<>();
+        Map<String, Integer> sizes = new HashMap<>();
+        for (int ordinal = 0; ordinal < profiles.length; ordinal++) {
+            experience[ordinal] = profiles[ordinal].getTotalExperience();
+            for (String skill : profiles[ordinal].getSkills()) {
+                int[] list = lists.computeIfAbsent(skill, key -> new int[4]);
+                int size = sizes.merge(skill, 1, Integer::sum);
+                if (size > list.length) {
+                    list = Arrays.copyOf(list, list.length * 2);
+                    lists.put(skill, list);
+                }
+                list[size - 1] = ordinal;
+            }
+        }
+        Map<String, int[]> trimmed = new HashMap<>(lists.size() * 2);
+        lists.forEach((skill, list) -> trimmed.put(skill, Arrays.copyOf(list, sizes.get(skill))));
+        postings = trimmed;
+    }
+
+    public int size() {
+        return profiles.length;
+    }
+
+    public int skillCount() {
+        return postings.size();
+    }
+
+    // Bench profiles sharing at least one skill with the job, best first; at most k
+    public List<BenchMatch> topMatches(JobProfile job, int k) {
+        if (k <= 0 || profiles.length == 0 || job.getSkillWeights().isEmpty()) {
+            return List.of();
+        }
+        float totalWeight = 0f;
+        float[] overlap = new float[profiles.length];
+        int[] touched = new int[profiles.length];
+        int touchedCount = 0;
+        for (Map.Entry<String, Float> skill : job.getSkillWeights().entrySet()) {
+            float weight = skill.getValue();
+            totalWeight += weight;
+            for (int ordinal : postings.getOrDefault(skill.getKey(), NO_POSTINGS)) {
+                if (overlap[ordinal] == 0f) {
+                    touched[touchedCount++] = ordinal;
+                }
+                overlap[ordinal] += weight;
+            }
+        }
+
+        TopK top = new TopK(Math.min(k, touchedCount));
+        float target = job.getTargetExperience();
+        for (int i = 0; i < touchedCount; i++) {
+            int ordinal = touched[i];
+            float score = SKILL_WEIGHT * (overlap[ordinal] / totalWeight) + EXPERIENCE_WEIGHT * experienceFit(experience[ordinal], target);
+            top.offer(ordinal, score);
+        }
+
+        int[] ranked = top.drainDescending();
+        List<BenchMatch> matches = new ArrayList<>(ranked.length);
+        for (int ordinal : ranked) {
+            BenchProfile profile = profiles[ordinal];
+            List<String> matched = new ArrayList<>();
+            for (String skill : job.getSkillWeights().keySet()) {
+                if (profile.getSkills().contains(skill)) {
+                    matched.add(skill);
+                }
+            }
+            float skillScore = overlap[ordinal] / totalWeight;
+            float fit = experienceFit(experience[ordinal], target);
+            matches.add(new BenchMatch(profile, SKILL_WEIGHT * skillScore + EXPERIENCE_WEIGHT * fit, skillScore, fit, matched));
+        }
+        return matches;
+    }
+
+    // 1 at the target; falls to 0.5 two years short of it or four years over (over-qualified is the lesser miss)
+    public static float experienceFit(float years, float target) {
+        if (target <= 0f) {
+            return 1f;
+        }
+        float gap = years - target;
+        return gap < 0 ? 1f / (1f - gap / 2f) : 1f / (1f + gap / 4f);
+    }
+
+    // Min-heap of (ordinal, score) capped at capacity: the root is the weakest of the best seen so far.
+    // Ties prefer the lower ordinal, matching the id order of the profiles.
+    private static final class TopK {
+
+        private final int[] ordinals;
+        private final float[] scores;
+        private int size;
+
+        TopK(int capacity) {
+            ordinals = new int[capacity];
+            scores = new float[capacity];
+        }
+
+        void offer(int ordinal, float score) {
+            if (ordinals.length == 0) {
+                return;
+            }
+            if (size < ordinals.length) {
+                ordinals[size] = ordinal;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (weaker(ordinals[0], scores[0], ordinal, score)) {
+                ordinals[0] = ordinal;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        int[] drainDescending() {
+            int[] result = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = ordinals[0];
+                size--;
+                ordinals[0] = ordinals[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        // true if (aOrdinal, aScore) ranks below (bOrdinal, bScore)
+        private static boolean weaker(int aOrdinal, float aScore, int bOrdinal, float bScore) {
+            return aScore < bScore || (aScore == bScore && aOrdinal > bOrdinal);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!weaker(ordinals[i], scores[i], ordinals[parent], scores[parent])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int weakest = left;
+                int right = left + 1;
+                if (right < size && weaker(ordinals[right], scores[right], ordinals[left], scores[left])) {
+                    weakest = right;
+                }
+                if (!weaker(ordinals[weakest], scores[weakest], ordinals[i], scores[i])) {
+                    return;
+                }
+                swap(i, weakest);
+                i = weakest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int ordinal = ordinals[a];
+            ordinals[a] = ordinals[b];
+            ordinals[b] = ordinal;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
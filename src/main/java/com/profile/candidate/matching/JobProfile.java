@@ -0,0 +1,63 @@
+package com.profile.candidate.matching;
+
+import java.util.*;
+
+// What a requirement asks for, as far as this service can tell: requirements_model belongs to the requirement
+// service and carries no skills here, so the profile is derived from the submissions made against the job.
+// A skill's weight is the share of those submissions that list it; the target experience is their median.
+public final class JobProfile {
+
+    private final String jobId;
+    private final Map<String, Float> skillWeights;
+    private final float targetExperience;
+    private final int submissionCount;
+
+    public JobProfile(String jobId, Map<String, Float> skillWeights, float targetExperience, int submissionCount) {
+        this.jobId = jobId;
+        this.skillWeights = Collections.unmodifiableMap(new LinkedHashMap<>(skillWeights));
+        this.targetExperience = targetExperience;
+        this.submissionCount = submissionCount;
+    }
+
+    // skills[i] is the raw skills text of submission i and experience[i] its candidate's total experience (may be null)
+    public static JobProfile fromSubmissions(String jobId, List<String> skills, List<Float> experience) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String text : skills) {
+            for (String key : SkillNormalizer.skillKeys(text)) {
+                counts.merge(key, 1, Integer::sum);
+            }
+        }
+        Map<String, Float> weights = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> weights.put(entry.getKey(), entry.getValue() / (float) skills.size()));
+
+        List<Float> known = new ArrayList<>();
+        experience.stream().filter(value -> value != null && value > 0).forEach(known::add);
+        Collections.sort(known);
+        float median = 0f;
+        if (!known.isEmpty()) {
+            int middle = known.size() / 2;
+            median = known.size() % 2 == 1 ? known.get(middle) : (known.get(middle - 1) + known.get(middle)) / 2f;
+        }
+        return new JobProfile(jobId, weights, median, skills.size());
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    // Normalised skill key -> weight in (0, 1], heaviest first
+    public Map<String, Float> getSkillWeights() {
+        return skillWeights;
+    }
+
+    // 0 when unknown, in which case every bench profile fits on experience
+    public float getTargetExperience() {
+        return targetExperience;
+    }
+
+    public int getSubmissionCount() {
+        return submissionCount;
+    }
+}
@@ -0,0 +1,66 @@
+package com.profile.candidate.matching;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Turns free-form skill text ("Java, Spring-Boot / ReactJS") into skill keys, so bench skills (a JSON list)
+// and submission skills (a comma-separated string) compare equal. Both the matching index and the search
+// index key skills this way.
+public final class SkillNormalizer {
+
+    // Spellings seen in recruiter-entered data, mapped to one key
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("springboot", "spring boot"),
+            Map.entry("spring-boot", "spring boot"),
+            Map.entry("reactjs", "react"),
+            Map.entry("react.js", "react"),
+            Map.entry("react js", "react"),
+            Map.entry("nodejs", "node.js"),
+            Map.entry("node js", "node.js"),
+            Map.entry("node", "node.js"),
+            Map.entry("angularjs", "angular"),
+            Map.entry("angular js", "angular"),
+            Map.entry("js", "javascript"),
+            Map.entry("ts", "typescript"),
+            Map.entry("k8s", "kubernetes"),
+            Map.entry("golang", "go"),
+            Map.entry("postgres", "postgresql"),
+            Map.entry("ms sql", "sql server"),
+            Map.entry("mssql", "sql server"),
+            Map.entry("amazon web services", "aws"),
+            Map.entry("c sharp", "c#"),
+            Map.entry(".net core", "dotnet"),
+            Map.entry(".net", "dotnet"));
+
+    private SkillNormalizer() {
+    }
+
+    // Splits on the separators recruiters use and normalises each part; empty for null or blank input
+    public static Set<String> skillKeys(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        addSkillKeys(text, keys);
+        return keys;
+    }
+
+    public static void addSkillKeys(String text, Set<String> keys) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String part : text.split("[,;/|\\n]")) {
+            String key = normalise(part);
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+    }
+
+    static String normalise(String skill) {
+        String key = skill.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        while (key.endsWith(".") || key.endsWith("-")) {
+            key = key.substring(0, key.length() - 1).trim();
+        }
+        return ALIASES.getOrDefault(key, key);
+    }
+}
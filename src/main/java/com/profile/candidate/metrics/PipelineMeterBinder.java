@@ -0,0 +1,105 @@
+package com.profile.candidate.metrics;
+
+import com.profile.candidate.config.TwoTierCache;
+import com.profile.candidate.config.TwoTierCacheManager;
+import com.profile.candidate.service.EmailOutboxRelay;
+import com.profile.candidate.service.MailDispatcher;
+import com.profile.candidate.service.PlacementService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Publishes the counters the mail, outbox, OTP and cache components already keep. They are read at
+// scrape time, so none of those components depends on Micrometer.
+@Component
+public class PipelineMeterBinder implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PipelineMeterBinder.class);
+
+    // OTP mails are the only ones sent through MailDispatcher; interview and submission notifications go through the outbox
+    private static final String DIRECT_MAIL_TYPE = "otp";
+    private static final String OUTBOX_MAIL_TYPE = "notification";
+
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private EmailOutboxRelay emailOutboxRelay;
+
+    @Autowired
+    private PlacementService placementService;
+
+    @Autowired
+    private TwoTierCacheManager cacheManager;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindMail(registry);
+
+        Gauge.builder("candidate.otp.pending", placementService, PlacementService::getPendingUserOtpCount)
+                .description("OTPs issued and not yet verified or expired")
+                .tag("scope", "user")
+                .register(registry);
+        Gauge.builder("candidate.otp.pending", placementService, PlacementService::getPendingPlacementOtpCount)
+                .description("OTPs issued and not yet verified or expired")
+                .tag("scope", "placement")
+                .register(registry);
+
+        for (Map.Entry<String, TwoTierCache> entry : cacheManager.getCaches().entrySet()) {
+            bindCache(registry, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void bindMail(MeterRegistry registry) {
+        FunctionCounter.builder("candidate.mail.sent", mailDispatcher, MailDispatcher::getSentCount)
+                .tag("type", DIRECT_MAIL_TYPE).register(registry);
+        FunctionCounter.builder("candidate.mail.retried", mailDispatcher, MailDispatcher::getRetriedCount)
+                .tag("type", DIRECT_MAIL_TYPE).register(registry);
+        FunctionCounter.builder("candidate.mail.failed", mailDispatcher, MailDispatcher::getFailedCount)
+                .tag("type", DIRECT_MAIL_TYPE).register(registry);
+        Gauge.builder("candidate.mail.queue.depth", mailDispatcher, MailDispatcher::getQueueDepth)
+                .description("Messages waiting in the in-process mail queue")
+                .register(registry);
+
+        FunctionCounter.builder("candidate.mail.sent", emailOutboxRelay, EmailOutboxRelay::getRelayedCount)
+                .tag("type", OUTBOX_MAIL_TYPE).register(registry);
+        FunctionCounter.builder("candidate.mail.retried", emailOutboxRelay, EmailOutboxRelay::getRetriedCount)
+                .tag("type", OUTBOX_MAIL_TYPE).register(registry);
+        FunctionCounter.builder("candidate.mail.failed", emailOutboxRelay, EmailOutboxRelay::getFailedCount)
+                .tag("type", OUTBOX_MAIL_TYPE).register(registry);
+        Gauge.builder("candidate.mail.outbox.backlog", emailOutboxRelay, PipelineMeterBinder::outboxBacklog)
+                .description("Pending rows in email_outbox")
+                .register(registry);
+    }
+
+    private static void bindCache(MeterRegistry registry, String name, TwoTierCache cache) {
+        FunctionCounter.builder("candidate.cache.gets", cache, TwoTierCache::getLocalHits)
+                .tags("cache", name, "result", "local_hit").register(registry);
+        FunctionCounter.builder("candidate.cache.gets", cache, TwoTierCache::getRemoteHits)
+                .tags("cache", name, "result", "remote_hit").register(registry);
+        FunctionCounter.builder("candidate.cache.gets", cache, TwoTierCache::getMisses)
+                .tags("cache", name, "result", "miss").register(registry);
+        FunctionCounter.builder("candidate.cache.remote.errors", cache, TwoTierCache::getRemoteErrors)
+                .tag("cache", name).register(registry);
+        Gauge.builder("candidate.cache.size", cache, TwoTierCache::getLocalSize)
+                .description("Entries in the local (L1) tier")
+                .tag("cache", name).register(registry);
+    }
+
+    // One COUNT per scrape; a database hiccup reports NaN instead of failing the whole scrape
+    private static double outboxBacklog(EmailOutboxRelay relay) {
+        try {
+            return relay.getBacklog();
+        } catch (RuntimeException e) {
+            logger.warn("Could not read the email outbox backlog: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.profile.candidate.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+// Business counters for the recruiting pipeline: submissions, interviews by level, placements by employment type
+@Component
+public class PipelineMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter submissions;
+
+    @Autowired
+    public PipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.submissions = Counter.builder("candidate.submissions.created")
+                .description("Candidate submissions saved")
+                .register(meterRegistry);
+    }
+
+    public void submissionCreated() {
+        submissions.increment();
+    }
+
+    public void interviewsScheduled(String interviewLevel, int count) {
+        Counter.builder("candidate.interviews.scheduled")
+                .description("Interviews scheduled, by interview level")
+                .tag("level", tagValue(interviewLevel).toUpperCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    public void placementCreated(String employmentType) {
+        Counter.builder("candidate.placements.created")
+                .description("Placements created, by employment type")
+                .tag("employment_type", tagValue(employmentType).toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String tagValue(String value) {
+        return value == null || value.isBlank() ? "unknown" : value.trim();
+    }
+}
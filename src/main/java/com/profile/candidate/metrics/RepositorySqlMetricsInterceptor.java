@@ -0,0 +1,58 @@
+package com.profile.candidate.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Added to each Spring Data repository proxy; records the statements and JDBC time of every repository
+// method call, so a method called once per row (an N+1) stands out by its call count
+public class RepositorySqlMetricsInterceptor implements MethodInterceptor {
+
+    private final String repository;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Method, Meters> meters = new ConcurrentHashMap<>();
+
+    public RepositorySqlMetricsInterceptor(String repository, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        SqlActivity.Snapshot start = SqlActivity.snapshot();
+        try {
+            return invocation.proceed();
+        } finally {
+            SqlActivity.Snapshot used = SqlActivity.snapshot().since(start);
+            Meters methodMeters = meters.computeIfAbsent(invocation.getMethod(), this::meters);
+            if (methodMeters != null) {
+                methodMeters.statements.record(used.statements());
+                methodMeters.rows.record(used.rows());
+                methodMeters.jdbcTime.record(used.jdbcNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Meters meters(Method method) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return null;
+        }
+        String[] tags = {"repository", repository, "method", method.getName()};
+        return new Meters(
+                registry.summary("candidate.sql.repository.statements", tags),
+                registry.summary("candidate.sql.repository.rows", tags),
+                registry.timer("candidate.sql.repository.jdbc.time", tags));
+    }
+
+    private record Meters(DistributionSummary statements, DistributionSummary rows, Timer jdbcTime) {
+    }
+}
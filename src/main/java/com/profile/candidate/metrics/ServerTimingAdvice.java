@@ -0,0 +1,44 @@
+package com.profile.candidate.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+// Adds a Server-Timing header (db time and statement count, plus time spent so far) to every response
+// body written by a controller. It runs just before the body is serialized, while headers can still be set.
+@ControllerAdvice
+@ConditionalOnProperty(name = "candidate.sql.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            Object start = httpRequest.getAttribute(SqlRequestMetricsFilter.START_SNAPSHOT);
+            Object startedAt = httpRequest.getAttribute(SqlRequestMetricsFilter.STARTED_AT);
+            if (start instanceof SqlActivity.Snapshot snapshot && startedAt instanceof Long nanos) {
+                SqlActivity.Snapshot used = SqlActivity.snapshot().since(snapshot);
+                response.getHeaders().add("Server-Timing", String.format(Locale.ROOT,
+                        "db;dur=%.1f;desc=\"%d statements, %d rows\", app;dur=%.1f",
+                        used.jdbcMillis(), used.statements(), used.rows(), (System.nanoTime() - nanos) / 1_000_000.0));
+            }
+        }
+        return body;
+    }
+}
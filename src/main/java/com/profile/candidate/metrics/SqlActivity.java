@@ -0,0 +1,52 @@
+package com.profile.candidate.metrics;
+
+// Running totals of the JDBC work done on the current thread. Callers take a snapshot before a unit of
+// work (an HTTP request, a repository call) and subtract it afterwards, so nested measurements don't
+// interfere with each other.
+public final class SqlActivity {
+
+    private static final ThreadLocal<Counters> COUNTERS = ThreadLocal.withInitial(Counters::new);
+
+    private SqlActivity() {
+    }
+
+    public static Snapshot snapshot() {
+        Counters counters = COUNTERS.get();
+        return new Snapshot(counters.statements, counters.rows, counters.jdbcNanos);
+    }
+
+    static void statementStarted() {
+        COUNTERS.get().startedAt = System.nanoTime();
+    }
+
+    static void statementFinished() {
+        Counters counters = COUNTERS.get();
+        counters.statements++;
+        if (counters.startedAt != 0) {
+            counters.jdbcNanos += System.nanoTime() - counters.startedAt;
+            counters.startedAt = 0;
+        }
+    }
+
+    static void rowRead() {
+        COUNTERS.get().rows++;
+    }
+
+    public record Snapshot(long statements, long rows, long jdbcNanos) {
+
+        public Snapshot since(Snapshot start) {
+            return new Snapshot(statements - start.statements, rows - start.rows, jdbcNanos - start.jdbcNanos);
+        }
+
+        public double jdbcMillis() {
+            return jdbcNanos / 1_000_000.0;
+        }
+    }
+
+    private static final class Counters {
+        private long statements;
+        private long rows;
+        private long jdbcNanos;
+        private long startedAt;
+    }
+}
@@ -0,0 +1,71 @@
+package com.profile.candidate.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Records the statements, rows and JDBC time of each HTTP request, tagged by handler pattern, and logs
+// requests that go over the statement or JDBC-time budget
+@Component
+@ConditionalOnProperty(name = "candidate.sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlRequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlRequestMetricsFilter.class);
+
+    static final String START_SNAPSHOT = SqlRequestMetricsFilter.class.getName() + ".start";
+    static final String STARTED_AT = SqlRequestMetricsFilter.class.getName() + ".startedAt";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${candidate.sql.budget.statements:50}")
+    private long statementBudget;
+
+    @Value("${candidate.sql.budget.jdbc-time-ms:500}")
+    private long jdbcTimeBudgetMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlActivity.Snapshot start = SqlActivity.snapshot();
+        long startedAt = System.nanoTime();
+        request.setAttribute(START_SNAPSHOT, start);
+        request.setAttribute(STARTED_AT, startedAt);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, response, SqlActivity.snapshot().since(start), System.nanoTime() - startedAt);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, SqlActivity.Snapshot used, long elapsedNanos) {
+        // The matched pattern keeps the uri tag bounded; unmatched requests share one series
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        meterRegistry.summary("candidate.sql.request.statements", tags).record(used.statements());
+        meterRegistry.summary("candidate.sql.request.rows", tags).record(used.rows());
+        meterRegistry.timer("candidate.sql.request.jdbc.time", tags).record(used.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (used.statements() > statementBudget || used.jdbcMillis() > jdbcTimeBudgetMs) {
+            logger.warn("{} {} ({}) over SQL budget: {} statements, {} rows, {} ms JDBC, {} ms total, status {}",
+                    request.getMethod(), request.getRequestURI(), uri, used.statements(), used.rows(),
+                    Math.round(used.jdbcMillis()), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), response.getStatus());
+        }
+    }
+}
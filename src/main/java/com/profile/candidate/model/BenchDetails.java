@@ -1,6 +1,7 @@
 package com.profile.candidate.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.profile.candidate.storage.StoredResume;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,7 +19,9 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bench_details")
+@Table(name = "bench_details", indexes = {
+  @Index(name = "idx_bench_resume_hash", columnList = "resume_hash")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -66,9 +69,21 @@ public class BenchDetails {
  }
 
 
+ // Lazy (bytecode-enhanced): only selected when getResume() is called, i.e. for a legacy download
  @Lob
+ @Basic(fetch = FetchType.LAZY)
  @JdbcTypeCode(SqlTypes.JSON)
- private byte[] resume;
+ private byte[] resume; // legacy inline copy, emptied once moved to the resume store
+
+ // SHA-256 of the resume content; the file itself lives in the resume store
+ @Column(name = "resume_hash", length = 64)
+ private String resumeHash;
+
+ @Column(name = "resume_size")
+ private Long resumeSize;
+
+ @Column(name = "resume_content_type")
+ private String resumeContentType;
 
  @Column(name = "linkedin", columnDefinition = "TEXT")
  private String linkedin;
@@ -162,6 +177,37 @@ public class BenchDetails {
   this.resume = resume;
  }
 
+ public String getResumeHash() {
+  return resumeHash;
+ }
+
+ public void setResumeHash(String resumeHash) {
+  this.resumeHash = resumeHash;
+ }
+
+ public Long getResumeSize() {
+  return resumeSize;
+ }
+
+ public void setResumeSize(Long resumeSize) {
+  this.resumeSize = resumeSize;
+ }
+
+ public String getResumeContentType() {
+  return resumeContentType;
+ }
+
+ public void setResumeContentType(String resumeContentType) {
+  this.resumeContentType = resumeContentType;
+ }
+
+ public void applyStoredResume(StoredResume storedResume) {
+  this.resumeHash = storedResume.getHash();
+  this.resumeSize = storedResume.getSize();
+  this.resumeContentType = storedResume.getContentType();
+  this.resume = null;
+ }
+
  public String getLinkedin() {
   return linkedin;
  }
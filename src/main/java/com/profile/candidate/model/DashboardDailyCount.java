@@ -0,0 +1,46 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Pre-aggregated dashboard counter: how many rows of one metric were created on one day, per recruiter.
+// Metrics that are not tied to a recruiter use recruiter_id ''. Maintained by DashboardRollupService.
+@Setter
+@Getter
+@Entity
+@Table(name = "dashboard_daily_counts", indexes = {
+        @Index(name = "idx_dashboard_daily_metric_day", columnList = "metric, stat_day")
+})
+@IdClass(DashboardDailyCount.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDailyCount {
+
+    @Id
+    @Column(name = "stat_day", nullable = false)
+    private LocalDate statDay;
+
+    @Id
+    @Column(name = "recruiter_id", length = 64, nullable = false)
+    private String recruiterId;
+
+    @Id
+    @Column(name = "metric", length = 32, nullable = false)
+    private String metric;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDay;
+        private String recruiterId;
+        private String metric;
+    }
+}
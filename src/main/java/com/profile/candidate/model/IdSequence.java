@@ -0,0 +1,22 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One row per id prefix (BENCH, PLMNT, CAND); next_value is the first number not yet handed out to any node
+@Setter
+@Getter
+@Entity
+@Table(name = "id_sequences")
+@NoArgsConstructor
+public class IdSequence {
+
+    @Id
+    @Column(name = "name", length = 32)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+}
@@ -3,6 +3,9 @@ package com.profile.candidate.model;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.profile.candidate.service.InterviewSlotListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -10,7 +13,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.List;
 import java.util.ArrayList;
 @Entity
-@Table(name="interview_details")
+@Table(name="interview_details", indexes = {
+        @Index(name = "idx_interview_latest_status", columnList = "latest_status, latest_level"),
+        @Index(name = "idx_interview_candidate_latest", columnList = "candidateId, latest_status, latest_level"),
+        @Index(name = "idx_interview_timestamp_keyset", columnList = "timestamp, interviewId"),
+        @Index(name = "idx_interview_assigned_slot", columnList = "assignedTo, interviewDateTime")
+})
+@EntityListeners(InterviewSlotListener.class)
 public class InterviewDetails {
 
     @Id
@@ -34,6 +43,14 @@ public class InterviewDetails {
     @Lob
     @Column(name = "interview_status", columnDefinition = "TEXT")
     private String interviewStatus; // Store JSON as String
+
+    // Copy of the last entry of interviewStatus, kept in sync on every append so filters don't parse the JSON
+    @Column(name = "latest_status")
+    private String latestStatus;
+    @Column(name = "latest_level")
+    private String latestLevel;
+    @Column(name = "latest_status_at")
+    private OffsetDateTime latestStatusAt;
     @Lob
     @Column(name = "client_email", columnDefinition = "TEXT")
     private String clientEmail;
@@ -64,13 +81,15 @@ public class InterviewDetails {
         this.internalFeedback = internalFeedback;
     }
 
-    @Transient
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Built once and shared by every entity instance; readers and writers are immutable and thread-safe
+    private static final ObjectMapper CLIENT_EMAIL_MAPPER = new ObjectMapper();
+    private static final ObjectReader CLIENT_EMAILS_READER = CLIENT_EMAIL_MAPPER.readerFor(new TypeReference<List<String>>() {});
+    private static final ObjectWriter CLIENT_EMAILS_WRITER = CLIENT_EMAIL_MAPPER.writerFor(new TypeReference<List<String>>() {});
 
     public void setClientEmailList(List<String> emails) {
         try {
             // Serialize the list into a JSON string and store it in clientEmail
-            this.clientEmail = objectMapper.writeValueAsString(emails);
+            this.clientEmail = CLIENT_EMAILS_WRITER.writeValueAsString(emails);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize client emails", e);
         }
@@ -83,12 +102,17 @@ public class InterviewDetails {
                 return new ArrayList<>();
             }
             // Deserialize the JSON string into a list of client emails
-            return objectMapper.readValue(this.clientEmail, new TypeReference<List<String>>() {});
+            return readClientEmails(this.clientEmail);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to deserialize client emails", e);
         }
     }
 
+    // Parses a client_email column value read outside the entity, e.g. from a native query tuple
+    public static List<String> readClientEmails(String json) throws JsonProcessingException {
+        return CLIENT_EMAILS_READER.readValue(json);
+    }
+
     public boolean getIsPlaced() {
         return isPlaced;
     }
@@ -215,6 +239,36 @@ public class InterviewDetails {
         this.interviewStatus = interviewStatus;
     }
 
+    public String getLatestStatus() {
+        return latestStatus;
+    }
+
+    public void setLatestStatus(String latestStatus) {
+        this.latestStatus = latestStatus;
+    }
+
+    public String getLatestLevel() {
+        return latestLevel;
+    }
+
+    public void setLatestLevel(String latestLevel) {
+        this.latestLevel = latestLevel;
+    }
+
+    public OffsetDateTime getLatestStatusAt() {
+        return latestStatusAt;
+    }
+
+    public void setLatestStatusAt(OffsetDateTime latestStatusAt) {
+        this.latestStatusAt = latestStatusAt;
+    }
+
+    public void updateLatestStatus(String status, String level, OffsetDateTime statusAt) {
+        this.latestStatus = status;
+        this.latestLevel = level;
+        this.latestStatusAt = statusAt;
+    }
+
     public String getClientEmail() {
         return clientEmail;
     }
@@ -239,10 +293,6 @@ public class InterviewDetails {
         this.timestamp = timestamp;
     }
 
-    public ObjectMapper getObjectMapper() {
-        return objectMapper;
-    }
-
     private String recruiterName;
 
     public String getRecruiterName() {
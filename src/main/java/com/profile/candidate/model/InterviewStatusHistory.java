@@ -0,0 +1,115 @@
+package com.profile.candidate.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Typed, immutable view of InterviewDetails.interviewStatus: the stage-by-stage status history,
+// oldest entry first. Read and written with InterviewStatusHistoryCodec.
+public final class InterviewStatusHistory {
+
+    private static final InterviewStatusHistory EMPTY = new InterviewStatusHistory(List.of());
+
+    private final List<Entry> entries;
+
+    InterviewStatusHistory(List<Entry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    public static InterviewStatusHistory empty() {
+        return EMPTY;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // The most recently appended entry, which the latest_status column mirrors
+    public Entry last() {
+        return entries.isEmpty() ? null : entries.get(entries.size() - 1);
+    }
+
+    // Entry with the newest timestamp; entries without a readable timestamp are ignored
+    public Entry latest() {
+        Entry latest = null;
+        Instant latestAt = null;
+        for (Entry entry : entries) {
+            Instant at = entry.instant();
+            if (at != null && (latestAt == null || at.isAfter(latestAt))) {
+                latest = entry;
+                latestAt = at;
+            }
+        }
+        return latest;
+    }
+
+    public InterviewStatusHistory append(String status, String interviewLevel, OffsetDateTime at) {
+        List<Entry> appended = new ArrayList<>(entries.size() + 1);
+        appended.addAll(entries);
+        appended.add(new Entry(entries.size() + 1, status, interviewLevel, at.toString()));
+        return new InterviewStatusHistory(appended);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonPropertyOrder({"stage", "status", "interviewLevel", "timestamp"})
+    public static final class Entry {
+        private final int stage;
+        private final String status;
+        private final String interviewLevel;
+        private final String timestamp;
+
+        @JsonCreator
+        public Entry(@JsonProperty("stage") int stage,
+                     @JsonProperty("status") String status,
+                     @JsonProperty("interviewLevel") String interviewLevel,
+                     @JsonProperty("timestamp") String timestamp) {
+            this.stage = stage;
+            this.status = status;
+            this.interviewLevel = interviewLevel;
+            this.timestamp = timestamp;
+        }
+
+        public int getStage() {
+            return stage;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getInterviewLevel() {
+            return interviewLevel;
+        }
+
+        public String getTimestamp() {
+            return timestamp;
+        }
+
+        Instant instant() {
+            if (timestamp == null) {
+                return null;
+            }
+            try {
+                return OffsetDateTime.parse(timestamp).toInstant();
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.profile.candidate.model;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+// Thread-safe reader/writer for the interview_status JSON column. The readers and writers are
+// built once; ObjectReader/ObjectWriter are immutable, so one instance serves every request.
+// Hot paths that only need the newest entry or want to add one use the streaming methods,
+// which never materialise the whole history.
+public final class InterviewStatusHistoryCodec {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+    private static final ObjectReader HISTORY_READER = MAPPER.readerFor(new TypeReference<List<InterviewStatusHistory.Entry>>() {});
+    private static final ObjectReader ENTRY_READER = MAPPER.readerFor(InterviewStatusHistory.Entry.class);
+    private static final ObjectWriter HISTORY_WRITER = MAPPER.writerFor(new TypeReference<List<InterviewStatusHistory.Entry>>() {});
+    private static final ObjectWriter ENTRY_WRITER = MAPPER.writerFor(InterviewStatusHistory.Entry.class);
+
+    private InterviewStatusHistoryCodec() {
+    }
+
+    public static InterviewStatusHistory decode(String json) throws JsonProcessingException {
+        if (json == null || json.isBlank()) {
+            return InterviewStatusHistory.empty();
+        }
+        List<InterviewStatusHistory.Entry> entries = HISTORY_READER.readValue(json);
+        return entries == null ? InterviewStatusHistory.empty() : new InterviewStatusHistory(entries);
+    }
+
+    public static String encode(InterviewStatusHistory history) {
+        try {
+            return HISTORY_WRITER.writeValueAsString(history.getEntries());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize interview status history", e);
+        }
+    }
+
+    // Adds one entry to the stored JSON without decoding it: the array is scanned token by token to
+    // count its elements and the new entry is spliced in before the closing bracket. Missing or
+    // unreadable history starts a new array at stage 1, as the old tree-based code did.
+    public static String append(String json, String status, String interviewLevel, OffsetDateTime at) {
+        int count = countEntries(json);
+        InterviewStatusHistory.Entry entry = new InterviewStatusHistory.Entry(Math.max(count, 0) + 1, status, interviewLevel, at.toString());
+        String encoded;
+        try {
+            encoded = ENTRY_WRITER.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize interview status entry", e);
+        }
+        if (count <= 0) {
+            return "[" + encoded + "]";
+        }
+        int close = json.lastIndexOf(']');
+        return json.substring(0, close) + "," + encoded + json.substring(close);
+    }
+
+    // Last element of the array. Earlier elements are skipped by the streaming parser and only the
+    // last object's text is bound, so the cost does not grow with the number of stages. Null if none.
+    public static InterviewStatusHistory.Entry lastEntry(String json) throws IOException {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        int lastStart = -1;
+        int lastEnd = -1;
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return null;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    return null;
+                }
+                int start = (int) parser.currentTokenLocation().getCharOffset();
+                parser.skipChildren();
+                if (token == JsonToken.START_OBJECT) {
+                    lastStart = start;
+                    lastEnd = (int) parser.currentLocation().getCharOffset();
+                } else {
+                    lastStart = -1;
+                }
+            }
+        }
+        return lastStart < 0 ? null : ENTRY_READER.readValue(json.substring(lastStart, lastEnd));
+    }
+
+    // Status of the entry with the newest timestamp; null when there is no timestamped entry
+    public static String latestStatus(String json) throws JsonProcessingException {
+        InterviewStatusHistory.Entry latest = decode(json).latest();
+        return latest == null ? null : latest.getStatus();
+    }
+
+    // Number of elements in a JSON array, or -1 when the text is missing, not an array, or malformed
+    static int countEntries(String json) {
+        if (json == null || json.isBlank()) {
+            return -1;
+        }
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return -1;
+            }
+            int count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    return -1;
+                }
+                parser.skipChildren();
+                count++;
+            }
+            return parser.nextToken() == null ? count : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Plain text extracted from a stored resume, keyed like the resume store by the file's SHA-256, so a
+// resume attached to several submissions is parsed and stored once. The text is kept gzip-compressed
+// (see ResumeTextCodec); a row with a status other than EXTRACTED records why there is no text.
+@Setter
+@Getter
+@Entity
+@Table(name = "resume_texts")
+@NoArgsConstructor
+public class ResumeText {
+
+    public static final String EXTRACTED = "EXTRACTED";
+    public static final String EMPTY = "EMPTY";
+    public static final String TIMEOUT = "TIMEOUT";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @Column(name = "resume_hash", length = 64, nullable = false)
+    private String resumeHash;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status;
+
+    @Column(name = "text_gz", columnDefinition = "MEDIUMBLOB")
+    private byte[] compressedText;
+
+    @Column(name = "char_count", nullable = false)
+    private int charCount;
+
+    // The extractor stops at candidate.resume.text.max-chars
+    @Column(name = "truncated", nullable = false)
+    private boolean truncated;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "extraction_ms", nullable = false)
+    private long extractionMs;
+
+    @Column(name = "extracted_at", nullable = false)
+    private LocalDateTime extractedAt;
+
+    @Column(name = "error", length = 500)
+    private String error;
+}
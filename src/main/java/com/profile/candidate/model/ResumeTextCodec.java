@@ -0,0 +1,40 @@
+package com.profile.candidate.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// gzip of the UTF-8 text for resume_texts.text_gz; resume text typically shrinks to a quarter
+public final class ResumeTextCodec {
+
+    private ResumeTextCodec() {
+    }
+
+    public static byte[] compress(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(text.length() / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress resume text", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static String decompress(byte[] compressed) {
+        if (compressed == null || compressed.length == 0) {
+            return null;
+        }
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress resume text", e);
+        }
+    }
+}
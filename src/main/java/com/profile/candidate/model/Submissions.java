@@ -1,5 +1,6 @@
 package com.profile.candidate.model;
 
+import com.profile.candidate.storage.StoredResume;
 import jakarta.persistence.*;
 
 import javax.validation.constraints.NotBlank;
@@ -7,7 +8,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "candidate_submissions")
+@Table(name = "candidate_submissions", indexes = {
+        @Index(name = "idx_submission_resume_hash", columnList = "resume_hash"),
+        @Index(name = "idx_submission_received_keyset", columnList = "profileReceivedDate, submission_id"),
+        @Index(name = "idx_submission_job_id", columnList = "jobId")
+})
 public class Submissions {
 
     @Id
@@ -23,9 +28,19 @@ public class Submissions {
 
     private String resumeFilePath;
 
+    // Lazy (bytecode-enhanced): only selected when getResume() is called, i.e. for a legacy download
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "resume", columnDefinition = "LONGBLOB")
-    private byte[] resume;
+    private byte[] resume; // legacy inline copy, emptied once moved to the resume store
+
+    // SHA-256 of the resume content; the file itself lives in the resume store
+    @Column(name = "resume_hash", length = 64)
+    private String resumeHash;
+    @Column(name = "resume_size")
+    private Long resumeSize;
+    @Column(name = "resume_content_type")
+    private String resumeContentType;
 
     private String preferredLocation;
 
@@ -124,6 +139,37 @@ public class Submissions {
         this.resume = resume;
     }
 
+    public String getResumeHash() {
+        return resumeHash;
+    }
+
+    public void setResumeHash(String resumeHash) {
+        this.resumeHash = resumeHash;
+    }
+
+    public Long getResumeSize() {
+        return resumeSize;
+    }
+
+    public void setResumeSize(Long resumeSize) {
+        this.resumeSize = resumeSize;
+    }
+
+    public String getResumeContentType() {
+        return resumeContentType;
+    }
+
+    public void setResumeContentType(String resumeContentType) {
+        this.resumeContentType = resumeContentType;
+    }
+
+    public void applyStoredResume(StoredResume storedResume) {
+        this.resumeHash = storedResume.getHash();
+        this.resumeSize = storedResume.getSize();
+        this.resumeContentType = storedResume.getContentType();
+        this.resume = null;
+    }
+
     public LocalDateTime getSubmittedAt() {
         return submittedAt;
     }
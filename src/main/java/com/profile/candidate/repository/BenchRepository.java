@@ -1,20 +1,32 @@
 package com.profile.candidate.repository;
+import com.profile.candidate.dto.BenchDetailsDto;
 import com.profile.candidate.model.BenchDetails;
 import com.profile.candidate.model.Submissions;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BenchRepository extends JpaRepository<BenchDetails, String> {
 
+    // Listing columns only; the bench listings never read the resume column
+    String DTO_SELECT = "SELECT new com.profile.candidate.dto.BenchDetailsDto(b.id, b.fullName, b.email, " +
+            "b.relevantExperience, b.totalExperience, b.contactNumber, b.skills, b.linkedin, b.referredBy, " +
+            "b.createdDate, b.technology, b.remarks) FROM BenchDetails b ";
+
     Optional<BenchDetails> findByEmail(String email);
 
     boolean existsByEmail(String email);
@@ -34,8 +46,52 @@ public interface BenchRepository extends JpaRepository<BenchDetails, String> {
     @Transactional
     void deleteByIdIgnoreCase(@Param("id") String id);
 
-    @Query("SELECT b FROM BenchDetails b WHERE b.createdDate BETWEEN :startDate AND :endDate")
-    List<BenchDetails> findByCreatedDateBetween(@Param("startDate") LocalDate startDate,
-                                                @Param("endDate") LocalDate endDate);
+    // Rows removed by deleteByIdIgnoreCase, which bypasses entity events
+    @Query("SELECT b.createdDate FROM BenchDetails b WHERE LOWER(b.id) = LOWER(:id)")
+    List<LocalDate> findCreatedDatesByIdIgnoreCase(@Param("id") String id);
+
+    @Query(DTO_SELECT)
+    List<BenchDetailsDto> findAllDtos();
+
+    @Query(DTO_SELECT + "WHERE b.id IN :ids")
+    List<BenchDetailsDto> findDtosByIds(@Param("ids") Collection<String> ids);
+
+    // Search index: the DTO carries no resume columns, so the hashes are looked up alongside it
+    @Query("SELECT b.id, b.resumeHash FROM BenchDetails b WHERE b.id IN :ids AND b.resumeHash IS NOT NULL")
+    List<Object[]> findResumeHashesByIds(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT b.id FROM BenchDetails b WHERE b.resumeHash IN :hashes")
+    List<String> findIdsByResumeHashes(@Param("hashes") Collection<String> hashes);
+
+    @Query(DTO_SELECT + "WHERE b.createdDate BETWEEN :startDate AND :endDate")
+    List<BenchDetailsDto> findDtosByCreatedDateBetween(@Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate);
+
+    // Used by the bulk importer to check a whole chunk of rows for duplicates at once; rows are [email, contactNumber]
+    @Query("SELECT b.email, b.contactNumber FROM BenchDetails b WHERE b.email IN :emails OR b.contactNumber IN :contactNumbers")
+    List<Object[]> findExistingEmailsAndContactNumbers(@Param("emails") Collection<String> emails,
+                                                      @Param("contactNumbers") Collection<String> contactNumbers);
+
+    // Highest numeric suffix of BENCH### ids; seeds the BENCH id sequence
+    @Query(value = "SELECT MAX(CAST(SUBSTRING(id, 6) AS UNSIGNED)) FROM bench_details WHERE id REGEXP '^BENCH[0-9]+$'", nativeQuery = true)
+    Long findMaxBenchNumber();
+
+    // Keyset pages for /bench/page, ordered by id; the created-date variant backs the filtered listing
+    @Query(DTO_SELECT + "WHERE b.id > :afterId ORDER BY b.id")
+    List<BenchDetailsDto> findBenchPage(@Param("afterId") String afterId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE b.createdDate BETWEEN :startDate AND :endDate AND b.id > :afterId ORDER BY b.id")
+    List<BenchDetailsDto> findBenchPageByCreatedDate(@Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate,
+                                                     @Param("afterId") String afterId,
+                                                     Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(DTO_SELECT + "ORDER BY b.id")
+    Stream<BenchDetailsDto> streamAllBench();
 
-}
\ No newline at end of file
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(DTO_SELECT + "WHERE b.createdDate BETWEEN :startDate AND :endDate ORDER BY b.id")
+    Stream<BenchDetailsDto> streamBenchByCreatedDate(@Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+}
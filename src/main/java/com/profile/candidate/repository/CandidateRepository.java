@@ -1,8 +1,10 @@
 package com.profile.candidate.repository;
 
+import com.profile.candidate.config.CacheNames;
 import com.profile.candidate.model.CandidateDetails;
 import com.profile.candidate.model.Submissions;
 import jakarta.transaction.Transactional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -25,20 +27,24 @@ public interface CandidateRepository extends JpaRepository<CandidateDetails, Str
 
     List<CandidateDetails> findAll();
     // Native SQL query to join candidates and requirements_model_prod tables based on jobId
+    @Cacheable(cacheNames = CacheNames.CLIENT_NAME_BY_JOB_ID, key = "#p0", condition = "#p0 != null", unless = "#result == null")
     @Query(value = "SELECT r.client_name FROM requirements_model r WHERE r.job_id = :jobId", nativeQuery = true)
     Optional<String> findClientNameByJobId(@Param("jobId") String jobId);
 
+    @Cacheable(cacheNames = CacheNames.TEAM_LEAD_EMAIL_BY_JOB_ID, key = "#p0", condition = "#p0 != null", unless = "#result == null")
     @Query(value = "SELECT u.email FROM user_details u " +
             "JOIN requirements_model r ON r.assigned_by = u.user_name " +
             "WHERE r.job_id = :jobId", nativeQuery = true)
     String findTeamLeadEmailByJobId(@Param("jobId") String jobId);
 
+    @Cacheable(cacheNames = CacheNames.USER_NAME_BY_EMAIL, key = "#p0", condition = "#p0 != null", unless = "#result == null")
     @Query(value = "SELECT u.user_name FROM user_details u WHERE u.email = :email", nativeQuery = true)
     String findUserNameByEmail(@Param("email") String email);
 
     @Query(value = "SELECT MAX(CAST(SUBSTRING(candidate_id, 5) AS UNSIGNED)) FROM candidates", nativeQuery = true)
     Integer findMaxCandidateNumber();
 
+    @Cacheable(cacheNames = CacheNames.USER_NAME_BY_USER_ID, key = "#p0", condition = "#p0 != null", unless = "#result == null")
     @Query(value = "SELECT u.user_name FROM user_details u WHERE u.user_id= :userId",nativeQuery = true)
     String findUserNameByUserId(@Param("userId") String userId);
 
@@ -0,0 +1,104 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.model.DashboardDailyCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DashboardDailyCountRepository extends JpaRepository<DashboardDailyCount, DashboardDailyCount.Key> {
+
+    // Whole-company view: recruiter metrics are summed over every recruiter. "assigned" keeps the
+    // behaviour of the old query, which matched job_recruiters rows with an empty recruiter id.
+    @Query(value = "SELECT metric, SUM(total) FROM dashboard_daily_counts " +
+            "WHERE stat_day BETWEEN :startDate AND :endDate AND (metric <> 'assigned' OR recruiter_id = '') " +
+            "GROUP BY metric", nativeQuery = true)
+    List<Object[]> sumForAll(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // One recruiter's view: their own rows plus the company-wide metrics
+    @Query(value = "SELECT metric, SUM(total) FROM dashboard_daily_counts " +
+            "WHERE stat_day BETWEEN :startDate AND :endDate " +
+            "AND (recruiter_id = :recruiterId OR (recruiter_id = '' AND metric IN (:globalMetrics))) " +
+            "GROUP BY metric", nativeQuery = true)
+    List<Object[]> sumForRecruiter(@Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate,
+                                   @Param("recruiterId") String recruiterId,
+                                   @Param("globalMetrics") Collection<String> globalMetrics);
+
+    @Query(value = "SELECT metric, SUM(total) FROM dashboard_daily_counts WHERE metric IN (:metrics) GROUP BY metric",
+            nativeQuery = true)
+    List<Object[]> sumAllTime(@Param("metrics") Collection<String> metrics);
+
+    boolean existsByStatDayAndRecruiterIdAndMetric(LocalDate statDay, String recruiterId, String metric);
+
+    @Modifying
+    @Query(value = "DELETE FROM dashboard_daily_counts WHERE stat_day BETWEEN :startDate AND :endDate AND metric IN (:metrics)",
+            nativeQuery = true)
+    int deleteRange(@Param("startDate") LocalDate startDate,
+                    @Param("endDate") LocalDate endDate,
+                    @Param("metrics") Collection<String> metrics);
+
+    // Per-day source counts used to (re)build the rollup; ranges are [start, end)
+
+    @Query(value = "SELECT DATE(requirement_added_time_stamp), '', COUNT(*) FROM requirements_model " +
+            "WHERE requirement_added_time_stamp >= :start AND requirement_added_time_stamp < :end " +
+            "GROUP BY DATE(requirement_added_time_stamp)", nativeQuery = true)
+    List<Object[]> countRequirementsByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query(value = "SELECT DATE(submitted_at), COALESCE(user_id, ''), COUNT(*) FROM candidate_submissions " +
+            "WHERE submitted_at >= :start AND submitted_at < :end " +
+            "GROUP BY DATE(submitted_at), COALESCE(user_id, '')", nativeQuery = true)
+    List<Object[]> countSubmissionsByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query(value = "SELECT DATE(created_at), '', COUNT(*) FROM bdm_client " +
+            "WHERE created_at >= :start AND created_at < :end GROUP BY DATE(created_at)", nativeQuery = true)
+    List<Object[]> countClientsByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query(value = "SELECT DATE(created_at), '', COUNT(*) FROM user_details " +
+            "WHERE created_at >= :start AND created_at < :end GROUP BY DATE(created_at)", nativeQuery = true)
+    List<Object[]> countUsersByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Returns day, contract count, full-time count
+    @Query(value = "SELECT created_at, " +
+            "SUM(CASE WHEN employment_type != 'Full-time' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN employment_type = 'Full-time' THEN 1 ELSE 0 END) " +
+            "FROM placements WHERE created_at >= :start AND created_at < :end AND LOWER(TRIM(status)) = 'active' " +
+            "GROUP BY created_at", nativeQuery = true)
+    List<Object[]> countActivePlacementsByDay(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query(value = "SELECT created_date, '', COUNT(*) FROM bench_details " +
+            "WHERE created_date >= :start AND created_date < :end GROUP BY created_date", nativeQuery = true)
+    List<Object[]> countBenchByDay(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    // Returns day, recruiter, all, internal, external
+    @Query(value = "SELECT DATE(timestamp), COALESCE(user_id, ''), COUNT(*), " +
+            "SUM(CASE WHEN interview_level = 'INTERNAL' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN interview_level IN ('EXTERNAL', 'EXTERNAL-L1', 'EXTERNAL-L2', 'FINAL') THEN 1 ELSE 0 END) " +
+            "FROM interview_details WHERE timestamp >= :start AND timestamp < :end " +
+            "GROUP BY DATE(timestamp), COALESCE(user_id, '')", nativeQuery = true)
+    List<Object[]> countInterviewsByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query(value = "SELECT DATE(rm.requirement_added_time_stamp), COALESCE(jr.recruiter_id, ''), COUNT(*) " +
+            "FROM job_recruiters jr JOIN requirements_model rm ON jr.job_id = rm.job_id " +
+            "WHERE rm.requirement_added_time_stamp >= :start AND rm.requirement_added_time_stamp < :end " +
+            "GROUP BY DATE(rm.requirement_added_time_stamp), COALESCE(jr.recruiter_id, '')", nativeQuery = true)
+    List<Object[]> countAssignmentsByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Where a full backfill has to start
+    @Query(value = "SELECT LEAST(" +
+            "COALESCE((SELECT MIN(DATE(requirement_added_time_stamp)) FROM requirements_model), CURRENT_DATE), " +
+            "COALESCE((SELECT MIN(DATE(submitted_at)) FROM candidate_submissions), CURRENT_DATE), " +
+            "COALESCE((SELECT MIN(DATE(created_at)) FROM bdm_client), CURRENT_DATE), " +
+            "COALESCE((SELECT MIN(DATE(created_at)) FROM user_details), CURRENT_DATE), " +
+            "COALESCE((SELECT MIN(created_at) FROM placements), CURRENT_DATE), " +
+            "COALESCE((SELECT MIN(created_date) FROM bench_details), CURRENT_DATE), " +
+            "COALESCE((SELECT MIN(DATE(timestamp)) FROM interview_details), CURRENT_DATE))", nativeQuery = true)
+    Object findEarliestActivityDay();
+}
@@ -0,0 +1,27 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.model.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query("SELECT e FROM EmailOutbox e WHERE e.status = 'PENDING' AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<EmailOutbox> findReadyBatch(@Param("now") LocalDateTime now, Pageable pageable);
+
+    boolean existsByMessageKeyAndCreatedAtAfter(String messageKey, LocalDateTime createdAfter);
+
+    boolean existsByMessageKeyAndStatusAndSentAtAfter(String messageKey, String status, LocalDateTime sentAfter);
+
+    long countByStatus(String status);
+
+    @Query("SELECT MIN(e.createdAt) FROM EmailOutbox e WHERE e.status = 'PENDING'")
+    LocalDateTime findOldestPendingCreatedAt();
+}
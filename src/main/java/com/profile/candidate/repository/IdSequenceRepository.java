@@ -0,0 +1,25 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.model.IdSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IdSequenceRepository extends JpaRepository<IdSequence, String> {
+
+    // No-op when another node created the row first
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO id_sequences (name, next_value) VALUES (:name, :nextValue)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("nextValue") long nextValue);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM IdSequence s WHERE s.name = :name")
+    Optional<IdSequence> findForUpdate(@Param("name") String name);
+}
@@ -1,16 +1,28 @@
 package com.profile.candidate.repository;
 
+import com.profile.candidate.config.CacheNames;
+import com.profile.candidate.dto.BookedSlotProjection;
+import com.profile.candidate.dto.InterviewLatestStatusProjection;
 import com.profile.candidate.model.InterviewDetails;
+import jakarta.persistence.QueryHint;
 import jakarta.persistence.Tuple;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface InterviewRepository extends JpaRepository<InterviewDetails,String> {
 
@@ -28,6 +40,7 @@ public interface InterviewRepository extends JpaRepository<InterviewDetails,Stri
             @Param("startDateTime") LocalDateTime startDateTime,
             @Param("endDateTime") LocalDateTime endDateTime);
 
+    @Cacheable(cacheNames = CacheNames.USER_EMAIL_BY_USER_ID, key = "#p0", condition = "#p0 != null", unless = "#result == null")
     @Query(value = "SELECT email FROM user_details  " +
             "WHERE user_id = :userId ", nativeQuery = true)
     String findUserEmailByUserId(@Param("userId") String userId);
@@ -55,9 +68,11 @@ public interface InterviewRepository extends JpaRepository<InterviewDetails,Stri
 
     InterviewDetails findByCandidateIdAndClientName(String candidateId, String clientName);
 
+    @Cacheable(cacheNames = CacheNames.JOB_TITLE_BY_JOB_ID, key = "#p0", condition = "#p0 != null", unless = "#result == null")
     @Query(value = "SELECT r.job_title FROM requirements_model r WHERE r.job_id = :jobId", nativeQuery = true)
     String findJobTitleByJobId(@Param("jobId") String jobId);
 
+    @Cacheable(cacheNames = CacheNames.USER_NAME_BY_USER_ID, key = "#p0", condition = "#p0 != null", unless = "#result == null")
     @Query(value = "SELECT user_name FROM user_details WHERE user_id = :userId", nativeQuery = true)
     String findUsernameByUserId(@Param("userId") String userId);
 
@@ -76,6 +91,7 @@ public interface InterviewRepository extends JpaRepository<InterviewDetails,Stri
             @Param("endDate") LocalDate endDate);
 
 
+    @Cacheable(cacheNames = CacheNames.ROLE_BY_USER_ID, key = "#p0", condition = "#p0 != null", unless = "#result == null")
     @Query(value = """
                 SELECT r.name
                 FROM user_roles ur
@@ -186,31 +202,65 @@ public interface InterviewRepository extends JpaRepository<InterviewDetails,Stri
     List<InterviewDetails> findByAssignedTo(String userId);
 
     InterviewDetails findByInterviewIdAndAssignedTo(String interviewId,String coordinatorId);
+
+    // Booked INTERNAL slots of one coordinator, used to warm CoordinatorSlotIndex without loading whole rows
+    @Query("SELECT i.interviewId AS interviewId, i.assignedTo AS assignedTo, i.interviewDateTime AS interviewDateTime, " +
+            "i.duration AS duration FROM InterviewDetails i " +
+            "WHERE i.assignedTo = :userId AND UPPER(i.interviewLevel) = 'INTERNAL' AND i.interviewDateTime IS NOT NULL")
+    List<BookedSlotProjection> findBookedSlotsByAssignedTo(@Param("userId") String userId);
     List<InterviewDetails> findByCandidateIdOrderByTimestampDesc(String candidateId);
 
     @Query("SELECT DISTINCT i.candidateId FROM InterviewDetails i")
     List<String> findAllCandidateIdsWithInterviews();
 
 
+    // Candidates whose latest interview status is anything other than INTERNAL + REJECTED
     @Query(value = """
     SELECT DISTINCT id.candidate_id
     FROM interview_details id
-    WHERE id.interview_status IS NOT NULL
-      AND id.interview_status != ''
-      AND JSON_VALID(id.interview_status)
-      AND (
-          JSON_UNQUOTE(JSON_EXTRACT(id.interview_status, CONCAT(
-              '$[', JSON_LENGTH(id.interview_status) - 1, '].status'))) != 'REJECTED'
-          OR JSON_UNQUOTE(JSON_EXTRACT(id.interview_status, CONCAT(
-              '$[', JSON_LENGTH(id.interview_status) - 1, '].interviewLevel'))) != 'INTERNAL'
-      )
+    WHERE id.latest_status IS NOT NULL
+      AND (id.latest_status != 'REJECTED' OR id.latest_level != 'INTERNAL')
     """, nativeQuery = true)
     List<String> findInternalRejectedCandidateIdsLatestOnly();
 
-
-
+    // Latest status per interview for a set of candidates, newest interview first
+    @Query("SELECT i.candidateId AS candidateId, i.latestStatus AS latestStatus, i.latestLevel AS latestLevel " +
+            "FROM InterviewDetails i WHERE i.candidateId IN :candidateIds ORDER BY i.timestamp DESC")
+    List<InterviewLatestStatusProjection> findLatestStatusByCandidateIds(@Param("candidateIds") Collection<String> candidateIds);
+
+    // Rows written before latest_status existed; keyset-paged by interviewId for the backfill job
+    @Query("SELECT i FROM InterviewDetails i WHERE i.latestStatus IS NULL AND i.interviewStatus IS NOT NULL " +
+            "AND i.interviewId > :afterId ORDER BY i.interviewId")
+    List<InterviewDetails> findLatestStatusBackfillBatch(@Param("afterId") String afterId, Pageable pageable);
+
+    // Writes only the derived columns, and only if nothing has set them since the batch was read, so a status
+    // appended concurrently is never overwritten by the backfill's stale copy of the row
+    @Modifying
+    @Transactional
+    @Query("UPDATE InterviewDetails i SET i.latestStatus = :status, i.latestLevel = :level, i.latestStatusAt = :statusAt " +
+            "WHERE i.interviewId = :interviewId AND i.latestStatus IS NULL")
+    int backfillLatestStatus(@Param("interviewId") String interviewId, @Param("status") String status,
+                             @Param("level") String level, @Param("statusAt") OffsetDateTime statusAt);
+
+    // Keyset pages for /interviews/page, same rows as findScheduledInterviewsByDateOnly ordered by (timestamp, interviewId).
+    // The range is half-open [from, to) so the timestamp index can be used instead of DATE(timestamp).
+    @Query("SELECT i FROM InterviewDetails i " +
+            "WHERE i.interviewDateTime IS NOT NULL AND i.timestamp >= :from AND i.timestamp < :to " +
+            "AND (i.timestamp > :afterTimestamp OR (i.timestamp = :afterTimestamp AND i.interviewId > :afterId)) " +
+            "ORDER BY i.timestamp, i.interviewId")
+    List<InterviewDetails> findScheduledInterviewPage(@Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to,
+                                                      @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                                                      @Param("afterId") String afterId,
+                                                      Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM InterviewDetails i " +
+            "WHERE i.interviewDateTime IS NOT NULL AND i.timestamp >= :from AND i.timestamp < :to " +
+            "ORDER BY i.timestamp, i.interviewId")
+    Stream<InterviewDetails> streamScheduledInterviews(@Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to);
 }
-
-
-
-
@@ -1,14 +1,19 @@
 package com.profile.candidate.repository;
 
 import com.profile.candidate.model.PlacementDetails;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PlacementRepository extends JpaRepository<PlacementDetails, String> {
@@ -115,4 +120,25 @@ public interface PlacementRepository extends JpaRepository<PlacementDetails, Str
 
     @Query(value="SELECT email FROM user_details  WHERE primary_super_admin = true",nativeQuery = true)
     List<String> findPrimarySuperAdminEmail();
+
+    // Highest numeric suffix of PLMNT#### ids; seeds the PLMNT id sequence
+    @Query(value = "SELECT MAX(CAST(SUBSTRING(id, 6) AS UNSIGNED)) FROM placements WHERE id REGEXP '^PLMNT[0-9]+$'", nativeQuery = true)
+    Long findMaxPlacementNumber();
+
+    // Keyset pages for /placement/page: same rows as placements-list (inactive placements hidden), ordered by id
+    @Query("SELECT p FROM PlacementDetails p WHERE p.createdAt BETWEEN :startDate AND :endDate " +
+            "AND (p.status IS NULL OR LOWER(p.status) <> 'inactive') AND p.id > :afterId ORDER BY p.id")
+    List<PlacementDetails> findPlacementPage(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate,
+                                             @Param("afterId") String afterId,
+                                             Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM PlacementDetails p WHERE p.createdAt BETWEEN :startDate AND :endDate " +
+            "AND (p.status IS NULL OR LOWER(p.status) <> 'inactive') ORDER BY p.id")
+    Stream<PlacementDetails> streamPlacements(@Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
 }
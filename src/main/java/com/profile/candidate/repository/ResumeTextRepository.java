@@ -0,0 +1,28 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.model.ResumeText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ResumeTextRepository extends JpaRepository<ResumeText, String> {
+
+    // (resumeHash, compressedText) pairs for the search index, as scalars so a rebuild does not fill the
+    // persistence context; rows without text (failed, timed out, empty) are skipped
+    @Query("SELECT t.resumeHash, t.compressedText FROM ResumeText t WHERE t.resumeHash IN :hashes " +
+            "AND t.status = 'EXTRACTED'")
+    List<Object[]> findExtractedTexts(@Param("hashes") Collection<String> hashes);
+
+    // Resume hashes referenced by submissions or bench profiles that have not been through extraction yet
+    @Query(value = "SELECT h.resume_hash FROM (" +
+            "SELECT resume_hash FROM candidate_submissions WHERE resume_hash > :afterHash " +
+            "UNION SELECT resume_hash FROM bench_details WHERE resume_hash > :afterHash) h " +
+            "WHERE NOT EXISTS (SELECT 1 FROM resume_texts t WHERE t.resume_hash = h.resume_hash) " +
+            "ORDER BY h.resume_hash LIMIT :limit", nativeQuery = true)
+    List<String> findUnextractedHashes(@Param("afterHash") String afterHash, @Param("limit") int limit);
+}
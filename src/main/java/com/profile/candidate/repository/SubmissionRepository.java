@@ -1,21 +1,100 @@
 package com.profile.candidate.repository;
 
+import com.profile.candidate.config.CacheNames;
+import com.profile.candidate.dto.RequirementMetadataProjection;
+import com.profile.candidate.dto.SubmissionListRow;
+import com.profile.candidate.dto.SubmissionSkillsProjection;
+import com.profile.candidate.dto.TeamleadSubmissionProjection;
 import com.profile.candidate.model.CandidateDetails;
 import com.profile.candidate.model.Submissions;
-import jakarta.persistence.Tuple;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface SubmissionRepository extends JpaRepository<Submissions,String> {
 
+    // Grid queries select SubmissionListRow (submission + candidate columns) instead of entities, so
+    // neither the resume column nor a per-row candidate lookup is involved
+    String LIST_ROW_SELECT = "SELECT new com.profile.candidate.dto.SubmissionListRow(" +
+            "s.submissionId, c.candidateId, c.userId, c.userEmail, c.fullName, c.candidateEmailId, c.contactNumber, " +
+            "c.currentOrganization, c.qualification, c.totalExperience, c.relevantExperience, c.currentCTC, c.expectedCTC, " +
+            "c.noticePeriod, c.currentLocation, s.jobId, s.clientName, s.profileReceivedDate, s.submittedAt, " +
+            "s.preferredLocation, s.skills, s.communicationSkills, s.requiredTechnologiesRating, s.overallFeedback, " +
+            "s.recruiterName, s.userEmail, s.status, s.resumeHash) " +
+            "FROM Submissions s JOIN s.candidate c ";
+
+    @Query(LIST_ROW_SELECT + "WHERE s.profileReceivedDate BETWEEN :startDate AND :endDate")
+    List<SubmissionListRow> findListRowsByProfileReceivedDateBetween(@Param("startDate") LocalDate startDate,
+                                                                      @Param("endDate") LocalDate endDate);
+
+    @Query(LIST_ROW_SELECT + "WHERE s.userId = :userId AND s.profileReceivedDate BETWEEN :startDate AND :endDate")
+    List<SubmissionListRow> findListRowsByUserIdAndProfileReceivedDateBetween(@Param("userId") String userId,
+                                                                               @Param("startDate") LocalDate startDate,
+                                                                               @Param("endDate") LocalDate endDate);
+
+    @Query(LIST_ROW_SELECT + "WHERE s.jobId IN :jobIds AND s.profileReceivedDate BETWEEN :startDate AND :endDate")
+    List<SubmissionListRow> findListRowsByJobIdsAndProfileReceivedDateBetween(@Param("jobIds") Collection<String> jobIds,
+                                                                               @Param("startDate") LocalDate startDate,
+                                                                               @Param("endDate") LocalDate endDate);
+
+    @Query(LIST_ROW_SELECT + "WHERE c.candidateId = :candidateId")
+    List<SubmissionListRow> findListRowsByCandidateId(@Param("candidateId") String candidateId);
+
+    @Query(LIST_ROW_SELECT + "WHERE s.jobId = :jobId")
+    List<SubmissionListRow> findListRowsByJobId(@Param("jobId") String jobId);
+
+    // Search index: re-read after writes and streamed in full on rebuild
+    @Query(LIST_ROW_SELECT + "WHERE s.submissionId IN :submissionIds")
+    List<SubmissionListRow> findListRowsBySubmissionIds(@Param("submissionIds") Collection<String> submissionIds);
+
+    @Query(LIST_ROW_SELECT + "WHERE c.candidateId IN :candidateIds")
+    List<SubmissionListRow> findListRowsByCandidateIds(@Param("candidateIds") Collection<String> candidateIds);
+
+    @Query("SELECT s.submissionId FROM Submissions s WHERE s.resumeHash IN :hashes")
+    List<String> findSubmissionIdsByResumeHashes(@Param("hashes") Collection<String> hashes);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(LIST_ROW_SELECT + "ORDER BY s.submissionId")
+    Stream<SubmissionListRow> streamAllListRows();
+
+    // Bench matching: what the candidates submitted to a job look like (skills text, total experience)
+    @Query("SELECT s.skills, c.totalExperience FROM Submissions s JOIN s.candidate c WHERE s.jobId = :jobId")
+    List<Object[]> findSkillsAndExperienceByJobId(@Param("jobId") String jobId);
+
+    // Requirements of the clients a BDM on-boarded (client names compared trimmed and case-insensitively).
+    // DISTINCT: a job matching several bdm_client rows must not land in two IN chunks and be listed twice.
+    @Query(value = """
+    SELECT DISTINCT r.job_id
+    FROM requirements_model r
+    JOIN bdm_client b
+        ON TRIM(UPPER(r.client_name)) COLLATE utf8mb4_bin = TRIM(UPPER(b.client_name)) COLLATE utf8mb4_bin
+    JOIN user_details u
+        ON b.on_boarded_by = u.user_name
+    WHERE u.user_id = :userId
+""", nativeQuery = true)
+    List<String> findJobIdsOnboardedByBdm(@Param("userId") String userId);
+
+    // Legacy inline resume of one submission, for rows the resume-store migration has not reached
+    @Query("SELECT s.resume FROM Submissions s WHERE s.submissionId = :submissionId")
+    byte[] findLegacyResume(@Param("submissionId") String submissionId);
+
 
      List<Submissions> findByCandidate_CandidateId(String candidateId);
 
@@ -31,12 +110,19 @@ public interface SubmissionRepository extends JpaRepository<Submissions,String>
 
     Submissions findByCandidate_CandidateEmailIdAndJobId(String candidateId, String jobId);
 
+    @Cacheable(cacheNames = CacheNames.JOB_TITLE_BY_JOB_ID, key = "#p0", condition = "#p0 != null", unless = "#result == null")
     @Query(value = "SELECT r.job_title FROM requirements_model r WHERE r.job_id = :jobId", nativeQuery = true)
     String findJobTitleByJobId(@Param("jobId") String jobId);
 
+    // Batched lookup of job title and client name for a page of submissions
+    @Query(value = "SELECT r.job_id AS jobId, r.job_title AS jobTitle, r.client_name AS clientName " +
+            "FROM requirements_model r WHERE r.job_id IN (:jobIds)", nativeQuery = true)
+    List<RequirementMetadataProjection> findRequirementMetadataByJobIds(@Param("jobIds") Collection<String> jobIds);
+
     @Query("SELECT s.candidate.candidateId FROM Submissions s WHERE s.submissionId = :submissionId")
     String findCandidateIdBySubmissionId(@Param("submissionId") String submissionId);
 
+    @Cacheable(cacheNames = CacheNames.ROLE_BY_USER_ID, key = "#p0", condition = "#p0 != null", unless = "#result == null")
     @Query(value = """
     SELECT r.name
     FROM user_roles ur
@@ -45,115 +131,94 @@ public interface SubmissionRepository extends JpaRepository<Submissions,String>
     LIMIT 1
 """, nativeQuery = true)
     String findRoleByUserId(@Param("userId") String userId);
-    @Query("SELECT s FROM Submissions s  WHERE s.userId = :userId AND s.profileReceivedDate BETWEEN :startDate AND :endDate")
-    List<Submissions> findByUserIdAndProfileReceivedDateBetween(
-            @Param("userId") String userId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
-    );
 
+
+    // Self and team submissions of a team lead in one round-trip, tagged by submissionScope.
+    // Candidates with an active interview (latest status other than INTERNAL/REJECTED) are excluded in SQL.
     @Query(value = """
-    SELECT * FROM candidate_submissions c
-    WHERE c.job_id IN (
-        SELECT r.job_id
-        FROM requirements_model r
-        JOIN bdm_client b 
-            ON TRIM(UPPER(r.client_name)) COLLATE utf8mb4_bin = TRIM(UPPER(b.client_name)) COLLATE utf8mb4_bin
-        JOIN user_details u 
-            ON b.on_boarded_by = u.user_name
-        WHERE u.user_id = :userId
-    )
-    AND c.profile_received_date BETWEEN :startDate AND :endDate
-""", nativeQuery = true)
-    List<Submissions> findSubmissionsByBdmUserIdAndDateRange(
-            @Param("userId") String userId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
-    );
-    List<Submissions> findByProfileReceivedDateBetween(LocalDate start, LocalDate end);
-
-
-	@Query(value = """    
-SELECT 
-    cs.submission_id,     
-    cs.candidate_id AS candidateId,       
-    cs.recruiter_name as recruiter_name,   
-    c.full_name AS full_name,    
-    cs.skills AS skills,      
-    cs.job_id AS job_id,
-    cs.user_id AS user_id,
-    cs.user_email AS user_email,
-    cs.preferred_location AS preferred_location,
-    DATE_FORMAT(cs.profile_received_date, '%Y-%m-%d') AS profile_received_date,
-    r.job_title AS job_title,    
-    r.client_name AS client_name,
-    c.contact_number AS contact_number,      
-    c.candidate_email_id AS candidate_email_id,  
-    c.total_experience AS total_experience,   
-    c.relevant_experience AS relevant_experience,
-    c.current_organization AS current_organization,
+SELECT
+    'SELF' AS submissionScope,
+    cs.submission_id AS submissionId,
+    cs.candidate_id AS candidateId,
+    cs.recruiter_name AS recruiterName,
+    c.full_name AS fullName,
+    cs.skills AS skills,
+    cs.job_id AS jobId,
+    cs.user_id AS userId,
+    cs.user_email AS userEmail,
+    cs.preferred_location AS preferredLocation,
+    DATE_FORMAT(cs.profile_received_date, '%Y-%m-%d') AS profileReceivedDate,
+    r.job_title AS jobTitle,
+    r.client_name AS clientName,
+    c.contact_number AS contactNumber,
+    c.candidate_email_id AS candidateEmailId,
+    c.total_experience AS totalExperience,
+    c.relevant_experience AS relevantExperience,
+    c.current_organization AS currentOrganization,
     c.qualification AS qualification,
-    c.currentctc AS current_ctc,
-    c.expectedctc AS expected_ctc,
-    c.notice_period AS notice_period,
-    c.current_location AS current_location,
-    cs.communication_skills AS communication_skills,
-    cs.required_technologies_rating AS required_technologies_rating,
-    cs.overall_feedback AS overall_feedback,
-    cs.submitted_at AS submitted_at,
-    r.job_title AS technology
-FROM user_details u 
-JOIN requirements_model r ON r.assigned_by = u.user_name  
-JOIN candidate_submissions cs ON cs.job_id = r.job_id    
-JOIN candidates c ON c.candidate_id = cs.candidate_id   
-WHERE u.user_id = :userId AND c.user_id != u.user_id   
-AND cs.profile_received_date BETWEEN :startDate AND :endDate 
-AND cs.job_id IN (SELECT r2.job_id FROM requirements_model r2 WHERE r2.assigned_by = u.user_name)""", nativeQuery = true)
-	List<Tuple> findTeamSubmissionsByTeamleadAndDateRange(
-			@Param("userId") String userId,
-			@Param("startDate") LocalDateTime startDate,
-			@Param("endDate") LocalDateTime endDate
-	);
-	@Query(value = """    
-SELECT         
-    cs.submission_id,      
-    c.candidate_id AS candidateId,  
-    cs.recruiter_name as recruiter_name,       
-    cs.candidate_id AS candidate_id,        
-    c.full_name AS full_name,       
-    c.contact_number AS contact_number,      
-    c.candidate_email_id AS candidate_email_id,       
-    cs.skills AS skills,        
-    cs.job_id AS job_id,        
-    cs.user_id AS user_id,  
-    cs.user_email AS user_email,        
-    cs.preferred_location AS preferred_location,   
-    DATE_FORMAT(cs.profile_received_date, '%Y-%m-%d') AS profile_received_date,   
-    r.job_title AS job_title,       
-    r.client_name AS client_name,    
-    c.total_experience AS total_experience,
-    c.relevant_experience AS relevant_experience,
-    c.current_organization AS current_organization,
+    c.currentctc AS currentCtc,
+    c.expectedctc AS expectedCtc,
+    c.notice_period AS noticePeriod,
+    c.current_location AS currentLocation,
+    cs.communication_skills AS communicationSkills,
+    cs.required_technologies_rating AS requiredTechnologiesRating,
+    cs.overall_feedback AS overallFeedback
+FROM candidates c
+JOIN candidate_submissions cs ON c.candidate_id = cs.candidate_id
+JOIN requirements_model r ON cs.job_id = r.job_id
+WHERE cs.user_id = :userId
+AND cs.profile_received_date BETWEEN :startDate AND :endDate
+AND NOT EXISTS (
+    SELECT 1 FROM interview_details id
+    WHERE id.candidate_id = cs.candidate_id
+      AND id.latest_status IS NOT NULL
+      AND (id.latest_status != 'REJECTED' OR id.latest_level != 'INTERNAL')
+)
+UNION ALL
+SELECT
+    'TEAM' AS submissionScope,
+    cs.submission_id AS submissionId,
+    cs.candidate_id AS candidateId,
+    cs.recruiter_name AS recruiterName,
+    c.full_name AS fullName,
+    cs.skills AS skills,
+    cs.job_id AS jobId,
+    cs.user_id AS userId,
+    cs.user_email AS userEmail,
+    cs.preferred_location AS preferredLocation,
+    DATE_FORMAT(cs.profile_received_date, '%Y-%m-%d') AS profileReceivedDate,
+    r.job_title AS jobTitle,
+    r.client_name AS clientName,
+    c.contact_number AS contactNumber,
+    c.candidate_email_id AS candidateEmailId,
+    c.total_experience AS totalExperience,
+    c.relevant_experience AS relevantExperience,
+    c.current_organization AS currentOrganization,
     c.qualification AS qualification,
-    c.currentctc AS current_ctc,
-    c.expectedctc AS expected_ctc,
-    c.notice_period AS notice_period,
-    c.current_location AS current_location,
-    cs.communication_skills AS communication_skills,
-    cs.required_technologies_rating AS required_technologies_rating,
-    cs.overall_feedback AS overall_feedback,
-    cs.submitted_at AS submitted_at,
-    r.job_title AS technology
-FROM candidates c     
-JOIN candidate_submissions cs ON c.candidate_id = cs.candidate_id  
-JOIN requirements_model r ON cs.job_id = r.job_id    
-WHERE cs.user_id = :userId     
-AND cs.profile_received_date BETWEEN :startDate AND :endDate""", nativeQuery = true)
-	List<Tuple> findSelfSubmissionsByTeamleadAndDateRange(
-			@Param("userId") String userId,
-			@Param("startDate") LocalDateTime startDate,
-			@Param("endDate") LocalDateTime endDate
-	);
+    c.currentctc AS currentCtc,
+    c.expectedctc AS expectedCtc,
+    c.notice_period AS noticePeriod,
+    c.current_location AS currentLocation,
+    cs.communication_skills AS communicationSkills,
+    cs.required_technologies_rating AS requiredTechnologiesRating,
+    cs.overall_feedback AS overallFeedback
+FROM user_details u
+JOIN requirements_model r ON r.assigned_by = u.user_name
+JOIN candidate_submissions cs ON cs.job_id = r.job_id
+JOIN candidates c ON c.candidate_id = cs.candidate_id
+WHERE u.user_id = :userId AND c.user_id != u.user_id
+AND cs.profile_received_date BETWEEN :startDate AND :endDate
+AND NOT EXISTS (
+    SELECT 1 FROM interview_details id
+    WHERE id.candidate_id = cs.candidate_id
+      AND id.latest_status IS NOT NULL
+      AND (id.latest_status != 'REJECTED' OR id.latest_level != 'INTERNAL')
+)""", nativeQuery = true)
+    List<TeamleadSubmissionProjection> findTeamleadSubmissionsByDateRange(
+            @Param("userId") String userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
     @Modifying
     @Transactional
     @Query(value = "UPDATE requirements_model r SET r.status = 'Submitted' " +
@@ -162,5 +227,33 @@ AND cs.profile_received_date BETWEEN :startDate AND :endDate""", nativeQuery = t
     void updateRequirementStatus(@Param("jobId") String jobId);
     Optional<Submissions> findByCandidateCandidateIdAndJobId(String candidateId, String jobId);
 
-    List<Submissions> findByJobId(String jobId);
+    // Skills of every submission of a set of candidates; interview listings pick the one matching each row's job
+    @Query("SELECT c.candidateId AS candidateId, s.jobId AS jobId, s.skills AS skills " +
+            "FROM Submissions s JOIN s.candidate c WHERE c.candidateId IN :candidateIds")
+    List<SubmissionSkillsProjection> findSkillsByCandidateIds(@Param("candidateIds") Collection<String> candidateIds);
+
+
+    // Keyset pages for /submissions/page: same filter as /submissions/filterByDate (candidates with an interview are excluded),
+    // ordered by (profileReceivedDate, submissionId). Pass startDate - 1 day and "" as the "after" values for the first page.
+    @Query(LIST_ROW_SELECT +
+            "WHERE s.profileReceivedDate BETWEEN :startDate AND :endDate " +
+            "AND (s.profileReceivedDate > :afterDate OR (s.profileReceivedDate = :afterDate AND s.submissionId > :afterId)) " +
+            "AND NOT EXISTS (SELECT 1 FROM InterviewDetails i WHERE i.candidateId = c.candidateId) " +
+            "ORDER BY s.profileReceivedDate, s.submissionId")
+    List<SubmissionListRow> findSubmissionPage(@Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate,
+                                               @Param("afterDate") LocalDate afterDate,
+                                               @Param("afterId") String afterId,
+                                               Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(LIST_ROW_SELECT +
+            "WHERE s.profileReceivedDate BETWEEN :startDate AND :endDate " +
+            "AND NOT EXISTS (SELECT 1 FROM InterviewDetails i WHERE i.candidateId = c.candidateId) " +
+            "ORDER BY s.profileReceivedDate, s.submissionId")
+    Stream<SubmissionListRow> streamSubmissions(@Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,422 @@
+package com.profile.candidate.search;
+
+import com.profile.candidate.dto.BenchDetailsDto;
+import com.profile.candidate.dto.CandidateSearchQuery;
+import com.profile.candidate.dto.CandidateSearchResponse;
+import com.profile.candidate.dto.SubmissionListRow;
+import com.profile.candidate.matching.BenchProfile;
+import com.profile.candidate.matching.SkillNormalizer;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.Facets;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.range.DoubleRange;
+import org.apache.lucene.facet.range.DoubleRangeFacetCounts;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.*;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+
+// Embedded Lucene index behind /candidate/search: one document per submission (candidate + submission
+// columns) and one per bench profile. Only CandidateSearchService's index thread writes; searches run on
+// any thread against the snapshot published by the last commit().
+public class CandidateSearchIndex implements Closeable {
+
+    static final String KEY = "key";
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String CANDIDATE_ID = "candidateId";
+    static final String FULL_NAME = "fullName";
+    static final String EMAIL = "email";
+    static final String CONTACT_NUMBER = "contactNumber";
+    static final String SKILL = "skill";            // one SkillNormalizer key per skill, for filters and facets
+    static final String SKILLS = "skills";          // skills and technology as analysed text
+    static final String LOCATION = "location";      // one normalised keyword per location
+    static final String LOCATIONS = "locations";
+    static final String TOTAL_EXPERIENCE = "totalExperience";
+    static final String RELEVANT_EXPERIENCE = "relevantExperience";
+    static final String JOB_ID = "jobId";
+    static final String CLIENT = "client";
+    static final String STATUS = "status";
+    static final String DATE = "date";
+    static final String ALL = "all";                // catch-all text for free-text queries
+    static final String RESUME_TEXT = "resumeText"; // text extracted from the resume; indexed, not stored
+
+    // Stored-only copies of the raw values shown in hits
+    private static final String RAW_SKILLS = "rawSkills";
+    private static final String TECHNOLOGY = "technology";
+    private static final String CURRENT_LOCATION = "currentLocation";
+    private static final String PREFERRED_LOCATION = "preferredLocation";
+    private static final String CLIENT_NAME = "clientName";
+
+    private static final int FACET_TOP_N = 20;
+    private static final DoubleRange[] EXPERIENCE_RANGES = {
+            new DoubleRange("0-2", 0, true, 2, false),
+            new DoubleRange("2-5", 2, true, 5, false),
+            new DoubleRange("5-8", 5, true, 8, false),
+            new DoubleRange("8-12", 8, true, 12, false),
+            new DoubleRange("12+", 12, true, Double.POSITIVE_INFINITY, true)
+    };
+    private static final Map<String, Float> TEXT_FIELD_WEIGHTS = Map.of(SKILLS, 3f, FULL_NAME, 2f, LOCATIONS, 1.5f, ALL, 1f,
+            RESUME_TEXT, 0.5f);
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+    private final Path path;
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private volatile SortedSetDocValuesReaderState facetState;
+
+    public CandidateSearchIndex(Path path) throws IOException {
+        facetsConfig.setMultiValued(SKILL, true);
+        facetsConfig.setMultiValued(LOCATION, true);
+        this.path = path;
+        directory = FSDirectory.open(path);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    // true when the directory holds a committed index
+    public static boolean exists(Path path) throws IOException {
+        try (FSDirectory dir = FSDirectory.open(path)) {
+            return DirectoryReader.indexExists(dir);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public static String submissionKey(String submissionId) {
+        return CandidateSearchQuery.TYPE_SUBMISSION + ":" + submissionId;
+    }
+
+    public static String benchKey(String benchId) {
+        return CandidateSearchQuery.TYPE_BENCH + ":" + BenchProfile.key(benchId);
+    }
+
+    // resumeText may be null when the resume has not been (or could not be) extracted
+    public void putSubmission(SubmissionListRow row, String resumeText) throws IOException {
+        Document doc = new Document();
+        addCommon(doc, submissionKey(row.getSubmissionId()), CandidateSearchQuery.TYPE_SUBMISSION, row.getSubmissionId(),
+                row.getFullName(), row.getCandidateEmailId(), row.getContactNumber(),
+                row.getTotalExperience(), row.getRelevantExperience(), row.getProfileReceivedDate());
+        addKeyword(doc, CANDIDATE_ID, row.getCandidateId());
+        addSkills(doc, SkillNormalizer.skillKeys(row.getSkills()), row.getSkills(), null);
+
+        Set<String> locations = new LinkedHashSet<>(split(row.getCurrentLocation()));
+        locations.addAll(split(row.getPreferredLocation()));
+        for (String location : locations) {
+            doc.add(new StringField(LOCATION, normalise(location), Field.Store.NO));
+            doc.add(new SortedSetDocValuesFacetField(LOCATION, normalise(location)));
+        }
+        addText(doc, LOCATIONS, String.join(" ", locations));
+        addStored(doc, CURRENT_LOCATION, row.getCurrentLocation());
+        addStored(doc, PREFERRED_LOCATION, row.getPreferredLocation());
+
+        addKeyword(doc, JOB_ID, row.getJobId());
+        addStored(doc, CLIENT_NAME, row.getClientName());
+        if (!isBlank(row.getClientName())) {
+            doc.add(new SortedSetDocValuesFacetField(CLIENT, row.getClientName().trim()));
+        }
+        addKeyword(doc, STATUS, row.getStatus());
+        addText(doc, ALL, String.join(" ", nonNull(row.getFullName(), row.getSkills(), row.getCurrentLocation(),
+                row.getPreferredLocation(), row.getClientName(), row.getCurrentOrganization(), row.getQualification(),
+                row.getJobId())));
+        addText(doc, RESUME_TEXT, resumeText);
+        writer.updateDocument(new Term(KEY, submissionKey(row.getSubmissionId())), facetsConfig.build(doc));
+    }
+
+    public void putBench(BenchDetailsDto bench, String resumeText) throws IOException {
+        Document doc = new Document();
+        List<String> skills = new ArrayList<>();
+        if (bench.getSkills() != null) {
+            bench.getSkills().stream().filter(Objects::nonNull).forEach(skills::add);
+        }
+        addCommon(doc, benchKey(bench.getId()), CandidateSearchQuery.TYPE_BENCH, bench.getId(),
+                bench.getFullName(), bench.getEmail(), bench.getContactNumber(),
+                toFloat(bench.getTotalExperience()), toFloat(bench.getRelevantExperience()), bench.getCreatedDate());
+        Set<String> skillKeys = new LinkedHashSet<>();
+        skills.forEach(skill -> SkillNormalizer.addSkillKeys(skill, skillKeys));
+        SkillNormalizer.addSkillKeys(bench.getTechnology(), skillKeys);
+        addSkills(doc, skillKeys, String.join(", ", skills), bench.getTechnology());
+        addText(doc, ALL, String.join(" ", nonNull(bench.getFullName(), String.join(" ", skills), bench.getTechnology(),
+                bench.getRemarks())));
+        addText(doc, RESUME_TEXT, resumeText);
+        writer.updateDocument(new Term(KEY, benchKey(bench.getId())), facetsConfig.build(doc));
+    }
+
+    public void delete(String key) throws IOException {
+        writer.deleteDocuments(new Term(KEY, key));
+    }
+
+    public void deleteCandidateSubmissions(String candidateId) throws IOException {
+        writer.deleteDocuments(new Term(CANDIDATE_ID, candidateId));
+    }
+
+    // Makes the changes durable and visible to searches
+    public void commit() throws IOException {
+        writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    public int size() throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    public CandidateSearchResponse search(CandidateSearchQuery query) throws IOException {
+        long started = System.nanoTime();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            IndexReader reader = searcher.getIndexReader();
+            if (reader.maxDoc() == 0) {
+                return new CandidateSearchResponse(0, elapsedMs(started), List.of(), Map.of());
+            }
+            FacetsCollector facetsCollector = new FacetsCollector();
+            TopDocs topDocs = FacetsCollector.search(searcher, toLuceneQuery(query), query.getOffset() + query.getLimit(),
+                    facetsCollector);
+
+            List<CandidateSearchResponse.Hit> hits = new ArrayList<>();
+            StoredFields storedFields = searcher.storedFields();
+            for (int i = query.getOffset(); i < topDocs.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+            }
+            long total = 0;
+            for (FacetsCollector.MatchingDocs matchingDocs : facetsCollector.getMatchingDocs()) {
+                total += matchingDocs.totalHits;
+            }
+            return new CandidateSearchResponse(total, elapsedMs(started), hits, facets(reader, facetsCollector));
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    // Discards everything since the last commit and closes the index
+    public void rollback() throws IOException {
+        searcherManager.close();
+        writer.rollback();
+        directory.close();
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query toLuceneQuery(CandidateSearchQuery query) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean empty = true;
+        if (!isBlank(query.getText())) {
+            SimpleQueryParser parser = new SimpleQueryParser(analyzer, TEXT_FIELD_WEIGHTS);
+            parser.setDefaultOperator(BooleanClause.Occur.MUST);
+            Query text = parser.parse(query.getText());
+            if (text != null) {
+                builder.add(text, BooleanClause.Occur.MUST);
+                empty = false;
+            }
+        }
+        // Keyed like the documents, so "reactjs" finds a profile that lists "React"
+        for (String skill : query.getSkills()) {
+            for (String key : SkillNormalizer.skillKeys(skill)) {
+                builder.add(new TermQuery(new Term(SKILL, key)), BooleanClause.Occur.FILTER);
+                empty = false;
+            }
+        }
+        BooleanQuery.Builder anyLocation = new BooleanQuery.Builder();
+        boolean hasLocation = false;
+        for (String location : query.getLocations()) {
+            if (!isBlank(location)) {
+                anyLocation.add(new TermQuery(new Term(LOCATION, normalise(location))), BooleanClause.Occur.SHOULD);
+                hasLocation = true;
+            }
+        }
+        if (hasLocation) {
+            builder.add(anyLocation.build(), BooleanClause.Occur.FILTER);
+            empty = false;
+        }
+        if (!isBlank(query.getType())) {
+            builder.add(new TermQuery(new Term(TYPE, normalise(query.getType()))), BooleanClause.Occur.FILTER);
+            empty = false;
+        }
+        if (query.getMinExperience() != null || query.getMaxExperience() != null) {
+            float min = query.getMinExperience() == null ? Float.NEGATIVE_INFINITY : query.getMinExperience();
+            float max = query.getMaxExperience() == null ? Float.POSITIVE_INFINITY : query.getMaxExperience();
+            builder.add(FloatPoint.newRangeQuery(TOTAL_EXPERIENCE, min, max), BooleanClause.Occur.FILTER);
+            empty = false;
+        }
+        return empty ? new MatchAllDocsQuery() : builder.build();
+    }
+
+    private Map<String, Map<String, Long>> facets(IndexReader reader, FacetsCollector hits) throws IOException {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        Facets counts = new SortedSetDocValuesFacetCounts(facetState(reader), hits);
+        facets.put(TYPE, labels(topChildren(counts, TYPE)));
+        facets.put(SKILL, labels(topChildren(counts, SKILL)));
+        facets.put(LOCATION, labels(topChildren(counts, LOCATION)));
+        facets.put(CLIENT, labels(topChildren(counts, CLIENT)));
+        Facets experience = new DoubleRangeFacetCounts(TOTAL_EXPERIENCE,
+                DoubleValuesSource.fromFloatField(TOTAL_EXPERIENCE), hits, EXPERIENCE_RANGES);
+        facets.put("experience", labels(experience.getAllChildren(TOTAL_EXPERIENCE)));
+        return facets;
+    }
+
+    // The ordinal map is built once per published snapshot, not per query
+    private SortedSetDocValuesReaderState facetState(IndexReader reader) throws IOException {
+        SortedSetDocValuesReaderState state = facetState;
+        if (state == null || state.getReader() != reader) {
+            state = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+            facetState = state;
+        }
+        return state;
+    }
+
+    private static FacetResult topChildren(Facets counts, String dimension) throws IOException {
+        try {
+            return counts.getTopChildren(FACET_TOP_N, dimension);
+        } catch (IllegalArgumentException e) {
+            return null;  // no document has a value for this dimension yet
+        }
+    }
+
+    private static Map<String, Long> labels(FacetResult result) {
+        Map<String, Long> labels = new LinkedHashMap<>();
+        if (result != null) {
+            for (LabelAndValue labelAndValue : result.labelValues) {
+                labels.put(labelAndValue.label, labelAndValue.value.longValue());
+            }
+        }
+        return labels;
+    }
+
+    private static CandidateSearchResponse.Hit toHit(Document doc, float score) {
+        String date = doc.get(DATE);
+        return new CandidateSearchResponse.Hit(doc.get(TYPE), doc.get(ID), doc.get(CANDIDATE_ID), doc.get(FULL_NAME),
+                doc.get(EMAIL), doc.get(CONTACT_NUMBER), doc.get(RAW_SKILLS), doc.get(TECHNOLOGY),
+                doc.get(CURRENT_LOCATION), doc.get(PREFERRED_LOCATION), storedFloat(doc, TOTAL_EXPERIENCE),
+                storedFloat(doc, RELEVANT_EXPERIENCE), doc.get(JOB_ID), doc.get(CLIENT_NAME), doc.get(STATUS),
+                date == null ? null : LocalDate.parse(date), score);
+    }
+
+    private static void addCommon(Document doc, String key, String type, String id, String fullName, String email,
+                                  String contactNumber, Float totalExperience, Float relevantExperience, LocalDate date) {
+        doc.add(new StringField(KEY, key, Field.Store.NO));
+        doc.add(new StringField(TYPE, type, Field.Store.YES));
+        doc.add(new SortedSetDocValuesFacetField(TYPE, type));
+        doc.add(new StoredField(ID, id));
+        if (fullName != null) {
+            doc.add(new TextField(FULL_NAME, fullName, Field.Store.YES));
+        }
+        addKeyword(doc, EMAIL, email == null ? null : email.toLowerCase(Locale.ROOT));
+        addStored(doc, CONTACT_NUMBER, contactNumber);
+        addExperience(doc, TOTAL_EXPERIENCE, totalExperience);
+        addExperience(doc, RELEVANT_EXPERIENCE, relevantExperience);
+        addStored(doc, DATE, date == null ? null : date.toString());
+    }
+
+    private static void addSkills(Document doc, Set<String> skillKeys, String rawSkills, String technology) {
+        for (String skill : skillKeys) {
+            doc.add(new StringField(SKILL, skill, Field.Store.NO));
+            doc.add(new SortedSetDocValuesFacetField(SKILL, skill));
+        }
+        addText(doc, SKILLS, String.join(" ", nonNull(rawSkills, technology)));
+        addStored(doc, RAW_SKILLS, rawSkills);
+        addStored(doc, TECHNOLOGY, technology);
+    }
+
+    // Indexed for range filters, doc values for the experience facet, stored for the hit
+    private static void addExperience(Document doc, String field, Float value) {
+        if (value == null) {
+            return;
+        }
+        doc.add(new FloatPoint(field, value));
+        doc.add(new FloatDocValuesField(field, value));
+        doc.add(new StoredField(field, value));
+    }
+
+    private static void addKeyword(Document doc, String field, String value) {
+        if (!isBlank(value)) {
+            doc.add(new StringField(field, value, Field.Store.YES));
+        }
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (!isBlank(value)) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private static void addStored(Document doc, String field, String value) {
+        if (value != null) {
+            doc.add(new StoredField(field, value));
+        }
+    }
+
+    private static Float storedFloat(Document doc, String field) {
+        IndexableField value = doc.getField(field);
+        return value == null || value.numericValue() == null ? null : value.numericValue().floatValue();
+    }
+
+    // Locations are free text in the source tables ("Hyderabad / Pune"); skills go through SkillNormalizer
+    private static List<String> split(String value) {
+        if (isBlank(value)) {
+            return List.of();
+        }
+        List<String> parts = new ArrayList<>();
+        for (String part : value.split("[,;/|\\n]")) {
+            if (!part.isBlank()) {
+                parts.add(part.trim());
+            }
+        }
+        return parts;
+    }
+
+    static String normalise(String value) {
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> nonNull(String... values) {
+        List<String> result = new ArrayList<>();
+        for (String value : values) {
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    private static Float toFloat(Number value) {
+        return value == null ? null : value.floatValue();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static long elapsedMs(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+}
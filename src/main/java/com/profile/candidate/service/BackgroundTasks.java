@@ -0,0 +1,75 @@
+package com.profile.candidate.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Plumbing shared by the services that do their work on background threads: a single daemon scheduler
+// per service, daily runs at a configured local time, and hand-offs that wait for the caller's commit.
+final class BackgroundTasks {
+
+    private BackgroundTasks() {
+    }
+
+    // One daemon thread, so the tasks of a service never overlap and never keep the JVM alive
+    static ScheduledExecutorService singleThreadScheduler(String name) {
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Runs the task every day at the given local time ("HH:mm"), starting with the next occurrence
+    static ScheduledFuture<?> scheduleDaily(ScheduledExecutorService scheduler, String time, Runnable task) {
+        return scheduler.scheduleAtFixedRate(task, millisUntil(LocalTime.parse(time)), TimeUnit.DAYS.toMillis(1),
+                TimeUnit.MILLISECONDS);
+    }
+
+    // Inside a transaction the action runs only once it commits (and not at all on rollback); otherwise now
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Adds the non-null ids to a pending set once the caller's transaction commits; the ids are copied first
+    static void queueAfterCommit(Set<String> pending, Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        List<String> copy = new ArrayList<>(ids);
+        copy.removeIf(Objects::isNull);
+        if (!copy.isEmpty()) {
+            afterCommit(() -> pending.addAll(copy));
+        }
+    }
+
+    static long millisUntil(LocalTime time) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = now.toLocalDate().atTime(time);
+        if (!next.isAfter(now)) {
+            next = next.plusDays(1);
+        }
+        return Duration.between(now, next).toMillis();
+    }
+}
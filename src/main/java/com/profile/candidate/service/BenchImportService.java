@@ -0,0 +1,292 @@
+package com.profile.candidate.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profile.candidate.dto.BenchImportResultDto;
+import com.profile.candidate.dto.BenchImportResultDto.RowOutcome;
+import com.profile.candidate.dto.BenchJsonRequest;
+import com.profile.candidate.model.BenchDetails;
+import com.profile.candidate.repository.BenchRepository;
+import com.profile.candidate.storage.StoredResume;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Bulk bench import. Rows are read from a JSON array one at a time and processed in chunks:
+// one duplicate lookup per chunk, resumes decoded and stored in parallel, and the chunk
+// inserted in its own transaction with JDBC batching. Only one chunk is on the heap at a time.
+@Service
+@Timed(value = "candidate.service", histogram = true)
+public class BenchImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchImportService.class);
+
+    @Autowired
+    private BenchRepository benchRepository;
+
+    @Autowired
+    private ResumeStorageService resumeStorageService;
+
+    @Autowired
+    private CandidateSearchService candidateSearchService;
+
+    @Autowired
+    private ResumeTextExtractionService resumeTextExtractionService;
+
+    @Autowired
+    private BenchMatchService benchMatchService;
+
+    @Autowired
+    private IdAllocator idAllocator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${candidate.bench.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${candidate.bench.import.decode-threads:4}")
+    private int decodeThreads;
+
+    private ExecutorService decodePool;
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        decodePool = Executors.newFixedThreadPool(Math.max(1, decodeThreads), r -> {
+            Thread thread = new Thread(r, "bench-import-decode-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        decodePool.shutdownNow();
+    }
+
+    // Reads a JSON array of BenchJsonRequest objects without materialising the whole array. Elements that
+    // are not objects are reported as INVALID rows; a payload that is cut off or malformed part-way is
+    // rejected, with the number of rows already committed in the message.
+    public BenchImportResultDto importStream(InputStream in) throws IOException {
+        BenchImportResultDto result = new BenchImportResultDto();
+        ImportState state = new ImportState(false);
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of bench records");
+            }
+            List<BenchJsonRequest> chunk = new ArrayList<>(chunkSize);
+            int firstIndex = 0;
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new IllegalArgumentException("Bench record array is not closed" + progress(result));
+                    }
+                    if (token == JsonToken.START_OBJECT) {
+                        chunk.add(objectMapper.readValue(parser, BenchJsonRequest.class));
+                    } else {
+                        parser.skipChildren();  // a nested array; scalars have nothing to skip
+                        chunk.add(null);
+                    }
+                    if (chunk.size() == chunkSize) {
+                        processChunk(chunk, firstIndex, state, result);
+                        firstIndex += chunk.size();
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(e.getOriginalMessage() + progress(result), e);
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, firstIndex, state, result);
+            }
+        }
+        logger.info("Bench import finished: received {}, inserted {}, duplicates {}, invalid {}, failed {}",
+                result.getReceived(), result.getInserted(), result.getDuplicates(), result.getInvalid(), result.getFailed());
+        return result;
+    }
+
+    // The original /bench/import contract: rows are skipped only when their email is already on the bench
+    // (or earlier in the payload); a missing email or a repeated contact number does not reject a row
+    public BenchImportResultDto importRowsLegacy(List<BenchJsonRequest> requests) {
+        return importRows(requests, new ImportState(true));
+    }
+
+    public BenchImportResultDto importRows(List<BenchJsonRequest> requests) {
+        return importRows(requests, new ImportState(false));
+    }
+
+    private BenchImportResultDto importRows(List<BenchJsonRequest> requests, ImportState state) {
+        BenchImportResultDto result = new BenchImportResultDto();
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            List<BenchJsonRequest> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+            processChunk(chunk, from, state, result);
+        }
+        return result;
+    }
+
+    private void processChunk(List<BenchJsonRequest> chunk, int firstIndex, ImportState state, BenchImportResultDto result) {
+        Set<String> emails = new HashSet<>();
+        Set<String> contactNumbers = new HashSet<>();
+        for (BenchJsonRequest req : chunk) {
+            if (req == null) continue;
+            if (req.getEmail() != null) emails.add(req.getEmail());
+            if (req.getContactNumber() != null && !state.legacy) contactNumbers.add(req.getContactNumber());
+        }
+        Set<String> existingEmails = new HashSet<>();
+        Set<String> existingContactNumbers = new HashSet<>();
+        if (!emails.isEmpty() || !contactNumbers.isEmpty()) {
+            for (Object[] row : benchRepository.findExistingEmailsAndContactNumbers(emails, contactNumbers)) {
+                if (row[0] != null) existingEmails.add(normalize((String) row[0]));
+                if (row[1] != null) existingContactNumbers.add(normalize((String) row[1]));
+            }
+        }
+
+        RowOutcome[] outcomes = new RowOutcome[chunk.size()];
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            BenchJsonRequest req = chunk.get(i);
+            int index = firstIndex + i;
+            if (req == null) {
+                outcomes[i] = new RowOutcome(index, null, BenchImportResultDto.INVALID, null, "Expected a JSON object");
+                continue;
+            }
+            String email = req.getEmail() == null ? null : normalize(req.getEmail());
+            String contactNumber = req.getContactNumber() == null ? null : normalize(req.getContactNumber());
+            boolean hasEmail = email != null && !email.isEmpty();
+            if (!hasEmail && !state.legacy) {
+                outcomes[i] = new RowOutcome(index, req.getEmail(), BenchImportResultDto.INVALID, null, "Email is required");
+            } else if (hasEmail && (existingEmails.contains(email) || !state.emails.add(email))) {
+                outcomes[i] = new RowOutcome(index, req.getEmail(), BenchImportResultDto.DUPLICATE, null, "Email already exists");
+            } else if (!state.legacy && contactNumber != null && (existingContactNumbers.contains(contactNumber) || !state.contactNumbers.add(contactNumber))) {
+                outcomes[i] = new RowOutcome(index, req.getEmail(), BenchImportResultDto.DUPLICATE, null, "Contact number already exists");
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        // Decode and store resumes in parallel; the Base64 text is dropped as soon as it is decoded
+        Map<Integer, Future<StoredResume>> resumes = new HashMap<>();
+        for (int i : accepted) {
+            BenchJsonRequest req = chunk.get(i);
+            String encoded = req.getResume();
+            if (encoded != null && !encoded.isEmpty()) {
+                req.setResume(null);
+                resumes.put(i, decodePool.submit(() -> resumeStorageService.store(Base64.getMimeDecoder().decode(encoded))));
+            }
+        }
+
+        List<BenchDetails> entities = new ArrayList<>(accepted.size());
+        Map<BenchDetails, String> resumeWarnings = new IdentityHashMap<>();
+        for (int i : accepted) {
+            BenchJsonRequest req = chunk.get(i);
+            BenchDetails bench = toEntity(req);
+            bench.setId(idAllocator.nextBenchId());
+            Future<StoredResume> resume = resumes.get(i);
+            if (resume != null) {
+                try {
+                    bench.applyStoredResume(resume.get());
+                } catch (ExecutionException e) {
+                    logger.warn("Failed to store resume for {}: {}", req.getEmail(), e.getCause().getMessage());
+                    resumeWarnings.put(bench, "Inserted without resume: " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Bench import interrupted", e);
+                }
+            }
+            entities.add(bench);
+        }
+
+        String failure = null;
+        if (!entities.isEmpty()) {
+            try {
+                chunkTransaction.executeWithoutResult(status -> {
+                    // persist (not save/merge): ids are assigned, so merge would SELECT every row first
+                    for (BenchDetails bench : entities) {
+                        entityManager.persist(bench);
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                    candidateSearchService.benchChanged(entities.stream().map(BenchDetails::getId).toList());
+                    benchMatchService.benchChanged(entities.stream().map(BenchDetails::getId).toList());
+                    resumeTextExtractionService.extractAfterCommit(entities.stream().map(BenchDetails::getResumeHash).toList());
+                });
+            } catch (Exception e) {
+                logger.error("Bench import chunk starting at row {} failed: {}", firstIndex, e.getMessage(), e);
+                failure = e.getMessage();
+            }
+        }
+
+        int next = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            if (outcomes[i] == null) {
+                BenchDetails bench = entities.get(next++);
+                outcomes[i] = failure == null
+                        ? new RowOutcome(firstIndex + i, bench.getEmail(), BenchImportResultDto.INSERTED, bench.getId(), resumeWarnings.get(bench))
+                        : new RowOutcome(firstIndex + i, bench.getEmail(), BenchImportResultDto.FAILED, null, failure);
+            }
+            result.record(outcomes[i]);
+        }
+    }
+
+    private static BenchDetails toEntity(BenchJsonRequest req) {
+        BenchDetails bench = new BenchDetails();
+        bench.setFullName(req.getFullName());
+        bench.setEmail(req.getEmail());
+        bench.setRelevantExperience(req.getRelevantExperience());
+        bench.setTotalExperience(req.getTotalExperience());
+        bench.setContactNumber(req.getContactNumber());
+        bench.setSkills(req.getSkills());
+        bench.setLinkedin(req.getLinkedin());
+        bench.setReferredBy(req.getReferredBy());
+        bench.setTechnology(req.getTechnology());
+        bench.setRemarks(req.getRemarks());
+        return bench;
+    }
+
+    private static String progress(BenchImportResultDto result) {
+        return " (after " + result.getReceived() + " records were processed, " + result.getInserted() + " inserted)";
+    }
+
+    // MySQL compares these columns case-insensitively, so the in-memory checks do too
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Values already accepted earlier in the same import, so duplicates inside the payload are caught too
+    private static final class ImportState {
+        private final boolean legacy;
+        private final Set<String> emails = new HashSet<>();
+        private final Set<String> contactNumbers = new HashSet<>();
+
+        private ImportState(boolean legacy) {
+            this.legacy = legacy;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.dto.BenchDetailsDto;
+import com.profile.candidate.dto.BenchMatchResponse;
+import com.profile.candidate.matching.BenchMatch;
+import com.profile.candidate.matching.BenchProfile;
+import com.profile.candidate.matching.BenchSkillIndex;
+import com.profile.candidate.matching.JobProfile;
+import com.profile.candidate.repository.BenchRepository;
+import com.profile.candidate.repository.SubmissionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Ranks bench profiles against a job (see BenchSkillIndex for the scoring).
+//  - The bench is held in memory as BenchProfiles keyed by lower-cased id and loaded once at startup.
+//  - Bench writes report their ids; after commit they are queued, re-read in one query per flush interval,
+//    and a fresh BenchSkillIndex snapshot replaces the old one. The bench is reloaded nightly to pick up
+//    other nodes' writes.
+//  - The job side is read per request: one query over the job's submissions.
+@Service
+public class BenchMatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchMatchService.class);
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 200;
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    @Autowired
+    private BenchRepository benchRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${candidate.bench.matching.enabled:true}")
+    private boolean enabled;
+
+    @Value("${candidate.bench.matching.refresh-interval-ms:2000}")
+    private long refreshIntervalMs;
+
+    @Value("${candidate.bench.matching.reload-at:03:30}")
+    private String reloadAt;
+
+    private final Map<String, BenchProfile> profiles = new ConcurrentHashMap<>();
+    private final Set<String> pendingBench = ConcurrentHashMap.newKeySet();
+    private volatile BenchSkillIndex index;
+    private ScheduledExecutorService scheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        // One thread owns the profile map and builds every snapshot
+        scheduler = BackgroundTasks.singleThreadScheduler("bench-match");
+        scheduler.execute(() -> runSafely("load", this::reload));
+        scheduler.scheduleWithFixedDelay(() -> runSafely("refresh", this::refresh),
+                refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        BackgroundTasks.scheduleDaily(scheduler, reloadAt, () -> runSafely("nightly reload", this::reload));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && index != null;
+    }
+
+    // Bench profiles that were created, edited or deleted
+    public void benchChanged(Collection<String> benchIds) {
+        if (enabled) {
+            BackgroundTasks.queueAfterCommit(pendingBench, benchIds);
+        }
+    }
+
+    // Null when the job has no submissions to derive its skills from
+    public BenchMatchResponse match(String jobId, Integer limit) {
+        BenchSkillIndex snapshot = index;
+        if (!enabled || snapshot == null) {
+            throw new IllegalStateException("Bench matching index is not ready");
+        }
+        long started = System.nanoTime();
+        List<String> skills = new ArrayList<>();
+        List<Float> experience = new ArrayList<>();
+        for (Object[] row : submissionRepository.findSkillsAndExperienceByJobId(jobId)) {
+            skills.add((String) row[0]);
+            experience.add(row[1] == null ? null : ((Number) row[1]).floatValue());
+        }
+        if (skills.isEmpty()) {
+            return null;
+        }
+        JobProfile job = JobProfile.fromSubmissions(jobId, skills, experience);
+        int k = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        List<BenchMatch> matches = snapshot.topMatches(job, k);
+        return new BenchMatchResponse(jobId, job.getSubmissionCount(), job.getTargetExperience(), job.getSkillWeights(),
+                snapshot.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), matches);
+    }
+
+    private void reload() {
+        long started = System.currentTimeMillis();
+        Map<String, BenchProfile> loaded = new HashMap<>();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<BenchDetailsDto> bench = benchRepository.streamAllBench()) {
+                bench.forEach(dto -> loaded.put(BenchProfile.key(dto.getId()), BenchProfile.of(dto)));
+            }
+        });
+        // Writes queued while streaming are re-read by the next refresh, so nothing is lost here
+        profiles.clear();
+        profiles.putAll(loaded);
+        index = new BenchSkillIndex(profiles.values());
+        logger.info("Bench matching index loaded with {} profiles and {} skills in {} ms", index.size(),
+                index.skillCount(), System.currentTimeMillis() - started);
+    }
+
+    // Re-reads the queued ids and swaps in a new snapshot; on failure they go back into the queue
+    private void refresh() {
+        if (index == null || pendingBench.isEmpty()) {
+            return;
+        }
+        List<String> ids = new ArrayList<>(pendingBench);
+        pendingBench.removeAll(ids);
+        try {
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+                List<String> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size()));
+                Set<String> missing = new HashSet<>();
+                chunk.forEach(id -> missing.add(BenchProfile.key(id)));
+                for (BenchDetailsDto dto : benchRepository.findDtosByIds(chunk)) {
+                    profiles.put(BenchProfile.key(dto.getId()), BenchProfile.of(dto));
+                    missing.remove(BenchProfile.key(dto.getId()));
+                }
+                missing.forEach(profiles::remove);
+            }
+        } catch (RuntimeException e) {
+            pendingBench.addAll(ids);
+            throw e;
+        }
+        index = new BenchSkillIndex(profiles.values());
+        logger.debug("Bench matching index refreshed for {} bench profiles", ids.size());
+    }
+
+    private void runSafely(String task, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            logger.error("Bench matching {} failed: {}", task, e.getMessage(), e);
+        }
+    }
+}
@@ -1,38 +1,61 @@
 package com.profile.candidate.service;
 
 import com.profile.candidate.dto.BenchDetailsDto;
+import com.profile.candidate.dto.CursorPage;
+import com.profile.candidate.dto.ListingRange;
+import com.profile.candidate.dto.PageCursor;
 import com.profile.candidate.exceptions.CandidateNotFoundException;
 import com.profile.candidate.exceptions.DateRangeValidationException;
 import com.profile.candidate.model.BenchDetails;
 import com.profile.candidate.model.Submissions;
 import com.profile.candidate.repository.BenchRepository;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "candidate.service", histogram = true)
 public class BenchService {
     private final BenchRepository benchRepository;
-
+    private final ResumeStorageService resumeStorageService;
+    private final IdAllocator idAllocator;
+    private final DashboardRollupService dashboardRollupService;
+    private final CandidateSearchService candidateSearchService;
+    private final ResumeTextExtractionService resumeTextExtractionService;
+    private final BenchMatchService benchMatchService;
 
     private static final Logger logger = LoggerFactory.getLogger(BenchService.class);
 
     @Autowired
-    public BenchService(BenchRepository benchRepository) {
+    public BenchService(BenchRepository benchRepository, ResumeStorageService resumeStorageService, IdAllocator idAllocator,
+                        DashboardRollupService dashboardRollupService, CandidateSearchService candidateSearchService,
+                        ResumeTextExtractionService resumeTextExtractionService, BenchMatchService benchMatchService) {
         this.benchRepository = benchRepository;
+        this.resumeStorageService = resumeStorageService;
+        this.idAllocator = idAllocator;
+        this.dashboardRollupService = dashboardRollupService;
+        this.candidateSearchService = candidateSearchService;
+        this.resumeTextExtractionService = resumeTextExtractionService;
+        this.benchMatchService = benchMatchService;
     }
 
-    public List<BenchDetails> findAllBenchDetails() {
-        return benchRepository.findAll();
+    public List<BenchDetailsDto> findAllBenchDetails() {
+        return withSkillsAll(benchRepository.findAllDtos());
     }
 
     public Optional<BenchDetails> findBenchDetailsById(String id) {
@@ -50,18 +73,8 @@ public class BenchService {
     }
 
     public String generateCustomId() {
-        // Fetch all existing Bench IDs that follow the pattern "BENCH###"
-        List<Integer> existingNumbers = benchRepository.findAll().stream()
-                .map(BenchDetails::getId)
-                .filter(id -> id != null && id.matches("BENCH\\d{3}"))  // Filter only valid "BENCH###" IDs
-                .map(id -> Integer.parseInt(id.replace("BENCH", "")))  // Extract number
-                .toList();
-
-        // Find the highest existing number
-        int nextNumber = existingNumbers.stream().max(Integer::compare).orElse(0) + 1;
-
         // ✅ Generate new ID in "BENCH001" format
-        return String.format("BENCH%03d", nextNumber);
+        return idAllocator.nextBenchId();
     }
 
 
@@ -91,13 +104,17 @@ public class BenchService {
 
         // ✅ Store resume if provided
         if (resumeFile != null && !resumeFile.isEmpty()) {
-            benchDetails.setResume(resumeFile.getBytes());
+            benchDetails.applyStoredResume(resumeStorageService.store(resumeFile));
         }
 
         if (benchDetails.getTechnology() != null) {
             benchDetails.setTechnology(benchDetails.getTechnology());
         }
-        return benchRepository.save(benchDetails);
+        BenchDetails saved = benchRepository.save(benchDetails);
+        candidateSearchService.benchChanged(List.of(saved.getId()));
+        benchMatchService.benchChanged(List.of(saved.getId()));
+        resumeTextExtractionService.extractAfterCommit(Collections.singletonList(saved.getResumeHash()));
+        return saved;
     }
 
 
@@ -127,12 +144,19 @@ public class BenchService {
             }
             if (benchDetails.getSkills() != null) existingBench.setSkills(benchDetails.getSkills());
             if (benchDetails.getResume() != null && benchDetails.getResume().length > 0) {
-                existingBench.setResume(benchDetails.getResume());  // Store the byte array of resume
+                try {
+                    existingBench.applyStoredResume(resumeStorageService.store(benchDetails.getResume()));
+                    resumeTextExtractionService.extractAfterCommit(List.of(existingBench.getResumeHash()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to store resume for bench " + id, e);
+                }
             }
             if (benchDetails.getLinkedin() != null) existingBench.setLinkedin(benchDetails.getLinkedin());
             if (benchDetails.getReferredBy() != null) existingBench.setReferredBy(benchDetails.getReferredBy());
             if (benchDetails.getTechnology() != null) existingBench.setTechnology(benchDetails.getTechnology());
              if(benchDetails.getRemarks()!=null) existingBench.setRemarks(benchDetails.getRemarks());
+            candidateSearchService.benchChanged(List.of(id));
+            benchMatchService.benchChanged(List.of(id));
             return benchRepository.save(existingBench);
         }).orElseThrow(() -> new IllegalArgumentException("BenchDetails with ID " + id + " not found"));
     }
@@ -145,7 +169,11 @@ public class BenchService {
         }
 
         try {
+            List<LocalDate> createdDates = benchRepository.findCreatedDatesByIdIgnoreCase(id);
             benchRepository.deleteByIdIgnoreCase(id);
+            createdDates.forEach(day -> dashboardRollupService.recordAfterCommit(day, "", DashboardRollupService.BENCH, -1));
+            candidateSearchService.benchChanged(List.of(id));
+            benchMatchService.benchChanged(List.of(id));
             System.out.println("Successfully deleted BenchDetails with ID: " + id);
         } catch (Exception e) {
             throw new RuntimeException("Error while deleting BenchDetails with ID: " + id + " -> " + e.getMessage());
@@ -160,7 +188,7 @@ public class BenchService {
         return benchRepository.existsByEmail(email);
     }
 
-    public List<BenchDetails> findBenchDetailsByDateRange(LocalDate startDate, LocalDate endDate) {
+    public List<BenchDetailsDto> findBenchDetailsByDateRange(LocalDate startDate, LocalDate endDate) {
         try {
             // ✅ Optional: Cap the date range to 31 days
             long daysBetween = ChronoUnit.DAYS.between(startDate, endDate);
@@ -181,8 +209,7 @@ public class BenchService {
             }
 
             // ✅ Fetch bench details based on createdDate range
-            List<BenchDetails> benchDetails = benchRepository.findByCreatedDateBetween(startDate, endDate);
-            return benchDetails;
+            return withSkillsAll(benchRepository.findDtosByCreatedDateBetween(startDate, endDate));
         } catch (DateRangeValidationException e) {
             logger.error("Date Range Validation Error: {}", e.getMessage());
             throw e;  // Re-throw the exception for higher-level handling
@@ -191,6 +218,44 @@ public class BenchService {
             throw new RuntimeException("Something went wrong while processing your request. Please try again later.");
         }
     }
+    // Keyset pages ordered by id; a null range pages over the whole bench like /bench/getBenchList
+    public CursorPage<BenchDetailsDto> getBenchPage(ListingRange range, String cursor, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        String afterId = after != null ? after.getId() : "";
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<BenchDetailsDto> rows = range == null
+                ? benchRepository.findBenchPage(afterId, pageRequest)
+                : benchRepository.findBenchPageByCreatedDate(range.getStartDate(), range.getEndDate(), afterId, pageRequest);
+        return CursorPage.of(rows, pageSize,
+                bench -> new PageCursor(null, bench.getId()),
+                BenchService::withSkillsAll);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamBench(ListingRange range, Consumer<? super BenchDetailsDto> sink) {
+        // DTO rows are not managed, so nothing builds up in the persistence context while streaming
+        try (Stream<BenchDetailsDto> rows = range == null
+                ? benchRepository.streamAllBench()
+                : benchRepository.streamBenchByCreatedDate(range.getStartDate(), range.getEndDate())) {
+            rows.map(BenchService::withSkills).forEach(sink);
+        }
+    }
+
+    // The listings always send skills as an array, never null
+    private static BenchDetailsDto withSkills(BenchDetailsDto dto) {
+        if (dto.getSkills() == null) {
+            dto.setSkills(Collections.emptyList());
+        }
+        return dto;
+    }
+
+    private static List<BenchDetailsDto> withSkillsAll(List<BenchDetailsDto> dtos) {
+        dtos.forEach(BenchService::withSkills);
+        return dtos;
+    }
+
     public BenchDetailsDto getBenchById(String benchId) {
         Optional<BenchDetails> optionalBench = benchRepository.findById(benchId);
         if (optionalBench.isPresent()) {
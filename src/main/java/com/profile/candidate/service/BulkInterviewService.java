@@ -0,0 +1,308 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.dto.BulkInterviewRequest;
+import com.profile.candidate.dto.BulkInterviewResponseDto;
+import com.profile.candidate.dto.BulkInterviewResponseDto.SlotOutcome;
+import com.profile.candidate.exceptions.InterviewNotScheduledException;
+import com.profile.candidate.exceptions.InvalidClientException;
+import com.profile.candidate.metrics.PipelineMetrics;
+import com.profile.candidate.model.CandidateDetails;
+import com.profile.candidate.model.InterviewDetails;
+import com.profile.candidate.model.InterviewStatusHistoryCodec;
+import com.profile.candidate.model.Submissions;
+import com.profile.candidate.repository.CandidateRepository;
+import com.profile.candidate.repository.InterviewRepository;
+import com.profile.candidate.repository.SubmissionRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Schedules many interviews for one job and client in a single call. Candidates, submissions and
+// existing interviews are validated with one query each, all rows are inserted in one transaction
+// (JDBC-batched), and each client, coordinator and recruiter gets one digest email for the batch
+// instead of one email per candidate. Candidates still get their own invitation.
+@Service
+@Timed(value = "candidate.service", histogram = true)
+public class BulkInterviewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkInterviewService.class);
+
+    public static final int MAX_BATCH_SIZE = 200;
+    private static final ZoneOffset IST = ZoneOffset.of("+05:30");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("hh:mm a");
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private PipelineMetrics pipelineMetrics;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private CoordinatorSlotIndex coordinatorSlotIndex;
+
+    @Autowired
+    private InterviewEmailService emailService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private CandidateSearchService candidateSearchService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // All or nothing: if any slot is rejected nothing is inserted and the rejected slots are returned
+    @Transactional
+    @Timed(value = "candidate.interview.schedule.bulk", histogram = true)
+    public BulkInterviewResponseDto scheduleInterviews(String userId, BulkInterviewRequest request) {
+        List<BulkInterviewRequest.Slot> slots = request.getInterviews() == null ? List.of() : request.getInterviews();
+        if (slots.isEmpty()) {
+            throw new InterviewNotScheduledException("No interviews to schedule");
+        }
+        if (slots.size() > MAX_BATCH_SIZE) {
+            throw new InterviewNotScheduledException("At most " + MAX_BATCH_SIZE + " interviews can be scheduled per request");
+        }
+        String interviewLevel = request.getInterviewLevel();
+        if (interviewLevel == null || interviewLevel.isEmpty()) {
+            interviewLevel = hasText(request.getZoomLink()) && request.getClientEmail() != null && !request.getClientEmail().isEmpty()
+                    ? "Internal" : "External";
+        }
+        boolean internal = "INTERNAL".equalsIgnoreCase(interviewLevel);
+        String assignedTo = request.getAssignedTo();
+        if (assignedTo != null && !internal) {
+            throw new InterviewNotScheduledException("For INTERNAL Interviews Only we Can Assign to Co-Ordinators");
+        }
+        String clientId = interviewRepository.findClientIdByClientName(request.getClientName());
+        if (clientId == null) throw new InvalidClientException("No Client With Name :" + request.getClientName());
+
+        // Set-based lookups: one query per table for the whole batch
+        List<String> candidateIds = slots.stream().map(BulkInterviewRequest.Slot::getCandidateId)
+                .filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        Map<String, CandidateDetails> candidates = candidateRepository.findAllById(candidateIds).stream()
+                .collect(Collectors.toMap(CandidateDetails::getCandidateId, Function.identity()));
+        Map<String, Submissions> submissions = new HashMap<>();
+        for (Submissions submission : submissionRepository.findByCandidate_CandidateIdIn(candidateIds)) {
+            if (request.getJobId() != null && request.getJobId().equals(submission.getJobId())) {
+                submissions.put(submission.getCandidate().getCandidateId(), submission);
+            }
+        }
+        List<String> interviewIds = candidateIds.stream()
+                .map(candidateId -> candidateId + "_" + clientId + "_" + request.getJobId())
+                .collect(Collectors.toList());
+        Set<String> existingInterviews = interviewRepository.findAllById(interviewIds).stream()
+                .map(InterviewDetails::getInterviewId).collect(Collectors.toSet());
+
+        List<SlotOutcome> outcomes = new ArrayList<>(slots.size());
+        List<PlannedInterview> planned = new ArrayList<>(slots.size());
+        Set<String> seen = new HashSet<>();
+        boolean rejected = false;
+        for (int i = 0; i < slots.size(); i++) {
+            BulkInterviewRequest.Slot slot = slots.get(i);
+            String candidateId = slot.getCandidateId();
+            String interviewId = candidateId + "_" + clientId + "_" + request.getJobId();
+            Integer duration = slot.getDuration() != null ? slot.getDuration() : request.getDuration();
+            String error = null;
+            if (candidateId == null) {
+                error = "Candidate ID cannot be null";
+            } else if (!seen.add(candidateId)) {
+                error = "Candidate appears more than once in the request";
+            } else if (!candidates.containsKey(candidateId)) {
+                error = "Invalid Candidate Id " + candidateId;
+            } else if (!submissions.containsKey(candidateId)) {
+                error = "Candidate Not Applied for Job " + request.getJobId();
+            } else if (existingInterviews.contains(interviewId)) {
+                error = "An interview is already scheduled for candidate ID: " + candidateId;
+            } else if (slot.getInterviewDateTime() == null) {
+                error = "Interview date and time are required";
+            } else if (duration == null || duration <= 0) {
+                error = "Duration is required";
+            } else if (internal && assignedTo != null) {
+                error = coordinatorConflict(assignedTo, slot.getInterviewDateTime(), duration, planned);
+            }
+            if (error != null) {
+                rejected = true;
+                outcomes.add(new SlotOutcome(i, candidateId, BulkInterviewResponseDto.REJECTED, null, error));
+            } else {
+                planned.add(new PlannedInterview(slot, candidates.get(candidateId), submissions.get(candidateId),
+                        interviewId, duration, hasText(slot.getZoomLink()) ? slot.getZoomLink() : request.getZoomLink()));
+                outcomes.add(new SlotOutcome(i, candidateId, BulkInterviewResponseDto.SCHEDULED, interviewId, null));
+            }
+        }
+        if (rejected) {
+            logger.warn("Bulk scheduling for job {} rejected: {} of {} interviews invalid", request.getJobId(),
+                    outcomes.stream().filter(o -> BulkInterviewResponseDto.REJECTED.equals(o.getStatus())).count(), slots.size());
+            List<SlotOutcome> rejections = outcomes.stream()
+                    .filter(o -> BulkInterviewResponseDto.REJECTED.equals(o.getStatus()))
+                    .collect(Collectors.toList());
+            return new BulkInterviewResponseDto(false, "No interviews were scheduled; fix the rejected entries and retry.", 0, rejections);
+        }
+
+        String recruiterName = candidateRepository.findUserNameByEmail(request.getUserEmail());
+        String coordinatorName = internal && assignedTo != null ? interviewRepository.findUsernameByUserId(assignedTo) : null;
+        OffsetDateTime statusAt = OffsetDateTime.now();
+        String initialStatus = InterviewStatusHistoryCodec.append(null, "SCHEDULED", interviewLevel, statusAt);
+        LocalDateTime now = LocalDateTime.now();
+
+        // persist (not save/merge): ids are assigned, so merge would SELECT every row first
+        for (PlannedInterview plan : planned) {
+            InterviewDetails interview = new InterviewDetails();
+            interview.setInterviewId(plan.interviewId);
+            interview.setCandidateId(plan.candidate.getCandidateId());
+            interview.setUserId(userId);
+            interview.setUserEmail(request.getUserEmail());
+            interview.setInterviewDateTime(plan.slot.getInterviewDateTime());
+            interview.setDuration(plan.duration);
+            interview.setZoomLink(plan.zoomLink);
+            interview.setClientEmailList(request.getClientEmail());
+            interview.setClientName(request.getClientName());
+            interview.setClientId(clientId);
+            interview.setJobId(request.getJobId());
+            interview.setInterviewLevel(interviewLevel);
+            interview.setExternalInterviewDetails(request.getExternalInterviewDetails());
+            interview.setFullName(plan.candidate.getFullName());
+            interview.setContactNumber(plan.candidate.getContactNumber());
+            interview.setCandidateEmailId(plan.candidate.getCandidateEmailId());
+            interview.setTimestamp(now);
+            interview.setIsPlaced(false);
+            interview.setRecruiterName(recruiterName);
+            interview.setInterviewStatus(initialStatus);
+            interview.updateLatestStatus("SCHEDULED", interviewLevel, statusAt);
+            if (internal) {
+                interview.setComments(request.getComments());
+                interview.setAssignedTo(assignedTo);
+                interview.setCoordinatorName(coordinatorName);
+            }
+            entityManager.persist(interview);
+            plan.submission.setStatus("MOVED TO INTERVIEW");
+        }
+        entityManager.flush();
+        candidateSearchService.submissionsChanged(planned.stream().map(plan -> plan.submission.getSubmissionId()).toList());
+        pipelineMetrics.interviewsScheduled(interviewLevel, planned.size());
+        logger.info("Bulk scheduled {} interviews for job {} with client {}", planned.size(), request.getJobId(), request.getClientName());
+
+        if (!request.isSkipNotification()) {
+            sendNotifications(userId, request, internal, assignedTo, coordinatorName, planned);
+        }
+        return new BulkInterviewResponseDto(true,
+                request.isSkipNotification() ? "Interviews Scheduled successfully." : "Interviews Scheduled successfully and notifications sent.",
+                planned.size(), outcomes);
+    }
+
+    // Checks the coordinator's existing bookings and the slots already accepted in this batch
+    private String coordinatorConflict(String assignedTo, OffsetDateTime start, int duration, List<PlannedInterview> planned) {
+        if (!coordinatorSlotIndex.conflicts(assignedTo, start, duration, null).isEmpty()) {
+            return "Coordinator already has an interview at " + start;
+        }
+        OffsetDateTime end = start.plusMinutes(duration);
+        for (PlannedInterview other : planned) {
+            OffsetDateTime otherStart = other.slot.getInterviewDateTime();
+            if (otherStart.isBefore(end) && otherStart.plusMinutes(other.duration).isAfter(start)) {
+                return "Overlaps with the interview for candidate " + other.candidate.getCandidateId() + " in this request";
+            }
+        }
+        return null;
+    }
+
+    // Emails are written to the outbox in this transaction and sent once it commits
+    private void sendNotifications(String userId, BulkInterviewRequest request, boolean internal, String assignedTo,
+                                   String coordinatorName, List<PlannedInterview> planned) {
+        String jobTitle = interviewRepository.findJobTitleByJobId(request.getJobId());
+        String userName = interviewRepository.findUsernameByUserId(userId);
+        String subject = planned.size() + " Interviews Scheduled for " + jobTitle;
+        List<PlannedInterview> ordered = planned.stream()
+                .sorted(Comparator.comparing((PlannedInterview p) -> p.slot.getInterviewDateTime()))
+                .collect(Collectors.toList());
+        String schedule = scheduleTable(ordered);
+
+        for (PlannedInterview plan : planned) {
+            OffsetDateTime at = plan.slot.getInterviewDateTime().withOffsetSameInstant(IST);
+            emailService.sendEmailToCandidate(plan.candidate.getCandidateEmailId(),
+                    "Interview Scheduled for " + plan.candidate.getFullName(),
+                    interviewService.buildCandidateScheduleEmailBody(plan.candidate.getFullName(), at.format(DATE_FORMAT),
+                            at.format(TIME_FORMAT), plan.duration, plan.zoomLink, jobTitle, request.getClientName()));
+        }
+        emailService.sendEmailToUser(request.getUserEmail(), subject,
+                buildDigestBody(userName, "The following interviews for the position <b>" + jobTitle
+                        + "</b> have been scheduled with the client <b>" + request.getClientName() + "</b>.", schedule));
+        if (internal) {
+            if (assignedTo != null) {
+                emailService.sendEmailToCoordinator(interviewRepository.findUserEmailByUserId(assignedTo), subject,
+                        buildDigestBody(coordinatorName, "The following interviews for the position <b>" + jobTitle
+                                + "</b> have been assigned to you.", schedule));
+            }
+        } else {
+            emailService.sendEmailsToClients(request.getClientEmail(), subject,
+                    buildDigestBody(request.getClientName(), "This is to inform you that the following interviews have been scheduled for the position <b>"
+                            + jobTitle + "</b>.", schedule));
+        }
+    }
+
+    private static String scheduleTable(List<PlannedInterview> planned) {
+        StringBuilder table = new StringBuilder("<table border='1' cellpadding='6' cellspacing='0'>"
+                + "<tr><th>Candidate</th><th>Date</th><th>Time</th><th>Duration</th><th>Zoom Link</th></tr>");
+        for (PlannedInterview plan : planned) {
+            OffsetDateTime at = plan.slot.getInterviewDateTime().withOffsetSameInstant(IST);
+            table.append("<tr><td>").append(plan.candidate.getFullName())
+                    .append("</td><td>").append(at.format(DATE_FORMAT))
+                    .append("</td><td>").append(at.format(TIME_FORMAT))
+                    .append("</td><td>Approx. ").append(plan.duration).append(" min")
+                    .append("</td><td>").append(plan.zoomLink != null ? plan.zoomLink : "")
+                    .append("</td></tr>");
+        }
+        return table.append("</table>").toString();
+    }
+
+    private static String buildDigestBody(String recipientName, String intro, String schedule) {
+        return "<p>Hello " + recipientName + ",</p>"
+                + "<p>Hope you are doing well!</p>"
+                + "<p>" + intro + "</p>"
+                + schedule
+                + "<p>Please let us know if you need any further information.</p>"
+                + "<p>Best regards,</p>"
+                + "<p>The Coordination Team</p>";
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private static final class PlannedInterview {
+        private final BulkInterviewRequest.Slot slot;
+        private final CandidateDetails candidate;
+        private final Submissions submission;
+        private final String interviewId;
+        private final int duration;
+        private final String zoomLink;
+
+        private PlannedInterview(BulkInterviewRequest.Slot slot, CandidateDetails candidate, Submissions submission,
+                                 String interviewId, int duration, String zoomLink) {
+            this.slot = slot;
+            this.candidate = candidate;
+            this.submission = submission;
+            this.interviewId = interviewId;
+            this.duration = duration;
+            this.zoomLink = zoomLink;
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.dto.BenchDetailsDto;
+import com.profile.candidate.dto.CandidateSearchQuery;
+import com.profile.candidate.dto.CandidateSearchResponse;
+import com.profile.candidate.dto.SubmissionListRow;
+import com.profile.candidate.model.ResumeTextCodec;
+import com.profile.candidate.repository.BenchRepository;
+import com.profile.candidate.repository.ResumeTextRepository;
+import com.profile.candidate.repository.SubmissionRepository;
+import com.profile.candidate.search.CandidateSearchIndex;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Keeps CandidateSearchIndex in step with candidates, submissions and bench profiles.
+//  - The save/edit/delete paths report the ids they touched; once their transaction commits the ids are
+//    queued here and re-read from the database every second, so a burst of edits costs one small query.
+//  - The index is built from the database on first start (or when the index directory is empty) and
+//    rebuilt nightly, which also picks up writes made on other nodes or outside these services. A rebuild
+//    writes a new generation directory under index-dir and swaps it in once committed, so searches keep
+//    using the old index until then, and a failed rebuild leaves it in place.
+//  - Resume text extracted by ResumeTextExtractionService is looked up by resume hash in batches and
+//    indexed with its submission or bench profile; newly extracted texts re-index their owners.
+// Searches only read the local index.
+@Service
+public class CandidateSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateSearchService.class);
+
+    private static final int MAX_IDS_PER_QUERY = 1000;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final String GENERATION_PREFIX = "index-";
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private BenchRepository benchRepository;
+
+    @Autowired
+    private ResumeTextRepository resumeTextRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${candidate.search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${candidate.search.index-dir:search-index}")
+    private String indexDir;
+
+    @Value("${candidate.search.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${candidate.search.rebuild-at:03:00}")
+    private String rebuildAt;
+
+    private final Set<String> pendingSubmissions = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingCandidates = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingBench = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingResumeHashes = ConcurrentHashMap.newKeySet();
+    private volatile CandidateSearchIndex index;
+    private volatile boolean ready;
+    private ScheduledExecutorService scheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        // One thread owns the IndexWriter: updates and rebuilds never overlap
+        scheduler = BackgroundTasks.singleThreadScheduler("search-index");
+        scheduler.execute(() -> runSafely("open", this::open));
+        scheduler.scheduleWithFixedDelay(() -> runSafely("update", this::flush),
+                flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        BackgroundTasks.scheduleDaily(scheduler, rebuildAt, () -> runSafely("nightly rebuild", this::rebuildIndex));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (index != null) {
+            try {
+                index.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close search index: {}", e.getMessage());
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    // Submissions that were created, edited or deleted
+    public void submissionsChanged(Collection<String> submissionIds) {
+        queueAfterCommit(pendingSubmissions, submissionIds);
+    }
+
+    // Candidates whose own columns changed (every submission of theirs is re-indexed) or who were deleted
+    public void candidatesChanged(Collection<String> candidateIds) {
+        queueAfterCommit(pendingCandidates, candidateIds);
+    }
+
+    public void benchChanged(Collection<String> benchIds) {
+        queueAfterCommit(pendingBench, benchIds);
+    }
+
+    // Resumes whose text was just extracted: every submission and bench profile using them is re-indexed
+    public void resumeTextsChanged(Collection<String> resumeHashes) {
+        queueAfterCommit(pendingResumeHashes, resumeHashes);
+    }
+
+    public CandidateSearchResponse search(CandidateSearchQuery query) throws IOException {
+        if (!isReady()) {
+            throw new IllegalStateException("Search index is not ready");
+        }
+        CandidateSearchIndex current = index;
+        try {
+            return current.search(query);
+        } catch (AlreadyClosedException e) {
+            // A rebuild swapped the index in between; the replacement is already published
+            if (index == current) {
+                throw e;
+            }
+            return index.search(query);
+        }
+    }
+
+    // Rebuilds the whole index from the database on the index thread and returns the number of documents
+    public int rebuild() {
+        if (!enabled || scheduler == null) {
+            throw new IllegalStateException("Search index is disabled");
+        }
+        try {
+            return scheduler.submit(() -> {
+                if (index == null) {
+                    open();  // the startup build failed; try again from scratch
+                } else {
+                    rebuildIndex();
+                }
+                return index.size();
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding the search index", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search index rebuild failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void queueAfterCommit(Set<String> pending, Collection<String> ids) {
+        if (enabled) {
+            BackgroundTasks.queueAfterCommit(pending, ids);
+        }
+    }
+
+    private void open() throws IOException {
+        Path root = Paths.get(indexDir);
+        Files.createDirectories(root);
+        Path latest = null;
+        List<Path> stale = new ArrayList<>();
+        for (Path generation : generations(root)) {
+            if (latest == null && CandidateSearchIndex.exists(generation)) {
+                latest = generation;
+            } else {
+                stale.add(generation);  // older, or a rebuild that never committed
+            }
+        }
+        for (Path generation : stale) {
+            deleteRecursively(generation);
+        }
+        if (latest == null) {
+            rebuildIndex();
+        } else {
+            index = new CandidateSearchIndex(latest);
+            logger.info("Search index opened from {} with {} documents", latest.getFileName(), index.size());
+        }
+        ready = true;
+    }
+
+    // Re-reads the queued ids; on failure they go back into the queue for the next round
+    private void flush() throws IOException {
+        if (index == null) {
+            return;
+        }
+        List<String> submissionIds = drain(pendingSubmissions);
+        List<String> candidateIds = drain(pendingCandidates);
+        List<String> benchIds = drain(pendingBench);
+        List<String> resumeHashes = drain(pendingResumeHashes);
+        if (submissionIds.isEmpty() && candidateIds.isEmpty() && benchIds.isEmpty() && resumeHashes.isEmpty()) {
+            return;
+        }
+        try {
+            for (List<String> chunk : chunks(resumeHashes)) {
+                submissionIds.addAll(submissionRepository.findSubmissionIdsByResumeHashes(chunk));
+                benchIds.addAll(benchRepository.findIdsByResumeHashes(chunk));
+            }
+            for (List<String> chunk : chunks(candidateIds)) {
+                for (String candidateId : chunk) {
+                    index.deleteCandidateSubmissions(candidateId);
+                }
+                putSubmissions(index, submissionRepository.findListRowsByCandidateIds(chunk));
+            }
+            for (List<String> chunk : chunks(submissionIds)) {
+                Set<String> missing = new HashSet<>(chunk);
+                List<SubmissionListRow> rows = submissionRepository.findListRowsBySubmissionIds(chunk);
+                putSubmissions(index, rows);
+                rows.forEach(row -> missing.remove(row.getSubmissionId()));
+                for (String submissionId : missing) {
+                    index.delete(CandidateSearchIndex.submissionKey(submissionId));
+                }
+            }
+            for (List<String> chunk : chunks(benchIds)) {
+                Set<String> missing = new HashSet<>();
+                chunk.forEach(id -> missing.add(CandidateSearchIndex.benchKey(id)));
+                List<BenchDetailsDto> bench = benchRepository.findDtosByIds(chunk);
+                putBench(index, bench);
+                bench.forEach(dto -> missing.remove(CandidateSearchIndex.benchKey(dto.getId())));
+                for (String key : missing) {
+                    index.delete(key);
+                }
+            }
+            index.commit();
+        } catch (IOException | RuntimeException e) {
+            pendingSubmissions.addAll(submissionIds);
+            pendingCandidates.addAll(candidateIds);
+            pendingBench.addAll(benchIds);
+            pendingResumeHashes.addAll(resumeHashes);
+            throw e;
+        }
+        logger.debug("Search index updated: {} submissions, {} candidates, {} bench profiles",
+                submissionIds.size(), candidateIds.size(), benchIds.size());
+    }
+
+    private void putSubmissions(CandidateSearchIndex target, List<SubmissionListRow> rows) throws IOException {
+        Set<String> hashes = new HashSet<>();
+        rows.forEach(row -> hashes.add(row.getResumeHash()));
+        Map<String, String> texts = resumeTexts(hashes);
+        for (SubmissionListRow row : rows) {
+            target.putSubmission(row, row.getResumeHash() == null ? null : texts.get(row.getResumeHash()));
+        }
+    }
+
+    private void putBench(CandidateSearchIndex target, List<BenchDetailsDto> bench) throws IOException {
+        List<String> ids = new ArrayList<>();
+        bench.forEach(dto -> ids.add(dto.getId()));
+        Map<String, String> hashById = new HashMap<>();
+        for (List<String> chunk : chunks(ids)) {
+            for (Object[] row : benchRepository.findResumeHashesByIds(chunk)) {
+                hashById.put((String) row[0], (String) row[1]);
+            }
+        }
+        Map<String, String> texts = resumeTexts(hashById.values());
+        for (BenchDetailsDto dto : bench) {
+            String hash = hashById.get(dto.getId());
+            target.putBench(dto, hash == null ? null : texts.get(hash));
+        }
+    }
+
+    // Extracted resume text by resume hash
+    private Map<String, String> resumeTexts(Collection<String> resumeHashes) {
+        List<String> hashes = new ArrayList<>(new HashSet<>(resumeHashes));
+        hashes.removeIf(Objects::isNull);
+        Map<String, String> texts = new HashMap<>();
+        for (List<String> chunk : chunks(hashes)) {
+            for (Object[] row : resumeTextRepository.findExtractedTexts(chunk)) {
+                texts.put((String) row[0], ResumeTextCodec.decompress((byte[]) row[1]));
+            }
+        }
+        return texts;
+    }
+
+    // Builds a new generation beside the live index; searches keep using the old one until it is swapped in
+    private void rebuildIndex() throws IOException {
+        long started = System.currentTimeMillis();
+        logger.info("Rebuilding search index from the database");
+        Path path = Paths.get(indexDir, GENERATION_PREFIX + started);
+        CandidateSearchIndex fresh = new CandidateSearchIndex(path);
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                // Batched so the resume texts are fetched a few hundred at a time
+                try (Stream<SubmissionListRow> rows = submissionRepository.streamAllListRows()) {
+                    inBatches(rows, batch -> putUnchecked(() -> putSubmissions(fresh, batch)));
+                }
+                try (Stream<BenchDetailsDto> bench = benchRepository.streamAllBench()) {
+                    inBatches(bench, batch -> putUnchecked(() -> putBench(fresh, batch)));
+                }
+            });
+            fresh.commit();
+        } catch (IOException | RuntimeException e) {
+            // The live index was never touched; only the half-built generation is thrown away
+            fresh.rollback();
+            deleteRecursively(path);
+            throw e;
+        }
+        CandidateSearchIndex previous = index;
+        index = fresh;
+        ready = true;
+        if (previous != null) {
+            previous.close();
+            deleteRecursively(previous.getPath());
+        }
+        logger.info("Search index rebuilt with {} documents in {} ms", fresh.size(), System.currentTimeMillis() - started);
+    }
+
+    // Generation directories under the index root, newest first
+    private static List<Path> generations(Path root) throws IOException {
+        try (Stream<Path> children = Files.list(root)) {
+            return children.filter(Files::isDirectory)
+                    .filter(child -> child.getFileName().toString().matches(GENERATION_PREFIX + "\\d+"))
+                    .sorted(Comparator.comparingLong((Path child) ->
+                            Long.parseLong(child.getFileName().toString().substring(GENERATION_PREFIX.length()))).reversed())
+                    .toList();
+        }
+    }
+
+    private static void deleteRecursively(Path path) {
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to delete old search index {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static void putUnchecked(IndexUpdate update) {
+        try {
+            update.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> void inBatches(Stream<T> stream, Consumer<List<T>> action) {
+        List<T> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+        Iterator<T> iterator = stream.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == REBUILD_BATCH_SIZE || !iterator.hasNext()) {
+                action.accept(batch);
+                batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+            }
+        }
+    }
+
+    private static List<String> drain(Set<String> pending) {
+        List<String> ids = new ArrayList<>(pending);
+        pending.removeAll(ids);
+        return ids;
+    }
+
+    private static List<List<String>> chunks(List<String> ids) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            chunks.add(ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size())));
+        }
+        return chunks;
+    }
+
+    private void runSafely(String task, IndexUpdate action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            logger.error("Search index {} failed: {}", task, e.getMessage(), e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexUpdate {
+        void run() throws IOException;
+    }
+}
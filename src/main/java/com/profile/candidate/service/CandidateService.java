@@ -8,10 +8,12 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.profile.candidate.dto.*;
 import com.profile.candidate.exceptions.*;
+import com.profile.candidate.metrics.PipelineMetrics;
 import com.profile.candidate.model.CandidateDetails;
 import com.profile.candidate.model.Submissions;
 import com.profile.candidate.repository.CandidateRepository;
 import com.profile.candidate.repository.SubmissionRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.transaction.Transactional;
@@ -35,6 +37,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Service
+@Timed(value = "candidate.service", histogram = true)
 public class CandidateService {
 
 
@@ -43,16 +46,26 @@ public class CandidateService {
     @Autowired
     private InterviewEmailService emailService;
     @Autowired
+    private PipelineMetrics pipelineMetrics;
+    @Autowired
     private SubmissionRepository submissionRepository;
+    @Autowired
+    private ResumeStorageService resumeStorageService;
+    @Autowired
+    private IdAllocator idAllocator;
+    @Autowired
+    private CandidateSearchService candidateSearchService;
+    @Autowired
+    private ResumeTextExtractionService resumeTextExtractionService;
 
     private static final Logger logger = LoggerFactory.getLogger(CandidateService.class);
     private String generateCustomId() {
-        Integer maxNumber = candidateRepository.findMaxCandidateNumber();
-        int nextNumber = (maxNumber != null) ? maxNumber + 1 : 1;
-        return String.format("CAND%05d", nextNumber);
+        return idAllocator.nextCandidateId();
     }
 
     // Method to submit a candidate profile
+    @Transactional
+    @Timed(value = "candidate.submission.submit", histogram = true)
     public CandidateResponseDto submitCandidate(CandidateDetails candidateDetails, Submissions submissionDetails, MultipartFile resumeFile) throws IOException {
         // Step 1: Validate input fields
         validateCandidateDetails(candidateDetails);
@@ -79,15 +92,14 @@ public class CandidateService {
         // Step 3: Set default emails if not already provided
         setDefaultEmailsIfMissing(candidateDetails);
 
-        // Step 4: Handle resume file (store as blob + save file path)
+        // Step 4: Handle resume file (content-addressed resume store + save file path)
         if (resumeFile != null && !resumeFile.isEmpty()) {
             if (!isValidFileType(resumeFile)) {
                 throw new InvalidFileTypeException("Invalid file type. Only PDF, DOC, and DOCX files are allowed.");
             }
-            byte[] resumeData = resumeFile.getBytes();
             String resumeFilePath = saveResumeToFileSystem(resumeFile);
 
-            submissionDetails.setResume(resumeData);
+            submissionDetails.applyStoredResume(resumeStorageService.store(resumeFile));
             submissionDetails.setResumeFilePath(resumeFilePath);
         }
         // Step 5: Check if candidate already exists
@@ -115,9 +127,10 @@ public class CandidateService {
         submission.setCandidate(savedCandidate);
         submission.setJobId(submissionDetails.getJobId());
         submission.setSubmissionId(submissionId);
-        submission.setResume(submissionDetails.getResume());
+        submission.setResumeHash(submissionDetails.getResumeHash());
+        submission.setResumeSize(submissionDetails.getResumeSize());
+        submission.setResumeContentType(submissionDetails.getResumeContentType());
         submission.setResumeFilePath(submissionDetails.getResumeFilePath());
-        submission.setResume(submissionDetails.getResume());
         submission.setSkills(submissionDetails.getSkills());
         submission.setCommunicationSkills(submissionDetails.getCommunicationSkills());
         submission.setRequiredTechnologiesRating(submissionDetails.getRequiredTechnologiesRating());
@@ -133,6 +146,9 @@ public class CandidateService {
         submission.setStatus("PROCESSED FOR INTERVIEW");
         // Save the submission
         submissionRepository.save(submission);
+        pipelineMetrics.submissionCreated();
+        candidateSearchService.submissionsChanged(List.of(submissionId));
+        resumeTextExtractionService.extractAfterCommit(Collections.singletonList(submission.getResumeHash()));
 
         // Update the requirement status after saving the candidate
         submissionRepository.updateRequirementStatus(submission.getJobId());
@@ -249,6 +265,7 @@ public class CandidateService {
         String recruiterName = candidateRepository.findUserNameByEmail(recruiterEmail);
         logger.info("Recruiter Name : {} and Recruiter Email {}",recruiterName,recruiterEmail);
         candidateRepository.delete(candidate);
+        candidateSearchService.candidatesChanged(List.of(candidateId));
 
         DeleteCandidateResponseDto.CandidateData data = new DeleteCandidateResponseDto.CandidateData(
                 candidate.getCandidateId(), candidate.getFullName()
@@ -0,0 +1,264 @@
+package com.profile.candidate.service;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.profile.candidate.dto.BookedSlotProjection;
+import com.profile.candidate.repository.InterviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory index of the INTERNAL interview slots booked for each coordinator, ordered by start time.
+// A coordinator's slots are loaded on first use, kept current by InterviewSlotListener after every
+// committed write, and reloaded after refresh-seconds so writes made by other nodes are picked up.
+// Loads run outside the map's locks; a load is only installed if no write event arrived while it ran.
+// Overlap lookups only walk slots that start within the longest booked duration before the window,
+// so conflict and free-slot queries cost O(log n + k) instead of a scan of the whole history.
+@Service
+public class CoordinatorSlotIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoordinatorSlotIndex.class);
+
+    // Interviews saved without a duration block an hour (for overlaps only; the stored null is reported as is)
+    static final int DEFAULT_DURATION_MINUTES = 60;
+    public static final int MAX_SLOTS = 500;
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    private static final ZoneOffset IST = ZoneOffset.of("+05:30");
+    private static final Comparator<BookedSlot> BY_START =
+            Comparator.comparing((BookedSlot slot) -> slot.start).thenComparing(slot -> slot.interviewId);
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Value("${candidate.slot-index.refresh-seconds:300}")
+    private long refreshSeconds;
+
+    private final Map<String, CoordinatorSlots> coordinators = new ConcurrentHashMap<>();
+    // interviewId -> coordinator currently holding it, so a reassigned or deleted interview can be found
+    private final Map<String, String> owners = new ConcurrentHashMap<>();
+    // Bumped by every write event before it touches the map; a load that sees it move may have missed that write
+    private final AtomicLong writeVersion = new AtomicLong();
+
+    public List<BookedSlot> bookedSlots(String coordinatorId) {
+        CoordinatorSlots slots = slotsFor(coordinatorId);
+        slots.lock.readLock().lock();
+        try {
+            return new ArrayList<>(slots.byStart);
+        } finally {
+            slots.lock.readLock().unlock();
+        }
+    }
+
+    // Booked slots overlapping [start, start + duration); ignoreInterviewId lets an interview be moved without clashing with itself
+    public List<BookedSlot> conflicts(String coordinatorId, OffsetDateTime start, int durationMinutes, String ignoreInterviewId) {
+        Instant from = start.toInstant();
+        Instant to = from.plus(Duration.ofMinutes(durationMinutes));
+        CoordinatorSlots slots = slotsFor(coordinatorId);
+        List<BookedSlot> result = new ArrayList<>();
+        slots.lock.readLock().lock();
+        try {
+            for (BookedSlot slot : slots.overlapCandidates(from).headSet(probe(to), false)) {
+                if (slot.end.isAfter(from) && !slot.interviewId.equals(ignoreInterviewId)) {
+                    result.add(slot);
+                }
+            }
+        } finally {
+            slots.lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // Start times of back-to-back free slots of the given length inside [from, to)
+    public List<OffsetDateTime> freeSlots(String coordinatorId, OffsetDateTime from, OffsetDateTime to, int durationMinutes) {
+        return findFree(coordinatorId, from.toInstant(), to.toInstant(), durationMinutes, MAX_SLOTS);
+    }
+
+    public List<OffsetDateTime> nextFreeSlots(String coordinatorId, OffsetDateTime from, int durationMinutes, int count) {
+        return findFree(coordinatorId, from.toInstant(), null, durationMinutes, Math.min(count, MAX_SLOTS));
+    }
+
+    private List<OffsetDateTime> findFree(String coordinatorId, Instant from, Instant to, int durationMinutes, int limit) {
+        Duration length = Duration.ofMinutes(durationMinutes);
+        CoordinatorSlots slots = slotsFor(coordinatorId);
+        List<OffsetDateTime> free = new ArrayList<>();
+        Instant cursor = from;
+        slots.lock.readLock().lock();
+        try {
+            for (BookedSlot slot : slots.overlapCandidates(from)) {
+                if (free.size() >= limit || (to != null && !slot.start.isBefore(to))) {
+                    break;
+                }
+                if (!slot.end.isAfter(cursor)) {
+                    continue;
+                }
+                addFree(free, cursor, slot.start, length, limit);
+                cursor = slot.end;
+            }
+        } finally {
+            slots.lock.readLock().unlock();
+        }
+        addFree(free, cursor, to, length, limit);
+        return free;
+    }
+
+    // gapEnd == null means the gap is open-ended
+    private static void addFree(List<OffsetDateTime> free, Instant gapStart, Instant gapEnd, Duration length, int limit) {
+        Instant start = gapStart;
+        while (free.size() < limit && (gapEnd == null || !start.plus(length).isAfter(gapEnd))) {
+            free.add(start.atOffset(IST));
+            start = start.plus(length);
+        }
+    }
+
+    // Called after an interview is committed; drops the old slot and re-adds it if it is still a booked INTERNAL slot
+    public void onSaved(String interviewId, String assignedTo, String interviewLevel, OffsetDateTime interviewDateTime, Integer duration) {
+        onRemoved(interviewId);
+        if (assignedTo == null || interviewDateTime == null || !"INTERNAL".equalsIgnoreCase(interviewLevel)) {
+            return;
+        }
+        // Coordinators that are not loaded yet will read the row from the database on first use
+        coordinators.computeIfPresent(assignedTo, (id, slots) -> {
+            slots.add(new BookedSlot(interviewId, interviewDateTime.toInstant(), duration));
+            owners.put(interviewId, id);
+            return slots;
+        });
+    }
+
+    public void onRemoved(String interviewId) {
+        writeVersion.incrementAndGet();
+        String owner = owners.remove(interviewId);
+        if (owner != null) {
+            coordinators.computeIfPresent(owner, (id, slots) -> {
+                slots.remove(interviewId);
+                return slots;
+            });
+        }
+    }
+
+    public void evict(String coordinatorId) {
+        coordinators.remove(coordinatorId);
+    }
+
+    private CoordinatorSlots slotsFor(String coordinatorId) {
+        CoordinatorSlots current = coordinators.get(coordinatorId);
+        if (current != null && !current.isStale(refreshSeconds)) {
+            return current;
+        }
+        CoordinatorSlots loaded = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long version = writeVersion.get();
+            // The query runs without holding the map entry, so other coordinators and commit events never wait on it
+            CoordinatorSlots fresh = load(coordinatorId);
+            loaded = fresh;
+            // Events bump the version before their computeIfPresent on this key, so a write that is not reflected
+            // in the load either fails this check or is applied to the installed copy afterwards
+            CoordinatorSlots installed = coordinators.compute(coordinatorId, (id, existing) -> {
+                if (existing != null && !existing.isStale(refreshSeconds)) {
+                    return existing;
+                }
+                return writeVersion.get() == version ? fresh : existing;
+            });
+            if (installed != null && !installed.isStale(refreshSeconds)) {
+                return installed;
+            }
+        }
+        // Writes kept landing during the load: answer from the last load without caching it
+        return loaded;
+    }
+
+    private CoordinatorSlots load(String coordinatorId) {
+        List<BookedSlotProjection> rows = interviewRepository.findBookedSlotsByAssignedTo(coordinatorId);
+        CoordinatorSlots slots = new CoordinatorSlots();
+        for (BookedSlotProjection row : rows) {
+            slots.add(new BookedSlot(row.getInterviewId(), row.getInterviewDateTime().toInstant(), row.getDuration()));
+            owners.put(row.getInterviewId(), coordinatorId);
+        }
+        logger.debug("Loaded {} booked slots for coordinator {}", rows.size(), coordinatorId);
+        return slots;
+    }
+
+    private static BookedSlot probe(Instant start) {
+        return new BookedSlot("", start, 0);
+    }
+
+    private static final class CoordinatorSlots {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableSet<BookedSlot> byStart = new TreeSet<>(BY_START);
+        private final Map<String, BookedSlot> byInterviewId = new HashMap<>();
+        private final long loadedAt = System.currentTimeMillis();
+        private long longestSeconds;
+
+        private boolean isStale(long refreshSeconds) {
+            return System.currentTimeMillis() - loadedAt > refreshSeconds * 1000;
+        }
+
+        // Every slot that can overlap an instant at or after from, in start order
+        private NavigableSet<BookedSlot> overlapCandidates(Instant from) {
+            return byStart.tailSet(probe(from.minusSeconds(longestSeconds)), true);
+        }
+
+        private void add(BookedSlot slot) {
+            lock.writeLock().lock();
+            try {
+                BookedSlot previous = byInterviewId.put(slot.interviewId, slot);
+                if (previous != null) {
+                    byStart.remove(previous);
+                }
+                byStart.add(slot);
+                longestSeconds = Math.max(longestSeconds, Duration.between(slot.start, slot.end).getSeconds());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(String interviewId) {
+            lock.writeLock().lock();
+            try {
+                BookedSlot slot = byInterviewId.remove(interviewId);
+                if (slot != null) {
+                    byStart.remove(slot);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public static final class BookedSlot {
+        private final String interviewId;
+        private final Instant start;
+        private final Instant end;
+        private final Integer duration;
+
+        private BookedSlot(String interviewId, Instant start, Integer duration) {
+            this.interviewId = interviewId;
+            this.start = start;
+            this.duration = duration;
+            this.end = start.plus(Duration.ofMinutes(duration != null ? duration : DEFAULT_DURATION_MINUTES));
+        }
+
+        public String getInterviewId() {
+            return interviewId;
+        }
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+        public OffsetDateTime getInterviewDateTime() {
+            return start.atOffset(IST);
+        }
+
+        // As stored; null when the interview was saved without one
+        public Integer getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.BenchDetails;
+import com.profile.candidate.model.InterviewDetails;
+import com.profile.candidate.model.PlacementDetails;
+import com.profile.candidate.model.Submissions;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+// Turns committed JPA writes to submissions, interviews, placements and bench into dashboard rollup
+// deltas. Hibernate post-commit events are used rather than entity callbacks because an update has to
+// take back what the old row counted (a placement leaving "active", an interview changing level).
+@Component
+public class DashboardRollupListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private static final Set<Class<?>> TRACKED = Set.of(Submissions.class, InterviewDetails.class,
+            PlacementDetails.class, BenchDetails.class);
+    private static final Set<String> EXTERNAL_LEVELS = Set.of("EXTERNAL", "EXTERNAL-L1", "EXTERNAL-L2", "FINAL");
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return TRACKED.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        apply(event.getPersister(), event.getState(), 1);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getOldState() == null) {
+            return;  // detached merge without a snapshot; the nightly reconciliation covers it
+        }
+        apply(event.getPersister(), event.getOldState(), -1);
+        apply(event.getPersister(), event.getState(), 1);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        apply(event.getPersister(), event.getDeletedState(), -1);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // Mirrors the WHERE clauses of the source counts in DashboardDailyCountRepository
+    private void apply(EntityPersister persister, Object[] state, long sign) {
+        if (state == null) {
+            return;
+        }
+        List<String> properties = Arrays.asList(persister.getPropertyNames());
+        Class<?> type = persister.getMappedClass();
+
+        if (type == Submissions.class) {
+            LocalDateTime submittedAt = (LocalDateTime) state[properties.indexOf("submittedAt")];
+            String userId = (String) state[properties.indexOf("userId")];
+            record(day(submittedAt), userId, DashboardRollupService.CANDIDATES, sign);
+        } else if (type == InterviewDetails.class) {
+            LocalDate day = day((LocalDateTime) state[properties.indexOf("timestamp")]);
+            String userId = (String) state[properties.indexOf("userId")];
+            String level = (String) state[properties.indexOf("interviewLevel")];
+            record(day, userId, DashboardRollupService.INTERVIEWS, sign);
+            if (level != null && level.trim().equalsIgnoreCase("INTERNAL")) {
+                record(day, userId, DashboardRollupService.INTERNAL_INTERVIEWS, sign);
+            } else if (level != null && EXTERNAL_LEVELS.contains(level.trim().toUpperCase())) {
+                record(day, userId, DashboardRollupService.EXTERNAL_INTERVIEWS, sign);
+            }
+        } else if (type == PlacementDetails.class) {
+            LocalDate createdAt = (LocalDate) state[properties.indexOf("createdAt")];
+            String status = (String) state[properties.indexOf("status")];
+            String employmentType = (String) state[properties.indexOf("employmentType")];
+            if (status == null || !status.trim().equalsIgnoreCase("active") || employmentType == null) {
+                return;
+            }
+            record(createdAt, "", employmentType.equalsIgnoreCase("Full-time")
+                    ? DashboardRollupService.FULLTIME_PLACEMENTS : DashboardRollupService.CONTRACT_PLACEMENTS, sign);
+        } else if (type == BenchDetails.class) {
+            record((LocalDate) state[properties.indexOf("createdDate")], "", DashboardRollupService.BENCH, sign);
+        }
+    }
+
+    private void record(LocalDate day, String recruiterId, String metric, long delta) {
+        dashboardRollupService.record(day, recruiterId, metric, delta);
+    }
+
+    private static LocalDate day(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toLocalDate();
+    }
+}
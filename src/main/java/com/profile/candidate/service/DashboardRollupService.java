@@ -0,0 +1,365 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.config.CacheNames;
+import com.profile.candidate.config.TwoTierCacheManager;
+import com.profile.candidate.model.DashboardDailyCount;
+import com.profile.candidate.repository.DashboardDailyCountRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Daily dashboard counters (dashboard_daily_counts), so /dashboardcounts sums a few rollup rows instead
+// of running eleven COUNT(*) subqueries over the source tables.
+//  - Writes to submissions, interviews, placements and bench made through JPA are applied as deltas
+//    by DashboardRollupListener after commit, buffered here and flushed every few seconds.
+//  - Requirements, clients, users and recruiter assignments are written by other services, so today's
+//    values for them are recomputed every few minutes.
+//  - A nightly job recomputes the last few days of every metric, which also repairs drift from writes
+//    that bypass JPA events or were lost in a crash.
+// Until the first full backfill has finished, the dashboard keeps using the live queries.
+@Service
+public class DashboardRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardRollupService.class);
+
+    public static final String REQUIREMENTS = "requirements";
+    public static final String CANDIDATES = "candidates";
+    public static final String CLIENTS = "clients";
+    public static final String CONTRACT_PLACEMENTS = "contractPlacements";
+    public static final String FULLTIME_PLACEMENTS = "fulltimePlacements";
+    public static final String BENCH = "bench";
+    public static final String USERS = "users";
+    public static final String INTERVIEWS = "interviews";
+    public static final String INTERNAL_INTERVIEWS = "internalInterviews";
+    public static final String EXTERNAL_INTERVIEWS = "externalInterviews";
+    public static final String ASSIGNED = "assigned";
+
+    // Key order of the per-recruiter responses and of the whole-company responses
+    static final List<String> RECRUITER_VIEW = List.of(REQUIREMENTS, CANDIDATES, CLIENTS, CONTRACT_PLACEMENTS,
+            FULLTIME_PLACEMENTS, BENCH, USERS, INTERVIEWS, INTERNAL_INTERVIEWS, EXTERNAL_INTERVIEWS, ASSIGNED);
+    static final List<String> COMPANY_VIEW = List.of(USERS, CLIENTS, REQUIREMENTS, ASSIGNED, CANDIDATES, BENCH,
+            INTERVIEWS, EXTERNAL_INTERVIEWS, INTERNAL_INTERVIEWS, CONTRACT_PLACEMENTS, FULLTIME_PLACEMENTS);
+
+    // Not tied to a recruiter: stored with recruiter_id ''
+    static final List<String> GLOBAL_METRICS = List.of(REQUIREMENTS, CLIENTS, CONTRACT_PLACEMENTS, FULLTIME_PLACEMENTS, BENCH, USERS);
+    // Owned by other services; no write events reach this one
+    static final List<String> EXTERNAL_METRICS = List.of(REQUIREMENTS, CLIENTS, USERS, ASSIGNED);
+    static final List<String> PLACEMENT_METRICS = List.of(CONTRACT_PLACEMENTS, FULLTIME_PLACEMENTS);
+
+    // Written once the first full backfill has completed
+    private static final LocalDate BACKFILL_MARKER_DAY = LocalDate.of(1970, 1, 1);
+    private static final String BACKFILL_MARKER = "rollup.backfilled";
+    private static final int BACKFILL_CHUNK_DAYS = 31;
+
+    private static final String UPSERT_SQL = "INSERT INTO dashboard_daily_counts (stat_day, recruiter_id, metric, total) " +
+            "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE total = total + VALUES(total)";
+
+    @Autowired
+    private DashboardDailyCountRepository dashboardDailyCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TwoTierCacheManager cacheManager;
+
+    @Value("${candidate.dashboard.rollup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${candidate.dashboard.rollup.flush-interval-ms:2000}")
+    private long flushIntervalMs;
+
+    @Value("${candidate.dashboard.rollup.refresh-today-minutes:5}")
+    private long refreshTodayMinutes;
+
+    @Value("${candidate.dashboard.rollup.reconcile-at:02:30}")
+    private String reconcileAt;
+
+    @Value("${candidate.dashboard.rollup.reconcile-days:3}")
+    private int reconcileDays;
+
+    private final ConcurrentHashMap<DashboardDailyCount.Key, Long> pending = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private ScheduledExecutorService scheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        // One thread: flushes, refreshes and reconciliations never overlap
+        scheduler = BackgroundTasks.singleThreadScheduler("dashboard-rollup");
+        scheduler.execute(() -> runSafely("backfill", this::backfillIfNeeded));
+        scheduler.scheduleWithFixedDelay(() -> runSafely("flush", this::flush),
+                flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> runSafely("today refresh", this::refreshToday),
+                refreshTodayMinutes, refreshTodayMinutes, TimeUnit.MINUTES);
+        BackgroundTasks.scheduleDaily(scheduler, reconcileAt, () -> runSafely("nightly reconciliation", this::reconcileRecentDays));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            runSafely("final flush", this::flush);
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    // Buffers a change to one counter; called after the write has committed
+    public void record(LocalDate day, String recruiterId, String metric, long delta) {
+        if (day == null || delta == 0) {
+            return;
+        }
+        if (!enabled) {
+            // Counts are read live from the source tables, so only the cached responses are stale
+            invalidateCachedCounts();
+            return;
+        }
+        pending.merge(new DashboardDailyCount.Key(day, recruiterId == null ? "" : recruiterId, metric), delta, Long::sum);
+    }
+
+    // For writes that bypass JPA events (bulk deletes); applied only if the caller's transaction commits
+    public void recordAfterCommit(LocalDate day, String recruiterId, String metric, long delta) {
+        BackgroundTasks.afterCommit(() -> record(day, recruiterId, metric, delta));
+    }
+
+    public Map<String, Long> getRecruiterCounts(LocalDate startDate, LocalDate endDate, String recruiterId) {
+        List<Object[]> sums = recruiterId == null || recruiterId.isBlank()
+                ? dashboardDailyCountRepository.sumForAll(startDate, endDate)
+                : dashboardDailyCountRepository.sumForRecruiter(startDate, endDate, recruiterId, GLOBAL_METRICS);
+        return toCounts(sums, RECRUITER_VIEW);
+    }
+
+    public Map<String, Long> getCompanyCounts(LocalDate startDate, LocalDate endDate, boolean allTimePlacements) {
+        Map<String, Long> counts = toCounts(dashboardDailyCountRepository.sumForAll(startDate, endDate), COMPANY_VIEW);
+        if (allTimePlacements) {
+            PLACEMENT_METRICS.forEach(metric -> counts.put(metric, 0L));
+            for (Object[] row : dashboardDailyCountRepository.sumAllTime(PLACEMENT_METRICS)) {
+                counts.put((String) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> toCounts(List<Object[]> sums, List<String> order) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        order.forEach(metric -> counts.put(metric, 0L));
+        for (Object[] row : sums) {
+            if (counts.containsKey((String) row[0])) {
+                counts.put((String) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        return counts;
+    }
+
+    // Writes the buffered deltas; on failure they go back into the buffer for the next round
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<DashboardDailyCount.Key, Long> batch = new HashMap<>();
+        for (DashboardDailyCount.Key key : new ArrayList<>(pending.keySet())) {
+            Long delta = pending.remove(key);
+            if (delta != null && delta != 0) {
+                batch.put(key, delta);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> upsert(batch));
+        } catch (RuntimeException e) {
+            batch.forEach((key, delta) -> pending.merge(key, delta, Long::sum));
+            throw e;
+        }
+        invalidateCachedCounts();
+    }
+
+    public void refreshToday() {
+        LocalDate today = LocalDate.now();
+        reconcile(today, today, EXTERNAL_METRICS);
+    }
+
+    public void reconcileRecentDays() {
+        LocalDate today = LocalDate.now();
+        reconcile(today.minusDays(reconcileDays), today, RECRUITER_VIEW);
+    }
+
+    // Rebuilds every metric for the range on the rollup thread, so it does not interleave with a flush
+    public void reconcileRange(LocalDate startDate, LocalDate endDate) {
+        Runnable task = () -> rebuild(startDate, endDate);
+        if (scheduler == null) {
+            task.run();
+            return;
+        }
+        try {
+            scheduler.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding the dashboard rollup", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Dashboard rollup rebuild failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    // Replaces the given metrics for [startDate, endDate] with values recomputed from the source tables.
+    // A write that commits while this runs can be counted twice (once here, once as a delta); the next
+    // reconciliation corrects it.
+    public void reconcile(LocalDate startDate, LocalDate endDate, Collection<String> metrics) {
+        flush();
+        Map<DashboardDailyCount.Key, Long> rows = recompute(startDate, endDate, metrics);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            dashboardDailyCountRepository.deleteRange(startDate, endDate, metrics);
+            upsert(rows);
+        });
+        invalidateCachedCounts();
+        logger.debug("Reconciled {} for {} to {}: {} rows", metrics, startDate, endDate, rows.size());
+    }
+
+    // Dropped on every node; a burst of writes costs one clear per flush
+    private void invalidateCachedCounts() {
+        cacheManager.clear(CacheNames.DASHBOARD_COUNTS);
+    }
+
+    private void backfillIfNeeded() {
+        if (dashboardDailyCountRepository.existsByStatDayAndRecruiterIdAndMetric(BACKFILL_MARKER_DAY, "", BACKFILL_MARKER)) {
+            ready = true;
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate from = toLocalDate(dashboardDailyCountRepository.findEarliestActivityDay());
+        if (from == null || from.isAfter(today)) {
+            from = today;
+        }
+        logger.info("Building dashboard rollup from {} to {}", from, today);
+        rebuild(from, today);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                upsert(Map.of(new DashboardDailyCount.Key(BACKFILL_MARKER_DAY, "", BACKFILL_MARKER), 1L)));
+        ready = true;
+        logger.info("Dashboard rollup ready");
+    }
+
+    // Month-sized transactions keep the delete + insert of each chunk short
+    private void rebuild(LocalDate startDate, LocalDate endDate) {
+        for (LocalDate start = startDate; !start.isAfter(endDate); start = start.plusDays(BACKFILL_CHUNK_DAYS)) {
+            LocalDate end = start.plusDays(BACKFILL_CHUNK_DAYS - 1);
+            reconcile(start, end.isAfter(endDate) ? endDate : end, RECRUITER_VIEW);
+        }
+    }
+
+    private Map<DashboardDailyCount.Key, Long> recompute(LocalDate startDate, LocalDate endDate, Collection<String> metrics) {
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+        Map<DashboardDailyCount.Key, Long> rows = new HashMap<>();
+        if (metrics.contains(REQUIREMENTS)) {
+            collect(rows, dashboardDailyCountRepository.countRequirementsByDay(start, end), REQUIREMENTS);
+        }
+        if (metrics.contains(CANDIDATES)) {
+            collect(rows, dashboardDailyCountRepository.countSubmissionsByDay(start, end), CANDIDATES);
+        }
+        if (metrics.contains(CLIENTS)) {
+            collect(rows, dashboardDailyCountRepository.countClientsByDay(start, end), CLIENTS);
+        }
+        if (metrics.contains(USERS)) {
+            collect(rows, dashboardDailyCountRepository.countUsersByDay(start, end), USERS);
+        }
+        if (metrics.contains(BENCH)) {
+            collect(rows, dashboardDailyCountRepository.countBenchByDay(startDate, endDate.plusDays(1)), BENCH);
+        }
+        if (metrics.contains(ASSIGNED)) {
+            collect(rows, dashboardDailyCountRepository.countAssignmentsByDay(start, end), ASSIGNED);
+        }
+        if (metrics.contains(CONTRACT_PLACEMENTS) || metrics.contains(FULLTIME_PLACEMENTS)) {
+            for (Object[] row : dashboardDailyCountRepository.countActivePlacementsByDay(startDate, endDate.plusDays(1))) {
+                LocalDate day = toLocalDate(row[0]);
+                put(rows, day, "", CONTRACT_PLACEMENTS, row[1]);
+                put(rows, day, "", FULLTIME_PLACEMENTS, row[2]);
+            }
+        }
+        if (metrics.contains(INTERVIEWS) || metrics.contains(INTERNAL_INTERVIEWS) || metrics.contains(EXTERNAL_INTERVIEWS)) {
+            for (Object[] row : dashboardDailyCountRepository.countInterviewsByDay(start, end)) {
+                LocalDate day = toLocalDate(row[0]);
+                String recruiterId = (String) row[1];
+                put(rows, day, recruiterId, INTERVIEWS, row[2]);
+                put(rows, day, recruiterId, INTERNAL_INTERVIEWS, row[3]);
+                put(rows, day, recruiterId, EXTERNAL_INTERVIEWS, row[4]);
+            }
+        }
+        rows.keySet().removeIf(key -> !metrics.contains(key.getMetric()));
+        return rows;
+    }
+
+    private static void collect(Map<DashboardDailyCount.Key, Long> rows, List<Object[]> counts, String metric) {
+        for (Object[] row : counts) {
+            put(rows, toLocalDate(row[0]), (String) row[1], metric, row[2]);
+        }
+    }
+
+    private static void put(Map<DashboardDailyCount.Key, Long> rows, LocalDate day, String recruiterId, String metric, Object count) {
+        long total = count == null ? 0 : ((Number) count).longValue();
+        if (day != null && total != 0) {
+            rows.merge(new DashboardDailyCount.Key(day, recruiterId == null ? "" : recruiterId, metric), total, Long::sum);
+        }
+    }
+
+    private void upsert(Map<DashboardDailyCount.Key, Long> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(rows.size());
+        rows.forEach((key, total) -> args.add(new Object[]{Date.valueOf(key.getStatDay()), key.getRecruiterId(), key.getMetric(), total}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toLocalDate();
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.toLocalDate();
+        }
+        return LocalDate.parse(value.toString().substring(0, 10));
+    }
+
+    private void runSafely(String task, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            logger.error("Dashboard rollup {} failed: {}", task, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.EmailOutbox;
+import com.profile.candidate.repository.EmailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Drains email_outbox in batches. Rows are claimed by pushing next_attempt_at forward under the
+// optimistic lock, so a crashed relay's rows become visible again once the lease runs out
+// (at-least-once). Rows sharing a message key are delivered once per batch.
+@Service
+public class EmailOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxRelay.class);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Value("${spring.mail.username}")
+    private String senderEmail;
+
+    @Value("${candidate.mail.outbox.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${candidate.mail.outbox.relay.batch-size:50}")
+    private int batchSize;
+
+    @Value("${candidate.mail.outbox.relay.poll-interval-ms:2000}")
+    private long pollIntervalMs;
+
+    @Value("${candidate.mail.outbox.relay.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${candidate.mail.outbox.relay.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${candidate.mail.outbox.relay.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${candidate.mail.outbox.dedup-window-minutes:10}")
+    private long dedupWindowMinutes;
+
+    private final LongAdder relayed = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "email-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                // Keep draining while full batches come back, then wait for the next poll
+                int picked;
+                do {
+                    picked = relayBatch();
+                } while (picked == batchSize);
+            } catch (Exception e) {
+                logger.error("Email outbox relay failed: {}", e.getMessage(), e);
+            }
+        }, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // Returns the number of rows picked up
+    public int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> ready = emailOutboxRepository.findReadyBatch(now, PageRequest.of(0, batchSize));
+        if (ready.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<EmailOutbox>> byKey = new LinkedHashMap<>();
+        for (EmailOutbox row : ready) {
+            EmailOutbox claimed = claim(row, now);
+            if (claimed != null) {
+                byKey.computeIfAbsent(claimed.getMessageKey(), k -> new ArrayList<>()).add(claimed);
+            }
+        }
+
+        List<EmailOutbox> done = new ArrayList<>();
+        Map<MimeMessage, List<EmailOutbox>> outgoing = new LinkedHashMap<>();
+        LocalDateTime dedupSince = now.minusMinutes(dedupWindowMinutes);
+        for (List<EmailOutbox> group : byKey.values()) {
+            EmailOutbox first = group.get(0);
+            if (emailOutboxRepository.existsByMessageKeyAndStatusAndSentAtAfter(first.getMessageKey(), EmailOutbox.SENT, dedupSince)) {
+                duplicates.add(group.size());
+                markSent(group, now);
+                done.addAll(group);
+                continue;
+            }
+            duplicates.add(group.size() - 1);
+            try {
+                outgoing.put(buildMessage(first), group);
+            } catch (Exception e) {
+                // A message that cannot be built will not get better on retry
+                markFailed(group, e);
+                done.addAll(group);
+            }
+        }
+
+        if (!outgoing.isEmpty()) {
+            done.addAll(send(outgoing, now));
+        }
+        emailOutboxRepository.saveAll(done);
+        return ready.size();
+    }
+
+    private EmailOutbox claim(EmailOutbox row, LocalDateTime now) {
+        row.setNextAttemptAt(now.plusSeconds(leaseSeconds));
+        try {
+            return emailOutboxRepository.saveAndFlush(row);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            logger.debug("Outbox row {} already claimed by another relay", row.getId());
+            return null;
+        }
+    }
+
+    // JavaMailSender.send(MimeMessage...) delivers the whole batch over one SMTP connection
+    private List<EmailOutbox> send(Map<MimeMessage, List<EmailOutbox>> outgoing, LocalDateTime now) {
+        List<EmailOutbox> updated = new ArrayList<>();
+        Map<Object, Exception> failures = Collections.emptyMap();
+        Exception batchFailure = null;
+        try {
+            mailSender.send(outgoing.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            batchFailure = failures.isEmpty() ? e : null;
+        } catch (MailException e) {
+            batchFailure = e;
+        }
+
+        for (Map.Entry<MimeMessage, List<EmailOutbox>> entry : outgoing.entrySet()) {
+            Exception error = batchFailure != null ? batchFailure : failures.get(entry.getKey());
+            if (error == null) {
+                relayed.increment();
+                markSent(entry.getValue(), now);
+            } else {
+                scheduleRetry(entry.getValue(), error, now);
+            }
+            updated.addAll(entry.getValue());
+        }
+        return updated;
+    }
+
+    private MimeMessage buildMessage(EmailOutbox row) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+        helper.setTo(row.getRecipient());
+        helper.setSubject(row.getSubject());
+        helper.setText(row.getBody(), true);  // true = send as HTML
+        helper.setFrom(senderEmail);
+        return message;
+    }
+
+    private void markSent(List<EmailOutbox> group, LocalDateTime now) {
+        for (EmailOutbox row : group) {
+            row.setStatus(EmailOutbox.SENT);
+            row.setSentAt(now);
+            row.setLastError(null);
+            logger.info("Email sent successfully to {}", row.getRecipient());
+        }
+    }
+
+    private void scheduleRetry(List<EmailOutbox> group, Exception error, LocalDateTime now) {
+        for (EmailOutbox row : group) {
+            row.setAttempts(row.getAttempts() + 1);
+            if (row.getAttempts() >= maxAttempts) {
+                markFailed(List.of(row), error);
+                continue;
+            }
+            long backoffSeconds = Math.min(MAX_BACKOFF.getSeconds(), initialBackoffSeconds << Math.min(row.getAttempts() - 1, 20));
+            row.setNextAttemptAt(now.plusSeconds(backoffSeconds));
+            row.setLastError(truncate(error.getMessage()));
+            retried.increment();
+            logger.warn("Email to {} failed (attempt {}), retrying in {}s: {}", row.getRecipient(), row.getAttempts(), backoffSeconds, error.getMessage());
+        }
+    }
+
+    private void markFailed(List<EmailOutbox> group, Exception error) {
+        for (EmailOutbox row : group) {
+            row.setStatus(EmailOutbox.FAILED);
+            row.setLastError(truncate(error.getMessage()));
+            failed.increment();
+            logger.error("Giving up on email {} to {}: {}", row.getId(), row.getRecipient(), error.getMessage());
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    public long getRelayedCount() {
+        return relayed.sum();
+    }
+
+    public long getRetriedCount() {
+        return retried.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getBacklog() {
+        return emailOutboxRepository.countByStatus(EmailOutbox.PENDING);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        LocalDateTime oldestPending = emailOutboxRepository.findOldestPendingCreatedAt();
+        stats.put("backlog", emailOutboxRepository.countByStatus(EmailOutbox.PENDING));
+        stats.put("failedTotal", emailOutboxRepository.countByStatus(EmailOutbox.FAILED));
+        stats.put("oldestPendingAgeSeconds", oldestPending == null ? 0 : Duration.between(oldestPending, LocalDateTime.now()).getSeconds());
+        stats.put("relayed", relayed.sum());
+        stats.put("duplicatesSkipped", duplicates.sum());
+        stats.put("retried", retried.sum());
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,64 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.EmailOutbox;
+import com.profile.candidate.repository.EmailOutboxRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+// Writes notifications to email_outbox. Callers inside a transaction get the row committed
+// (or rolled back) together with their own changes; EmailOutboxRelay delivers it afterwards.
+@Service
+public class EmailOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxService.class);
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Value("${candidate.mail.outbox.dedup-window-minutes:10}")
+    private long dedupWindowMinutes;
+
+    @Transactional
+    public void enqueue(String recipient, String subject, String body) {
+        String messageKey = messageKey(recipient, subject, body);
+        LocalDateTime now = LocalDateTime.now();
+        if (emailOutboxRepository.existsByMessageKeyAndCreatedAtAfter(messageKey, now.minusMinutes(dedupWindowMinutes))) {
+            logger.info("Skipping duplicate notification to {} (key {})", recipient, messageKey);
+            return;
+        }
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.setMessageKey(messageKey);
+        outbox.setRecipient(recipient);
+        outbox.setSubject(subject);
+        outbox.setBody(body);
+        outbox.setStatus(EmailOutbox.PENDING);
+        outbox.setAttempts(0);
+        outbox.setNextAttemptAt(now);
+        outbox.setCreatedAt(now);
+        emailOutboxRepository.save(outbox);
+    }
+
+    static String messageKey(String recipient, String subject, String body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(recipient.trim().toLowerCase().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(subject).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(body).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
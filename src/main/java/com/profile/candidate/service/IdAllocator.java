@@ -0,0 +1,118 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.IdSequence;
+import com.profile.candidate.repository.BenchRepository;
+import com.profile.candidate.repository.CandidateRepository;
+import com.profile.candidate.repository.IdSequenceRepository;
+import com.profile.candidate.repository.PlacementRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Hi/lo id allocator. Each node reserves a block of numbers from id_sequences under a row lock
+// and hands them out from memory, so concurrent requests and nodes never produce the same id.
+// Numbers reserved by a node that shuts down are skipped, so ids may have gaps.
+@Service
+public class IdAllocator {
+
+    public static final String BENCH = "BENCH";
+    public static final String PLACEMENT = "PLMNT";
+    public static final String CANDIDATE = "CAND";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdAllocator.class);
+
+    @Autowired
+    private IdSequenceRepository idSequenceRepository;
+
+    @Autowired
+    private BenchRepository benchRepository;
+
+    @Autowired
+    private PlacementRepository placementRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${candidate.id-allocator.block-size:20}")
+    private int blockSize;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+    private TransactionTemplate requiresNew;
+
+    @PostConstruct
+    void init() {
+        // Reserve blocks in their own short transaction so the row lock is not held for the caller's whole transaction
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public String nextBenchId() {
+        return String.format("BENCH%03d", next(BENCH));
+    }
+
+    public String nextPlacementId() {
+        return String.format("PLMNT%04d", next(PLACEMENT));
+    }
+
+    public String nextCandidateId() {
+        return String.format("CAND%05d", next(CANDIDATE));
+    }
+
+    long next(String sequenceName) {
+        Block block = blocks.computeIfAbsent(sequenceName, k -> new Block());
+        synchronized (block) {
+            if (block.next >= block.limit) {
+                long start = reserveBlock(sequenceName);
+                block.next = start;
+                block.limit = start + blockSize;
+            }
+            return block.next++;
+        }
+    }
+
+    private long reserveBlock(String sequenceName) {
+        Long start = requiresNew.execute(status -> {
+            if (!idSequenceRepository.existsById(sequenceName)) {
+                long seed = seed(sequenceName);
+                if (idSequenceRepository.insertIfAbsent(sequenceName, seed) > 0) {
+                    logger.info("Created id sequence {} starting at {}", sequenceName, seed);
+                }
+            }
+            IdSequence sequence = idSequenceRepository.findForUpdate(sequenceName)
+                    .orElseThrow(() -> new IllegalStateException("Id sequence missing: " + sequenceName));
+            long first = sequence.getNextValue();
+            sequence.setNextValue(first + blockSize);
+            return first;
+        });
+        logger.debug("Reserved ids {}..{} for {}", start, start + blockSize - 1, sequenceName);
+        return start;
+    }
+
+    // First number after the highest id already in the table, so existing rows are never reissued
+    private long seed(String sequenceName) {
+        Number max = switch (sequenceName) {
+            case BENCH -> benchRepository.findMaxBenchNumber();
+            case PLACEMENT -> placementRepository.findMaxPlacementNumber();
+            case CANDIDATE -> candidateRepository.findMaxCandidateNumber();
+            default -> throw new IllegalArgumentException("Unknown id sequence: " + sequenceName);
+        };
+        return (max != null ? max.longValue() : 0L) + 1;
+    }
+
+    private static final class Block {
+        private long next;
+        private long limit;
+    }
+}
@@ -12,7 +12,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.MailException;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
 import java.util.List;
@@ -24,6 +23,12 @@ public class InterviewEmailService {
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
     // Getting the sender email from the properties file
     @Value("${spring.mail.username}")
     private String senderEmail;
@@ -64,15 +69,12 @@ public class InterviewEmailService {
                 helper.setText(body, true);  // true = send as HTML
                 helper.setFrom(senderEmail);
 
-                mailSender.send(message);
+                mailDispatcher.dispatch(message, to);
 
-                logger.info("Email sent successfully to {}", to);
+                logger.info("Email queued for {}", to);
             } catch (EmailConfigurationException | IllegalArgumentException e) {
                 logger.error("Email configuration or format error for {}: {}", to, e.getMessage());
                 throw e;
-            } catch (MailException e) {
-                logger.error("Failed to send email to {}. Error: {}", to, e.getMessage(), e);
-                throw new EmailSendingException("An error occurred while sending the email to: " + to, e);
             } catch (Exception e) {
                 logger.error("Unexpected error occurred while sending email to {}. Error: {}", to, e.getMessage(), e);
                 throw new RuntimeException("Unexpected error occurred while sending email to: " + to, e);
@@ -80,9 +82,8 @@ public class InterviewEmailService {
         }
     }
 
+    // Interview and submission notifications go through email_outbox and are delivered by EmailOutboxRelay
     public void sendInterviewNotification(String to, String subject, String body) {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper;
         try {
             // Validate sender email
             if (senderEmail == null || senderEmail.isEmpty()) {
@@ -94,19 +95,10 @@ public class InterviewEmailService {
                 logger.error("Invalid recipient email: {}", to);
                 throw new IllegalArgumentException("Invalid recipient email format.");
             }
-            // Create and configure MimeMessageHelper
-            helper = new MimeMessageHelper(message, true);
-            // Set the recipient, subject, body, and sender
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(body, true);  // true = send as HTML
-            helper.setFrom(senderEmail); // Use the email from properties
+            // Written in the caller's transaction; the relay sends it after commit
+            emailOutboxService.enqueue(to.trim(), subject, body);
 
-            // Send the email
-            mailSender.send(message);
-
-            // Log success
-            logger.info("Email sent successfully to {}", to);
+            logger.info("Email queued for {}", to);
 
         } catch (EmailConfigurationException e) {
             // Log error if sender email is not configured correctly
@@ -116,10 +108,6 @@ public class InterviewEmailService {
             // Log error if recipient email format is invalid
             logger.error("Invalid email address: {}", e.getMessage());
             throw e;
-        } catch (MailException e) {
-            // Log mail-related exceptions
-            logger.error("Failed to send email to {}. Error: {}", to, e.getMessage(), e);
-            throw new EmailSendingException("An error occurred while sending the email.", e);
         } catch (Exception e) {
             // Log any unexpected exceptions
             logger.error("Unexpected error occurred while sending email to {}. Error: {}", to, e.getMessage(), e);
@@ -194,9 +182,6 @@ public class InterviewEmailService {
 
     // The original method for sending an email
     public void sendCandidateNotification(String to, String subject, String body) {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper;
-
         try {
             // Validate sender email
             if (senderEmail == null || senderEmail.isEmpty()) {
@@ -210,16 +195,8 @@ public class InterviewEmailService {
                 throw new IllegalArgumentException("Invalid recipient email format.");
             }
 
-            // Create and configure MimeMessageHelper
-            helper = new MimeMessageHelper(message, true);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(body, true);  // true = send as HTML
-            helper.setFrom(senderEmail); // Use the email from properties
-
-            // Send the email
-            mailSender.send(message);
-            logger.info("Candidate email sent successfully to {}", to);
+            emailOutboxService.enqueue(to.trim(), subject, body);
+            logger.info("Candidate email queued for {}", to);
 
         } catch (InterviewEmailService.EmailConfigurationException e) {
             logger.error("Invalid sender email configuration: {}", e.getMessage());
@@ -227,9 +204,6 @@ public class InterviewEmailService {
         } catch (IllegalArgumentException e) {
             logger.error("Invalid email address: {}", e.getMessage());
             throw e;
-        } catch (MailException e) {
-            logger.error("Failed to send email to {}. Error: {}", to, e.getMessage(), e);
-            throw new InterviewEmailService.EmailSendingException("An error occurred while sending the email.", e);
         } catch (Exception e) {
             logger.error("Unexpected error occurred while sending email to {}. Error: {}", to, e.getMessage(), e);
             throw new RuntimeException("Unexpected error occurred while sending email.", e);
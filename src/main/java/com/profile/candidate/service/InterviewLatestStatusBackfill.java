@@ -0,0 +1,112 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.InterviewDetails;
+import com.profile.candidate.model.InterviewStatusHistory;
+import com.profile.candidate.model.InterviewStatusHistoryCodec;
+import com.profile.candidate.repository.InterviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// One-off job that fills latest_status / latest_level / latest_status_at for interviews
+// saved before those columns existed. Only rows with a NULL latest_status are touched,
+// so it is safe to leave enabled; it finds nothing once every row has been migrated.
+@Service
+public class InterviewLatestStatusBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterviewLatestStatusBackfill.class);
+
+    @Autowired
+    InterviewRepository interviewRepository;
+
+    @Value("${candidate.interview.latest-status-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${candidate.interview.latest-status-backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "interview-status-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.submit(() -> {
+            try {
+                backfill();
+            } catch (Exception e) {
+                logger.error("Interview latest status backfill failed: {}", e.getMessage(), e);
+            }
+        });
+        executor.shutdown();
+    }
+
+    public int backfill() {
+        int updated = 0;
+        int scanned = 0;
+        String afterId = "";
+        while (true) {
+            List<InterviewDetails> batch = interviewRepository.findLatestStatusBackfillBatch(afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (InterviewDetails interview : batch) {
+                // The rows are detached read copies; never save them back whole (interview_status may have moved on)
+                if (applyLatestStatus(interview)) {
+                    updated += interviewRepository.backfillLatestStatus(interview.getInterviewId(),
+                            interview.getLatestStatus(), interview.getLatestLevel(), interview.getLatestStatusAt());
+                }
+            }
+            scanned += batch.size();
+            afterId = batch.get(batch.size() - 1).getInterviewId();
+        }
+        if (scanned > 0) {
+            logger.info("Interview latest status backfill: scanned {}, updated {}", scanned, updated);
+        }
+        return updated;
+    }
+
+    // Mirrors the old JSON_EXTRACT filters: the last element of the history is the current status
+    static boolean applyLatestStatus(InterviewDetails interview) {
+        String json = interview.getInterviewStatus();
+        if (json == null || json.isBlank()) {
+            return false;
+        }
+        try {
+            InterviewStatusHistory.Entry last = InterviewStatusHistoryCodec.lastEntry(json);
+            if (last == null || last.getStatus() == null) {
+                return false;
+            }
+            String status = last.getStatus();
+            String level = last.getInterviewLevel();
+            OffsetDateTime statusAt = null;
+            if (last.getTimestamp() != null) {
+                try {
+                    statusAt = OffsetDateTime.parse(last.getTimestamp());
+                } catch (DateTimeParseException e) {
+                    logger.warn("Unparseable status timestamp for interview {}: {}", interview.getInterviewId(), e.getMessage());
+                }
+            }
+            interview.updateLatestStatus(status, level, statusAt);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Skipping interview {} with unreadable status history: {}", interview.getInterviewId(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.dto.RequirementMetadataProjection;
+import com.profile.candidate.model.CandidateDetails;
+
+import java.util.Map;
+
+// Identity map for one interview listing: the candidates, submission skills and job titles of all its rows,
+// loaded up front by InterviewService.loadRowLookups with one query per table instead of three per interview
+final class InterviewRowLookups {
+
+    private final Map<String, CandidateDetails> candidates;
+    private final Map<String, String> skillsBySubmission;
+    private final Map<String, RequirementMetadataProjection> metadata;
+
+    InterviewRowLookups(Map<String, CandidateDetails> candidates, Map<String, String> skillsBySubmission,
+                        Map<String, RequirementMetadataProjection> metadata) {
+        this.candidates = candidates;
+        this.skillsBySubmission = skillsBySubmission;
+        this.metadata = metadata;
+    }
+
+    static String submissionKey(String candidateId, String jobId) {
+        return candidateId + '\n' + jobId;
+    }
+
+    float totalExperience(String candidateId) {
+        CandidateDetails candidate = candidates.get(candidateId);
+        return candidate != null ? candidate.getTotalExperience() : 0.0f;
+    }
+
+    float relevantExperience(String candidateId) {
+        CandidateDetails candidate = candidates.get(candidateId);
+        return candidate != null ? candidate.getRelevantExperience() : 0.0f;
+    }
+
+    // "" when the candidate has no submission for the job, as the per-row lookup used to return
+    String skills(String candidateId, String jobId) {
+        String key = submissionKey(candidateId, jobId);
+        return skillsBySubmission.containsKey(key) ? skillsBySubmission.get(key) : "";
+    }
+
+    String technology(String jobId) {
+        return RequirementMetadataResolver.jobTitle(metadata, jobId);
+    }
+}
@@ -2,49 +2,67 @@ package com.profile.candidate.service;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.profile.candidate.dto.*;
 import com.profile.candidate.exceptions.*;
+import com.profile.candidate.metrics.PipelineMetrics;
 import com.profile.candidate.model.CandidateDetails;
 import com.profile.candidate.model.InterviewDetails;
+import com.profile.candidate.model.InterviewStatusHistory;
+import com.profile.candidate.model.InterviewStatusHistoryCodec;
 import com.profile.candidate.model.Submissions;
 import com.profile.candidate.repository.CandidateRepository;
 import com.profile.candidate.repository.InterviewRepository;
 import com.profile.candidate.repository.SubmissionRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.InternetAddress;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Tuple;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Service
+@Timed(value = "candidate.service", histogram = true)
 public class InterviewService {
 
     @Autowired
     InterviewEmailService emailService;
     @Autowired
+    private PipelineMetrics pipelineMetrics;
+    @Autowired
     CandidateRepository candidateRepository;
     @Autowired
     private  InterviewRepository interviewRepository;
     @Autowired
     SubmissionRepository submissionRepository;
+    @Autowired
+    CoordinatorSlotIndex coordinatorSlotIndex;
+    @Autowired
+    RequirementMetadataResolver requirementMetadataResolver;
+    @Autowired
+    CandidateSearchService candidateSearchService;
+    @PersistenceContext
+    EntityManager entityManager;
+
+    private static final int STREAM_BATCH_SIZE = 500;
+    private static final int MAX_IDS_PER_QUERY = 1000;
 
     private static final Logger logger = LoggerFactory.getLogger(InterviewService.class);
 
+    @Transactional
+    @Timed(value = "candidate.interview.schedule", histogram = true)
     public InterviewResponseDto scheduleInterview(String userId, String candidateId, OffsetDateTime interviewDateTime, Integer duration,
                                                   String zoomLink, String userEmail, List<String> clientEmails,
                                                   String clientName, String interviewLevel, String externalInterviewDetails, String jobId, String fullName,
@@ -112,18 +130,13 @@ public class InterviewService {
 
         Submissions submissions=submissionRepository.findByCandidate_CandidateIdAndJobId(candidateId,jobId);
         submissions.setStatus("MOVED TO INTERVIEW");
+        candidateSearchService.submissionsChanged(List.of(submissions.getSubmissionId()));
            if(interviewLevel.equalsIgnoreCase("INTERNAL")){
                 interviewDetails.setComments(comments);
            }
-        ObjectMapper objectMapper = new ObjectMapper();
-        ArrayNode statusArray = objectMapper.createArrayNode();
-        ObjectNode statusEntry = objectMapper.createObjectNode();
-        statusEntry.put("stage", 1);
-        statusEntry.put("status", "SCHEDULED");
-        statusEntry.put("interviewLevel", interviewLevel);
-        statusEntry.put("timestamp", OffsetDateTime.now().toString());
-        statusArray.add(statusEntry);
-        interviewDetails.setInterviewStatus(objectMapper.writeValueAsString(statusArray));
+        OffsetDateTime statusAt = OffsetDateTime.now();
+        interviewDetails.setInterviewStatus(InterviewStatusHistoryCodec.append(null, "SCHEDULED", interviewLevel, statusAt));
+        interviewDetails.updateLatestStatus("SCHEDULED", interviewLevel, statusAt);
 
         if(assignedTo!=null && interviewLevel.equals("INTERNAL")){
             interviewDetails.setAssignedTo(assignedTo);
@@ -138,6 +151,7 @@ public class InterviewService {
         // Save candidate details to the database
         try {
             interviewRepository.save(interviewDetails);
+            pipelineMetrics.interviewsScheduled(interviewLevel, 1);
             logger.info("Interview Scheduled Successfully");
         } catch (Exception e) {
             throw new RuntimeException("Error while saving candidate data.", e);
@@ -283,6 +297,7 @@ public class InterviewService {
 
               Submissions submissions=submissionRepository.findByCandidate_CandidateIdAndJobId(candidateId,jobId);
               submissions.setStatus("SCREEN REJECT");
+              candidateSearchService.submissionsChanged(List.of(submissions.getSubmissionId()));
           }
           if(interviewLevel.equalsIgnoreCase("EXTERNAL") ||
                   interviewLevel.equalsIgnoreCase("EXTERNAL-L1") ||
@@ -290,47 +305,15 @@ public class InterviewService {
                   interviewLevel.equalsIgnoreCase("FINAL") && interviewStatus.equalsIgnoreCase("REJECTED")){
               Submissions submissions=submissionRepository.findByCandidate_CandidateIdAndJobId(candidateId,jobId);
               submissions.setStatus("CLIENT REJECT");
+              candidateSearchService.submissionsChanged(List.of(submissions.getSubmissionId()));
           }
         // Handle the interview status update if provided
         if (interviewStatus != null && !interviewStatus.isEmpty()) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            ArrayNode historyArray;
-            try {
-                String existingStatus = interviewDetails.getInterviewStatus();
-                if (existingStatus != null && !existingStatus.isEmpty()) {
-                    try {
-                        JsonNode jsonNode = objectMapper.readTree(existingStatus);
-                        if (jsonNode.isArray()) {
-                            historyArray = (ArrayNode) jsonNode;
-                        } else {
-                            logger.error("Existing interviewStatus is not a valid JSON array: {}", existingStatus);
-                            historyArray = objectMapper.createArrayNode(); // Reset to new array
-                        }
-                    } catch (JsonProcessingException e) {
-                        logger.error("Error parsing existing interviewStatus JSON for candidate {}: {}",
-                                interviewDetails.getCandidateId(), e.getMessage());
-                        historyArray = objectMapper.createArrayNode(); // Reset on failure
-                    }
-                } else {
-                    historyArray = objectMapper.createArrayNode(); // Start fresh if no status exists
-                }
-                // If the status is provided, don't add "Scheduled" unless this is the first entry
-                int nextStage = historyArray.size() + 1; // Changed 'round' to 'stage'
-                ObjectNode newEntry = objectMapper.createObjectNode();
-                // Add the current status (from UI)
-                newEntry.put("stage", nextStage);
-                newEntry.put("status", interviewStatus);// The status passed from the UI
-                newEntry.put("interviewLevel", interviewLevel);
-                newEntry.put("timestamp", OffsetDateTime.now().toString());
-
-                historyArray.add(newEntry);
-                // Debugging Log
-                logger.info("Updated Interview Status JSON for Candidate {}: {}",
-                        interviewDetails.getCandidateId(), objectMapper.writeValueAsString(historyArray));
-                interviewDetails.setInterviewStatus(objectMapper.writeValueAsString(historyArray));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("Error processing interview status JSON", e);
-            }
+            OffsetDateTime statusAt = OffsetDateTime.now();
+            interviewDetails.setInterviewStatus(InterviewStatusHistoryCodec.append(interviewDetails.getInterviewStatus(), interviewStatus, interviewLevel, statusAt));
+            logger.info("Updated Interview Status JSON for Candidate {}: {}",
+                    interviewDetails.getCandidateId(), interviewDetails.getInterviewStatus());
+            interviewDetails.updateLatestStatus(interviewStatus, interviewLevel, statusAt);
         }
         // Determine interview type if interviewLevel is null
         if (interviewDetails.getInterviewLevel() == null) {
@@ -492,6 +475,7 @@ public class InterviewService {
 
             Submissions submissions=submissionRepository.findByCandidate_CandidateIdAndJobId(candidateId,jobId);
             submissions.setStatus("SCREEN REJECT");
+            candidateSearchService.submissionsChanged(List.of(submissions.getSubmissionId()));
         }
         if(interviewLevel.equalsIgnoreCase("EXTERNAL") ||
                 interviewLevel.equalsIgnoreCase("EXTERNAL-L1") ||
@@ -499,48 +483,15 @@ public class InterviewService {
                 interviewLevel.equalsIgnoreCase("FINAL") && interviewStatus.equalsIgnoreCase("REJECTED")){
             Submissions submissions=submissionRepository.findByCandidate_CandidateIdAndJobId(candidateId,jobId);
             submissions.setStatus("CLIENT REJECT");
+            candidateSearchService.submissionsChanged(List.of(submissions.getSubmissionId()));
         }
         // Handle the interview status update if provided
         if (interviewStatus != null && !interviewStatus.isEmpty()) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            ArrayNode historyArray;
-            try {
-                String existingStatus = interviewDetails.getInterviewStatus();
-                if (existingStatus != null && !existingStatus.isEmpty()) {
-                    try {
-                        JsonNode jsonNode = objectMapper.readTree(existingStatus);
-                        if (jsonNode.isArray()) {
-                            historyArray = (ArrayNode) jsonNode;
-                        } else {
-                            logger.error("Existing interviewStatus is not a valid JSON array: {}", existingStatus);
-                            historyArray = objectMapper.createArrayNode(); // Reset to new array
-                        }
-                    } catch (JsonProcessingException e) {
-                        logger.error("Error parsing existing interviewStatus JSON for candidate {}: {}",
-                                interviewDetails.getCandidateId(), e.getMessage());
-                        historyArray = objectMapper.createArrayNode(); // Reset on failure
-                    }
-                } else {
-                    historyArray = objectMapper.createArrayNode(); // Start fresh if no status exists
-                }
-                // If the status is provided, don't add "Scheduled" unless this is the first entry
-                int nextStage = historyArray.size() + 1; // Changed 'round' to 'stage'
-                ObjectNode newEntry = objectMapper.createObjectNode();
-
-                // Add the current status (from UI)
-                newEntry.put("stage", nextStage);
-                newEntry.put("status", interviewStatus);
-                newEntry.put("interviewLevel", interviewLevel);
-                newEntry.put("timestamp", OffsetDateTime.now().toString());
-
-                historyArray.add(newEntry);
-                // Debugging Log
-                logger.info("Updated Interview Status JSON for Candidate {}: {}",
-                        interviewDetails.getCandidateId(), objectMapper.writeValueAsString(historyArray));
-                interviewDetails.setInterviewStatus(objectMapper.writeValueAsString(historyArray));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("Error processing interview status JSON", e);
-            }
+            OffsetDateTime statusAt = OffsetDateTime.now();
+            interviewDetails.setInterviewStatus(InterviewStatusHistoryCodec.append(interviewDetails.getInterviewStatus(), interviewStatus, interviewLevel, statusAt));
+            logger.info("Updated Interview Status JSON for Candidate {}: {}",
+                    interviewDetails.getCandidateId(), interviewDetails.getInterviewStatus());
+            interviewDetails.updateLatestStatus(interviewStatus, interviewLevel, statusAt);
         }
         // Determine interview type if interviewLevel is null
         if (interviewDetails.getInterviewLevel() == null) {
@@ -634,50 +585,65 @@ public class InterviewService {
         List<InterviewDetails> interviewDetails = interviewRepository
                 .findScheduledInterviewsByDateOnly(startOfMonth, endOfMonth);
 
-        List<GetInterviewResponse.InterviewData> dataList = interviewDetails.stream()
-                .map(i -> {
-                    // Fetch candidate details
-                    CandidateDetails candidate = candidateRepository.findById(i.getCandidateId()).orElse(null);
-                    float totalExperience = candidate != null ? candidate.getTotalExperience() : 0.0f;
-                    float relevantExperience = candidate != null ? candidate.getRelevantExperience() : 0.0f;
-
-                    // Fetch submission (job-specific)
-                    Submissions submission = submissionRepository
-                            .findByCandidateCandidateIdAndJobId(i.getCandidateId(), i.getJobId())
-                            .orElse(null);
-                    String skills = submission != null ? submission.getSkills() : "";
+        return new GetInterviewResponse(true, "Interviews found", toInterviewDataList(interviewDetails), null);
+    }
 
-                    // Fetch technology (assuming from job table via interviewRepository)
-                    String technology = interviewRepository.findJobTitleByJobId(i.getJobId());
+    // Candidates, submission skills and job titles for a whole result set, one query per table
+    private InterviewRowLookups loadRowLookups(Collection<InterviewDetails> interviews) {
+        List<String> candidateIds = interviews.stream()
+                .map(InterviewDetails::getCandidateId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, CandidateDetails> candidates = new HashMap<>();
+        Map<String, String> skills = new HashMap<>();
+        for (int from = 0; from < candidateIds.size(); from += MAX_IDS_PER_QUERY) {
+            List<String> chunk = candidateIds.subList(from, Math.min(from + MAX_IDS_PER_QUERY, candidateIds.size()));
+            for (CandidateDetails candidate : candidateRepository.findAllById(chunk)) {
+                candidates.put(candidate.getCandidateId(), candidate);
+            }
+            for (SubmissionSkillsProjection row : submissionRepository.findSkillsByCandidateIds(chunk)) {
+                skills.putIfAbsent(InterviewRowLookups.submissionKey(row.getCandidateId(), row.getJobId()), row.getSkills());
+            }
+        }
+        Map<String, RequirementMetadataProjection> metadata = requirementMetadataResolver.resolve(
+                interviews.stream().map(InterviewDetails::getJobId).collect(Collectors.toList()));
+        return new InterviewRowLookups(candidates, skills, metadata);
+    }
 
-                    return new GetInterviewResponse.InterviewData(
-                            i.getInterviewId(),
-                            i.getJobId(),
-                            i.getCandidateId(),
-                            i.getFullName(),
-                            i.getContactNumber(),
-                            i.getCandidateEmailId(),
-                            i.getUserEmail(),
-                            i.getUserId(),
-                            i.getInterviewDateTime(),
-                            i.getDuration(),
-                            i.getZoomLink(),
-                            i.getTimestamp(),
-                            i.getClientEmailList(),
-                            i.getClientName(),
-                            i.getInterviewLevel(),
-                            latestInterviewStatusFromJson(i.getInterviewStatus()),
-                            i.getIsPlaced(),
-                            i.getRecruiterName(),
-                            totalExperience,
-                            relevantExperience,
-                            skills,
-                            technology
-                    );
-                })
+    private List<GetInterviewResponse.InterviewData> toInterviewDataList(List<InterviewDetails> interviews) {
+        InterviewRowLookups lookups = loadRowLookups(interviews);
+        return interviews.stream()
+                .map(i -> toInterviewData(i, lookups))
                 .collect(Collectors.toList());
+    }
 
-        return new GetInterviewResponse(true, "Interviews found", dataList, null);
+    // Row mapping shared by the month / date-range listings and their paged and streamed variants
+    private GetInterviewResponse.InterviewData toInterviewData(InterviewDetails i, InterviewRowLookups lookups) {
+        return new GetInterviewResponse.InterviewData(
+                i.getInterviewId(),
+                i.getJobId(),
+                i.getCandidateId(),
+                i.getFullName(),
+                i.getContactNumber(),
+                i.getCandidateEmailId(),
+                i.getUserEmail(),
+                i.getUserId(),
+                i.getInterviewDateTime(),
+                i.getDuration(),
+                i.getZoomLink(),
+                i.getTimestamp(),
+                i.getClientEmailList(),
+                i.getClientName(),
+                i.getInterviewLevel(),
+                latestInterviewStatus(i),
+                i.getIsPlaced(),
+                i.getRecruiterName(),
+                lookups.totalExperience(i.getCandidateId()),
+                lookups.relevantExperience(i.getCandidateId()),
+                lookups.skills(i.getCandidateId(), i.getJobId()),
+                lookups.technology(i.getJobId())
+        );
     }
 
     public GetInterviewResponse getInterviews(String candidateId) {
@@ -696,14 +662,10 @@ public class InterviewService {
             throw new NoInterviewsFoundException("No Interviews Scheduled For CandidateId " + candidateId);
         }
 
+        // Skills and job titles for all of the candidate's interviews in one query each
+        InterviewRowLookups lookups = loadRowLookups(interviewDetails);
         List<GetInterviewResponse.InterviewData> dataList = interviewDetails.stream()
                 .map(i -> {
-                    // Fetch skills from Submissions
-                    Submissions submission = submissionRepository
-                            .findByCandidateCandidateIdAndJobId(candidateId, i.getJobId())
-                            .orElse(null);
-                    String skills = submission != null ? submission.getSkills() : "";
-
                     return new GetInterviewResponse.InterviewData(
                             i.getInterviewId(),
                             i.getJobId(),
@@ -720,13 +682,13 @@ public class InterviewService {
                             i.getClientEmailList(),
                             i.getClientName(),
                             i.getInterviewLevel(),
-                            latestInterviewStatusFromJson(i.getInterviewStatus()),
+                            latestInterviewStatus(i),
                             i.getIsPlaced(),
                             i.getRecruiterName(),
                             candidate.getTotalExperience(),
                             candidate.getRelevantExperience(),
-                            skills,
-                            interviewRepository.findJobTitleByJobId(i.getJobId()) // assuming this is 'technology'
+                            lookups.skills(candidateId, i.getJobId()),
+                            lookups.technology(i.getJobId())
                     );
                 })
                 .collect(Collectors.toList());
@@ -792,7 +754,7 @@ public class InterviewService {
                 i.getClientEmailList(),
                 i.getClientName(),
                 i.getInterviewLevel(),
-                latestInterviewStatusFromJson(i.getInterviewStatus()),
+                latestInterviewStatus(i),
                 i.getIsPlaced(),
                 i.getRecruiterName(),
                 candidate.getTotalExperience(),
@@ -804,6 +766,8 @@ public class InterviewService {
         return new GetInterviewResponse(true, "Interview found", List.of(payload), null);
     }
 
+    @Transactional
+    @Timed(value = "candidate.interview.schedule", histogram = true)
     public InterviewResponseDto scheduleInterviewWithOutUserId(String candidateId, OffsetDateTime interviewDateTime, Integer duration,
                                                                String zoomLink, List<String> clientEmail,
                                                                String clientName, String interviewLevel, String externalInterviewDetails, String jobId, String fullName,
@@ -872,16 +836,11 @@ public class InterviewService {
 
         Submissions submissions=submissionRepository.findByCandidate_CandidateIdAndJobId(candidateId,jobId);
         submissions.setStatus("MOVED TO INTERVIEW");
+        candidateSearchService.submissionsChanged(List.of(submissions.getSubmissionId()));
         // Set interview details
-        ObjectMapper objectMapper = new ObjectMapper();
-        ArrayNode statusArray = objectMapper.createArrayNode();
-        ObjectNode statusEntry = objectMapper.createObjectNode();
-        statusEntry.put("stage", 1);
-        statusEntry.put("status", "SCHEDULED");
-        statusEntry.put("interviewLevel", interviewLevel);
-        statusEntry.put("timestamp", OffsetDateTime.now().toString());
-        statusArray.add(statusEntry);
-        interviewDetails.setInterviewStatus(objectMapper.writeValueAsString(statusArray));
+        OffsetDateTime statusAt = OffsetDateTime.now();
+        interviewDetails.setInterviewStatus(InterviewStatusHistoryCodec.append(null, "SCHEDULED", interviewLevel, statusAt));
+        interviewDetails.updateLatestStatus("SCHEDULED", interviewLevel, statusAt);
 
         if(assignedTo!=null && interviewLevel.equals("INTERNAL")){
             interviewDetails.setAssignedTo(assignedTo);
@@ -896,6 +855,7 @@ public class InterviewService {
         // Save candidate details to the database
         try {
             interviewRepository.save(interviewDetails);
+            pipelineMetrics.interviewsScheduled(interviewLevel, 1);
             System.out.println("Candidate saved successfully.");
         } catch (Exception e) {
             throw new RuntimeException("Error while saving candidate data.", e);
@@ -964,6 +924,8 @@ public class InterviewService {
             if ("BDM".equalsIgnoreCase(role)) {
                 List<Tuple> bdmInterviews = interviewRepository.findScheduledInterviewsByBdmUserIdAndDateRange(userId, startDateTime, endDateTime);
                 logger.info("Fetched {} interviews for BDM userId: {}", bdmInterviews.size(), userId);
+                Map<String, RequirementMetadataProjection> bdmMetadata = requirementMetadataResolver.resolve(
+                        bdmInterviews.stream().map(tuple -> tuple.get("job_id", String.class)).collect(Collectors.toList()));
 
                 for (Tuple tuple : bdmInterviews) {
                     try {
@@ -989,10 +951,9 @@ public class InterviewService {
                                     ? LocalDateTime.parse(timestampStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))
                                     : null;
 
-                            ObjectMapper objectMapper = new ObjectMapper();
                             List<String> clientEmails = new ArrayList<>();
                             try {
-                                clientEmails = objectMapper.readValue(tuple.get("client_email", String.class), new TypeReference<>() {});
+                                clientEmails = InterviewDetails.readClientEmails(tuple.get("client_email", String.class));
                             } catch (JsonProcessingException e) {
                                 logger.warn("Failed to parse client emails for interview ID {}", tuple.get("interview_id", String.class));
                             }
@@ -1019,7 +980,7 @@ public class InterviewService {
                                     tuple.get("total_experience", float.class),
                                     tuple.get("relevant_experience", float.class),
                                     tuple.get("skills", String.class),
-                                    interviewRepository.findJobTitleByJobId(tuple.get("job_id", String.class))
+                                    RequirementMetadataResolver.jobTitle(bdmMetadata, tuple.get("job_id", String.class))
                             ));
                         }
                     } catch (Exception e) {
@@ -1048,76 +1009,35 @@ public class InterviewService {
     }
 
     private List<GetInterviewResponse.InterviewData> buildInterviewDataList(List<InterviewDetails> interviewDetails) {
-        return interviewDetails.stream()
+        return toInterviewDataList(interviewDetails.stream()
                 .filter(i -> i.getInterviewDateTime() != null)
-                .filter(i -> !isInternalRejected(i.getInterviewStatus(), i.getCandidateEmailId())) // 🔁 New Filter
-                .map(i -> {
-                    CandidateDetails candidate = candidateRepository.findById(i.getCandidateId()).orElse(null);
-                    float totalExperience = candidate != null ? candidate.getTotalExperience() : 0.0f;
-                    float relevantExperience = candidate != null ? candidate.getRelevantExperience() : 0.0f;
+                .filter(i -> !isInternalRejected(i)) // 🔁 New Filter
+                .collect(Collectors.toList()));
+    }
 
-                    Submissions submission = submissionRepository
-                            .findByCandidateCandidateIdAndJobId(i.getCandidateId(), i.getJobId())
-                            .orElse(null);
-                    String skills = submission != null ? submission.getSkills() : "";
 
-                    String technology = interviewRepository.findJobTitleByJobId(i.getJobId());
 
-                    return new GetInterviewResponse.InterviewData(
-                            i.getInterviewId(),
-                            i.getJobId(),
-                            i.getCandidateId(),
-                            i.getFullName(),
-                            i.getContactNumber(),
-                            i.getCandidateEmailId(),
-                            i.getUserEmail(),
-                            i.getUserId(),
-                            i.getInterviewDateTime(),
-                            i.getDuration(),
-                            i.getZoomLink(),
-                            i.getTimestamp(),
-                            i.getClientEmailList(),
-                            i.getClientName(),
-                            i.getInterviewLevel(),
-                            latestInterviewStatusFromJson(i.getInterviewStatus()),
-                            i.getIsPlaced(),
-                            i.getRecruiterName(),
-                            totalExperience,
-                            relevantExperience,
-                            skills,
-                            technology
-                    );
-                })
-                .collect(Collectors.toList());
+    // Prefers the materialized latest_status column; falls back to the JSON history for rows not yet backfilled
+    public static String latestInterviewStatus(InterviewDetails interview) {
+        return interview.getLatestStatus() != null
+                ? interview.getLatestStatus()
+                : latestInterviewStatusFromJson(interview.getInterviewStatus());
     }
 
-
-
     public static String latestInterviewStatusFromJson(String interviewStatusJson) {
         String latestInterviewStatus = null;
-        ObjectMapper objectMapper = new ObjectMapper();
 
         if (interviewStatusJson != null && !interviewStatusJson.trim().isEmpty()) {
             try {
                 if (interviewStatusJson.trim().startsWith("{") || interviewStatusJson.trim().startsWith("[")) {
-                    List<Map<String, Object>> statusHistory = objectMapper.readValue(interviewStatusJson, List.class);
-
-                    if (!statusHistory.isEmpty()) {
-                        Optional<Map<String, Object>> latestStatus = statusHistory.stream()
-                                .filter(entry -> entry.get("timestamp") != null)
-                                .max(Comparator.comparing(entry -> Instant.parse((String) entry.get("timestamp"))));
-
-                        if (latestStatus.isPresent()) {
-                            latestInterviewStatus = (String) latestStatus.get().get("status");
-                        }
-                    }
+                    latestInterviewStatus = InterviewStatusHistoryCodec.latestStatus(interviewStatusJson);
                 } else {
                     latestInterviewStatus = interviewStatusJson;
                 }
             } catch (JsonParseException e) {
                 System.err.println("Error parsing interview status JSON: Invalid JSON format detected.");
                 latestInterviewStatus = interviewStatusJson;
-            } catch (IOException e) {
+            } catch (JsonProcessingException e) {
                 System.err.println("Error reading interview status: " + e.getMessage());
             }
         }
@@ -1126,7 +1046,7 @@ public class InterviewService {
     }
 
 
-    private String buildCandidateScheduleEmailBody(String recipientName, String formattedDate, String formattedTime,
+    String buildCandidateScheduleEmailBody(String recipientName, String formattedDate, String formattedTime,
                                                    int formattedDuration, String formattedZoomLink, String jobTitle,
                                                    String clientName) {
         return String.format(
@@ -1293,50 +1213,45 @@ public class InterviewService {
 
         logger.info("Fetched {} interviews between {} and {}", interviewDetails.size(), startDate, endDate);
 
-        List<GetInterviewResponse.InterviewData> payloadList = interviewDetails.stream()
-                .map(i -> {
-                    // Fetch candidate details
-                    CandidateDetails candidate = candidateRepository.findById(i.getCandidateId()).orElse(null);
-                    float totalExperience = candidate != null ? candidate.getTotalExperience() : 0.0f;
-                    float relevantExperience = candidate != null ? candidate.getRelevantExperience() : 0.0f;
-
-                    // Fetch submission details
-                    Submissions submission = submissionRepository
-                            .findByCandidateCandidateIdAndJobId(i.getCandidateId(), i.getJobId())
-                            .orElse(null);
-                    String skills = submission != null ? submission.getSkills() : "";
+        List<GetInterviewResponse.InterviewData> payloadList = toInterviewDataList(interviewDetails);
 
-                    // Fetch technology
-                    String technology = interviewRepository.findJobTitleByJobId(i.getJobId());
+        return new GetInterviewResponse(true, "Interviews found", payloadList, null);
+    }
 
-                    return new GetInterviewResponse.InterviewData(
-                            i.getInterviewId(),
-                            i.getJobId(),
-                            i.getCandidateId(),
-                            i.getFullName(),
-                            i.getContactNumber(),
-                            i.getCandidateEmailId(),
-                            i.getUserEmail(),
-                            i.getUserId(),
-                            i.getInterviewDateTime(),
-                            i.getDuration(),
-                            i.getZoomLink(),
-                            i.getTimestamp(),
-                            i.getClientEmailList(),
-                            i.getClientName(),
-                            i.getInterviewLevel(),
-                            latestInterviewStatusFromJson(i.getInterviewStatus()),
-                            i.getIsPlaced(),
-                            i.getRecruiterName(),
-                            totalExperience,
-                            relevantExperience,
-                            skills,
-                            technology
-                    );
-                })
-                .collect(Collectors.toList());
+    // Keyset-paginated counterpart of getScheduledInterviewsByDateOnly
+    public CursorPage<GetInterviewResponse.InterviewData> getScheduledInterviewsPage(ListingRange range, String cursor, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        LocalDateTime from = range.getStartDate().atStartOfDay();
+        LocalDateTime to = range.getEndDate().plusDays(1).atStartOfDay();
+        PageCursor after = PageCursor.decode(cursor);
+        LocalDateTime afterTimestamp = after != null ? after.sortKeyAsDateTime() : from.minusSeconds(1);
+        String afterId = after != null ? after.getId() : "";
+
+        List<InterviewDetails> rows = interviewRepository.findScheduledInterviewPage(from, to, afterTimestamp, afterId,
+                PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize,
+                i -> new PageCursor(i.getTimestamp().toString(), i.getInterviewId()),
+                this::toInterviewDataList);
+    }
 
-        return new GetInterviewResponse(true, "Interviews found", payloadList, null);
+    @Transactional
+    public void streamScheduledInterviews(ListingRange range, Consumer<? super GetInterviewResponse.InterviewData> sink) {
+        LocalDateTime from = range.getStartDate().atStartOfDay();
+        LocalDateTime to = range.getEndDate().plusDays(1).atStartOfDay();
+        try (Stream<InterviewDetails> rows = interviewRepository.streamScheduledInterviews(from, to)) {
+            List<InterviewDetails> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+            Iterator<InterviewDetails> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == STREAM_BATCH_SIZE) {
+                    toInterviewDataList(batch).forEach(sink);
+                    batch.clear();
+                    // Detach what has been written so the persistence context does not grow with the result
+                    entityManager.clear();
+                }
+            }
+            toInterviewDataList(batch).forEach(sink);
+        }
     }
 
     public List<GetInterviewResponseDto> getAllScheduledInterviewsByUserId(String userId, String interviewLevelFilter,
@@ -1353,25 +1268,16 @@ public class InterviewService {
         logger.info("User role for userId {}: {}", userId, role);
 
         List<GetInterviewResponseDto> response = new ArrayList<>();
-        ObjectMapper objectMapper = new ObjectMapper();
 
         if ("EMPLOYEE".equalsIgnoreCase(role)) {
             List<InterviewDetails> employeeInterviews = interviewRepository.findScheduledInterviewsByUserIdAndDateRange(userId, startDateTime, endDateTime);
             logger.info("Fetched {} interviews for EMPLOYEE userId: {}", employeeInterviews.size(), userId);
-            for (InterviewDetails interview : employeeInterviews) {
-                if (interview.getInterviewDateTime() != null && !isInternalRejected(interview.getInterviewStatus(), interview.getCandidateEmailId())) {
-                    response.add(toDto(interview));
-                }
-            }
+            response.addAll(toDtoList(employeeInterviews));
 
         } else if (coordinator) {
             List<InterviewDetails> coordinatorInterviews = interviewRepository.findScheduledInterviewsByAssignedToAndDateRange(userId, startDateTime, endDateTime);
             logger.info("Fetched {} interviews for COORDINATOR userId: {}", coordinatorInterviews.size(), userId);
-            for (InterviewDetails interview : coordinatorInterviews) {
-                if (interview.getInterviewDateTime() != null && !isInternalRejected(interview.getInterviewStatus(), interview.getCandidateEmailId())) {
-                    response.add(toDto(interview));
-                }
-            }
+            response.addAll(toDtoList(coordinatorInterviews));
 
         } else {
             switch (role.toUpperCase()) {
@@ -1400,7 +1306,7 @@ public class InterviewService {
                                 String timestampStr = tuple.get("timestamp", String.class);
                                 LocalDateTime timestamp = timestampStr != null ? LocalDateTime.parse(timestampStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss")) : null;
 
-                                List<String> clientEmails = objectMapper.readValue(tuple.get("client_email", String.class), new TypeReference<>() {});
+                                List<String> clientEmails = InterviewDetails.readClientEmails(tuple.get("client_email", String.class));
                                 String skills = tuple.get("skills", String.class);
                                 Float totalExperience = tuple.get("total_experience", Float.class);
                                 Float relevantExperience = tuple.get("relevant_experience", Float.class);
@@ -1442,11 +1348,7 @@ public class InterviewService {
                 case "SUPERADMIN" -> {
                     List<InterviewDetails> allInterviews = interviewRepository.findScheduledInterviewsByDateOnly(startOfMonth, endOfMonth);
                     logger.info("Fetched {} interviews for SUPERADMIN", allInterviews.size());
-                    for (InterviewDetails interview : allInterviews) {
-                        if (interview.getInterviewDateTime() != null && !isInternalRejected(interview.getInterviewStatus(), interview.getCandidateEmailId())) {
-                            response.add(toDto(interview));
-                        }
-                    }
+                    response.addAll(toDtoList(allInterviews));
                 }
 
                 default -> {
@@ -1470,18 +1372,25 @@ public class InterviewService {
     }
 
 
+    private boolean isInternalRejected(InterviewDetails interview) {
+        if (interview.getLatestStatus() == null) {
+            return isInternalRejected(interview.getInterviewStatus(), interview.getCandidateEmailId());
+        }
+        boolean rejected = "INTERNAL".equalsIgnoreCase(interview.getLatestLevel())
+                && "REJECTED".equalsIgnoreCase(interview.getLatestStatus());
+        if (rejected) {
+            logger.info("Skipping candidate {} due to INTERNAL + REJECTED", interview.getCandidateEmailId());
+        }
+        return rejected;
+    }
+
     private boolean isInternalRejected(String interviewStatusJson, String candidateEmail) {
         if (interviewStatusJson == null || interviewStatusJson.isBlank()) return false;
 
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            List<Map<String, Object>> statusList = mapper.readValue(interviewStatusJson, new TypeReference<>() {});
-            if (!statusList.isEmpty()) {
-                Map<String, Object> lastStatus = statusList.get(statusList.size() - 1);
-                String level = (String) lastStatus.get("interviewLevel");
-                String status = (String) lastStatus.get("status");
-
-                if ("INTERNAL".equalsIgnoreCase(level) && "REJECTED".equalsIgnoreCase(status)) {
+            InterviewStatusHistory.Entry lastStatus = InterviewStatusHistoryCodec.lastEntry(interviewStatusJson);
+            if (lastStatus != null) {
+                if ("INTERNAL".equalsIgnoreCase(lastStatus.getInterviewLevel()) && "REJECTED".equalsIgnoreCase(lastStatus.getStatus())) {
                     logger.info("Skipping candidate {} due to INTERNAL + REJECTED", candidateEmail);
                     return true;
                 }
@@ -1493,21 +1402,19 @@ public class InterviewService {
     }
 
 
-    private GetInterviewResponseDto toDto(InterviewDetails interview) {
-        // Fetch candidate details
-        CandidateDetails candidate = candidateRepository.findById(interview.getCandidateId()).orElse(null);
-        float totalExperience = candidate != null ? candidate.getTotalExperience() : 0.0f;
-        float relevantExperience = candidate != null ? candidate.getRelevantExperience() : 0.0f;
-
-        // Fetch skills from submission
-        Submissions submission = submissionRepository
-                .findByCandidateCandidateIdAndJobId(interview.getCandidateId(), interview.getJobId())
-                .orElse(null);
-        String skills = submission != null ? submission.getSkills() : "";
-
-        // Fetch job title as technology
-        String technology = interviewRepository.findJobTitleByJobId(interview.getJobId());
+    // Scheduled, not internally rejected interviews mapped with their candidate / submission / job lookups
+    private List<GetInterviewResponseDto> toDtoList(List<InterviewDetails> interviews) {
+        List<InterviewDetails> listed = interviews.stream()
+                .filter(i -> i.getInterviewDateTime() != null)
+                .filter(i -> !isInternalRejected(i))
+                .collect(Collectors.toList());
+        InterviewRowLookups lookups = loadRowLookups(listed);
+        return listed.stream()
+                .map(interview -> toDto(interview, lookups))
+                .collect(Collectors.toList());
+    }
 
+    private GetInterviewResponseDto toDto(InterviewDetails interview, InterviewRowLookups lookups) {
         return new GetInterviewResponseDto(
                 interview.getInterviewId(),
                 interview.getJobId(),
@@ -1517,9 +1424,9 @@ public class InterviewService {
                 interview.getCandidateEmailId(),
                 interview.getUserEmail(),
                 interview.getUserId(),
-                skills,                     // 9th param: skills
-                totalExperience,            // 10th param: totalExperience
-                relevantExperience,         // 11th param: relevantExperience
+                lookups.skills(interview.getCandidateId(), interview.getJobId()),  // 9th param: skills
+                lookups.totalExperience(interview.getCandidateId()),               // 10th param: totalExperience
+                lookups.relevantExperience(interview.getCandidateId()),            // 11th param: relevantExperience
                 interview.getInterviewDateTime(),
                 interview.getDuration(),
                 interview.getZoomLink(),
@@ -1527,10 +1434,10 @@ public class InterviewService {
                 interview.getClientEmailList(),
                 interview.getClientName(),
                 interview.getInterviewLevel(),
-                latestInterviewStatusFromJson(interview.getInterviewStatus()),
+                latestInterviewStatus(interview),
                 interview.getRecruiterName(),
                 interview.getIsPlaced(),
-                technology,
+                lookups.technology(interview.getJobId()),
                 interview.getInternalFeedback(),
                 interview.getComments()
         );
@@ -1568,65 +1475,20 @@ public class InterviewService {
 
 
         // 7. Parse the raw data into response DTOs using the updated GetInterviewResponseDto
-        List<GetInterviewResponseDto> selfInterviews = selfInterviewsRaw.stream()
-                .filter(i -> i.getInterviewDateTime() != null)
-                .filter(i -> !isInternalRejected(i.getInterviewStatus(), i.getCandidateEmailId()))
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<GetInterviewResponseDto> selfInterviews = toDtoList(selfInterviewsRaw);
 
-        List<GetInterviewResponseDto> teamInterviews = teamInterviewsRaw.stream()
-                .filter(i -> i.getInterviewDateTime() != null)
-                .filter(i -> !isInternalRejected(i.getInterviewStatus(), i.getCandidateEmailId()))
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<GetInterviewResponseDto> teamInterviews = toDtoList(teamInterviewsRaw);
         // 8. Return the DTO with both lists
         return new TeamleadInterviewsDTO(selfInterviews, teamInterviews);
     }
     private List<GetInterviewResponseDto> parseInterviewCandidates(List<InterviewDetails> interviews) {
+        List<InterviewDetails> scheduled = interviews.stream()
+                .filter(interview -> interview.getInterviewDateTime() != null)
+                .collect(Collectors.toList());
+        InterviewRowLookups lookups = loadRowLookups(scheduled);
         List<GetInterviewResponseDto> response = new ArrayList<>();
-
-        for (InterviewDetails interview : interviews) {
-            if (interview.getInterviewDateTime() == null) continue;
-            String latestInterviewStatus = latestInterviewStatusFromJson(interview.getInterviewStatus());
-
-            CandidateDetails candidate = candidateRepository.findById(interview.getCandidateId()).orElse(null);
-            float totalExperience = candidate != null ? candidate.getTotalExperience() : 0.0f;
-            float relevantExperience = candidate != null ? candidate.getRelevantExperience() : 0.0f;
-
-// Fetch skills from submission
-            Submissions submission = submissionRepository
-                    .findByCandidateCandidateIdAndJobId(interview.getCandidateId(), interview.getJobId())
-                    .orElse(null);
-            String skills = submission != null ? submission.getSkills() : "";
-
-            String technology = interviewRepository.findJobTitleByJobId(interview.getJobId());
-
-            response.add(new GetInterviewResponseDto(
-                    interview.getInterviewId(),
-                    interview.getJobId(),
-                    interview.getCandidateId(),
-                    interview.getFullName(),
-                    interview.getContactNumber(),
-                    interview.getCandidateEmailId(),
-                    interview.getUserEmail(),
-                    interview.getUserId(),
-                    skills,                  // <-- now passed here
-                    totalExperience,         // <-- totalExperience
-                    relevantExperience,      // <-- relevantExperience
-                    interview.getInterviewDateTime(),
-                    interview.getDuration(),
-                    interview.getZoomLink(),
-                    interview.getTimestamp(),
-                    interview.getClientEmailList(),
-                    interview.getClientName(),
-                    interview.getInterviewLevel(),
-                    latestInterviewStatus,
-                    interview.getRecruiterName(),
-                    interview.getIsPlaced(),
-                    technology,
-                    interview.getInternalFeedback(),
-                    interview.getComments()
-            ));
+        for (InterviewDetails interview : scheduled) {
+            response.add(toDto(interview, lookups));
         }
         return response;
     }
@@ -1654,17 +1516,9 @@ public class InterviewService {
                 teamInterviewsRaw.size(), userId, startDateTime, endDateTime);
 
         // Parse the raw data into response DTOs
-        List<GetInterviewResponseDto> selfInterviews = selfInterviewsRaw.stream()
-                .filter(i -> i.getInterviewDateTime() != null)
-                .filter(i -> !isInternalRejected(i.getInterviewStatus(), i.getCandidateEmailId()))
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<GetInterviewResponseDto> selfInterviews = toDtoList(selfInterviewsRaw);
 
-        List<GetInterviewResponseDto> teamInterviews = teamInterviewsRaw.stream()
-                .filter(i -> i.getInterviewDateTime() != null)
-                .filter(i -> !isInternalRejected(i.getInterviewStatus(), i.getCandidateEmailId()))
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<GetInterviewResponseDto> teamInterviews = toDtoList(teamInterviewsRaw);
 
         // Return the DTO with both lists
         return new TeamleadInterviewsDTO(selfInterviews, teamInterviews);
@@ -1672,29 +1526,69 @@ public class InterviewService {
 
     public InterviewSlotsDto getInterviewSlots(String userId){
 
-        if(candidateRepository.findUserNameByUserId(userId).isEmpty())
-            throw new UserNotFoundException("No User Found With Id :"+userId);
+        requireUser(userId);
 //        String role=interviewRepository.findRoleByUserId(userId);
 //        if(!role.equalsIgnoreCase("COORDINATOR"))
 //            throw new UserNotFoundException("Only COORDINATORS are Allowed");
-        List<InterviewDetails> interviewDetailsList=interviewRepository.findByAssignedTo(userId);
         InterviewSlotsDto dto=new InterviewSlotsDto();
         dto.setUserId(userId);
         List<InterviewSlotsDto.InterviewDateWithDuration> dateTimeList=new ArrayList<>();
 
-        interviewDetailsList.stream()
-                .filter((interview)-> "INTERNAL".equalsIgnoreCase(interview.getInterviewLevel()))
-                .forEach((interview)-> {
-                    InterviewSlotsDto.InterviewDateWithDuration timeWithDuration=new InterviewSlotsDto.InterviewDateWithDuration();
-                    timeWithDuration.setInterviewDateTime(interview.getInterviewDateTime().withOffsetSameInstant(ZoneOffset.of("+05:30")));
-                    timeWithDuration.setDuration(interview.getDuration());
-                    dateTimeList.add(timeWithDuration);
-                });
+        // Served from the slot index instead of loading every interview ever assigned to the coordinator
+        coordinatorSlotIndex.bookedSlots(userId)
+                .forEach((slot)-> dateTimeList.add(toDateWithDuration(slot.getInterviewDateTime(), slot.getDuration())));
         dto.setBookedSlots(dateTimeList);
         logger.info("Total slots :"+dto.getBookedSlots().size());
         return dto;
     }
 
+    public List<InterviewSlotsDto.InterviewDateWithDuration> getFreeSlots(String userId, OffsetDateTime from, OffsetDateTime to, int duration) {
+        requireUser(userId);
+        validateSlotLength(duration);
+        if (!to.isAfter(from)) {
+            throw new DateRangeValidationException("'to' must be after 'from'.");
+        }
+        return coordinatorSlotIndex.freeSlots(userId, from, to, duration).stream()
+                .map(start -> toDateWithDuration(start, duration))
+                .collect(Collectors.toList());
+    }
+
+    public List<InterviewSlotsDto.InterviewDateWithDuration> getNextFreeSlots(String userId, OffsetDateTime from, int duration, int count) {
+        requireUser(userId);
+        validateSlotLength(duration);
+        if (count <= 0) {
+            throw new DateRangeValidationException("Count must be at least 1.");
+        }
+        return coordinatorSlotIndex.nextFreeSlots(userId, from, duration, count).stream()
+                .map(start -> toDateWithDuration(start, duration))
+                .collect(Collectors.toList());
+    }
+
+    // Booked INTERNAL interviews of the coordinator that overlap the proposed slot
+    public List<CoordinatorSlotIndex.BookedSlot> getSlotConflicts(String userId, OffsetDateTime start, int duration, String interviewId) {
+        requireUser(userId);
+        validateSlotLength(duration);
+        return coordinatorSlotIndex.conflicts(userId, start, duration, interviewId);
+    }
+
+    private void requireUser(String userId) {
+        if(candidateRepository.findUserNameByUserId(userId).isEmpty())
+            throw new UserNotFoundException("No User Found With Id :"+userId);
+    }
+
+    private static void validateSlotLength(int duration) {
+        if (duration <= 0) {
+            throw new DateRangeValidationException("Duration must be at least 1 minute.");
+        }
+    }
+
+    private static InterviewSlotsDto.InterviewDateWithDuration toDateWithDuration(OffsetDateTime start, Integer duration) {
+        InterviewSlotsDto.InterviewDateWithDuration timeWithDuration=new InterviewSlotsDto.InterviewDateWithDuration();
+        timeWithDuration.setInterviewDateTime(start.withOffsetSameInstant(ZoneOffset.of("+05:30")));
+        timeWithDuration.setDuration(duration);
+        return timeWithDuration;
+    }
+
     public InterviewResponseDto updateInterviewByCoordinator(String coordinatorId,String interviewId,CoordinatorInterviewUpdateDto  dto){
 
         InterviewDetails interview=interviewRepository.findByInterviewIdAndAssignedTo(interviewId,coordinatorId);
@@ -1704,45 +1598,11 @@ public class InterviewService {
         else {
             interview.setInternalFeedback(dto.getInternalFeedBack());
             if (dto.getInterviewStatus() != null && !dto.getInterviewStatus().isEmpty()) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                ArrayNode historyArray;
-                try {
-                    String existingStatus = interview.getInterviewStatus();
-                    if (existingStatus != null && !existingStatus.isEmpty()) {
-                        try {
-                            JsonNode jsonNode = objectMapper.readTree(existingStatus);
-                            if (jsonNode.isArray()) {
-                                historyArray = (ArrayNode) jsonNode;
-                            } else {
-                                logger.error("Existing interviewStatus is not a valid JSON array: {}", existingStatus);
-                                historyArray = objectMapper.createArrayNode(); // Reset to new array
-                            }
-                        } catch (JsonProcessingException e) {
-                            logger.error("Error parsing existing interviewStatus JSON for candidate {}: {}",
-                                    interview.getCandidateId(), e.getMessage());
-                            historyArray = objectMapper.createArrayNode(); // Reset on failure
-                        }
-                    } else {
-                        historyArray = objectMapper.createArrayNode(); // Start fresh if no status exists
-                    }
-                    // If the status is provided, don't add "Scheduled" unless this is the first entry
-                    int nextStage = historyArray.size() + 1; // Changed 'round' to 'stage'
-                    ObjectNode newEntry = objectMapper.createObjectNode();
-
-                    // Add the current status (from UI)
-                    newEntry.put("stage", nextStage);
-                    newEntry.put("status", dto.getInterviewStatus());
-                    newEntry.put("interviewLevel", "INTERNAL");
-                    newEntry.put("timestamp", OffsetDateTime.now().toString());
-
-                    historyArray.add(newEntry);
-                    // Debugging Log
-                    logger.info("Updated Interview Status JSON for Candidate {}: {}",
-                            interview.getCandidateId(), objectMapper.writeValueAsString(historyArray));
-                    interview.setInterviewStatus(objectMapper.writeValueAsString(historyArray));
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException("Error processing interview status JSON", e);
-                }
+                OffsetDateTime statusAt = OffsetDateTime.now();
+                interview.setInterviewStatus(InterviewStatusHistoryCodec.append(interview.getInterviewStatus(), dto.getInterviewStatus(), "INTERNAL", statusAt));
+                logger.info("Updated Interview Status JSON for Candidate {}: {}",
+                        interview.getCandidateId(), interview.getInterviewStatus());
+                interview.updateLatestStatus(dto.getInterviewStatus(), "INTERNAL", statusAt);
             }
         }
         interviewRepository.save(interview);
@@ -1813,10 +1673,12 @@ public class InterviewService {
     public List<CoordinatorInterviewDto> getCoordinatorInterviews(String userId){
 
         List<InterviewDetails> interviews=interviewRepository.findByAssignedTo(userId);
+        Map<String, RequirementMetadataProjection> metadata = requirementMetadataResolver.resolve(
+                interviews.stream().map(InterviewDetails::getJobId).collect(Collectors.toList()));
 
         List<CoordinatorInterviewDto> response=interviews.stream()
                 .map(interview -> {
-                    String technology=interviewRepository.findJobTitleByJobId(interview.getJobId());
+                    String technology=RequirementMetadataResolver.jobTitle(metadata, interview.getJobId());
                    return InterviewService.convertIntoDto(interview,technology);
                 })
                 .collect(Collectors.toList());
@@ -1831,7 +1693,7 @@ public class InterviewService {
         dto.setInterviewId(interviewDetails.getInterviewId());
         dto.setFullName(interviewDetails.getFullName());
         dto.setInterviewLevel(interviewDetails.getInterviewLevel());
-        dto.setInterviewStatus(latestInterviewStatusFromJson(interviewDetails.getInterviewStatus()));
+        dto.setInterviewStatus(latestInterviewStatus(interviewDetails));
         dto.setCandidateId(interviewDetails.getCandidateId());
         dto.setCandidateEmailId(interviewDetails.getCandidateEmailId());
         dto.setContactNumber(interviewDetails.getContactNumber());
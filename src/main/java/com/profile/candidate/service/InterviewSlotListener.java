@@ -0,0 +1,48 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.InterviewDetails;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.OffsetDateTime;
+import java.util.function.Consumer;
+
+// Entity listener that keeps CoordinatorSlotIndex in step with every write to interview_details,
+// whichever service made it. Changes are applied only once the transaction commits.
+public class InterviewSlotListener {
+
+    // Looked up lazily: listeners are created with the EntityManagerFactory, before the index bean exists
+    @Autowired
+    private ObjectProvider<CoordinatorSlotIndex> slotIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(InterviewDetails interview) {
+        String interviewId = interview.getInterviewId();
+        String assignedTo = interview.getAssignedTo();
+        String interviewLevel = interview.getInterviewLevel();
+        OffsetDateTime interviewDateTime = interview.getInterviewDateTime();
+        Integer duration = interview.getDuration();
+        afterCommit(index -> index.onSaved(interviewId, assignedTo, interviewLevel, interviewDateTime, duration));
+    }
+
+    @PostRemove
+    public void onRemoved(InterviewDetails interview) {
+        String interviewId = interview.getInterviewId();
+        afterCommit(index -> index.onRemoved(interviewId));
+    }
+
+    private void afterCommit(Consumer<CoordinatorSlotIndex> action) {
+        if (slotIndex == null) {
+            return;  // not running inside Spring
+        }
+        CoordinatorSlotIndex index = slotIndex.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        BackgroundTasks.afterCommit(() -> action.accept(index));
+    }
+}
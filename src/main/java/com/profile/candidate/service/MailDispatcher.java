@@ -0,0 +1,245 @@
+package com.profile.candidate.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bounded in-process mail queue. Request threads only build the message and hand it over;
+// a small worker pool drains the queue in batches so several messages share one SMTP
+// connection, and failed messages are retried with exponential backoff.
+@Service
+public class MailDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailDispatcher.class);
+    private static final long MAX_BACKOFF_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final JavaMailSender mailSender;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final BlockingQueue<OutboundMail> queue;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+    private final LongAdder totalLatencyMs = new LongAdder();
+    private final LongAccumulator maxLatencyMs = new LongAccumulator(Long::max, 0);
+    private final AtomicLong batches = new AtomicLong();
+
+    private volatile boolean running;
+    private ExecutorService workerPool;
+    private ScheduledExecutorService retryScheduler;
+
+    @Autowired
+    public MailDispatcher(JavaMailSender mailSender,
+                          @Value("${candidate.mail.dispatcher.queue-capacity:1000}") int queueCapacity,
+                          @Value("${candidate.mail.dispatcher.workers:2}") int workers,
+                          @Value("${candidate.mail.dispatcher.batch-size:20}") int batchSize,
+                          @Value("${candidate.mail.dispatcher.max-attempts:5}") int maxAttempts,
+                          @Value("${candidate.mail.dispatcher.initial-backoff-ms:2000}") long initialBackoffMs) {
+        this.mailSender = mailSender;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = Math.max(0, initialBackoffMs);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        workerPool = Executors.newFixedThreadPool(workers, daemonThreads("mail-dispatcher"));
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("mail-retry"));
+        for (int i = 0; i < workers; i++) {
+            workerPool.submit(this::drainLoop);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        retryScheduler.shutdownNow();
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                workerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("Mail dispatcher stopped with {} undelivered messages", queue.size());
+        }
+    }
+
+    // Queues the message; inside a transaction it is only queued once the transaction commits
+    public void dispatch(MimeMessage message, String recipient) {
+        OutboundMail mail = new OutboundMail(message, recipient);
+        BackgroundTasks.afterCommit(() -> enqueue(mail));
+    }
+
+    private void enqueue(OutboundMail mail) {
+        enqueued.increment();
+        if (!queue.offer(mail)) {
+            // Queue is full: fall back to sending on the caller's thread rather than dropping mail
+            overflow.increment();
+            logger.warn("Mail queue full ({} pending), sending to {} synchronously", queue.size(), mail.recipient);
+            send(List.of(mail));
+        }
+    }
+
+    private void drainLoop() {
+        List<OutboundMail> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                OutboundMail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Mail dispatcher worker error: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // JavaMailSender.send(MimeMessage...) delivers the whole batch over a single transport connection
+    private void send(List<OutboundMail> batch) {
+        MimeMessage[] messages = new MimeMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            messages[i] = batch.get(i).message;
+        }
+        batches.incrementAndGet();
+        try {
+            mailSender.send(messages);
+            for (OutboundMail mail : batch) {
+                delivered(mail);
+            }
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (OutboundMail mail : batch) {
+                if (failedMessages.isEmpty() || failedMessages.containsKey(mail.message)) {
+                    Exception cause = failedMessages.getOrDefault(mail.message, e);
+                    retryOrGiveUp(mail, cause);
+                } else {
+                    delivered(mail);
+                }
+            }
+        } catch (MailException e) {
+            for (OutboundMail mail : batch) {
+                retryOrGiveUp(mail, e);
+            }
+        }
+    }
+
+    private void delivered(OutboundMail mail) {
+        long latency = System.currentTimeMillis() - mail.enqueuedAt;
+        sent.increment();
+        totalLatencyMs.add(latency);
+        maxLatencyMs.accumulate(latency);
+        logger.info("Email sent successfully to {}", mail.recipient);
+    }
+
+    private void retryOrGiveUp(OutboundMail mail, Exception cause) {
+        mail.attempts++;
+        if (mail.attempts >= maxAttempts || !running) {
+            failed.increment();
+            logger.error("Giving up on email to {} after {} attempts: {}", mail.recipient, mail.attempts, cause.getMessage(), cause);
+            return;
+        }
+        long delay = Math.min(MAX_BACKOFF_MS, initialBackoffMs << Math.min(mail.attempts - 1, 20));
+        retried.increment();
+        logger.warn("Email to {} failed (attempt {}), retrying in {} ms: {}", mail.recipient, mail.attempts, delay, cause.getMessage());
+        try {
+            retryScheduler.schedule(() -> {
+                if (!queue.offer(mail)) {
+                    retryOrGiveUp(mail, new IllegalStateException("Mail queue full"));
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            failed.increment();
+            logger.error("Dropping email to {}: dispatcher is shutting down", mail.recipient);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    public long getRetriedCount() {
+        return retried.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public Map<String, Object> stats() {
+        long sentCount = sent.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueDepth", queue.size());
+        stats.put("remainingCapacity", queue.remainingCapacity());
+        stats.put("enqueued", enqueued.sum());
+        stats.put("sent", sentCount);
+        stats.put("retried", retried.sum());
+        stats.put("failed", failed.sum());
+        stats.put("overflow", overflow.sum());
+        stats.put("batches", batches.get());
+        stats.put("avgLatencyMs", sentCount == 0 ? 0 : totalLatencyMs.sum() / sentCount);
+        stats.put("maxLatencyMs", maxLatencyMs.get());
+        return stats;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicLong counter = new AtomicLong();
+        return r -> {
+            Thread thread = new Thread(r, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class OutboundMail {
+        private final MimeMessage message;
+        private final String recipient;
+        private final long enqueuedAt = System.currentTimeMillis();
+        private int attempts;
+
+        private OutboundMail(MimeMessage message, String recipient) {
+            this.message = message;
+            this.recipient = recipient;
+        }
+    }
+}
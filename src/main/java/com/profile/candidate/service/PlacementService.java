@@ -1,19 +1,29 @@
 package com.profile.candidate.service;
 
+import com.profile.candidate.config.CacheNames;
+import com.profile.candidate.dto.CursorPage;
 import com.profile.candidate.dto.EncryptionVerifyDto;
+import com.profile.candidate.dto.ListingRange;
+import com.profile.candidate.dto.PageCursor;
 import com.profile.candidate.dto.PlacementDto;
 import com.profile.candidate.dto.PlacementResponseDto;
 import com.profile.candidate.exceptions.*;
+import com.profile.candidate.metrics.PipelineMetrics;
 import com.profile.candidate.model.InterviewDetails;
 import com.profile.candidate.model.PlacementDetails;
 import com.profile.candidate.repository.CandidateRepository;
 import com.profile.candidate.repository.InterviewRepository;
 import com.profile.candidate.repository.PlacementRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -24,13 +34,20 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "candidate.service", histogram = true)
 public class PlacementService {
 
     @Autowired
     PlacementRepository placementRepository;
+    @Autowired
+    private PipelineMetrics pipelineMetrics;
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
 
     @PostConstruct
     public void init() {
@@ -50,20 +67,20 @@ public class PlacementService {
     private InterviewRepository interviewRepository;
     @Autowired
     private InterviewEmailService emailService;
+    @Autowired
+    private IdAllocator idAllocator;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final int STREAM_BATCH_SIZE = 500;
 
     private String generateCustomId() {
-        List<Integer> existingNumbers = placementRepository.findAll().stream()
-                .map(PlacementDetails::getId)
-                .filter(id -> id != null && id.matches("PLMNT\\d{4}"))
-                .map(id -> Integer.parseInt(id.replace("PLMNT", "")))
-                .toList();
-
-        int nextNumber = existingNumbers.stream().max(Integer::compare).orElse(0) + 1;
-        return String.format("PLMNT%04d", nextNumber);
+        return idAllocator.nextPlacementId();
     }
 
 
     @Transactional
+    @Timed(value = "candidate.placement.save", histogram = true)
     public PlacementResponseDto savePlacement(PlacementDto placementDto) {
         PlacementDetails placementDetails = convertToEntity(placementDto);
 
@@ -84,7 +101,7 @@ public class PlacementService {
 
         if (interviewDetailsOpt.isPresent()) {
             InterviewDetails interviewDetails = interviewDetailsOpt.get();
-            String latestStatus = interviewService.latestInterviewStatusFromJson(interviewDetails.getInterviewStatus());
+            String latestStatus = interviewService.latestInterviewStatus(interviewDetails);
             logger.info("Latest interview status: {}", latestStatus);
 
             // Ensure status is "placed"
@@ -112,6 +129,7 @@ public class PlacementService {
         // Set placement status and save
         placementDetails.setStatus("Active");
         PlacementDetails saved = placementRepository.save(placementDetails);
+        pipelineMetrics.placementCreated(saved.getEmploymentType());
 
         boolean isPlaced = "Active".equalsIgnoreCase(saved.getStatus());
 
@@ -253,8 +271,15 @@ public class PlacementService {
         return entity;
     }
 
+    // Dashboard counts are cached briefly per (range, recruiter); sync = true lets one caller compute a
+    // missing entry while identical concurrent requests wait for it. DashboardRollupService clears the
+    // cache whenever the counted rows change.
+    @Cacheable(cacheNames = CacheNames.DASHBOARD_COUNTS, key = "'recruiter|' + T(java.time.YearMonth).now() + '|' + #p0", sync = true)
     public Map<String, Long> getCounts(String recruiterId) {
         YearMonth currentMonth = YearMonth.now(); // current month, e.g., 2025-07
+        if (dashboardRollupService.isReady()) {
+            return dashboardRollupService.getRecruiterCounts(currentMonth.atDay(1), currentMonth.atEndOfMonth(), recruiterId);
+        }
         LocalDateTime startOfMonth = currentMonth.atDay(1).atStartOfDay();
         LocalDateTime endOfMonth = currentMonth.atEndOfMonth().atTime(23, 59, 59, 999_999_999);
 
@@ -284,7 +309,11 @@ public class PlacementService {
         return counts;
     }
 
+    @Cacheable(cacheNames = CacheNames.DASHBOARD_COUNTS, key = "'recruiter|' + #p0 + '|' + #p1 + '|' + #p2", sync = true)
     public Map<String, Long> getCountsByDateRange(LocalDate fromDate, LocalDate toDate, String recruiterId) {
+        if (dashboardRollupService.isReady()) {
+            return dashboardRollupService.getRecruiterCounts(fromDate, toDate, recruiterId);
+        }
         LocalDateTime startDateTime = fromDate.atStartOfDay();
         LocalDateTime endDateTime = toDate.atTime(LocalTime.MAX);
 
@@ -320,10 +349,39 @@ public class PlacementService {
         return placementRepository.findPlacementsByCreatedAtBetween(startDate, endDate);
     }
 
+    // Keyset pages ordered by id; read-only, unlike getAllPlacements no statuses are updated here
+    public CursorPage<PlacementDetails> getPlacementsPage(ListingRange range, String cursor, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        String afterId = after != null ? after.getId() : "";
+
+        List<PlacementDetails> rows = placementRepository.findPlacementPage(range.getStartDate(), range.getEndDate(),
+                afterId, PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, p -> new PageCursor(null, p.getId()), page -> page);
+    }
+
+    @Transactional
+    public void streamPlacements(ListingRange range, Consumer<? super PlacementDetails> sink) {
+        try (Stream<PlacementDetails> rows = placementRepository.streamPlacements(range.getStartDate(), range.getEndDate())) {
+            int emitted = 0;
+            Iterator<PlacementDetails> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                if (++emitted % STREAM_BATCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    @Cacheable(cacheNames = CacheNames.DASHBOARD_COUNTS, key = "'all|' + T(java.time.YearMonth).now()", sync = true)
     public Map<String, Long> getCountsForAll() {
         LocalDate today = LocalDate.now();
         LocalDate firstDayOfMonth = today.withDayOfMonth(1);
         LocalDate lastDayOfMonth = today.withDayOfMonth(today.lengthOfMonth());
+        if (dashboardRollupService.isReady()) {
+            return dashboardRollupService.getCompanyCounts(firstDayOfMonth, lastDayOfMonth, true);
+        }
 
         LocalDateTime startDateTime = firstDayOfMonth.atStartOfDay();
         LocalDateTime endDateTime = lastDayOfMonth.atTime(LocalTime.MAX);
@@ -354,7 +412,11 @@ public class PlacementService {
         return counts;
     }
 
+    @Cacheable(cacheNames = CacheNames.DASHBOARD_COUNTS, key = "'all|' + #p0 + '|' + #p1", sync = true)
     public Map<String, Long> getCountsByDateRangeForAll(LocalDate fromDate, LocalDate toDate) {
+        if (dashboardRollupService.isReady()) {
+            return dashboardRollupService.getCompanyCounts(fromDate, toDate, false);
+        }
         LocalDateTime startDateTime = fromDate.atStartOfDay();
         LocalDateTime endDateTime = toDate.atTime(LocalTime.MAX);
 
@@ -389,6 +451,14 @@ public class PlacementService {
     private final Random random = new Random();
     private static final long OTP_EXPIRY_TIME_MS = 5 * 60 * 1000; // 5 minutes
     private static final long OTP_COOLDOWN_MS = 60 * 1000; // 1 minute
+    public int getPendingUserOtpCount() {
+        return otpStorageOnUserId.size();
+    }
+
+    public int getPendingPlacementOtpCount() {
+        return otpStorageOnPlacementId.size();
+    }
+
     //String ADMIN_EMAIL_ID="putluruarunkumarreddy13@gmail.com";
     //String ADMIN_EMAIL_ID=placementRepository.findPrimarySuperAdminEmail();
     private void startOtpCleanupTask() {
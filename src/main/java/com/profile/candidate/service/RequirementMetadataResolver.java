@@ -0,0 +1,57 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.dto.RequirementMetadataProjection;
+import com.profile.candidate.dto.SubmissionListRow;
+import com.profile.candidate.repository.SubmissionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class RequirementMetadataResolver {
+
+    // Keeps the IN (...) list well below MySQL packet / optimizer limits
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    @Autowired
+    SubmissionRepository submissionRepository;
+
+    private static final Logger logger = LoggerFactory.getLogger(RequirementMetadataResolver.class);
+
+    public Map<String, RequirementMetadataProjection> resolve(Collection<String> jobIds) {
+        List<String> distinctJobIds = jobIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctJobIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, RequirementMetadataProjection> metadata = new HashMap<>();
+        for (int from = 0; from < distinctJobIds.size(); from += MAX_IDS_PER_QUERY) {
+            List<String> chunk = distinctJobIds.subList(from, Math.min(from + MAX_IDS_PER_QUERY, distinctJobIds.size()));
+            for (RequirementMetadataProjection row : submissionRepository.findRequirementMetadataByJobIds(chunk)) {
+                metadata.putIfAbsent(row.getJobId(), row);
+            }
+        }
+        logger.debug("Resolved requirement metadata for {} of {} job IDs", metadata.size(), distinctJobIds.size());
+        return metadata;
+    }
+
+    public Map<String, RequirementMetadataProjection> resolveForSubmissions(Collection<SubmissionListRow> submissions) {
+        return resolve(submissions.stream().map(SubmissionListRow::getJobId).collect(Collectors.toList()));
+    }
+
+    public static String jobTitle(Map<String, RequirementMetadataProjection> metadata, String jobId) {
+        RequirementMetadataProjection row = jobId != null ? metadata.get(jobId) : null;
+        return row != null ? row.getJobTitle() : null;
+    }
+
+    public static String clientName(Map<String, RequirementMetadataProjection> metadata, String jobId) {
+        RequirementMetadataProjection row = jobId != null ? metadata.get(jobId) : null;
+        return row != null ? row.getClientName() : null;
+    }
+}
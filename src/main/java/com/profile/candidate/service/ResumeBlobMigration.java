@@ -0,0 +1,102 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.storage.StoredResume;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Moves legacy resume BLOBs from candidate_submissions / bench_details into the resume store.
+// Rows are read one BLOB at a time through a JDBC stream so the job never holds more than one resume.
+@Service
+public class ResumeBlobMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeBlobMigration.class);
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    ResumeStorageService resumeStorageService;
+
+    @Value("${candidate.resume.migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${candidate.resume.migration.batch-size:100}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "resume-blob-migration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.submit(() -> {
+            try {
+                migrateAll();
+            } catch (Exception e) {
+                logger.error("Resume BLOB migration failed: {}", e.getMessage(), e);
+            }
+        });
+        executor.shutdown();
+    }
+
+    public void migrateAll() {
+        int submissions = migrate("candidate_submissions", "submission_id");
+        int bench = migrate("bench_details", "id");
+        logger.info("Resume BLOB migration finished: {} submissions, {} bench records moved", submissions, bench);
+    }
+
+    private int migrate(String table, String idColumn) {
+        String selectIds = "SELECT " + idColumn + " FROM " + table +
+                " WHERE resume IS NOT NULL AND resume_hash IS NULL AND " + idColumn + " > ? ORDER BY " + idColumn + " LIMIT ?";
+        String selectBlob = "SELECT resume FROM " + table + " WHERE " + idColumn + " = ?";
+        String update = "UPDATE " + table + " SET resume_hash = ?, resume_size = ?, resume_content_type = ?, resume = NULL " +
+                "WHERE " + idColumn + " = ? AND resume_hash IS NULL";
+
+        int moved = 0;
+        String afterId = "";
+        while (true) {
+            List<String> ids = jdbcTemplate.queryForList(selectIds, String.class, afterId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            for (String id : ids) {
+                try {
+                    StoredResume stored = jdbcTemplate.query(selectBlob, rs -> {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        try (InputStream in = rs.getBinaryStream(1)) {
+                            return in != null ? resumeStorageService.store(in) : null;
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, id);
+                    if (stored != null) {
+                        moved += jdbcTemplate.update(update, stored.getHash(), stored.getSize(), stored.getContentType(), id);
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Could not migrate resume for {} {}: {}", table, id, e.getMessage());
+                }
+            }
+            afterId = ids.get(ids.size() - 1);
+            logger.info("Resume BLOB migration: {} rows moved from {} so far", moved, table);
+        }
+        return moved;
+    }
+}
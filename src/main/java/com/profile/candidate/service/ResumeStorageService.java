@@ -0,0 +1,130 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.BenchDetails;
+import com.profile.candidate.model.Submissions;
+import com.profile.candidate.storage.ResumeBlobStore;
+import com.profile.candidate.storage.ResumeContent;
+import com.profile.candidate.storage.StoredResume;
+import com.profile.candidate.storage.StoredResumeResource;
+import org.apache.tika.Tika;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+// Content-addressed resume storage: identical files uploaded for several jobs are stored once
+@Service
+public class ResumeStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeStorageService.class);
+
+    // Tika facade is thread-safe, so one instance is shared
+    private final Tika tika = new Tika();
+
+    @Autowired
+    ResumeBlobStore blobStore;
+
+    public StoredResume store(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return store(in);
+        }
+    }
+
+    public StoredResume store(byte[] content) throws IOException {
+        return store(new ByteArrayInputStream(content));
+    }
+
+    // Streams the content to a temp file while hashing it, then hands the file to the blob store
+    public StoredResume store(InputStream content) throws IOException {
+        Path tempFile = blobStore.createTempFile();
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (DigestInputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(tempFile)) {
+                size = in.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String contentType = tika.detect(tempFile.toFile());
+            blobStore.put(hash, tempFile, contentType);
+            logger.debug("Stored resume {} ({} bytes, {})", hash, size, contentType);
+            return new StoredResume(hash, size, contentType);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    public InputStream open(String hash) throws IOException {
+        return blobStore.open(hash);
+    }
+
+    public byte[] read(String hash) throws IOException {
+        try (InputStream in = blobStore.open(hash)) {
+            return in.readAllBytes();
+        }
+    }
+
+    // Falls back to the legacy inline column for rows the migration job has not reached yet
+    public byte[] readResume(Submissions submission) throws IOException {
+        if (submission.getResumeHash() != null) {
+            return read(submission.getResumeHash());
+        }
+        return submission.getResume();
+    }
+
+    public byte[] readResume(BenchDetails benchDetails) throws IOException {
+        if (benchDetails.getResumeHash() != null) {
+            return read(benchDetails.getResumeHash());
+        }
+        return benchDetails.getResume();
+    }
+
+    // Resource view for downloads; null when the record has no resume
+    public ResumeContent openResume(Submissions submission) throws IOException {
+        return openResume(submission.getResumeHash(), submission.getResumeSize(),
+                submission.getResumeContentType(), submission::getResume);
+    }
+
+    public ResumeContent openResume(BenchDetails benchDetails) throws IOException {
+        return openResume(benchDetails.getResumeHash(), benchDetails.getResumeSize(),
+                benchDetails.getResumeContentType(), benchDetails::getResume);
+    }
+
+    // The legacy column is lazy, so it is only fetched for rows that have not been migrated
+    private ResumeContent openResume(String hash, Long size, String contentType, Supplier<byte[]> legacyColumn) throws IOException {
+        if (hash != null) {
+            long length = size != null ? size : blobStore.size(hash);
+            return new ResumeContent(new StoredResumeResource(blobStore, hash, length),
+                    contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE, hash);
+        }
+        byte[] legacyBytes = legacyColumn.get();
+        if (legacyBytes == null || legacyBytes.length == 0) {
+            return null;
+        }
+        // Not migrated yet: detect the type and hash the inline bytes on the fly
+        MessageDigest digest = sha256();
+        return new ResumeContent(new ByteArrayResource(legacyBytes), tika.detect(legacyBytes),
+                HexFormat.of().formatHex(digest.digest(legacyBytes)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
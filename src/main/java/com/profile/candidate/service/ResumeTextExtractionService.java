@@ -0,0 +1,356 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.ResumeText;
+import com.profile.candidate.model.ResumeTextCodec;
+import com.profile.candidate.repository.ResumeTextRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.tika.fork.ForkParser;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.sax.BodyContentHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Extracts plain text from stored resumes with Tika, off the request thread. Uploads queue the resume
+// hash once their transaction commits; a fixed pool of workers (the concurrency cap) parses them and
+// stores the text in resume_texts, then asks the search index to pick it up.
+//  - Parsing runs in child JVMs (Tika's ForkParser, one per worker). A child whose parse passes the
+//    deadline exits, so a parser stuck in a CPU loop costs at most timeout-seconds of one core. Output
+//    is capped at max-chars.
+//  - A resume that cannot be read from the store gets no row, so the backfill retries it.
+//  - When the queue is full the hash is dropped; the backfill (on startup, and nightly) finds every
+//    resume without a resume_texts row, so nothing is lost for good.
+@Service
+public class ResumeTextExtractionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeTextExtractionService.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final LongAdder extracted = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Autowired
+    private ResumeStorageService resumeStorageService;
+
+    @Autowired
+    private ResumeTextRepository resumeTextRepository;
+
+    @Autowired
+    private CandidateSearchService candidateSearchService;
+
+    @Value("${candidate.resume.text.enabled:true}")
+    private boolean enabled;
+
+    @Value("${candidate.resume.text.workers:2}")
+    private int workers;
+
+    @Value("${candidate.resume.text.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${candidate.resume.text.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    @Value("${candidate.resume.text.max-chars:100000}")
+    private int maxChars;
+
+    @Value("${candidate.resume.text.parser-heap:256m}")
+    private String parserHeap;
+
+    @Value("${candidate.resume.text.backfill-batch-size:200}")
+    private int backfillBatchSize;
+
+    @Value("${candidate.resume.text.backfill-at:04:00}")
+    private String backfillAt;
+
+    // Thread-safe; keeps a pool of child JVMs, one per worker
+    private ForkParser parser;
+    private ThreadPoolExecutor workerPool;
+    private ScheduledExecutorService backfillScheduler;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        int poolSize = Math.max(1, workers);
+        parser = new ForkParser(ResumeTextExtractionService.class.getClassLoader(), new AutoDetectParser());
+        parser.setPoolSize(poolSize);
+        parser.setJavaCommand(List.of(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx" + parserHeap, "-Djava.awt.headless=true"));
+        // The child exits once a parse runs past this; the worker sees the broken pipe and records a TIMEOUT
+        parser.setServerParseTimeoutMillis(TimeUnit.SECONDS.toMillis(timeoutSeconds));
+        AtomicInteger counter = new AtomicInteger();
+        workerPool = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+            Thread thread = new Thread(r, "resume-text-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            // Below request threads: parsing is never urgent
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        backfillScheduler = BackgroundTasks.singleThreadScheduler("resume-text-backfill");
+        backfillScheduler.execute(() -> runSafely(this::backfill));
+        BackgroundTasks.scheduleDaily(backfillScheduler, backfillAt, () -> runSafely(this::backfill));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workerPool == null) {
+            return;
+        }
+        if (backfillScheduler != null) {
+            backfillScheduler.shutdownNow();
+        }
+        workerPool.shutdownNow();
+        parser.close();
+    }
+
+    // Queues the resumes for extraction; inside a transaction only once it commits
+    public void extractAfterCommit(Collection<String> resumeHashes) {
+        if (!enabled || resumeHashes == null) {
+            return;
+        }
+        List<String> hashes = new ArrayList<>(resumeHashes);
+        hashes.removeIf(Objects::isNull);
+        if (!hashes.isEmpty()) {
+            BackgroundTasks.afterCommit(() -> hashes.forEach(this::enqueue));
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("workers", workerPool == null ? 0 : workerPool.getMaximumPoolSize());
+        stats.put("active", workerPool == null ? 0 : workerPool.getActiveCount());
+        stats.put("queued", workerPool == null ? 0 : workerPool.getQueue().size());
+        stats.put("extracted", extracted.sum());
+        stats.put("timedOut", timedOut.sum());
+        stats.put("failed", failed.sum());
+        stats.put("dropped", dropped.sum());
+        return stats;
+    }
+
+    // false when the queue is full (the hash is left for the backfill)
+    private boolean enqueue(String hash) {
+        if (!inFlight.add(hash)) {
+            return true;
+        }
+        try {
+            workerPool.execute(() -> {
+                try {
+                    extract(hash);
+                } catch (RuntimeException e) {
+                    // e.g. the database is unavailable: no row is written, so the backfill retries it
+                    logger.error("Resume text extraction for {} failed: {}", hash, e.getMessage(), e);
+                } finally {
+                    inFlight.remove(hash);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(hash);
+            dropped.increment();
+            logger.debug("Resume text queue full; {} left for the backfill", hash);
+            return false;
+        }
+    }
+
+    private void extract(String hash) {
+        if (resumeTextRepository.existsById(hash)) {
+            return;
+        }
+        long started = System.nanoTime();
+        InputStream stored;
+        try {
+            stored = resumeStorageService.open(hash);
+        } catch (IOException e) {
+            logger.warn("Resume {} could not be read from the store, left for the backfill: {}", hash, e.getMessage());
+            return;
+        }
+
+        ResumeText text = new ResumeText();
+        text.setResumeHash(hash);
+        TextCapture output = new TextCapture(maxChars);
+        Metadata metadata = new Metadata();
+        StoreInputStream in = new StoreInputStream(stored);
+        try (in) {
+            parser.parse(in, new BodyContentHandler(output), metadata, new ParseContext());
+            text.setStatus(ResumeText.EXTRACTED);
+        } catch (Exception e) {
+            if (in.failure != null) {
+                // A store outage, not a bad file: writing a FAILED row would hide it from the backfill for good
+                logger.warn("Resume {} could not be read from the store, left for the backfill: {}", hash, in.failure.getMessage());
+                return;
+            }
+            if (System.nanoTime() - started >= TimeUnit.SECONDS.toNanos(timeoutSeconds)) {
+                text.setStatus(ResumeText.TIMEOUT);
+                text.setError("Parsing took longer than " + timeoutSeconds + " s");
+            } else {
+                text.setStatus(ResumeText.FAILED);
+                text.setError(truncate(e.getClass().getSimpleName() + ": " + e.getMessage()));
+            }
+        }
+        text.setTruncated(output.truncated);
+
+        String body = normaliseWhitespace(output.text.toString());
+        if (ResumeText.EXTRACTED.equals(text.getStatus()) && body.isEmpty()) {
+            text.setStatus(ResumeText.EMPTY);  // e.g. a scanned PDF without a text layer
+        }
+        if (ResumeText.EXTRACTED.equals(text.getStatus())) {
+            text.setCompressedText(ResumeTextCodec.compress(body));
+            text.setCharCount(body.length());
+        }
+        text.setContentType(metadata.get(Metadata.CONTENT_TYPE));
+        text.setExtractionMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        text.setExtractedAt(LocalDateTime.now());
+        resumeTextRepository.save(text);
+
+        switch (text.getStatus()) {
+            case ResumeText.EXTRACTED -> {
+                extracted.increment();
+                candidateSearchService.resumeTextsChanged(List.of(hash));
+            }
+            case ResumeText.TIMEOUT -> {
+                timedOut.increment();
+                logger.warn("Resume text extraction for {} timed out after {} s", hash, timeoutSeconds);
+            }
+            case ResumeText.FAILED -> {
+                failed.increment();
+                logger.warn("Resume text extraction for {} failed: {}", hash, text.getError());
+            }
+            default -> {
+            }
+        }
+    }
+
+    // Queues every stored resume without a resume_texts row, waiting whenever the queue is full
+    private void backfill() throws InterruptedException {
+        int queued = 0;
+        String afterHash = "";
+        while (true) {
+            List<String> hashes = resumeTextRepository.findUnextractedHashes(afterHash, backfillBatchSize);
+            if (hashes.isEmpty()) {
+                break;
+            }
+            for (String hash : hashes) {
+                while (!enqueue(hash)) {
+                    Thread.sleep(500);
+                }
+                queued++;
+            }
+            afterHash = hashes.get(hashes.size() - 1);
+        }
+        if (queued > 0) {
+            logger.info("Resume text backfill queued {} resumes", queued);
+        }
+    }
+
+    private static String normaliseWhitespace(String text) {
+        return text.replaceAll("[ \\t\\x0B\\f\\r]+", " ").replaceAll("\\s*\\n\\s*", "\n").trim();
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private void runSafely(BackfillTask task) {
+        try {
+            task.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Resume text backfill failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BackfillTask {
+        void run() throws Exception;
+    }
+
+    // Keeps the first maxChars characters of the body and drops the rest; throwing from here would break
+    // the exchange with the child process mid-parse
+    private static final class TextCapture extends DefaultHandler {
+
+        private final StringBuilder text = new StringBuilder();
+        private final int maxChars;
+        private boolean truncated;
+
+        TextCapture(int maxChars) {
+            this.maxChars = maxChars;
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            int room = maxChars - text.length();
+            if (length > room) {
+                truncated = true;
+                length = Math.max(0, room);
+            }
+            text.append(ch, start, length);
+        }
+
+        @Override
+        public void ignorableWhitespace(char[] ch, int start, int length) {
+            characters(ch, start, length);
+        }
+    }
+
+    // Remembers a read failure of the stored file, so it can be told apart from a parser error
+    private static final class StoreInputStream extends FilterInputStream {
+
+        private IOException failure;
+
+        StoreInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        }
+    }
+}
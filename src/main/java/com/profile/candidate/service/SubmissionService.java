@@ -8,11 +8,13 @@ import com.profile.candidate.model.Submissions;
 import com.profile.candidate.repository.CandidateRepository;
 import com.profile.candidate.repository.InterviewRepository;
 import com.profile.candidate.repository.SubmissionRepository;
-import jakarta.persistence.Tuple;
+import com.profile.candidate.storage.StoredResume;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -26,9 +28,12 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "candidate.service", histogram = true)
 public class SubmissionService {
 
     @Autowired
@@ -39,6 +44,15 @@ public class SubmissionService {
     InterviewEmailService emailService;
     @Autowired
     InterviewRepository interviewRepository;
+    @Autowired
+    RequirementMetadataResolver requirementMetadataResolver;
+    @Autowired
+    ResumeStorageService resumeStorageService;
+    @Autowired
+    CandidateSearchService candidateSearchService;
+
+    private static final int STREAM_BATCH_SIZE = 500;
+    private static final int MAX_JOB_IDS_PER_QUERY = 1000;
 
     private static final Logger logger = LoggerFactory.getLogger(SubmissionService.class);
 
@@ -47,26 +61,19 @@ public class SubmissionService {
         LocalDate endOfMonth = startOfMonth.plusMonths(1).minusDays(1);
 
         // Step 1: Fetch all submissions for this month
-        List<Submissions> submissions = submissionRepository.findByProfileReceivedDateBetween(startOfMonth, endOfMonth);
+        List<SubmissionListRow> submissions = submissionRepository.findListRowsByProfileReceivedDateBetween(startOfMonth, endOfMonth);
 
         // Step 2: Fetch all candidateIds from interview table
         List<String> interviewedCandidateIds = interviewRepository.findInternalRejectedCandidateIdsLatestOnly();
-        Set<String> interviewedSet = interviewedCandidateIds.stream()
-                .filter(Objects::nonNull)
-                .map(id -> id.trim().toLowerCase())
-                .collect(Collectors.toSet());
+        Set<String> interviewedSet = normalizeCandidateIds(interviewedCandidateIds);
 
         // Step 3: Filter out submissions for candidates who are in interviews
-        List<Submissions> filteredSubmissions = submissions.stream()
-                .filter(sub -> {
-                    String candidateId = sub.getCandidate() != null ? sub.getCandidate().getCandidateId() : null;
-                    return candidateId != null && !interviewedSet.contains(candidateId.trim().toLowerCase());
-                })
-                .collect(Collectors.toList());
+        List<SubmissionListRow> filteredSubmissions = excludeCandidates(submissions, interviewedSet);
 
-        // Step 4: Convert to response DTO
+        // Step 4: Convert to response DTO (job titles resolved in one batch)
+        Map<String, RequirementMetadataProjection> metadata = requirementMetadataResolver.resolveForSubmissions(filteredSubmissions);
         List<SubmissionsGetResponse.GetSubmissionData> data = filteredSubmissions.stream()
-                .map(this::convertToSubmissionsGetResponse)
+                .map(sub -> convertToSubmissionsGetResponse(sub, metadata))
                 .collect(Collectors.toList());
 
         // ✅ Final log summary at the end
@@ -89,9 +96,10 @@ public class SubmissionService {
         if (candidateDetails.isEmpty()) {
             throw new CandidateNotFoundException("Invalid CandidateId " + candidateId);
         }
-        List<Submissions> submissions = submissionRepository.findByCandidate_CandidateId(candidateId);
+        List<SubmissionListRow> submissions = submissionRepository.findListRowsByCandidateId(candidateId);
+        Map<String, RequirementMetadataProjection> metadata = requirementMetadataResolver.resolveForSubmissions(submissions);
        List<SubmissionsGetResponse.GetSubmissionData> data=submissions.stream()
-                .map(this::convertToSubmissionsGetResponse)
+                .map(sub -> convertToSubmissionsGetResponse(sub, metadata))
                 .collect(Collectors.toList());
        SubmissionsGetResponse response=new SubmissionsGetResponse(true,"Submissions Found",data,null);
       return response;
@@ -114,10 +122,7 @@ public class SubmissionService {
         List<String> interviewedCandidateIds = interviewRepository.findAllCandidateIdsWithInterviews();
 
         // Normalize
-        Set<String> normalizedInterviewedIds = interviewedCandidateIds.stream()
-                .filter(Objects::nonNull)
-                .map(id -> id.trim().toLowerCase())
-                .collect(Collectors.toSet());
+        Set<String> normalizedInterviewedIds = normalizeCandidateIds(interviewedCandidateIds);
 
         logger.info("Fetched {} interviewed candidate IDs from interview details.", normalizedInterviewedIds.size());
 
@@ -129,19 +134,35 @@ public class SubmissionService {
         logger.info("Candidate {} is NOT in interview list. Submission included.", candidateId);
 
         List<SubmissionsGetResponse.GetSubmissionData> data = Collections.singletonList(
-                convertToSubmissionsGetResponse(submission)
+                convertToSubmissionsGetResponse(SubmissionListRow.of(submission),
+                        requirementMetadataResolver.resolve(List.of(submission.getJobId())))
         );
 
         return new SubmissionsGetResponse(true, "Submissions Found", data, null);
     }
 
 
-    private SubmissionsGetResponse.GetSubmissionData convertToSubmissionsGetResponse(Submissions sub) {
+    // Candidate ids are compared trimmed and lower-cased
+    static Set<String> normalizeCandidateIds(Collection<String> candidateIds) {
+        return candidateIds.stream()
+                .filter(Objects::nonNull)
+                .map(id -> id.trim().toLowerCase())
+                .collect(Collectors.toSet());
+    }
+
+    // Drops submissions without a candidate or whose candidate is in the normalized excluded set
+    static List<SubmissionListRow> excludeCandidates(List<SubmissionListRow> submissions, Set<String> excludedIds) {
+        return submissions.stream()
+                .filter(sub -> sub.getCandidateId() != null && !excludedIds.contains(sub.getCandidateId().trim().toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    static SubmissionsGetResponse.GetSubmissionData convertToSubmissionsGetResponse(SubmissionListRow sub, Map<String, RequirementMetadataProjection> metadata) {
 
         SubmissionsGetResponse.GetSubmissionData data = new SubmissionsGetResponse.GetSubmissionData();
 
         data.setSubmissionId(sub.getSubmissionId());
-        data.setCandidateId(sub.getCandidate().getCandidateId());
+        data.setCandidateId(sub.getCandidateId());
         data.setJobId(sub.getJobId());
         data.setSubmittedAt(sub.getSubmittedAt());
         data.setCommunicationSkills(sub.getCommunicationSkills());
@@ -153,23 +174,21 @@ public class SubmissionService {
         data.setClientName(sub.getClientName());
         data.setRecruiterName(sub.getRecruiterName());
         data.setStatus(sub.getStatus());
-        data.setTechnology(submissionRepository.findJobTitleByJobId(sub.getJobId()));
-
-        CandidateDetails candidate = sub.getCandidate();
-        //CandidateDto candidateDto = new CandidateDto();
-        data.setUserId(candidate.getUserId());
-        data.setFullName(candidate.getFullName());
-        data.setCandidateEmailId(candidate.getCandidateEmailId());
-        data.setContactNumber(candidate.getContactNumber());
-        data.setCurrentOrganization(candidate.getCurrentOrganization());
-        data.setQualification(candidate.getQualification());
-        data.setTotalExperience(candidate.getTotalExperience());
-        data.setRelevantExperience(candidate.getRelevantExperience());
-        data.setCurrentCTC(candidate.getCurrentCTC());
-        data.setExpectedCTC(candidate.getExpectedCTC());
-        data.setNoticePeriod(candidate.getNoticePeriod());
-        data.setCurrentLocation(candidate.getCurrentLocation());
-        data.setUserEmail(candidate.getUserEmail());
+        data.setTechnology(RequirementMetadataResolver.jobTitle(metadata, sub.getJobId()));
+
+        data.setUserId(sub.getCandidateUserId());
+        data.setFullName(sub.getFullName());
+        data.setCandidateEmailId(sub.getCandidateEmailId());
+        data.setContactNumber(sub.getContactNumber());
+        data.setCurrentOrganization(sub.getCurrentOrganization());
+        data.setQualification(sub.getQualification());
+        data.setTotalExperience(sub.getTotalExperience());
+        data.setRelevantExperience(sub.getRelevantExperience());
+        data.setCurrentCTC(sub.getCurrentCTC());
+        data.setExpectedCTC(sub.getExpectedCTC());
+        data.setNoticePeriod(sub.getNoticePeriod());
+        data.setCurrentLocation(sub.getCurrentLocation());
+        data.setUserEmail(sub.getCandidateUserEmail());
 
 
         return data;
@@ -194,6 +213,7 @@ public class SubmissionService {
         // Delete the candidate from the repository
         submissionRepository.delete(submission);
         logger.info("Candidate with ID {} deleted successfully", submissionId);
+        candidateSearchService.submissionsChanged(List.of(submissionIdBeforeDelete));
 
         InterviewDetails interview=interviewRepository.findInterviewsByCandidateIdAndJobId(submission.getCandidate().getCandidateId(),submission.getJobId());
         if (interview!=null){
@@ -251,10 +271,8 @@ public class SubmissionService {
             existedSubmission.setSubmittedAt(LocalDateTime.now());
             existedSubmission.setStatus(updatedSubmissionsDetails.getStatus());
             if (resumeFile != null && !resumeFile.isEmpty()) {
-                // Convert the resume file to byte[] and set it in the candidateDetails object
-                byte[] resumeData = resumeFile.getBytes();
-                //candidateDetails.setResume(resumeData);// Store the resume as binary data in DB
-                existedSubmission.setResume(resumeData);
+                // Store the resume in the resume store and keep only its hash on the submission
+                existedSubmission.applyStoredResume(resumeStorageService.store(resumeFile));
                 // Save the resume to the file system and store the file path in DB
                 String resumeFilePath = saveResumeToFileSystem(resumeFile);
                 // candidateDetails.setResumeFilePath(resumeFilePath);// Store the file path in DB
@@ -267,6 +285,7 @@ public class SubmissionService {
 
             candidateRepository.save(existingCandidate);
             submissionRepository.save(existedSubmission);
+            candidateSearchService.candidatesChanged(List.of(candidateId));
             // ------------------ 📧 Send Resubmission Notification Email ------------------
             String recruiterEmail = existingCandidate.getUserEmail();
             String recruiterName = candidateRepository.findUserNameByEmail(recruiterEmail);
@@ -381,95 +400,77 @@ public class SubmissionService {
 
         logger.info("Fetching current month submissions for teamlead with userId: {} between {} and {}", userId, startDateTime, endDateTime);
 
-        // Fetch all self/team submissions
-        List<Tuple> selfSubs = submissionRepository.findSelfSubmissionsByTeamleadAndDateRange(userId, startDateTime, endDateTime);
-        List<Tuple> teamSubs = submissionRepository.findTeamSubmissionsByTeamleadAndDateRange(userId, startDateTime, endDateTime);
-
-        logger.info("Fetched {} self submissions", selfSubs.size());
-        logger.info("Fetched {} team submissions", teamSubs.size());
-
-        // Fetch interviewed candidate IDs
-        List<String> interviewedCandidateIds = interviewRepository.findInternalRejectedCandidateIdsLatestOnly();
-        Set<String> normalizedInterviewedIds = interviewedCandidateIds.stream()
-                .filter(Objects::nonNull)
-                .map(id -> id.trim().toLowerCase())
-                .collect(Collectors.toSet());
+        return buildTeamleadSubmissions(userId, startDateTime, endDateTime);
+    }
 
-        logger.info("Fetched {} interviewed candidate IDs", normalizedInterviewedIds.size());
+    // Self/team partitions come back tagged from a single query with interviewed candidates already excluded
+    private TeamleadSubmissionsDTO buildTeamleadSubmissions(String userId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        List<TeamleadSubmissionProjection> rows =
+                submissionRepository.findTeamleadSubmissionsByDateRange(userId, startDateTime, endDateTime);
 
-        // Filter out interviewed candidates from self submissions
-        List<Tuple> filteredSelfSubs = selfSubs.stream()
-                .filter(t -> {
-                    String candidateId = (String) t.get("candidateId");
-                    return candidateId != null && !normalizedInterviewedIds.contains(candidateId.trim().toLowerCase());
-                })
-                .toList();
-
-        // Filter out interviewed candidates from team submissions
-        List<Tuple> filteredTeamSubs = teamSubs.stream()
-                .filter(t -> {
-                    String candidateId = (String) t.get("candidateId");
-                    return candidateId != null && !normalizedInterviewedIds.contains(candidateId.trim().toLowerCase());
-                })
-                .toList();
-
-        logger.info("Filtered self submissions: {} excluded, {} remaining", selfSubs.size() - filteredSelfSubs.size(), filteredSelfSubs.size());
-        logger.info("Filtered team submissions: {} excluded, {} remaining", teamSubs.size() - filteredTeamSubs.size(), filteredTeamSubs.size());
+        List<SubmissionGetResponseDto> selfSubDtos = new ArrayList<>();
+        List<SubmissionGetResponseDto> teamSubDtos = new ArrayList<>();
+        for (TeamleadSubmissionProjection row : rows) {
+            if ("SELF".equals(row.getSubmissionScope())) {
+                selfSubDtos.add(mapProjectionToResponseDto(row));
+            } else {
+                teamSubDtos.add(mapProjectionToResponseDto(row));
+            }
+        }
 
-        // Convert to DTOs
-        List<SubmissionGetResponseDto> selfSubDtos = mapTuplesToResponseDto(filteredSelfSubs);
-        List<SubmissionGetResponseDto> teamSubDtos = mapTuplesToResponseDto(filteredTeamSubs);
+        logger.info("Fetched {} self submissions and {} team submissions for teamlead {}",
+                selfSubDtos.size(), teamSubDtos.size(), userId);
 
         return new TeamleadSubmissionsDTO(selfSubDtos, teamSubDtos);
     }
 
-    public List<SubmissionGetResponseDto> mapTuplesToResponseDto(List<Tuple> tuples) {
-        return tuples.stream().map(tuple -> {
-            SubmissionGetResponseDto dto = new SubmissionGetResponseDto();
-
-            // Common fields from both queries
-            dto.setSubmissionId(tuple.get("submission_id", String.class));
-            dto.setCandidateId(tuple.get("candidateId", String.class));
-            dto.setFullName(tuple.get("full_name", String.class));
-            dto.setSkills(tuple.get("skills", String.class));
-            dto.setJobId(tuple.get("job_id", String.class));
-            dto.setUserId(tuple.get("user_id", String.class));
-            dto.setUserEmail(tuple.get("user_email", String.class));
-            dto.setPreferredLocation(tuple.get("preferred_location", String.class));
-            dto.setClientName(tuple.get("client_name", String.class));
-            dto.setRecruiterName(tuple.get("recruiter_name", String.class));
-            dto.setUserName(tuple.get("recruiter_name", String.class));
-
-            // Candidate information fields
-            dto.setContactNumber(tuple.get("contact_number", String.class));
-            dto.setCandidateEmailId(tuple.get("candidate_email_id", String.class));
-            dto.setTotalExperience(tuple.get("total_experience", Float.class));
-            dto.setRelevantExperience(tuple.get("relevant_experience", Float.class));
-            dto.setCurrentOrganization(tuple.get("current_organization", String.class));
-            dto.setQualification(tuple.get("qualification", String.class));
-            dto.setCurrentCTC(tuple.get("current_ctc", String.class));
-            dto.setExpectedCTC(tuple.get("expected_ctc", String.class));
-            dto.setNoticePeriod(tuple.get("notice_period", String.class));
-            dto.setCurrentLocation(tuple.get("current_location", String.class));
-            dto.setTechnology(tuple.get("job_title",String.class));
-
-            // Submission information fields
-            dto.setCommunicationSkills(tuple.get("communication_skills", String.class));
-            dto.setRequiredTechnologiesRating(tuple.get("required_technologies_rating", Double.class));
-            dto.setOverallFeedback(tuple.get("overall_feedback", String.class));
-
-            String timestamp = tuple.get("profile_received_date", String.class);  // Assuming timestamp is a string
-            if (timestamp != null) {
-                try {
-                    LocalDate profileReceivedDate = LocalDate.parse(timestamp, DateTimeFormatter.ISO_DATE);
-                    dto.setProfileReceivedDate(profileReceivedDate);
-                } catch (Exception e) {
-                    // Fallback if date parsing fails
-                    System.err.println("Error parsing profileReceivedDate: " + e.getMessage());
-                }
+    public SubmissionGetResponseDto mapProjectionToResponseDto(TeamleadSubmissionProjection row) {
+        SubmissionGetResponseDto dto = new SubmissionGetResponseDto();
+
+        // Common fields from both partitions
+        dto.setSubmissionId(row.getSubmissionId());
+        dto.setCandidateId(row.getCandidateId());
+        dto.setFullName(row.getFullName());
+        dto.setSkills(row.getSkills());
+        dto.setJobId(row.getJobId());
+        dto.setUserId(row.getUserId());
+        dto.setUserEmail(row.getUserEmail());
+        dto.setPreferredLocation(row.getPreferredLocation());
+        dto.setClientName(row.getClientName());
+        dto.setRecruiterName(row.getRecruiterName());
+        dto.setUserName(row.getRecruiterName());
+
+        // Candidate information fields
+        dto.setContactNumber(row.getContactNumber());
+        dto.setCandidateEmailId(row.getCandidateEmailId());
+        if (row.getTotalExperience() != null) {
+            dto.setTotalExperience(row.getTotalExperience());
+        }
+        if (row.getRelevantExperience() != null) {
+            dto.setRelevantExperience(row.getRelevantExperience());
+        }
+        dto.setCurrentOrganization(row.getCurrentOrganization());
+        dto.setQualification(row.getQualification());
+        dto.setCurrentCTC(row.getCurrentCtc());
+        dto.setExpectedCTC(row.getExpectedCtc());
+        dto.setNoticePeriod(row.getNoticePeriod());
+        dto.setCurrentLocation(row.getCurrentLocation());
+        dto.setTechnology(row.getJobTitle());
+
+        // Submission information fields
+        dto.setCommunicationSkills(row.getCommunicationSkills());
+        dto.setRequiredTechnologiesRating(row.getRequiredTechnologiesRating());
+        dto.setOverallFeedback(row.getOverallFeedback());
+
+        String profileReceivedDate = row.getProfileReceivedDate();
+        if (profileReceivedDate != null) {
+            try {
+                dto.setProfileReceivedDate(LocalDate.parse(profileReceivedDate, DateTimeFormatter.ISO_DATE));
+            } catch (Exception e) {
+                logger.warn("Error parsing profileReceivedDate '{}': {}", profileReceivedDate, e.getMessage());
             }
-            return dto;
-        }).collect(Collectors.toList());
+        }
+        return dto;
     }
     // Method to get candidate submissions by userId
     public List<SubmissionGetResponseDto> getSubmissionsByUserId(String userId) {
@@ -483,12 +484,12 @@ public class SubmissionService {
         LocalDate startOfMonth = today.withDayOfMonth(1);
         LocalDate endOfMonth = today.withDayOfMonth(today.lengthOfMonth());
 
-        List<Submissions> submissions;
+        List<SubmissionListRow> submissions;
 
         if ("EMPLOYEE".equalsIgnoreCase(role)) {
-            submissions = submissionRepository.findByUserIdAndProfileReceivedDateBetween(userId, startOfMonth, endOfMonth);
+            submissions = submissionRepository.findListRowsByUserIdAndProfileReceivedDateBetween(userId, startOfMonth, endOfMonth);
         } else if ("BDM".equalsIgnoreCase(role)) {
-            submissions = submissionRepository.findSubmissionsByBdmUserIdAndDateRange(userId, startOfMonth, endOfMonth);
+            submissions = findBdmListRows(userId, startOfMonth, endOfMonth);
         } else {
             throw new UnsupportedOperationException("Only EMPLOYEE and BDM roles are supported.");
         }
@@ -505,18 +506,17 @@ public class SubmissionService {
                 .collect(Collectors.toSet());
 
         // ✅ Filter submissions
-        List<Submissions> filtered = submissions.stream()
-                .filter(sub -> sub.getCandidate() != null &&
-                        !interviewedSet.contains(sub.getCandidate().getCandidateId().trim().toLowerCase()))
+        List<SubmissionListRow> filtered = submissions.stream()
+                .filter(sub -> sub.getCandidateId() != null &&
+                        !interviewedSet.contains(sub.getCandidateId().trim().toLowerCase()))
                 .toList();
 
+        // ✅ Resolve job titles / client names for the whole page in one query
+        Map<String, RequirementMetadataProjection> metadata = requirementMetadataResolver.resolveForSubmissions(filtered);
+
         List<SubmissionGetResponseDto> dtoList = filtered.stream().map(submission -> {
-            Optional<String> clientNameOpt = candidateRepository.findClientNameByJobId(submission.getJobId());
-            String technology = submissionRepository.findJobTitleByJobId(submission.getJobId());
-            String clientName = clientNameOpt.orElse(null);
-            SubmissionGetResponseDto dto = convertToSubmissionGetResponseDto(submission);
-            dto.setTechnology(technology);
-            dto.setClientName(clientName);
+            SubmissionGetResponseDto dto = convertToSubmissionGetResponseDto(submission, metadata);
+            dto.setClientName(RequirementMetadataResolver.clientName(metadata, submission.getJobId()));
             return dto;
         }).collect(Collectors.toList());
 
@@ -539,12 +539,12 @@ public class SubmissionService {
         String role = submissionRepository.findRoleByUserId(userId); // Assumes role is not null
         logger.info("User ID: {} has role: {}", userId, role);
 
-        List<Submissions> submissions;
+        List<SubmissionListRow> submissions;
 
         if ("EMPLOYEE".equalsIgnoreCase(role)) {
-            submissions = submissionRepository.findByUserIdAndProfileReceivedDateBetween(userId, startDate, endDate);
+            submissions = submissionRepository.findListRowsByUserIdAndProfileReceivedDateBetween(userId, startDate, endDate);
         } else if ("BDM".equalsIgnoreCase(role)) {
-            submissions = submissionRepository.findSubmissionsByBdmUserIdAndDateRange(userId, startDate, endDate);
+            submissions = findBdmListRows(userId, startDate, endDate);
         } else {
             throw new UnsupportedOperationException("Only EMPLOYEE and BDM roles are supported.");
         }
@@ -565,21 +565,25 @@ public class SubmissionService {
 
         logger.info("Total interviewed candidate IDs: {}", interviewedSet.size());
 
-        // ✅ Filter and enrich DTOs
-        List<SubmissionGetResponseDto> response = submissions.stream()
+        // ✅ Filter submissions
+        List<SubmissionListRow> filtered = submissions.stream()
                 .filter(sub -> {
-                    String candidateId = sub.getCandidate() != null ? sub.getCandidate().getCandidateId() : null;
+                    String candidateId = sub.getCandidateId();
                     boolean include = candidateId != null && !interviewedSet.contains(candidateId.trim().toLowerCase());
                     logger.debug("Candidate ID: {} -> {}", candidateId, include ? "Included" : "Excluded (interview)");
                     return include;
                 })
-                .map(submission -> {
-                    Optional<String> clientNameOpt = candidateRepository.findClientNameByJobId(submission.getJobId());
-                    String technology = submissionRepository.findJobTitleByJobId(submission.getJobId());
+                .toList();
 
-                    SubmissionGetResponseDto dto = convertToSubmissionGetResponseDto(submission);
-                    dto.setTechnology(technology);
-                    clientNameOpt.ifPresent(dto::setClientName);
+        // ✅ Enrich DTOs with job titles / client names fetched in one query
+        Map<String, RequirementMetadataProjection> metadata = requirementMetadataResolver.resolveForSubmissions(filtered);
+        List<SubmissionGetResponseDto> response = filtered.stream()
+                .map(submission -> {
+                    SubmissionGetResponseDto dto = convertToSubmissionGetResponseDto(submission, metadata);
+                    String clientName = RequirementMetadataResolver.clientName(metadata, submission.getJobId());
+                    if (clientName != null) {
+                        dto.setClientName(clientName);
+                    }
                     return dto;
                 })
                 .collect(Collectors.toList());
@@ -589,24 +593,35 @@ public class SubmissionService {
         return response;
     }
 
-    private SubmissionGetResponseDto convertToSubmissionGetResponseDto(Submissions sub) {
+    // Submissions against the requirements of the clients a BDM on-boarded
+    private List<SubmissionListRow> findBdmListRows(String userId, LocalDate startDate, LocalDate endDate) {
+        List<String> jobIds = submissionRepository.findJobIdsOnboardedByBdm(userId);
+        List<SubmissionListRow> rows = new ArrayList<>();
+        for (int from = 0; from < jobIds.size(); from += MAX_JOB_IDS_PER_QUERY) {
+            List<String> chunk = jobIds.subList(from, Math.min(from + MAX_JOB_IDS_PER_QUERY, jobIds.size()));
+            rows.addAll(submissionRepository.findListRowsByJobIdsAndProfileReceivedDateBetween(chunk, startDate, endDate));
+        }
+        return rows;
+    }
+
+    private SubmissionGetResponseDto convertToSubmissionGetResponseDto(SubmissionListRow sub, Map<String, RequirementMetadataProjection> metadata) {
 
         SubmissionGetResponseDto dto = new SubmissionGetResponseDto();
 
         dto.setSubmissionId(sub.getSubmissionId());
-        dto.setCandidateId(sub.getCandidate().getCandidateId());
-        dto.setUserId(sub.getCandidate().getUserId());
-        dto.setFullName(sub.getCandidate().getFullName());
-        dto.setCandidateEmailId(sub.getCandidate().getCandidateEmailId());
-        dto.setContactNumber(sub.getCandidate().getContactNumber());
-        dto.setCurrentOrganization(sub.getCandidate().getCurrentOrganization());
-        dto.setQualification(sub.getCandidate().getQualification());
-        dto.setTotalExperience(sub.getCandidate().getTotalExperience());
-        dto.setRelevantExperience(sub.getCandidate().getRelevantExperience());
-        dto.setCurrentCTC(sub.getCandidate().getCurrentCTC());
-        dto.setExpectedCTC(sub.getCandidate().getExpectedCTC());
-        dto.setNoticePeriod(sub.getCandidate().getNoticePeriod());
-        dto.setCurrentLocation(sub.getCandidate().getCurrentLocation());
+        dto.setCandidateId(sub.getCandidateId());
+        dto.setUserId(sub.getCandidateUserId());
+        dto.setFullName(sub.getFullName());
+        dto.setCandidateEmailId(sub.getCandidateEmailId());
+        dto.setContactNumber(sub.getContactNumber());
+        dto.setCurrentOrganization(sub.getCurrentOrganization());
+        dto.setQualification(sub.getQualification());
+        dto.setTotalExperience(sub.getTotalExperience());
+        dto.setRelevantExperience(sub.getRelevantExperience());
+        dto.setCurrentCTC(sub.getCurrentCTC());
+        dto.setExpectedCTC(sub.getExpectedCTC());
+        dto.setNoticePeriod(sub.getNoticePeriod());
+        dto.setCurrentLocation(sub.getCurrentLocation());
         dto.setJobId(sub.getJobId());
         dto.setClientName(sub.getClientName());
         dto.setProfileReceivedDate(sub.getProfileReceivedDate());
@@ -619,7 +634,7 @@ public class SubmissionService {
         dto.setUserName(sub.getRecruiterName());
         dto.setUserEmail(sub.getUserEmail());
         dto.setStatus(sub.getStatus());
-        dto.setTechnology(submissionRepository.findJobTitleByJobId(sub.getJobId()));
+        dto.setTechnology(RequirementMetadataResolver.jobTitle(metadata, sub.getJobId()));
 
 
         return dto;
@@ -630,7 +645,7 @@ public class SubmissionService {
             throw new DateRangeValidationException("End date cannot be before start date.");
         }
 
-        List<Submissions> submissions = submissionRepository.findByProfileReceivedDateBetween(startDate, endDate);
+        List<SubmissionListRow> submissions = submissionRepository.findListRowsByProfileReceivedDateBetween(startDate, endDate);
         logger.info("Fetched {} submissions between {} and {}", submissions.size(), startDate, endDate);
 
         if (submissions.isEmpty()) {
@@ -646,9 +661,9 @@ public class SubmissionService {
         logger.info("Total interviewed candidate IDs fetched: {}", interviewedSet.size());
 
         // ✅ Filter submissions
-        List<Submissions> filteredSubmissions = submissions.stream()
+        List<SubmissionListRow> filteredSubmissions = submissions.stream()
                 .filter(sub -> {
-                    String candidateId = sub.getCandidate() != null ? sub.getCandidate().getCandidateId() : null;
+                    String candidateId = sub.getCandidateId();
                     boolean isIncluded = candidateId != null && !interviewedSet.contains(candidateId.trim().toLowerCase());
                     logger.debug("Candidate ID: {} -> {}", candidateId, isIncluded ? "Included" : "Excluded (in interview)");
                     return isIncluded;
@@ -659,22 +674,65 @@ public class SubmissionService {
                 submissions.size() - filteredSubmissions.size(), filteredSubmissions.size());
 
         // ✅ Map to DTO
+        Map<String, RequirementMetadataProjection> metadata = requirementMetadataResolver.resolveForSubmissions(filteredSubmissions);
         return filteredSubmissions.stream()
-                .map(this::convertToSubmissionGetResponseDto)
+                .map(sub -> convertToSubmissionGetResponseDto(sub, metadata))
                 .collect(Collectors.toList());
     }
 
 
     public SubmissionsGetResponse getAllSubmissionsFilterByDate(LocalDate startDate, LocalDate endDate) {
 
-        List<Submissions> submissions = submissionRepository.findByProfileReceivedDateBetween(startDate,endDate);
+        List<SubmissionListRow> submissions = submissionRepository.findListRowsByProfileReceivedDateBetween(startDate, endDate);
+        Map<String, RequirementMetadataProjection> metadata = requirementMetadataResolver.resolveForSubmissions(submissions);
         List<SubmissionsGetResponse.GetSubmissionData> data =submissions.stream()
-                .map(this::convertToSubmissionsGetResponse)
+                .map(sub -> convertToSubmissionsGetResponse(sub, metadata))
                 .collect(Collectors.toList());
         SubmissionsGetResponse response=new SubmissionsGetResponse(true,"Submissions found",data,null);
         return response;
     }
 
+    // Keyset-paginated counterpart of getAllSubmissionsByDateRange
+    public CursorPage<SubmissionGetResponseDto> getSubmissionsPage(ListingRange range, String cursor, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        LocalDate afterDate = after != null ? after.sortKeyAsDate() : range.getStartDate().minusDays(1);
+        String afterId = after != null ? after.getId() : "";
+
+        List<SubmissionListRow> rows = submissionRepository.findSubmissionPage(range.getStartDate(), range.getEndDate(),
+                afterDate, afterId, PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize,
+                sub -> new PageCursor(sub.getProfileReceivedDate().toString(), sub.getSubmissionId()),
+                this::toSubmissionGetResponseDtos);
+    }
+
+    // Streams every matching submission to the sink; only STREAM_BATCH_SIZE rows are held at a time
+    @Transactional
+    public void streamSubmissions(ListingRange range, Consumer<? super SubmissionGetResponseDto> sink) {
+        try (Stream<SubmissionListRow> rows = submissionRepository.streamSubmissions(range.getStartDate(), range.getEndDate())) {
+            List<SubmissionListRow> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+            Iterator<SubmissionListRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == STREAM_BATCH_SIZE) {
+                    toSubmissionGetResponseDtos(batch).forEach(sink);
+                    batch.clear();
+                }
+            }
+            toSubmissionGetResponseDtos(batch).forEach(sink);
+        }
+    }
+
+    private List<SubmissionGetResponseDto> toSubmissionGetResponseDtos(List<SubmissionListRow> submissions) {
+        if (submissions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, RequirementMetadataProjection> metadata = requirementMetadataResolver.resolveForSubmissions(submissions);
+        return submissions.stream()
+                .map(sub -> convertToSubmissionGetResponseDto(sub, metadata))
+                .collect(Collectors.toList());
+    }
+
     public CandidateResponseDto editSubmissionWithOutUserId(String submissionId, CandidateDetails updatedCandidateDetails, Submissions updatedSubmissionsDetails, MultipartFile resumeFile) {
 
         Optional<Submissions> submissions = submissionRepository.findById(submissionId);
@@ -713,10 +771,8 @@ public class SubmissionService {
             existedSubmission.setStatus(updatedSubmissionsDetails.getStatus());
 
             if (resumeFile != null && !resumeFile.isEmpty()) {
-                // Convert the resume file to byte[] and set it in the candidateDetails object
-                byte[] resumeData = resumeFile.getBytes();
-                //candidateDetails.setResume(resumeData);// Store the resume as binary data in DB
-                existedSubmission.setResume(resumeData);
+                // Store the resume in the resume store and keep only its hash on the submission
+                existedSubmission.applyStoredResume(resumeStorageService.store(resumeFile));
                 // Save the resume to the file system and store the file path in DB
                 String resumeFilePath = saveResumeToFileSystem(resumeFile);
                 // candidateDetails.setResumeFilePath(resumeFilePath);// Store the file path in DB
@@ -729,6 +785,7 @@ public class SubmissionService {
 
             candidateRepository.save(existingCandidate);
             submissionRepository.save(existedSubmission);
+            candidateSearchService.candidatesChanged(List.of(candidateId));
             // ------------------ 📧 Send Resubmission Notification Email ------------------
             String recruiterEmail = existingCandidate.getUserEmail();
             String recruiterName = candidateRepository.findUserNameByEmail(recruiterEmail);
@@ -780,48 +837,7 @@ public class SubmissionService {
 
         logger.info("Fetching submissions for teamlead (userId: {}) from {} to {}", userId, startDateTime, endDateTime);
 
-        List<Tuple> selfSubs = submissionRepository.findSelfSubmissionsByTeamleadAndDateRange(userId, startDateTime, endDateTime);
-        List<Tuple> teamSubs = submissionRepository.findTeamSubmissionsByTeamleadAndDateRange(userId, startDateTime, endDateTime);
-
-        logger.info("Found {} self submissions and {} team submissions for teamlead {}",
-                selfSubs.size(), teamSubs.size(), userId);
-
-        // ✅ Normalize interview candidate IDs for safe comparison
-        List<String> interviewedCandidateIds = interviewRepository.findInternalRejectedCandidateIdsLatestOnly();
-        Set<String> interviewedSet = interviewedCandidateIds.stream()
-                .filter(Objects::nonNull)
-                .map(id -> id.trim().toLowerCase())
-                .collect(Collectors.toSet());
-        logger.info("Interviewed candidates count: {}", interviewedSet.size());
-
-        // ✅ Filter self submissions
-        List<Tuple> filteredSelfSubs = selfSubs.stream()
-                .filter(t -> {
-                    String candidateId = (String) t.get("candidateId");
-                    boolean include = candidateId != null && !interviewedSet.contains(candidateId.trim().toLowerCase());
-                    logger.debug("Self Candidate ID: {} -> {}", candidateId, include ? "Included" : "Excluded");
-                    return include;
-                })
-                .toList();
-
-        // ✅ Filter team submissions
-        List<Tuple> filteredTeamSubs = teamSubs.stream()
-                .filter(t -> {
-                    String candidateId = (String) t.get("candidateId");
-                    boolean include = candidateId != null && !interviewedSet.contains(candidateId.trim().toLowerCase());
-                    logger.debug("Team Candidate ID: {} -> {}", candidateId, include ? "Included" : "Excluded");
-                    return include;
-                })
-                .toList();
-
-        logger.info("After filtering: {} self submissions and {} team submissions included",
-                filteredSelfSubs.size(), filteredTeamSubs.size());
-
-        // ✅ Convert to DTOs
-        List<SubmissionGetResponseDto> selfSubDtos = mapTuplesToResponseDto(filteredSelfSubs);
-        List<SubmissionGetResponseDto> teamSubDtos = mapTuplesToResponseDto(filteredTeamSubs);
-
-        return new TeamleadSubmissionsDTO(selfSubDtos, teamSubDtos);
+        return buildTeamleadSubmissions(userId, startDateTime, endDateTime);
     }
 
     public byte[] getResumeByCandidateAndJob(String candidateId, String jobId) {
@@ -829,12 +845,34 @@ public class SubmissionService {
         if (submission == null) {
             throw new CandidateNotFoundException("Submission not found for candidateId: " + candidateId + ", jobId: " + jobId);
         }
-        byte[] resume = submission.getResume();
+        byte[] resume;
+        try {
+            resume = resumeStorageService.readResume(submission);
+        } catch (IOException e) {
+            throw new CandidateNotFoundException("Resume is missing for candidateId: " + candidateId + ", jobId: " + jobId);
+        }
         if (resume == null || resume.length == 0) {
             throw new CandidateNotFoundException("Resume is missing for candidateId: " + candidateId + ", jobId: " + jobId);
         }
         return resume;
     }
+
+    // Reference to the stored resume so it can be shared (e.g. with a bench entry) without copying bytes
+    public StoredResume getStoredResumeByCandidateAndJob(String candidateId, String jobId) throws IOException {
+        Submissions submission = submissionRepository.findByCandidate_CandidateIdAndJobId(candidateId, jobId);
+        if (submission == null) {
+            throw new CandidateNotFoundException("Submission not found for candidateId: " + candidateId + ", jobId: " + jobId);
+        }
+        if (submission.getResumeHash() != null) {
+            return new StoredResume(submission.getResumeHash(),
+                    submission.getResumeSize() != null ? submission.getResumeSize() : 0L,
+                    submission.getResumeContentType());
+        }
+        if (submission.getResume() == null || submission.getResume().length == 0) {
+            throw new CandidateNotFoundException("Resume is missing for candidateId: " + candidateId + ", jobId: " + jobId);
+        }
+        return resumeStorageService.store(submission.getResume());
+    }
 }
 
 
@@ -0,0 +1,85 @@
+package com.profile.candidate.storage;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+// Files live under <root>/<first 2 hex chars>/<next 2 hex chars>/<hash>. Uploads are spooled in <root>/.tmp
+// so they reach their final path with an atomic rename on the same filesystem: a file at a hash path is
+// always complete.
+public class LocalResumeBlobStore implements ResumeBlobStore {
+
+    private final Path root;
+    private final Path tempDir;
+
+    public LocalResumeBlobStore(Path root) throws IOException {
+        this.root = root.toAbsolutePath();
+        this.tempDir = this.root.resolve(".tmp");
+        Files.createDirectories(tempDir);
+        // Leftovers of uploads interrupted by a crash; none of them was ever visible under a hash. Recent ones
+        // are kept in case another instance shares the directory and is still writing them.
+        FileTime cutoff = FileTime.from(Instant.now().minus(Duration.ofHours(1)));
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(tempDir)) {
+            for (Path leftover : leftovers) {
+                if (Files.getLastModifiedTime(leftover).compareTo(cutoff) < 0) {
+                    Files.deleteIfExists(leftover);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile(tempDir, "resume-", ".upload");
+    }
+
+    @Override
+    public boolean exists(String hash) {
+        return Files.exists(pathFor(hash));
+    }
+
+    @Override
+    public void put(String hash, Path tempFile, String contentType) throws IOException {
+        Path target = pathFor(hash);
+        if (Files.exists(target)) {
+            Files.deleteIfExists(tempFile);
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            // No copy fallback: a non-atomic copy could leave a partial file under the hash for good
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Same content stored concurrently by another request
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(String hash) throws IOException {
+        Path path = pathFor(hash);
+        if (!Files.exists(path)) {
+            throw new FileNotFoundException("Resume not found in store: " + hash);
+        }
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public long size(String hash) throws IOException {
+        return Files.size(pathFor(hash));
+    }
+
+    private Path pathFor(String hash) {
+        if (hash == null || !hash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Invalid resume hash: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+}
@@ -0,0 +1,24 @@
+package com.profile.candidate.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Backend for resume files keyed by their SHA-256 content hash
+public interface ResumeBlobStore {
+
+    boolean exists(String hash) throws IOException;
+
+    // Where uploads are spooled while they are hashed; put() is then handed this file
+    default Path createTempFile() throws IOException {
+        return Files.createTempFile("resume-", ".upload");
+    }
+
+    // Moves an already-hashed temp file into the store; a no-op if the hash is already present
+    void put(String hash, Path tempFile, String contentType) throws IOException;
+
+    InputStream open(String hash) throws IOException;
+
+    long size(String hash) throws IOException;
+}
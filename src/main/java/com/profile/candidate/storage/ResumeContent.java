@@ -0,0 +1,29 @@
+package com.profile.candidate.storage;
+
+import org.springframework.core.io.Resource;
+
+public class ResumeContent {
+
+    private final Resource resource;
+    private final String contentType;
+    private final String hash;
+
+    public ResumeContent(Resource resource, String contentType, String hash) {
+        this.resource = resource;
+        this.contentType = contentType;
+        this.hash = hash;
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    // Content hash doubles as a strong ETag: the bytes behind a hash never change
+    public String getETag() {
+        return "\"" + hash + "\"";
+    }
+}
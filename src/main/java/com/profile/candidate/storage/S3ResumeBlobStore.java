@@ -0,0 +1,64 @@
+package com.profile.candidate.storage;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Works against AWS S3 or any S3-compatible endpoint (MinIO etc.)
+public class S3ResumeBlobStore implements ResumeBlobStore {
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String prefix;
+
+    public S3ResumeBlobStore(S3Client s3Client, String bucket, String prefix) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.prefix = prefix == null ? "" : prefix;
+    }
+
+    @Override
+    public boolean exists(String hash) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(keyFor(hash)).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void put(String hash, Path tempFile, String contentType) throws IOException {
+        try {
+            if (!exists(hash)) {
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(keyFor(hash))
+                                .contentType(contentType)
+                                .build(),
+                        RequestBody.fromFile(tempFile));
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public InputStream open(String hash) {
+        return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(keyFor(hash)).build());
+    }
+
+    @Override
+    public long size(String hash) {
+        return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(keyFor(hash)).build()).contentLength();
+    }
+
+    private String keyFor(String hash) {
+        return prefix + hash.substring(0, 2) + "/" + hash;
+    }
+}
@@ -0,0 +1,26 @@
+package com.profile.candidate.storage;
+
+public class StoredResume {
+
+    private final String hash;
+    private final long size;
+    private final String contentType;
+
+    public StoredResume(String hash, long size, String contentType) {
+        this.hash = hash;
+        this.size = size;
+        this.contentType = contentType;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
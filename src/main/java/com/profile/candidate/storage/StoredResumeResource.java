@@ -0,0 +1,41 @@
+package com.profile.candidate.storage;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// Lazily opened view of a stored resume. The stream is only opened when the body is written,
+// and can be reopened, which lets Spring serve byte ranges from it.
+public class StoredResumeResource extends AbstractResource {
+
+    private final ResumeBlobStore blobStore;
+    private final String hash;
+    private final long size;
+
+    public StoredResumeResource(ResumeBlobStore blobStore, String hash, long size) {
+        this.blobStore = blobStore;
+        this.hash = hash;
+        this.size = size;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return blobStore.open(hash);
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return size;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Stored resume [" + hash + "]";
+    }
+}
@@ -0,0 +1,136 @@
+package com.profile.candidate.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BenchSkillIndexTest {
+
+	@Test
+	void topMatchesAgreeWithAFullSortOnRandomData() {
+		for (long seed = 1; seed <= 20; seed++) {
+			Random random = new Random(seed);
+			List<BenchProfile> bench = randomBench(random, 300);
+			BenchSkillIndex index = new BenchSkillIndex(bench);
+			JobProfile job = randomJob(random);
+
+			for (int k : new int[]{1, 5, 20, 1000}) {
+				List<BenchMatch> expected = fullSort(bench, job);
+				expected = expected.subList(0, Math.min(k, expected.size()));
+				List<BenchMatch> actual = index.topMatches(job, k);
+
+				assertEquals(ids(expected), ids(actual), "seed " + seed + ", k " + k);
+				for (int i = 0; i < actual.size(); i++) {
+					assertEquals(expected.get(i).getScore(), actual.get(i).getScore(), "seed " + seed + ", k " + k);
+				}
+			}
+		}
+	}
+
+	@Test
+	void equalScoresComeBackInIdOrder() {
+		List<BenchProfile> bench = new ArrayList<>();
+		for (String id : List.of("B07", "B03", "B10", "B01", "B05")) {
+			bench.add(profile(id, 4f, "java"));
+		}
+		BenchSkillIndex index = new BenchSkillIndex(bench);
+		JobProfile job = new JobProfile("J1", Map.of("java", 1f), 4f, 1);
+
+		assertEquals(List.of("B01", "B03", "B05", "B07", "B10"), ids(index.topMatches(job, 10)));
+		assertEquals(List.of("B01", "B03"), ids(index.topMatches(job, 2)));
+	}
+
+	@Test
+	void kLargerThanTheTouchedProfilesReturnsOnlyThoseSharingASkill() {
+		BenchSkillIndex index = new BenchSkillIndex(List.of(
+				profile("B1", 3f, "java", "kafka"),
+				profile("B2", 3f, "python"),
+				profile("B3", 8f, "kafka")));
+		JobProfile job = new JobProfile("J1", Map.of("java", 1f, "kafka", 0.5f), 3f, 2);
+
+		List<BenchMatch> matches = index.topMatches(job, 50);
+
+		assertEquals(List.of("B1", "B3"), ids(matches));
+		assertEquals(List.of("java", "kafka"), new ArrayList<>(new TreeSet<>(matches.get(0).getMatchedSkills())));
+		assertEquals(1f, matches.get(0).getSkillScore(), 1e-6);
+		assertEquals(1f / 3f, matches.get(1).getSkillScore(), 1e-6);
+	}
+
+	@Test
+	void nothingToRankGivesNoMatches() {
+		BenchSkillIndex index = new BenchSkillIndex(List.of(profile("B1", 3f, "java")));
+
+		assertTrue(index.topMatches(new JobProfile("J1", Map.of("java", 1f), 3f, 1), 0).isEmpty());
+		assertTrue(index.topMatches(new JobProfile("J1", Map.of(), 3f, 0), 5).isEmpty());
+		assertTrue(index.topMatches(new JobProfile("J1", Map.of("rust", 1f), 3f, 1), 5).isEmpty());
+		assertTrue(new BenchSkillIndex(List.of()).topMatches(new JobProfile("J1", Map.of("java", 1f), 3f, 1), 5).isEmpty());
+	}
+
+	@Test
+	void experienceFitPrefersOverQualifiedToUnderQualified() {
+		assertEquals(1f, BenchSkillIndex.experienceFit(5f, 5f), 1e-6);
+		assertEquals(0.5f, BenchSkillIndex.experienceFit(3f, 5f), 1e-6);
+		assertEquals(0.5f, BenchSkillIndex.experienceFit(9f, 5f), 1e-6);
+		assertEquals(1f, BenchSkillIndex.experienceFit(2f, 0f), 1e-6);
+	}
+
+	// Scores every profile the way the index does (same summation order) and sorts them all
+	private static List<BenchMatch> fullSort(List<BenchProfile> bench, JobProfile job) {
+		float totalWeight = 0f;
+		for (float weight : job.getSkillWeights().values()) {
+			totalWeight += weight;
+		}
+		List<BenchMatch> matches = new ArrayList<>();
+		for (BenchProfile profile : bench) {
+			float overlap = 0f;
+			for (Map.Entry<String, Float> skill : job.getSkillWeights().entrySet()) {
+				if (profile.getSkills().contains(skill.getKey())) {
+					overlap += skill.getValue();
+				}
+			}
+			if (overlap == 0f) {
+				continue;
+			}
+			float skillScore = overlap / totalWeight;
+			float fit = BenchSkillIndex.experienceFit(profile.getTotalExperience(), job.getTargetExperience());
+			matches.add(new BenchMatch(profile, BenchSkillIndex.SKILL_WEIGHT * skillScore + BenchSkillIndex.EXPERIENCE_WEIGHT * fit,
+					skillScore, fit, List.of()));
+		}
+		matches.sort(Comparator.comparing(BenchMatch::getScore).reversed().thenComparing(BenchMatch::getBenchId));
+		return matches;
+	}
+
+	private static List<BenchProfile> randomBench(Random random, int size) {
+		List<BenchProfile> bench = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			Set<String> skills = new HashSet<>();
+			int count = 1 + random.nextInt(5);
+			for (int j = 0; j < count; j++) {
+				skills.add("skill" + random.nextInt(25));
+			}
+			// Whole years only, so many profiles tie on score
+			bench.add(new BenchProfile(String.format("B%04d", i), "Name " + i, null, random.nextInt(15), 0f, skills));
+		}
+		Collections.shuffle(bench, random);
+		return bench;
+	}
+
+	private static JobProfile randomJob(Random random) {
+		Map<String, Float> weights = new LinkedHashMap<>();
+		int count = 1 + random.nextInt(6);
+		for (int i = 0; i < count; i++) {
+			weights.put("skill" + random.nextInt(25), (1 + random.nextInt(4)) / 4f);
+		}
+		return new JobProfile("J1", weights, random.nextInt(12), 4);
+	}
+
+	private static BenchProfile profile(String id, float experience, String... skills) {
+		return new BenchProfile(id, id, null, experience, 0f, Set.of(skills));
+	}
+
+	private static List<String> ids(List<BenchMatch> matches) {
+		return matches.stream().map(BenchMatch::getBenchId).toList();
+	}
+}
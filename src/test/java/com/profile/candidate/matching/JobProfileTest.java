@@ -0,0 +1,44 @@
+package com.profile.candidate.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobProfileTest {
+
+	@Test
+	void weightsAreTheShareOfSubmissionsListingEachSkillHeaviestFirst() {
+		JobProfile job = JobProfile.fromSubmissions("J1",
+				List.of("Java, Kafka", "java / Spring-Boot", "ReactJS, Java", "Kafka"),
+				Arrays.asList(4f, 6f, null, 5f));
+
+		assertEquals(Map.of("java", 0.75f, "kafka", 0.5f, "react", 0.25f, "spring boot", 0.25f), job.getSkillWeights());
+		assertEquals(List.of("java", "kafka", "react", "spring boot"), new ArrayList<>(job.getSkillWeights().keySet()));
+		assertEquals(4, job.getSubmissionCount());
+	}
+
+	@Test
+	void medianOfAnOddCountIsTheMiddleValue() {
+		JobProfile job = JobProfile.fromSubmissions("J1", List.of("java", "java", "java"), List.of(9f, 2f, 5f));
+
+		assertEquals(5f, job.getTargetExperience());
+	}
+
+	@Test
+	void medianOfAnEvenCountAveragesTheMiddleTwo() {
+		JobProfile job = JobProfile.fromSubmissions("J1", List.of("java", "java", "java", "java"), List.of(10f, 2f, 4f, 7f));
+
+		assertEquals(5.5f, job.getTargetExperience());
+	}
+
+	@Test
+	void unknownAndZeroExperienceAreIgnored() {
+		assertEquals(6f, JobProfile.fromSubmissions("J1", List.of("a", "b", "c"), Arrays.asList(null, 0f, 6f)).getTargetExperience());
+		assertEquals(0f, JobProfile.fromSubmissions("J1", List.of("a"), Arrays.asList((Float) null)).getTargetExperience());
+	}
+}
@@ -0,0 +1,41 @@
+package com.profile.candidate.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillNormalizerTest {
+
+	@Test
+	void splitsOnEverySeparatorAndNormalisesEachPart() {
+		assertEquals(List.of("java", "spring boot", "aws", "docker", "sql"),
+				List.copyOf(SkillNormalizer.skillKeys(" Java ,Spring   Boot; AWS /Docker|\nSQL ")));
+	}
+
+	@Test
+	void foldsAliasesToOneKey() {
+		assertEquals(Set.of("react"), SkillNormalizer.skillKeys("ReactJS, react.js, React JS, React"));
+		assertEquals(Set.of("spring boot"), SkillNormalizer.skillKeys("SpringBoot / spring-boot"));
+		assertEquals(Set.of("kubernetes"), SkillNormalizer.skillKeys("k8s"));
+		assertEquals(Set.of("node.js"), SkillNormalizer.skillKeys("NodeJS, node"));
+		assertEquals(Set.of("dotnet"), SkillNormalizer.skillKeys(".NET Core, .net"));
+	}
+
+	@Test
+	void trailingDotsAndDashesAreDropped() {
+		assertEquals("java", SkillNormalizer.normalise("Java."));
+		assertEquals("react", SkillNormalizer.normalise("ReactJS -"));
+		assertEquals("c#", SkillNormalizer.normalise("C Sharp"));
+	}
+
+	@Test
+	void blankInputHasNoKeys() {
+		assertTrue(SkillNormalizer.skillKeys(null).isEmpty());
+		assertTrue(SkillNormalizer.skillKeys("  ").isEmpty());
+		assertTrue(SkillNormalizer.skillKeys(", ;/ |").isEmpty());
+	}
+}
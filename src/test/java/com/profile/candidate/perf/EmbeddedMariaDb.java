@@ -0,0 +1,43 @@
+package com.profile.candidate.perf;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+// One embedded MariaDB server per JVM, started on a free port. The schema is named "production"
+// because some dashboard queries qualify interview_details with it.
+final class EmbeddedMariaDb {
+
+	static final String DATABASE = "production";
+
+	private static DB db;
+	private static String url;
+
+	private EmbeddedMariaDb() {
+	}
+
+	static synchronized String url() {
+		if (url == null) {
+			start();
+		}
+		return url;
+	}
+
+	private static void start() {
+		DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+		config.setPort(0);
+		config.addArg("--character-set-server=utf8mb4");
+		config.addArg("--collation-server=utf8mb4_general_ci");
+		config.addArg("--max-connections=200");
+		config.addArg("--innodb-buffer-pool-size=256M");
+		try {
+			db = DB.newEmbeddedDB(config.build());
+			db.start();
+			db.createDB(DATABASE);
+		} catch (ManagedProcessException e) {
+			throw new IllegalStateException("Could not start embedded MariaDB", e);
+		}
+		url = config.getURL(DATABASE) + "?useSSL=false&allowPublicKeyRetrieval=true"
+				+ "&rewriteBatchedStatements=true&useCursorFetch=true";
+	}
+}
@@ -0,0 +1,129 @@
+package com.profile.candidate.perf;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// End-to-end latency run: seeds an embedded MariaDB, replays a weighted request mix through the full
+// Spring stack and writes per-endpoint percentiles to target/perf. Run with "mvn -Pperf test";
+// -Dperf.scale, -Dperf.requests, -Dperf.threads, -Dperf.warmup and -Dperf.seed tune the run.
+@Tag("perf")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("perf")
+class EndpointLatencyPerfTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(EndpointLatencyPerfTest.class);
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", EmbeddedMariaDb::url);
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void replayTrafficMix() throws Exception {
+		double scale = Double.parseDouble(System.getProperty("perf.scale", "1"));
+		int requests = Integer.getInteger("perf.requests", 2000);
+		int threads = Integer.getInteger("perf.threads", 4);
+		int warmup = Integer.getInteger("perf.warmup", 200);
+		long seed = Long.getLong("perf.seed", 42L);
+
+		long seedStart = System.nanoTime();
+		PerfDataset dataset = new PerfDataSeeder(jdbcTemplate, transactionTemplate, entityManager, seed).seed(scale);
+		logger.warn("Seeded {} in {} ms", dataset.summary(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+		TrafficMix mix = new TrafficMix(dataset);
+		replay(mix, new LatencyReport(), warmup, 1, seed - 1);
+
+		LatencyReport report = new LatencyReport();
+		long start = System.nanoTime();
+		replay(mix, report, requests, threads, seed);
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		String header = String.format("%d requests on %d threads in %d ms (scale %.2f, seed %d); %s; %d mails received",
+				requests, threads, elapsedMillis, scale, seed, dataset.summary(), greenMail.getReceivedMessages().length);
+		logger.warn("{}{}", System.lineSeparator(), report.render(header));
+		report.write(Path.of("target", "perf"), header);
+
+		assertEquals(0, report.totalErrors(), "Server errors during the replay, see target/perf/latency-report.txt");
+	}
+
+	// Each worker draws from its own seeded Random, so the same seed replays the same requests per thread
+	private void replay(TrafficMix mix, LatencyReport report, int requests, int threads, long seed) throws Exception {
+		AtomicInteger remaining = new AtomicInteger(requests);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			Future<?>[] workers = new Future<?>[threads];
+			for (int t = 0; t < threads; t++) {
+				Random random = new Random(seed * 31 + t);
+				workers[t] = pool.submit(() -> {
+					while (remaining.getAndDecrement() > 0) {
+						execute(mix.next(random), report);
+					}
+					return null;
+				});
+			}
+			for (Future<?> worker : workers) {
+				worker.get();
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private void execute(TrafficMix.Request request, LatencyReport report) throws Exception {
+		SqlStatementCounter.reset();
+		long start = System.nanoTime();
+		boolean error;
+		try {
+			MvcResult result = mockMvc.perform(request.builder()).andReturn();
+			// 4xx answers such as "no rows in range" are part of the normal mix; only 5xx counts as an error
+			error = result.getResponse().getStatus() >= 500;
+		} catch (ServletException e) {
+			logger.error("{} failed", request.label(), e);
+			error = true;
+		}
+		report.record(request.label(), System.nanoTime() - start, SqlStatementCounter.count(), error);
+	}
+}
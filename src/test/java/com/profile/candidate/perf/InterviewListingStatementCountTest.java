@@ -0,0 +1,99 @@
+package com.profile.candidate.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Pins the number of SQL statements per interview listing. Candidates, submission skills and job titles
+// are loaded once per result set, so the budgets do not depend on the number of rows; the date-range
+// listings also check that they returned more rows than their budget, so a per-row lookup cannot hide.
+class InterviewListingStatementCountTest extends SeededDatabaseTest {
+
+	private static final String START = LocalDate.now().minusDays(60).toString();
+	private static final String END = LocalDate.now().toString();
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void allInterviewsOfTheMonth() throws Exception {
+		// interviews + candidates + skills + job titles
+		perform(get("/candidate/allInterviews"), 4);
+	}
+
+	@Test
+	void interviewsByDateRange() throws Exception {
+		JsonNode body = perform(get("/candidate/interviews/filterByDate").param("startDate", START).param("endDate", END), 4);
+		assertMoreRowsThanBudget(body.get("data"), 4);
+	}
+
+	@Test
+	void interviewPage() throws Exception {
+		JsonNode body = perform(get("/candidate/interviews/page")
+				.param("startDate", START).param("endDate", END).param("limit", "50"), 4);
+		assertMoreRowsThanBudget(body.get("items"), 4);
+	}
+
+	@Test
+	void superAdminInterviewsByDateRange() throws Exception {
+		String superAdmin = dataset().users("SUPERADMIN").get(0);
+		// role + interviews assigned to the user + all interviews + candidates + skills + job titles
+		JsonNode body = perform(get("/candidate/interviews/{userId}/filterByDate", superAdmin)
+				.param("startDate", START).param("endDate", END), 6);
+		assertMoreRowsThanBudget(body.get("data"), 6);
+	}
+
+	@Test
+	void employeeInterviewsOfTheMonth() throws Exception {
+		String employee = dataset().users("EMPLOYEE").get(0);
+		// role + interviews + candidates + skills + job titles
+		perform(get("/candidate/interviews/interviewsByUserId/{userId}", employee), 5);
+	}
+
+	@Test
+	void teamleadInterviewsByDateRange() throws Exception {
+		String teamlead = dataset().users("TEAMLEAD").get(0);
+		// self and team interviews, each followed by candidates + skills + job titles
+		perform(get("/candidate/interviews/teamlead/{userId}/filterByDate", teamlead)
+				.param("startDate", START).param("endDate", END), 8);
+	}
+
+	@Test
+	void teamleadInterviewsOfTheMonth() throws Exception {
+		String teamlead = dataset().users("TEAMLEAD").get(0);
+		perform(get("/candidate/interviews/teamlead/{userId}", teamlead), 8);
+	}
+
+	@Test
+	void interviewsOfOneCandidate() throws Exception {
+		String candidateId = dataset().submissionJobs.get(0)[0];
+		// candidate + interviews + candidates + skills + job titles
+		perform(get("/candidate/interviewByCandidateId/{candidateId}", candidateId), 5);
+	}
+
+	private JsonNode perform(MockHttpServletRequestBuilder request, int maxStatements) throws Exception {
+		dataset();
+		SqlStatementCounter.reset();
+		MvcResult result = mockMvc.perform(request).andReturn();
+		int statements = SqlStatementCounter.count();
+		int status = result.getResponse().getStatus();
+		assertTrue(status < 500, "Request failed with status " + status);
+		assertTrue(statements <= maxStatements,
+				"Expected at most " + maxStatements + " SQL statements but " + statements + " were issued");
+		String content = result.getResponse().getContentAsString();
+		return content.isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(content);
+	}
+
+	private static void assertMoreRowsThanBudget(JsonNode rows, int maxStatements) {
+		assertTrue(rows != null && rows.size() > maxStatements,
+				"Too few seeded rows for the statement budget to catch a per-row lookup");
+	}
+}
@@ -0,0 +1,82 @@
+package com.profile.candidate.perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+// Per-endpoint latency percentiles (nearest rank) and SQL statement counts for one replay
+final class LatencyReport {
+
+	private final Map<String, Samples> byLabel = new TreeMap<>();
+
+	synchronized void record(String label, long nanos, int statements, boolean error) {
+		byLabel.computeIfAbsent(label, k -> new Samples()).add(nanos, statements, error);
+	}
+
+	synchronized String render(String header) {
+		StringBuilder out = new StringBuilder(header).append(System.lineSeparator());
+		out.append(String.format("%-62s %6s %5s %9s %9s %9s %9s %8s %7s%n",
+				"endpoint", "count", "err", "p50 ms", "p90 ms", "p99 ms", "max ms", "sql avg", "sql max"));
+		byLabel.forEach((label, s) -> out.append(String.format(Locale.ROOT, "%-62s %6d %5d %9.2f %9.2f %9.2f %9.2f %8.1f %7d%n",
+				label, s.count(), s.errors, s.percentileMillis(50), s.percentileMillis(90), s.percentileMillis(99),
+				s.percentileMillis(100), s.meanStatements(), s.maxStatements)));
+		return out.toString();
+	}
+
+	synchronized String csv() {
+		StringBuilder out = new StringBuilder("endpoint,count,errors,p50_ms,p90_ms,p99_ms,max_ms,sql_mean,sql_max\n");
+		byLabel.forEach((label, s) -> out.append(String.format(Locale.ROOT, "\"%s\",%d,%d,%.3f,%.3f,%.3f,%.3f,%.2f,%d%n",
+				label, s.count(), s.errors, s.percentileMillis(50), s.percentileMillis(90), s.percentileMillis(99),
+				s.percentileMillis(100), s.meanStatements(), s.maxStatements)));
+		return out.toString();
+	}
+
+	synchronized int totalErrors() {
+		return byLabel.values().stream().mapToInt(s -> s.errors).sum();
+	}
+
+	void write(Path directory, String header) throws IOException {
+		Files.createDirectories(directory);
+		Files.writeString(directory.resolve("latency-report.txt"), render(header));
+		Files.writeString(directory.resolve("latency-report.csv"), csv());
+	}
+
+	private static final class Samples {
+		private final List<Long> nanos = new ArrayList<>();
+		private long statements;
+		private int maxStatements;
+		private int errors;
+		private boolean sorted = true;
+
+		void add(long elapsed, int sql, boolean error) {
+			nanos.add(elapsed);
+			sorted = false;
+			statements += sql;
+			maxStatements = Math.max(maxStatements, sql);
+			if (error) {
+				errors++;
+			}
+		}
+
+		int count() {
+			return nanos.size();
+		}
+
+		double percentileMillis(int percentile) {
+			if (nanos.isEmpty()) {
+				return 0;
+			}
+			if (!sorted) {
+				Collections.sort(nanos);
+				sorted = true;
+			}
+			int rank = (int) Math.ceil(percentile / 100.0 * nanos.size());
+			return nanos.get(Math.max(0, rank - 1)) / 1_000_000.0;
+		}
+
+		double meanStatements() {
+			return nanos.isEmpty() ? 0 : (double) statements / nanos.size();
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.profile.candidate.perf;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// The submission and bench listings must never read the legacy resume BLOB: every statement they
+// issue is recorded and checked for the resume column. Rows are given inline resumes first, so a
+// regression would also show up as a slow, memory-hungry listing.
+class ListingLobAccessTest extends SeededDatabaseTest {
+
+	private static final Pattern RESUME_COLUMN = Pattern.compile("(?i)\\bresume\\b");
+
+	@Test
+	void listingsDoNotSelectResumeBlobs() throws Exception {
+		PerfDataset dataset = dataset();
+		byte[] resume = new byte[4 * 1024];
+		jdbcTemplate.update("UPDATE candidate_submissions SET resume = ?", (Object) resume);
+		jdbcTemplate.update("UPDATE bench_details SET resume = ?", (Object) resume);
+
+		String start = LocalDate.now().minusDays(30).toString();
+		String end = LocalDate.now().toString();
+		String employee = dataset.users("EMPLOYEE").get(0);
+		String bdm = dataset.users("BDM").get(0);
+
+		Map<String, MockHttpServletRequestBuilder> listings = new LinkedHashMap<>();
+		listings.put("/submissions", get("/candidate/submissions"));
+		listings.put("/submissions/filterByDate", get("/candidate/submissions/filterByDate")
+				.param("startDate", start).param("endDate", end));
+		listings.put("/submissions/{employee}/filterByDate", get("/candidate/submissions/{userId}/filterByDate", employee)
+				.param("startDate", start).param("endDate", end));
+		listings.put("/submissions/{bdm}/filterByDate", get("/candidate/submissions/{userId}/filterByDate", bdm)
+				.param("startDate", start).param("endDate", end));
+		listings.put("/submissionsByUserId/{employee}", get("/candidate/submissionsByUserId/{userId}", employee));
+		listings.put("/submissionsByUserId/{bdm}", get("/candidate/submissionsByUserId/{userId}", bdm));
+		listings.put("/submissions/{candidateId}", get("/candidate/submissions/{candidateId}", dataset.candidateIds.get(0)));
+		listings.put("/submissions/page", get("/candidate/submissions/page").param("limit", "50"));
+		listings.put("/submissions/stream", get("/candidate/submissions/stream")
+				.param("startDate", start).param("endDate", end));
+		listings.put("/bench/getBenchList", get("/candidate/bench/getBenchList"));
+		listings.put("/bench/filter-by-date", get("/candidate/bench/filter-by-date")
+				.param("startDate", start).param("endDate", end));
+		listings.put("/bench/page", get("/candidate/bench/page").param("limit", "50"));
+		listings.put("/bench/stream", get("/candidate/bench/stream"));
+
+		List<String> failures = new ArrayList<>();
+		for (Map.Entry<String, MockHttpServletRequestBuilder> listing : listings.entrySet()) {
+			SqlStatementCounter.startRecording();
+			int status;
+			try {
+				MvcResult result = mockMvc.perform(listing.getValue()).andReturn();
+				if (result.getRequest().isAsyncStarted()) {
+					result = mockMvc.perform(asyncDispatch(result)).andReturn();
+				}
+				status = result.getResponse().getStatus();
+			} finally {
+				List<String> statements = SqlStatementCounter.stopRecording();
+				statements.stream()
+						.filter(sql -> RESUME_COLUMN.matcher(sql).find())
+						.forEach(sql -> failures.add(listing.getKey() + " read the resume column: " + sql));
+			}
+			if (status >= 500) {
+				failures.add(listing.getKey() + " answered " + status);
+			}
+		}
+
+		assertTrue(failures.isEmpty(), String.join(System.lineSeparator(), failures));
+	}
+}
@@ -0,0 +1,307 @@
+package com.profile.candidate.perf;
+
+import com.profile.candidate.model.*;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+// Fills the embedded database with a deterministic data set whose size follows -Dperf.scale.
+// Entity tables are written through JPA so the rows match the production mappings; tables owned by
+// other services are written with plain JDBC. Dates are spread over the last six months.
+final class PerfDataSeeder {
+
+	private static final int FLUSH_EVERY = 1000;
+	private static final ZoneOffset IST = ZoneOffset.of("+05:30");
+	private static final String[] ROLES = {"EMPLOYEE", "TEAMLEAD", "BDM", "COORDINATOR", "SUPERADMIN"};
+	private static final String[] TECHNOLOGIES = {"Java Developer", "React Developer", "Data Engineer", "DevOps Engineer",
+			"QA Automation", "Salesforce Developer", ".NET Developer", "Python Developer"};
+	private static final String[] LOCATIONS = {"Hyderabad", "Bangalore", "Chennai", "Pune", "Remote"};
+	private static final String[] INTERVIEW_LEVELS = {"INTERNAL", "EXTERNAL-L1", "EXTERNAL-L2", "FINAL"};
+	private static final String[] STATUSES = {"RESCHEDULED", "SELECTED", "REJECTED", "ON HOLD", "PLACED"};
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final EntityManager entityManager;
+	private final Random random;
+	private final LocalDate today = LocalDate.now();
+
+	PerfDataSeeder(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, EntityManager entityManager, long seed) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.entityManager = entityManager;
+		this.random = new Random(seed);
+	}
+
+	PerfDataset seed(double scale) {
+		PerfDataset dataset = new PerfDataset();
+		seedUsers(dataset);
+		seedClientsAndRequirements(dataset, scaled(1_000, scale));
+		seedCandidatesAndSubmissions(dataset, scaled(20_000, scale), scaled(30_000, scale));
+		seedInterviews(dataset, scaled(8_000, scale));
+		seedPlacements(dataset, scaled(1_000, scale));
+		seedBench(dataset, scaled(3_000, scale));
+		return dataset;
+	}
+
+	private static int scaled(int base, double scale) {
+		return Math.max(10, (int) Math.round(base * scale));
+	}
+
+	private void seedUsers(PerfDataset dataset) {
+		List<Object[]> roles = new ArrayList<>();
+		for (int i = 0; i < ROLES.length; i++) {
+			roles.add(new Object[]{i + 1, ROLES[i]});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO roles (id, name) VALUES (?, ?)", roles);
+
+		int[] perRole = {60, 15, 10, 10, 5};
+		List<Object[]> users = new ArrayList<>();
+		List<Object[]> userRoles = new ArrayList<>();
+		int n = 0;
+		for (int role = 0; role < ROLES.length; role++) {
+			for (int i = 0; i < perRole[role]; i++) {
+				String userId = String.format("ADRTIN%04d", ++n);
+				String userName = ROLES[role].toLowerCase() + i;
+				users.add(new Object[]{userId, userName, userName + "@dataqinc.com",
+						role == 4 && i == 0, timestamp(randomDay(365))});
+				userRoles.add(new Object[]{userId, role + 1});
+				dataset.usersByRole.computeIfAbsent(ROLES[role], k -> new ArrayList<>()).add(userId);
+				dataset.userNames.put(userId, userName);
+			}
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO user_details (user_id, user_name, email, primary_super_admin, created_at) "
+				+ "VALUES (?, ?, ?, ?, ?)", users);
+		jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", userRoles);
+	}
+
+	private void seedClientsAndRequirements(PerfDataset dataset, int jobCount) {
+		List<String> bdms = dataset.usersByRole.get("BDM");
+		List<String> teamleads = dataset.usersByRole.get("TEAMLEAD");
+		List<String> employees = dataset.usersByRole.get("EMPLOYEE");
+
+		int clientCount = Math.max(5, jobCount / 12);
+		List<Object[]> clients = new ArrayList<>();
+		for (int i = 0; i < clientCount; i++) {
+			String clientName = "Client " + i;
+			clients.add(new Object[]{String.format("CLIENT%04d", i), clientName,
+					dataset.userNames.get(pick(bdms)), timestamp(randomDay(365))});
+			dataset.clientNames.add(clientName);
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO bdm_client (id, client_name, on_boarded_by, created_at) VALUES (?, ?, ?, ?)", clients);
+
+		List<Object[]> requirements = new ArrayList<>();
+		List<Object[]> recruiters = new ArrayList<>();
+		for (int i = 0; i < jobCount; i++) {
+			String jobId = String.format("JOB%05d", i);
+			String clientName = dataset.clientNames.get(i % clientCount);
+			requirements.add(new Object[]{jobId, pick(TECHNOLOGIES), clientName,
+					dataset.userNames.get(pick(teamleads)), "In Progress", timestamp(randomDay(180))});
+			String first = pick(employees);
+			String second = pick(employees);
+			recruiters.add(new Object[]{jobId, first});
+			if (!second.equals(first)) {
+				recruiters.add(new Object[]{jobId, second});
+			}
+			dataset.jobIds.add(jobId);
+			dataset.jobClients.put(jobId, clientName);
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO requirements_model (job_id, job_title, client_name, assigned_by, status, "
+				+ "requirement_added_time_stamp) VALUES (?, ?, ?, ?, ?, ?)", requirements);
+		jdbcTemplate.batchUpdate("INSERT INTO job_recruiters (job_id, recruiter_id) VALUES (?, ?)", recruiters);
+	}
+
+	private void seedCandidatesAndSubmissions(PerfDataset dataset, int candidateCount, int submissionCount) {
+		List<String> recruiters = new ArrayList<>(dataset.usersByRole.get("EMPLOYEE"));
+		recruiters.addAll(dataset.usersByRole.get("TEAMLEAD"));
+
+		inBatches(candidateCount, i -> {
+			String userId = pick(recruiters);
+			CandidateDetails candidate = new CandidateDetails();
+			candidate.setCandidateId(String.format("CAND%05d", i + 1));
+			candidate.setUserId(userId);
+			candidate.setUserEmail(dataset.userNames.get(userId) + "@dataqinc.com");
+			candidate.setFullName("Candidate " + i);
+			candidate.setCandidateEmailId("candidate" + i + "@mail.com");
+			candidate.setContactNumber(String.format("9%09d", i));
+			candidate.setCurrentOrganization("Org " + random.nextInt(400));
+			candidate.setQualification("B.Tech");
+			candidate.setTotalExperience(1 + random.nextInt(15));
+			candidate.setRelevantExperience(1 + random.nextInt(8));
+			candidate.setCurrentCTC((6 + random.nextInt(20)) + " LPA");
+			candidate.setExpectedCTC((10 + random.nextInt(20)) + " LPA");
+			candidate.setNoticePeriod(pick(new String[]{"Immediate", "15 days", "30 days", "60 days"}));
+			candidate.setCurrentLocation(pick(LOCATIONS));
+			candidate.setTimestamp(randomDay(180).atTime(10, 0));
+			entityManager.persist(candidate);
+			dataset.candidateIds.add(candidate.getCandidateId());
+			dataset.candidateOwners.put(candidate.getCandidateId(), userId);
+		});
+
+		inBatches(submissionCount, i -> {
+			String candidateId = dataset.candidateIds.get(i % candidateCount);
+			// Successive passes over the candidate list give a candidate submissions to different jobs
+			String jobId = dataset.jobIds.get((i + i / candidateCount * 7) % dataset.jobIds.size());
+			String userId = dataset.candidateOwners.get(candidateId);
+			LocalDate received = randomDay(180);
+			Submissions submission = new Submissions();
+			submission.setSubmissionId(String.format("SUB%06d", i + 1));
+			submission.setCandidate(entityManager.getReference(CandidateDetails.class, candidateId));
+			submission.setJobId(jobId);
+			submission.setUserId(userId);
+			submission.setUserEmail(dataset.userNames.get(userId) + "@dataqinc.com");
+			submission.setRecruiterName(dataset.userNames.get(userId));
+			submission.setClientName(dataset.jobClients.get(jobId));
+			submission.setProfileReceivedDate(received);
+			submission.setSubmittedAt(received.atTime(11, 0));
+			submission.setSkills("Java, Spring Boot, MySQL, Kafka");
+			submission.setCommunicationSkills("Good");
+			submission.setRequiredTechnologiesRating(3.0 + random.nextInt(5) * 0.5);
+			submission.setOverallFeedback("Strong fundamentals");
+			submission.setPreferredLocation(pick(LOCATIONS));
+			submission.setStatus("SUBMITTED");
+			entityManager.persist(submission);
+			dataset.submissionIds.add(submission.getSubmissionId());
+			dataset.submissionJobs.add(new String[]{candidateId, jobId});
+		});
+	}
+
+	private void seedInterviews(PerfDataset dataset, int interviewCount) {
+		List<String> coordinators = dataset.usersByRole.get("COORDINATOR");
+		int count = Math.min(interviewCount, dataset.submissionJobs.size());
+		inBatches(count, i -> {
+			// Every third submission gets an interview, so the ids stay unique
+			String[] submission = dataset.submissionJobs.get(i * 3 % dataset.submissionJobs.size());
+			String candidateId = submission[0];
+			String jobId = submission[1];
+			String userId = dataset.candidateOwners.get(candidateId);
+			String level = INTERVIEW_LEVELS[random.nextInt(INTERVIEW_LEVELS.length)];
+			LocalDateTime scheduledOn = randomDay(180).atTime(9 + random.nextInt(8), 0);
+			OffsetDateTime interviewAt = scheduledOn.plusDays(1 + random.nextInt(14)).atOffset(IST);
+
+			InterviewDetails interview = new InterviewDetails();
+			interview.setInterviewId(candidateId + "_CLIENT_" + jobId);
+			interview.setClientId("CLIENT");
+			interview.setCandidateId(candidateId);
+			interview.setJobId(jobId);
+			interview.setUserId(userId);
+			interview.setUserEmail(dataset.userNames.get(userId) + "@dataqinc.com");
+			interview.setRecruiterName(dataset.userNames.get(userId));
+			interview.setClientName(dataset.jobClients.get(jobId));
+			interview.setFullName("Candidate " + candidateId.substring(4));
+			interview.setCandidateEmailId("candidate" + Integer.parseInt(candidateId.substring(4)) + "@mail.com");
+			interview.setContactNumber(String.format("9%09d", Integer.parseInt(candidateId.substring(4)) - 1));
+			interview.setInterviewLevel(level);
+			interview.setInterviewDateTime(interviewAt);
+			interview.setDuration(30 + 15 * random.nextInt(3));
+			interview.setZoomLink("https://zoom.us/j/" + (100000000L + i));
+			interview.setTimestamp(scheduledOn);
+			interview.setClientEmailList(List.of("hiring@" + dataset.jobClients.get(jobId).replace(' ', '-').toLowerCase() + ".com"));
+
+			OffsetDateTime statusAt = scheduledOn.atOffset(IST);
+			String status = "SCHEDULED";
+			String history = InterviewStatusHistoryCodec.append(null, status, level, statusAt);
+			for (int stage = random.nextInt(4); stage > 0; stage--) {
+				statusAt = statusAt.plusDays(1);
+				status = pick(STATUSES);
+				history = InterviewStatusHistoryCodec.append(history, status, level, statusAt);
+			}
+			interview.setInterviewStatus(history);
+			interview.updateLatestStatus(status, level, statusAt);
+
+			if ("INTERNAL".equals(level)) {
+				String coordinator = pick(coordinators);
+				interview.setAssignedTo(coordinator);
+				interview.setCoordinatorName(dataset.userNames.get(coordinator));
+				dataset.internalInterviews.add(new String[]{coordinator, interview.getInterviewId()});
+			}
+			entityManager.persist(interview);
+			dataset.interviewIds.add(interview.getInterviewId());
+		});
+	}
+
+	private void seedPlacements(PerfDataset dataset, int placementCount) {
+		List<String> employees = dataset.usersByRole.get("EMPLOYEE");
+		inBatches(placementCount, i -> {
+			String candidateId = dataset.candidateIds.get(i * 11 % dataset.candidateIds.size());
+			PlacementDetails placement = new PlacementDetails();
+			placement.setId(String.format("PLMNT%04d", i + 1));
+			placement.setCandidateId(candidateId);
+			placement.setCandidateFullName("Candidate " + candidateId.substring(4));
+			placement.setCandidateEmailId("placed" + i + "@mail.com");
+			placement.setCandidateContactNo(String.format("8%09d", i));
+			placement.setClientName(pick(dataset.clientNames.toArray(new String[0])));
+			placement.setTechnology(pick(TECHNOLOGIES));
+			placement.setVendorName("Vendor " + random.nextInt(30));
+			placement.setRecruiterName(dataset.userNames.get(pick(employees)));
+			placement.setSales("sales" + random.nextInt(5));
+			placement.setBillRate(String.valueOf(60 + random.nextInt(40)));
+			placement.setPayRate(String.valueOf(40 + random.nextInt(20)));
+			placement.setGrossProfit(String.valueOf(10 + random.nextInt(20)));
+			placement.setEmploymentType(random.nextInt(4) == 0 ? "Full-time" : "C2C");
+			placement.setStatus(random.nextInt(10) == 0 ? "inactive" : "Active");
+			LocalDate created = randomDay(180);
+			placement.setCreatedAt(created);
+			placement.setStartDate(created.plusDays(15));
+			placement.setHourlyRate(BigDecimal.valueOf(40 + random.nextInt(40)));
+			entityManager.persist(placement);
+			dataset.placementIds.add(placement.getId());
+		});
+	}
+
+	private void seedBench(PerfDataset dataset, int benchCount) {
+		inBatches(benchCount, i -> {
+			BenchDetails bench = new BenchDetails();
+			bench.setId(String.format("BENCH%03d", i + 1));
+			bench.setFullName("Bench Candidate " + i);
+			bench.setEmail("bench" + i + "@mail.com");
+			bench.setContactNumber(String.format("7%09d", i));
+			bench.setTotalExperience(BigDecimal.valueOf(2 + random.nextInt(12)));
+			bench.setRelevantExperience(BigDecimal.valueOf(1 + random.nextInt(8)));
+			bench.setSkills(List.of("Java", "Spring Boot", pick(new String[]{"AWS", "Azure", "GCP"})));
+			bench.setTechnology(pick(TECHNOLOGIES));
+			bench.setReferredBy("referrer" + random.nextInt(20));
+			bench.setCreatedDate(randomDay(180));
+			entityManager.persist(bench);
+			dataset.benchIds.add(bench.getId());
+		});
+	}
+
+	// Persists count rows in transactions of FLUSH_EVERY rows so the persistence context stays small
+	private void inBatches(int count, IntConsumer row) {
+		for (int start = 0; start < count; start += FLUSH_EVERY) {
+			int from = start;
+			int to = Math.min(count, start + FLUSH_EVERY);
+			transactionTemplate.executeWithoutResult(status -> {
+				for (int i = from; i < to; i++) {
+					row.accept(i);
+				}
+				entityManager.flush();
+				entityManager.clear();
+			});
+		}
+	}
+
+	private LocalDate randomDay(int daysBack) {
+		return today.minusDays(random.nextInt(daysBack));
+	}
+
+	private static Timestamp timestamp(LocalDate day) {
+		return Timestamp.valueOf(day.atTime(9, 30));
+	}
+
+	private String pick(List<String> values) {
+		return values.get(random.nextInt(values.size()));
+	}
+
+	private String pick(String[] values) {
+		return values[random.nextInt(values.length)];
+	}
+}
@@ -0,0 +1,33 @@
+package com.profile.candidate.perf;
+
+import java.util.*;
+
+// Ids written by PerfDataSeeder, used by TrafficMix to build requests that hit real rows
+final class PerfDataset {
+
+	final Map<String, List<String>> usersByRole = new LinkedHashMap<>();
+	final Map<String, String> userNames = new HashMap<>();
+	final List<String> clientNames = new ArrayList<>();
+	final List<String> jobIds = new ArrayList<>();
+	final Map<String, String> jobClients = new HashMap<>();
+	final List<String> candidateIds = new ArrayList<>();
+	final Map<String, String> candidateOwners = new HashMap<>();
+	final List<String> submissionIds = new ArrayList<>();
+	// {candidateId, jobId} per submission, in insertion order
+	final List<String[]> submissionJobs = new ArrayList<>();
+	final List<String> interviewIds = new ArrayList<>();
+	// {coordinatorId, interviewId} for INTERNAL interviews
+	final List<String[]> internalInterviews = new ArrayList<>();
+	final List<String> placementIds = new ArrayList<>();
+	final List<String> benchIds = new ArrayList<>();
+
+	List<String> users(String role) {
+		return usersByRole.getOrDefault(role, List.of());
+	}
+
+	String summary() {
+		return String.format("%d users, %d clients, %d jobs, %d candidates, %d submissions, %d interviews, %d placements, %d bench",
+				userNames.size(), clientNames.size(), jobIds.size(), candidateIds.size(), submissionIds.size(),
+				interviewIds.size(), placementIds.size(), benchIds.size());
+	}
+}
@@ -0,0 +1,52 @@
+package com.profile.candidate.perf;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Base of the regular (untagged) tests that run against the embedded MariaDB. All subclasses share one
+// Spring context and one data set seeded on first use; a subclass that changed the context configuration
+// would get a second context whose ddl-auto=create drops the seeded entity tables.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("perf")
+abstract class SeededDatabaseTest {
+
+	private static final double SCALE = 0.1;
+	private static final long SEED = 7L;
+
+	private static PerfDataset dataset;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", EmbeddedMariaDb::url);
+	}
+
+	@Autowired
+	protected MockMvc mockMvc;
+
+	@Autowired
+	protected JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	protected PerfDataset dataset() {
+		synchronized (SeededDatabaseTest.class) {
+			if (dataset == null) {
+				dataset = new PerfDataSeeder(jdbcTemplate, transactionTemplate, entityManager, SEED).seed(SCALE);
+			}
+			return dataset;
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.profile.candidate.perf;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Counts the SQL statements Hibernate prepares on the current thread. MockMvc runs each request
+// on the calling thread, so reset() before a request and count() after it gives the per-request total.
+// startRecording() / stopRecording() additionally capture the statement text from every thread,
+// which also covers streaming endpoints that write their body on an async worker.
+public class SqlStatementCounter implements StatementInspector {
+
+	private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+	private static volatile List<String> recorded;
+
+	@Override
+	public String inspect(String sql) {
+		COUNT.get()[0]++;
+		List<String> sink = recorded;
+		if (sink != null) {
+			sink.add(sql);
+		}
+		return sql;
+	}
+
+	static void reset() {
+		COUNT.get()[0] = 0;
+	}
+
+	static int count() {
+		return COUNT.get()[0];
+	}
+
+	static void startRecording() {
+		recorded = Collections.synchronizedList(new ArrayList<>());
+	}
+
+	static List<String> stopRecording() {
+		List<String> statements = recorded;
+		recorded = null;
+		return statements != null ? new ArrayList<>(statements) : List.of();
+	}
+}
@@ -0,0 +1,113 @@
+package com.profile.candidate.perf;
+
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+// Weighted request templates modelled on the dashboard's traffic: mostly list and filter reads,
+// with a small share of coordinator status updates. Requests are grouped in the report by label.
+final class TrafficMix {
+
+	private static final String[] COORDINATOR_STATUSES = {"SELECTED", "REJECTED", "ON HOLD", "RESCHEDULED"};
+
+	private final List<Template> templates = new ArrayList<>();
+	private final PerfDataset dataset;
+	private int totalWeight;
+
+	TrafficMix(PerfDataset dataset) {
+		this.dataset = dataset;
+
+		add("GET /submissions", 2, (r, d) -> get("/candidate/submissions"));
+		add("GET /submissions/filterByDate", 8, (r, d) -> withRange(get("/candidate/submissions/filterByDate"), r));
+		add("GET /submissions/{userId}/filterByDate", 8, (r, d) ->
+				withRange(get("/candidate/submissions/{userId}/filterByDate", pick(r, d.users("EMPLOYEE"))), r));
+		add("GET /submissionsByUserId/{userId}", 6, (r, d) ->
+				get("/candidate/submissionsByUserId/{userId}", pick(r, d.users("EMPLOYEE"))));
+		add("GET /submissions/teamlead/{userId}", 5, (r, d) ->
+				get("/candidate/submissions/teamlead/{userId}", pick(r, d.users("TEAMLEAD"))));
+		add("GET /submissions/page", 6, (r, d) -> get("/candidate/submissions/page").param("limit", "50"));
+		add("GET /interviews/interviewsByUserId/{userId}", 8, (r, d) ->
+				get("/candidate/interviews/interviewsByUserId/{userId}", pick(r, d.users("EMPLOYEE"))));
+		add("GET /interviews/filterByDate", 8, (r, d) -> withRange(get("/candidate/interviews/filterByDate"), r));
+		add("GET /interviews/teamlead/{userId}", 5, (r, d) ->
+				get("/candidate/interviews/teamlead/{userId}", pick(r, d.users("TEAMLEAD"))));
+		add("GET /interviewsById/{interviewId}", 6, (r, d) ->
+				get("/candidate/interviewsById/{interviewId}", pick(r, d.interviewIds)));
+		add("GET /coordinatorInterviews/{userId}", 5, (r, d) -> {
+			String coordinator = pick(r, d.users("COORDINATOR"));
+			// The handler binds userId as a request parameter, not from the path
+			return get("/candidate/coordinatorInterviews/{userId}", coordinator).param("userId", coordinator);
+		});
+		add("GET /interviewSlots/{userId}/free", 5, (r, d) -> {
+			OffsetDateTime from = OffsetDateTime.now(ZoneOffset.of("+05:30")).truncatedTo(ChronoUnit.HOURS)
+					.minusDays(r.nextInt(30));
+			return get("/candidate/interviewSlots/{userId}/free", pick(r, d.users("COORDINATOR")))
+					.param("from", from.toString())
+					.param("to", from.plusDays(3).toString())
+					.param("duration", "60");
+		});
+		add("GET /placement/placements-list", 4, (r, d) -> get("/candidate/placement/placements-list"));
+		add("GET /dashboardcounts", 6, (r, d) -> r.nextBoolean()
+				? get("/candidate/dashboardcounts")
+				: get("/candidate/dashboardcounts").param("recruiterId", pick(r, d.users("EMPLOYEE"))));
+		add("GET /dashboardcounts/filterByDate", 5, (r, d) -> withRange(get("/candidate/dashboardcounts/filterByDate"), r));
+		add("GET /bench/getBenchList", 3, (r, d) -> get("/candidate/bench/getBenchList"));
+		add("GET /bench/page", 4, (r, d) -> get("/candidate/bench/page").param("limit", "50"));
+		add("PUT /updateInterviewByCoordinator/{coordinatorId}/{interviewId}", 3, (r, d) -> {
+			String[] internal = d.internalInterviews.get(r.nextInt(d.internalInterviews.size()));
+			String status = COORDINATOR_STATUSES[r.nextInt(COORDINATOR_STATUSES.length)];
+			return put("/candidate/updateInterviewByCoordinator/{coordinatorId}/{interviewId}", internal[0], internal[1])
+					.contentType(MediaType.APPLICATION_JSON)
+					.content("{\"interviewStatus\":\"" + status + "\",\"internalFeedBack\":\"perf run feedback\"}");
+		});
+	}
+
+	private void add(String label, int weight, BiFunction<Random, PerfDataset, RequestBuilder> factory) {
+		templates.add(new Template(label, weight, factory));
+		totalWeight += weight;
+	}
+
+	Request next(Random random) {
+		int roll = random.nextInt(totalWeight);
+		for (Template template : templates) {
+			roll -= template.weight;
+			if (roll < 0) {
+				return new Request(template.label, template.factory.apply(random, dataset));
+			}
+		}
+		throw new IllegalStateException("Weights do not add up to " + totalWeight);
+	}
+
+	List<String> labels() {
+		return templates.stream().map(t -> t.label).toList();
+	}
+
+	// Windows of one to four weeks ending somewhere in the seeded six months
+	private static MockHttpServletRequestBuilder withRange(MockHttpServletRequestBuilder builder, Random random) {
+		LocalDate end = LocalDate.now().minusDays(random.nextInt(150));
+		LocalDate start = end.minusWeeks(1 + random.nextInt(4));
+		return builder.param("startDate", start.toString()).param("endDate", end.toString());
+	}
+
+	private static String pick(Random random, List<String> values) {
+		return values.get(random.nextInt(values.size()));
+	}
+
+	record Request(String label, RequestBuilder builder) {
+	}
+
+	private record Template(String label, int weight, BiFunction<Random, PerfDataset, RequestBuilder> factory) {
+	}
+}
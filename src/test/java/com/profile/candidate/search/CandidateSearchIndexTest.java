@@ -0,0 +1,206 @@
+package com.profile.candidate.search;
+
+import com.profile.candidate.dto.BenchDetailsDto;
+import com.profile.candidate.dto.CandidateSearchQuery;
+import com.profile.candidate.dto.CandidateSearchResponse;
+import com.profile.candidate.dto.SubmissionListRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidateSearchIndexTest {
+
+	@TempDir
+	Path dir;
+
+	private CandidateSearchIndex index;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		index = new CandidateSearchIndex(dir);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		index.close();
+	}
+
+	@Test
+	void emptyIndexReturnsNoHits() throws IOException {
+		CandidateSearchResponse response = index.search(query(null, null, null, null, null, null));
+
+		assertEquals(0, response.getTotal());
+		assertTrue(response.getHits().isEmpty());
+	}
+
+	@Test
+	void freeTextMatchesNameSkillsAndResumeText() throws IOException {
+		index.putSubmission(submission("S1", "C1", "Asha Rao", "Java, Spring Boot", "Hyderabad", 4f), "Built Kafka pipelines");
+		index.putSubmission(submission("S2", "C2", "Ravi Kumar", "Python", "Pune", 6f), null);
+		index.commit();
+
+		assertEquals(Set.of("S1"), ids(index.search(query("asha", null, null, null, null, null))));
+		assertEquals(Set.of("S2"), ids(index.search(query("python", null, null, null, null, null))));
+		assertEquals(Set.of("S1"), ids(index.search(query("kafka", null, null, null, null, null))));
+	}
+
+	@Test
+	void skillFiltersRequireEverySkillAndLocationsMatchAny() throws IOException {
+		index.putSubmission(submission("S1", "C1", "Asha Rao", "Java, Spring Boot", "Hyderabad", 4f), null);
+		index.putSubmission(submission("S2", "C2", "Ravi Kumar", "Java / Kafka", "Pune", 6f), null);
+		index.putSubmission(submission("S3", "C3", "Meena Iyer", "Python", "Chennai", 2f), null);
+		index.commit();
+
+		assertEquals(Set.of("S1", "S2"), ids(index.search(query(null, List.of("JAVA"), null, null, null, null))));
+		assertEquals(Set.of("S2"), ids(index.search(query(null, List.of("java", "kafka"), null, null, null, null))));
+		assertEquals(Set.of("S1"), ids(index.search(query(null, List.of(" spring   boot "), null, null, null, null))));
+		assertEquals(Set.of("S2", "S3"), ids(index.search(query(null, null, List.of("pune", "Chennai"), null, null, null))));
+	}
+
+	@Test
+	void skillFiltersFoldAliasesLikeTheMatcher() throws IOException {
+		index.putSubmission(submission("S1", "C1", "Asha Rao", "React, Spring-Boot", "Hyderabad", 4f), null);
+		index.putBench(bench("BENCH1", "Meena Iyer", List.of("ReactJS"), "k8s", 5), null);
+		index.commit();
+
+		assertEquals(Set.of("S1", "BENCH1"), ids(index.search(query(null, List.of("reactjs"), null, null, null, null))));
+		assertEquals(Set.of("S1"), ids(index.search(query(null, List.of("springboot"), null, null, null, null))));
+		assertEquals(Set.of("BENCH1"), ids(index.search(query(null, List.of("Kubernetes"), null, null, null, null))));
+		assertEquals(Set.of("BENCH1"), ids(index.search(query(null, List.of("react, k8s"), null, null, null, null))));
+	}
+
+	@Test
+	void experienceRangeIsInclusiveAndOpenEnded() throws IOException {
+		index.putSubmission(submission("S1", "C1", "Asha Rao", "Java", "Hyderabad", 2f), null);
+		index.putSubmission(submission("S2", "C2", "Ravi Kumar", "Java", "Pune", 5f), null);
+		index.putSubmission(submission("S3", "C3", "Meena Iyer", "Java", "Chennai", 9f), null);
+		index.commit();
+
+		assertEquals(Set.of("S1", "S2"), ids(index.search(query(null, null, null, null, 2f, 5f))));
+		assertEquals(Set.of("S2", "S3"), ids(index.search(query(null, null, null, null, 5f, null))));
+		assertEquals(Set.of("S1"), ids(index.search(query(null, null, null, null, null, 3f))));
+	}
+
+	@Test
+	void facetsCountTheMatchingDocuments() throws IOException {
+		index.putSubmission(submission("S1", "C1", "Asha Rao", "Java, Kafka", "Hyderabad", 1f), null);
+		index.putSubmission(submission("S2", "C2", "Ravi Kumar", "Java", "Pune", 6f), null);
+		index.putBench(bench("BENCH1", "Meena Iyer", List.of("Python"), "Django", 13), null);
+		index.commit();
+
+		Map<String, Map<String, Long>> all = index.search(query(null, null, null, null, null, null)).getFacets();
+		assertEquals(Map.of("submission", 2L, "bench", 1L), all.get("type"));
+		assertEquals(2L, all.get("skill").get("java"));
+		assertEquals(1L, all.get("skill").get("django"));
+		assertEquals(Map.of("hyderabad", 1L, "pune", 1L), all.get("location"));
+		assertEquals(Map.of("Acme", 2L), all.get("client"));
+		assertEquals(1L, all.get("experience").get("0-2"));
+		assertEquals(1L, all.get("experience").get("5-8"));
+		assertEquals(1L, all.get("experience").get("12+"));
+
+		Map<String, Map<String, Long>> kafka = index.search(query(null, List.of("kafka"), null, null, null, null)).getFacets();
+		assertEquals(Map.of("submission", 1L), kafka.get("type"));
+		assertEquals(Map.of("java", 1L, "kafka", 1L), kafka.get("skill"));
+	}
+
+	@Test
+	void typeFilterAndPaging() throws IOException {
+		for (int i = 0; i < 5; i++) {
+			index.putSubmission(submission("S" + i, "C" + i, "Name " + i, "Java", "Pune", i), null);
+		}
+		index.putBench(bench("BENCH1", "Meena Iyer", List.of("Java"), null, 3), null);
+		index.commit();
+
+		assertEquals(Set.of("BENCH1"), ids(index.search(query(null, null, null, "BENCH", null, null))));
+		CandidateSearchResponse page = index.search(new CandidateSearchQuery(null, null, null, "submission", null, null, 2, 2));
+		assertEquals(5, page.getTotal());
+		assertEquals(2, page.getHits().size());
+	}
+
+	@Test
+	void putReplacesAndDeletesRemove() throws IOException {
+		index.putSubmission(submission("S1", "C1", "Asha Rao", "Java", "Pune", 4f), null);
+		index.putSubmission(submission("S2", "C1", "Asha Rao", "Go", "Pune", 4f), null);
+		index.putSubmission(submission("S3", "C2", "Ravi Kumar", "Java", "Pune", 6f), null);
+		index.commit();
+
+		index.putSubmission(submission("S1", "C1", "Asha Rao", "Rust", "Pune", 4f), null);
+		index.commit();
+		assertEquals(3, index.size());
+		assertEquals(Set.of("S1"), ids(index.search(query(null, List.of("rust"), null, null, null, null))));
+		assertEquals(Set.of("S3"), ids(index.search(query(null, List.of("java"), null, null, null, null))));
+
+		index.delete(CandidateSearchIndex.submissionKey("S3"));
+		index.delete(CandidateSearchIndex.submissionKey("missing"));  // a row deleted before it was ever indexed
+		index.commit();
+		assertEquals(2, index.size());
+
+		index.deleteCandidateSubmissions("C1");
+		index.commit();
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	void benchKeysIgnoreCase() throws IOException {
+		index.putBench(bench("BENCH001", "Meena Iyer", List.of("Python"), null, 3), null);
+		index.commit();
+
+		index.putBench(bench("bench001", "Meena Iyer", List.of("Go"), null, 3), null);
+		index.commit();
+		assertEquals(1, index.size());
+
+		index.delete(CandidateSearchIndex.benchKey("Bench001"));
+		index.commit();
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	void rollbackDiscardsUncommittedChanges() throws IOException {
+		assertFalse(CandidateSearchIndex.exists(dir));
+		index.putSubmission(submission("S1", "C1", "Asha Rao", "Java", "Pune", 4f), null);
+		index.commit();
+		assertTrue(CandidateSearchIndex.exists(dir));
+
+		index.putSubmission(submission("S2", "C2", "Ravi Kumar", "Java", "Pune", 6f), null);
+		index.rollback();
+
+		index = new CandidateSearchIndex(dir);
+		assertEquals(1, index.size());
+	}
+
+	private static CandidateSearchQuery query(String text, List<String> skills, List<String> locations, String type,
+											  Float minExperience, Float maxExperience) {
+		return new CandidateSearchQuery(text, skills, locations, type, minExperience, maxExperience, null, 50);
+	}
+
+	private static Set<String> ids(CandidateSearchResponse response) {
+		return response.getHits().stream().map(CandidateSearchResponse.Hit::getId).collect(Collectors.toSet());
+	}
+
+	private static SubmissionListRow submission(String submissionId, String candidateId, String fullName, String skills,
+												String location, float totalExperience) {
+		return new SubmissionListRow(submissionId, candidateId, "U1", "recruiter@example.com", fullName,
+				fullName.toLowerCase().replace(' ', '.') + "@example.com", "9000000000", "Org", "B.Tech",
+				totalExperience, totalExperience, "10", "12", "30", location, "JOB1", "Acme",
+				LocalDate.of(2024, 1, 15), null, null, skills, null, null, null, "Recruiter", "recruiter@example.com",
+				"SUBMITTED", null);
+	}
+
+	private static BenchDetailsDto bench(String id, String fullName, List<String> skills, String technology, int totalExperience) {
+		return new BenchDetailsDto(id, fullName, id.toLowerCase() + "@example.com", BigDecimal.valueOf(totalExperience),
+				BigDecimal.valueOf(totalExperience), "9000000001", skills, null, null, LocalDate.of(2024, 2, 1),
+				technology, null);
+	}
+}
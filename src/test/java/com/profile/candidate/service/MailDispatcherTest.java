@@ -0,0 +1,86 @@
+package com.profile.candidate.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MailDispatcherTest {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private MailDispatcher dispatcher;
+
+	@AfterEach
+	void tearDown() {
+		if (dispatcher != null) {
+			dispatcher.shutdown();
+		}
+	}
+
+	@Test
+	void deliversQueuedMessagesInBackground() throws Exception {
+		JavaMailSenderImpl sender = localSender();
+		dispatcher = new MailDispatcher(sender, 100, 2, 10, 3, 10);
+		dispatcher.start();
+
+		for (int i = 0; i < 5; i++) {
+			dispatcher.dispatch(message(sender, "user" + i + "@example.com"), "user" + i + "@example.com");
+		}
+
+		assertTrue(greenMail.waitForIncomingEmail(5000, 5));
+		assertEquals(5, greenMail.getReceivedMessages().length);
+	}
+
+	@Test
+	void retriesTransientFailuresWithBackoff() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		JavaMailSenderImpl sender = new JavaMailSenderImpl() {
+			@Override
+			public void send(MimeMessage... mimeMessages) {
+				if (calls.getAndIncrement() == 0) {
+					throw new MailSendException("Simulated SMTP outage");
+				}
+				super.send(mimeMessages);
+			}
+		};
+		sender.setHost("localhost");
+		sender.setPort(ServerSetupTest.SMTP.getPort());
+		dispatcher = new MailDispatcher(sender, 100, 1, 10, 3, 10);
+		dispatcher.start();
+
+		dispatcher.dispatch(message(sender, "retry@example.com"), "retry@example.com");
+
+		assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+		assertEquals(1L, dispatcher.stats().get("retried"));
+		assertEquals(0L, dispatcher.stats().get("failed"));
+	}
+
+	private static JavaMailSenderImpl localSender() {
+		JavaMailSenderImpl sender = new JavaMailSenderImpl();
+		sender.setHost("localhost");
+		sender.setPort(ServerSetupTest.SMTP.getPort());
+		return sender;
+	}
+
+	private static MimeMessage message(JavaMailSenderImpl sender, String to) throws Exception {
+		MimeMessage message = sender.createMimeMessage();
+		MimeMessageHelper helper = new MimeMessageHelper(message, true);
+		helper.setTo(to);
+		helper.setFrom("notifications@example.com");
+		helper.setSubject("Interview scheduled");
+		helper.setText("<p>Hello</p>", true);
+		return message;
+	}
+}
@@ -0,0 +1,49 @@
+-- Tables owned by the user, requirement and client services that this service reads with native queries.
+-- Only the columns those queries touch are declared. Runs after Hibernate has created the entity tables.
+
+CREATE TABLE IF NOT EXISTS roles (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL
+) DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS user_details (
+    user_id VARCHAR(50) PRIMARY KEY,
+    user_name VARCHAR(100) NOT NULL,
+    email VARCHAR(150) NOT NULL,
+    primary_super_admin BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at DATETIME,
+    KEY idx_user_details_user_name (user_name),
+    KEY idx_user_details_email (email)
+) DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id VARCHAR(50) NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id)
+) DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS bdm_client (
+    id VARCHAR(50) PRIMARY KEY,
+    client_name VARCHAR(150) NOT NULL,
+    on_boarded_by VARCHAR(100),
+    created_at DATETIME
+) DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS requirements_model (
+    job_id VARCHAR(50) PRIMARY KEY,
+    job_title VARCHAR(200),
+    client_name VARCHAR(150),
+    assigned_by VARCHAR(100),
+    status VARCHAR(50),
+    requirement_added_time_stamp DATETIME,
+    KEY idx_requirements_assigned_by (assigned_by)
+) DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS job_recruiters (
+    job_id VARCHAR(50) NOT NULL,
+    recruiter_id VARCHAR(50) NOT NULL,
+    PRIMARY KEY (job_id, recruiter_id)
+) DEFAULT CHARSET = utf8mb4;
+
+-- Legacy column still read by the dashboard counts query
+ALTER TABLE candidates ADD COLUMN IF NOT EXISTS interview_date_time DATETIME;